@@ -0,0 +1,184 @@
+package org.example.seasontonebackend.benchmark;
+
+import org.example.seasontonebackend.diagnosis.domain.DiagnosisScore;
+import org.example.seasontonebackend.diagnosis.domain.entity.DiagnosisResponse;
+import org.example.seasontonebackend.smartdiagnosis.dto.SmartDiagnosisRequestDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 데이터 생성기
+ * 고정 시드로 만들기 때문에 커밋이 달라도 같은 입력으로 측정된다.
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 20250901L;
+
+    private static final String[][] DISTRICTS = {
+            {"서대문구", "11410", "미근동", "충정로2가", "북아현동", "창천동", "연희동", "대현동"},
+            {"마포구", "11440", "망원동", "합정동", "서교동", "연남동", "공덕동", "아현동"},
+            {"관악구", "11620", "봉천동", "신림동", "남현동"},
+            {"성북구", "11290", "안암동", "정릉동", "길음동", "돈암동"},
+            {"강남구", "11680", "역삼동", "논현동", "삼성동", "대치동"}
+    };
+
+    private static final String[] BUILDING_PREFIXES = {"해피", "그린", "스카이", "센트럴", "리버", "파크", "한빛", "미래"};
+    private static final String[] BUILDING_SUFFIXES = {"오피스텔", "빌", "타워", "하우스", "레지던스"};
+    private static final String[] CONTRACT_TERMS = {"202403~202603", "202409~202609", "202501~202701", ""};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 오피스텔 전월세 실거래 응답 (국토부 RTMS XML 형식)
+     */
+    public static String officetelRtmsXml(int itemCount) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] district = DISTRICTS[0];
+        StringBuilder xml = new StringBuilder(itemCount * 480 + 256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<response><header><resultCode>000</resultCode><resultMsg>OK</resultMsg></header><body><items>");
+        for (int i = 0; i < itemCount; i++) {
+            boolean jeonse = random.nextInt(10) < 4;
+            LocalDate dealDate = LocalDate.of(2025, 8, 1).minusDays(random.nextInt(30));
+            xml.append("<item>")
+                    .append("<buildYear>").append(1995 + random.nextInt(30)).append("</buildYear>")
+                    .append("<contractTerm>").append(CONTRACT_TERMS[random.nextInt(CONTRACT_TERMS.length)]).append("</contractTerm>")
+                    .append("<contractType>").append(random.nextBoolean() ? "신규" : "갱신").append("</contractType>")
+                    .append("<dealDay>").append(dealDate.getDayOfMonth()).append("</dealDay>")
+                    .append("<dealMonth>").append(dealDate.getMonthValue()).append("</dealMonth>")
+                    .append("<dealYear>").append(dealDate.getYear()).append("</dealYear>")
+                    .append("<deposit>").append(formatAmount(jeonse ? 12000 + random.nextInt(28000) : 500 + random.nextInt(4500))).append("</deposit>")
+                    .append("<excluUseAr>").append(String.format("%.2f", 16 + random.nextDouble() * 45)).append("</excluUseAr>")
+                    .append("<floor>").append(1 + random.nextInt(20)).append("</floor>")
+                    .append("<monthlyRent>").append(jeonse ? 0 : 45 + random.nextInt(110)).append("</monthlyRent>")
+                    .append("<offiNm>").append(buildingName(random)).append("</offiNm>")
+                    .append("<sggCd>").append(district[1]).append("</sggCd>")
+                    .append("<sggNm>").append(district[0]).append("</sggNm>")
+                    .append("<umdNm>").append(district[2 + random.nextInt(district.length - 2)]).append("</umdNm>")
+                    .append("</item>");
+        }
+        xml.append("</items><numOfRows>").append(itemCount).append("</numOfRows><pageNo>1</pageNo><totalCount>")
+                .append(itemCount).append("</totalCount></body></response>");
+        return xml.toString();
+    }
+
+    /**
+     * 연립다세대 전월세 실거래 응답 (국토부 RTMS XML 형식)
+     */
+    public static String villaRtmsXml(int itemCount) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        String[] district = DISTRICTS[1];
+        StringBuilder xml = new StringBuilder(itemCount * 460 + 256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<response><header><resultCode>000</resultCode><resultMsg>OK</resultMsg></header><body><items>");
+        for (int i = 0; i < itemCount; i++) {
+            boolean jeonse = random.nextInt(10) < 5;
+            LocalDate dealDate = LocalDate.of(2025, 8, 1).minusDays(random.nextInt(30));
+            xml.append("<item>")
+                    .append("<buildYear>").append(1988 + random.nextInt(35)).append("</buildYear>")
+                    .append("<contractTerm>").append(CONTRACT_TERMS[random.nextInt(CONTRACT_TERMS.length)]).append("</contractTerm>")
+                    .append("<contractType>").append(random.nextBoolean() ? "신규" : "갱신").append("</contractType>")
+                    .append("<dealDay>").append(dealDate.getDayOfMonth()).append("</dealDay>")
+                    .append("<dealMonth>").append(dealDate.getMonthValue()).append("</dealMonth>")
+                    .append("<dealYear>").append(dealDate.getYear()).append("</dealYear>")
+                    .append("<deposit>").append(formatAmount(jeonse ? 8000 + random.nextInt(30000) : 300 + random.nextInt(3700))).append("</deposit>")
+                    .append("<floor>").append(random.nextInt(6) - 1).append("</floor>")
+                    .append("<houseType>").append(random.nextBoolean() ? "다세대" : "연립").append("</houseType>")
+                    .append("<monthlyRent>").append(jeonse ? 0 : 35 + random.nextInt(90)).append("</monthlyRent>")
+                    .append("<mhouseNm>").append(buildingName(random)).append("</mhouseNm>")
+                    .append("<sggCd>").append(district[1]).append("</sggCd>")
+                    .append("<totalFloorAr>").append(String.format("%.2f", 20 + random.nextDouble() * 60)).append("</totalFloorAr>")
+                    .append("<umdNm>").append(district[2 + random.nextInt(district.length - 2)]).append("</umdNm>")
+                    .append("</item>");
+        }
+        xml.append("</items><numOfRows>").append(itemCount).append("</numOfRows><pageNo>1</pageNo><totalCount>")
+                .append(itemCount).append("</totalCount></body></response>");
+        return xml.toString();
+    }
+
+    /**
+     * 거주 환경 진단 응답 (회원당 20문항, 소음은 낮고 난방은 높은 식의 카테고리별 편향 포함)
+     */
+    public static List<DiagnosisResponse> diagnosisResponses(int memberCount) {
+        SplittableRandom random = new SplittableRandom(SEED + 2);
+        DiagnosisScore[] scores = DiagnosisScore.values();
+        LocalDateTime base = LocalDateTime.of(2025, 8, 1, 12, 0);
+        List<DiagnosisResponse> responses = new ArrayList<>(memberCount * 20);
+        for (long userId = 1; userId <= memberCount; userId++) {
+            for (long questionId = 1; questionId <= 20; questionId++) {
+                int category = (int) ((questionId - 1) / 2);
+                int bias = category % 3 - 1;
+                int score = Math.max(1, Math.min(5, 3 + bias + random.nextInt(3) - 1));
+                responses.add(DiagnosisResponse.builder()
+                        .id(userId * 100 + questionId)
+                        .userId(userId)
+                        .questionId(questionId)
+                        .score(scores[score - 1])
+                        .createdAt(base.minusDays(random.nextInt(180)))
+                        .build());
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 소음 측정 샘플 (약 10Hz, 생활소음 40~55dB 에 간헐적 피크와 센서 이상값 포함)
+     */
+    public static List<SmartDiagnosisRequestDTO.NoiseSample> noiseSamples(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 3);
+        List<SmartDiagnosisRequestDTO.NoiseSample> samples = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.of(2025, 8, 1, 22, 0);
+        for (int i = 0; i < count; i++) {
+            double decibel;
+            int kind = random.nextInt(100);
+            if (kind < 2) {
+                decibel = Double.NaN;
+            } else if (kind < 3) {
+                decibel = -1.0;
+            } else if (kind < 8) {
+                decibel = 65 + random.nextDouble() * 20;
+            } else {
+                decibel = 40 + random.nextDouble() * 15;
+            }
+            SmartDiagnosisRequestDTO.NoiseSample sample = new SmartDiagnosisRequestDTO.NoiseSample();
+            sample.setTimestamp(start.plusNanos(i * 100_000_000L).toString());
+            sample.setDecibel(decibel);
+            samples.add(sample);
+        }
+        return samples;
+    }
+
+    /**
+     * 회원 프로필 형태의 주소 문자열 (전체 주소, 구+동, 동만, 축약 시도명 등)
+     */
+    public static List<String> addresses(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 4);
+        List<String> addresses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String[] district = DISTRICTS[random.nextInt(DISTRICTS.length)];
+            String dong = district[2 + random.nextInt(district.length - 2)];
+            String address = switch (random.nextInt(4)) {
+                case 0 -> "서울특별시 " + district[0] + " " + dong + " " + (1 + random.nextInt(300)) + "-" + (1 + random.nextInt(40));
+                case 1 -> district[0] + " " + dong;
+                case 2 -> dong;
+                default -> "서울시 " + district[0] + " " + dong + " " + buildingName(random) + " " + (101 + random.nextInt(1500)) + "호";
+            };
+            addresses.add(address);
+        }
+        return addresses;
+    }
+
+    private static String buildingName(SplittableRandom random) {
+        return BUILDING_PREFIXES[random.nextInt(BUILDING_PREFIXES.length)]
+                + BUILDING_SUFFIXES[random.nextInt(BUILDING_SUFFIXES.length)];
+    }
+
+    private static String formatAmount(int amount) {
+        return String.format("%,d", amount);
+    }
+}
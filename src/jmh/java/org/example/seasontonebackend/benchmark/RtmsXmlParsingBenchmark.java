@@ -0,0 +1,41 @@
+package org.example.seasontonebackend.benchmark;
+
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.example.seasontonebackend.officetel.dto.PublicApiResponseDTO;
+import org.example.seasontonebackend.villa.dto.VillaPublicApiResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 국토부 RTMS 전월세 XML 응답 파싱 (서비스와 같은 XmlMapper 사용 방식)
+ * itemCount 는 한 번의 API 응답에 담긴 거래 건수 (numOfRows 최대 1000, 백필 시 여러 페이지)
+ */
+@State(Scope.Benchmark)
+public class RtmsXmlParsingBenchmark {
+
+    @Param({"100", "1000"})
+    int itemCount;
+
+    private final XmlMapper xmlMapper = new XmlMapper();
+    private String officetelXml;
+    private String villaXml;
+
+    @Setup
+    public void setUp() {
+        officetelXml = BenchmarkData.officetelRtmsXml(itemCount);
+        villaXml = BenchmarkData.villaRtmsXml(itemCount);
+    }
+
+    @Benchmark
+    public PublicApiResponseDTO officetel() throws Exception {
+        return xmlMapper.readValue(officetelXml, PublicApiResponseDTO.class);
+    }
+
+    @Benchmark
+    public VillaPublicApiResponseDTO villa() throws Exception {
+        return xmlMapper.readValue(villaXml, VillaPublicApiResponseDTO.class);
+    }
+}
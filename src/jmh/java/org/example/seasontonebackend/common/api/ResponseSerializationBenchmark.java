@@ -0,0 +1,111 @@
+package org.example.seasontonebackend.common.api;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.example.seasontonebackend.benchmark.BenchmarkData;
+import org.example.seasontonebackend.officetel.converter.OfficetelConverter;
+import org.example.seasontonebackend.officetel.dto.PublicApiResponseDTO;
+import org.example.seasontonebackend.report.dto.ReportResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * API 응답 직렬화 (변경 전 HashMap 응답 vs 공통 형식 record, Blackbird 유무)
+ * payload: report(무료 리포트, 프리미엄 항목이 null), transactions(오피스텔 실거래 500건)
+ * 응답당 할당량은 gradle jmh -PjmhIncludes=ResponseSerialization -PjmhProfilers=gc 의 gc.alloc.rate.norm
+ */
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"report", "transactions"})
+    String payload;
+
+    // 변경 전: 어노테이션(@JsonInclude NON_NULL) 없이 null 필드까지 모두 출력
+    private ObjectMapper before;
+    private ObjectMapper plain;
+    private ObjectMapper blackbird;
+    private Object data;
+
+    @Setup
+    public void setUp() throws Exception {
+        before = JsonMapper.builder().addModule(new JavaTimeModule()).disable(MapperFeature.USE_ANNOTATIONS).build();
+        plain = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        blackbird = JsonMapper.builder().addModule(new JavaTimeModule()).addModule(new BlackbirdModule()).build();
+        data = "report".equals(payload) ? freeReport() : transactions();
+    }
+
+    @Benchmark
+    public byte[] hashMapEnvelope() throws Exception {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", data);
+        response.put("message", "리포트를 조회했습니다.");
+        return before.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] recordEnvelope() throws Exception {
+        return plain.writeValueAsBytes(ApiResponse.ok(data, "리포트를 조회했습니다."));
+    }
+
+    @Benchmark
+    public byte[] recordEnvelopeBlackbird() throws Exception {
+        return blackbird.writeValueAsBytes(ApiResponse.ok(data, "리포트를 조회했습니다."));
+    }
+
+    private static Object transactions() throws Exception {
+        OfficetelConverter converter = new OfficetelConverter();
+        PublicApiResponseDTO response = new XmlMapper()
+                .readValue(BenchmarkData.officetelRtmsXml(500), PublicApiResponseDTO.class);
+        return Map.of("미근동", response.getBody().getItems().getItemList().stream()
+                .map(converter::convertToTransactionDTO)
+                .toList());
+    }
+
+    private static ReportResponseDto freeReport() {
+        List<ReportResponseDto.ScoreComparison> scores = IntStream.range(0, 10)
+                .mapToObj(i -> ReportResponseDto.ScoreComparison.builder()
+                        .category("카테고리" + i).myScore(3.2 + i * 0.1).buildingAverage(3.4).neighborhoodAverage(3.6).build())
+                .toList();
+        return ReportResponseDto.builder()
+                .publicId("a1b2c3d4e5f6")
+                .reportType("free")
+                .header(ReportResponseDto.ReportHeaderDto.builder()
+                        .title("망원동 해피빌 임대차 협상 리포트").generatedDate("2025.09.08")
+                        .dataPeriod("본 리포트는 최근 1개월 내 참여자 데이터를 기반으로 합니다.")
+                        .participantCount(15).dataRecency("평균 응답 23일 전").reliabilityScore(87).build())
+                .contractSummary(ReportResponseDto.ContractSummaryDto.builder()
+                        .address("서울특별시 마포구 망원동 해피빌").buildingType("빌라").contractType("월세")
+                        .conditions("보증금 1,000 / 월세 60").gpsVerified(true).build())
+                .subjectiveMetrics(ReportResponseDto.SubjectiveMetricsDto.builder()
+                        .overallScore(scores.get(0)).categoryScores(scores).build())
+                .objectiveMetrics(ReportResponseDto.ObjectiveMetricsDto.builder()
+                        .marketAnalysis("최근 3개월 동네 평균 대비 월세가 5% 높습니다.")
+                        .averageMarketDeposit(1200).averageMarketRent(57).userDeposit(1000).userRent(60)
+                        .priceComparison("평균보다 높음").dataSource("국토교통부 실거래가").lastUpdated("2025-09-01").build())
+                .negotiationCards(IntStream.rangeClosed(1, 3)
+                        .mapToObj(i -> ReportResponseDto.NegotiationCardDto.builder()
+                                .priority(i).title("시설 개선 요구").recommendationScript("수압 문제는 우리 건물 평균 대비 낮은 점수입니다.").build())
+                        .toList())
+                .policyInfos(IntStream.range(0, 4)
+                        .mapToObj(i -> ReportResponseDto.PolicyInfoDto.builder()
+                                .title("청년 월세 특별지원").description("국토부, 신청 조건 안내").link("https://example.com/" + i).build())
+                        .toList())
+                .disputeGuide(ReportResponseDto.DisputeGuideDto.builder()
+                        .relatedLaw("주택임대차보호법 제20조").committeeInfo("서울서부 임대차분쟁조정위원회")
+                        .formDownloadLink("/report/documents/repair-request/pdf").build())
+                .build();
+    }
+}
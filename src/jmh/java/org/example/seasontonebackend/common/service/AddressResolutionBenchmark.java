@@ -0,0 +1,50 @@
+package org.example.seasontonebackend.common.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.seasontonebackend.benchmark.BenchmarkData;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+/**
+ * 주소 → 법정동코드 추출 (리포트 생성 시 회원 주소마다 호출)
+ * memoSize=0 이면 매번 Aho-Corasick 매칭, 기본값이면 반복 주소는 메모에서 응답
+ */
+@State(Scope.Benchmark)
+public class AddressResolutionBenchmark {
+
+    private static final int ADDRESS_COUNT = 1024;
+
+    @Param({"0", "10000"})
+    int memoSize;
+
+    private AddressService addressService;
+    private List<String> addresses;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        LawdCodeResolver resolver = new LawdCodeResolver(new DefaultResourceLoader(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(resolver, "resourceLocation", "classpath:lawd/lawd-codes.tsv");
+        ReflectionTestUtils.setField(resolver, "charset", "UTF-8");
+        ReflectionTestUtils.setField(resolver, "memoSize", memoSize);
+        resolver.load();
+
+        addressService = new AddressService(resolver);
+        addresses = BenchmarkData.addresses(ADDRESS_COUNT);
+    }
+
+    @Benchmark
+    public String extractLawdCd() {
+        String address = addresses.get(cursor);
+        cursor = (cursor + 1) & (ADDRESS_COUNT - 1);
+        return addressService.extractLawdCd(address);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.seasontonebackend.member.auth;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+
+/**
+ * 인증 필터의 JWT 서명 검증 및 클레임 추출 (요청마다 수행)
+ */
+@State(Scope.Benchmark)
+public class JwtParsingBenchmark {
+
+    // 운영과 같은 길이(HS512)의 테스트 전용 키
+    private static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("benchmark-only-secret-key-for-hs512-signature-0123456789abcdefghij".getBytes());
+
+    private JwtTokenFilter jwtTokenFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenFilter = new JwtTokenFilter(null, SECRET_KEY, new SimpleMeterRegistry());
+        token = new JwtTokenProvider(SECRET_KEY, 60 * 24).createToken(42L, "tenant42@example.com", "User");
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtTokenFilter.parseClaims(token);
+    }
+}
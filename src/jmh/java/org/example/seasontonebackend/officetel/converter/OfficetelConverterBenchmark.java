@@ -0,0 +1,52 @@
+package org.example.seasontonebackend.officetel.converter;
+
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.example.seasontonebackend.benchmark.BenchmarkData;
+import org.example.seasontonebackend.officetel.dto.OfficetelMarketDataResponseDTO;
+import org.example.seasontonebackend.officetel.dto.OfficetelTransactionResponseDTO;
+import org.example.seasontonebackend.officetel.dto.PublicApiResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 오피스텔 시세 통계 (한 동네의 한 달치 실거래 목록 기준)
+ */
+@State(Scope.Benchmark)
+public class OfficetelConverterBenchmark {
+
+    @Param({"50", "500", "5000"})
+    int itemCount;
+
+    private final OfficetelConverter converter = new OfficetelConverter();
+    private List<PublicApiResponseDTO.Item> jeonseItems;
+    private List<PublicApiResponseDTO.Item> monthlyItems;
+
+    @Setup
+    public void setUp() throws Exception {
+        PublicApiResponseDTO response = new XmlMapper()
+                .readValue(BenchmarkData.officetelRtmsXml(itemCount), PublicApiResponseDTO.class);
+        List<PublicApiResponseDTO.Item> items = response.getBody().getItems().getItemList();
+        jeonseItems = items.stream().filter(item -> converter.parseAmount(item.getMonthlyRent()) == 0).toList();
+        monthlyItems = items.stream().filter(item -> converter.parseAmount(item.getMonthlyRent()) > 0).toList();
+    }
+
+    @Benchmark
+    public OfficetelMarketDataResponseDTO jeonseMarketData() {
+        return converter.calculateJeonseMarketData("미근동", jeonseItems);
+    }
+
+    @Benchmark
+    public OfficetelMarketDataResponseDTO monthlyRentMarketData() {
+        return converter.calculateMonthlyRentMarketData("미근동", monthlyItems);
+    }
+
+    @Benchmark
+    public List<OfficetelTransactionResponseDTO> transactions() {
+        return monthlyItems.stream().map(converter::convertToTransactionDTO).toList();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.seasontonebackend.report.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.seasontonebackend.benchmark.BenchmarkData;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.example.seasontonebackend.diagnosis.domain.entity.DiagnosisResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 리포트 주관 지표 계산 (카테고리별 평균, 절사평균)
+ * memberCount 는 건물/동네 단위 응답 회원 수
+ */
+@State(Scope.Benchmark)
+public class SubjectiveMetricsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int memberCount;
+
+    private ReportService reportService;
+    private List<DiagnosisResponse> responses;
+    private List<Integer> categoryScores;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        reportService = new ReportService(null, null, null, null, null, null, null, null, meterRegistry,
+                new BlockingExecutors(new StandardEnvironment(), meterRegistry));
+        responses = BenchmarkData.diagnosisResponses(memberCount);
+
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        categoryScores = random.ints(memberCount * 2L, 1, 6).boxed().toList();
+    }
+
+    @Benchmark
+    public Map<Long, Double> categoryAverages() {
+        return reportService.calculateCategoryAverages(responses, false);
+    }
+
+    @Benchmark
+    public Map<Long, Double> categoryAveragesTrimmed() {
+        return reportService.calculateCategoryAverages(responses, true);
+    }
+
+    @Benchmark
+    public double trimmedMean() {
+        return reportService.calculateTrimmedMean(categoryScores);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.seasontonebackend.smartdiagnosis.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.seasontonebackend.benchmark.BenchmarkData;
+import org.example.seasontonebackend.smartdiagnosis.dto.SmartDiagnosisRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * 소음 측정 통계 (30초 ~ 10분 측정, 약 10Hz 샘플)
+ */
+@State(Scope.Benchmark)
+public class NoiseStatisticsBenchmark {
+
+    @Param({"300", "6000"})
+    int sampleCount;
+
+    private SmartDiagnosisService smartDiagnosisService;
+    private List<SmartDiagnosisRequestDTO.NoiseSample> samples;
+
+    @Setup
+    public void setUp() {
+        smartDiagnosisService = new SmartDiagnosisService(null, null, null, null, null, null, new SimpleMeterRegistry());
+        samples = BenchmarkData.noiseSamples(sampleCount);
+    }
+
+    @Benchmark
+    public void noiseStatistics(Blackhole blackhole) {
+        blackhole.consume(smartDiagnosisService.calculateNoiseStatistics(samples));
+    }
+}
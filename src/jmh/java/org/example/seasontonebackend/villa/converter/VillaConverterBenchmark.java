@@ -0,0 +1,52 @@
+package org.example.seasontonebackend.villa.converter;
+
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.example.seasontonebackend.benchmark.BenchmarkData;
+import org.example.seasontonebackend.villa.dto.VillaMarketDataResponseDTO;
+import org.example.seasontonebackend.villa.dto.VillaPublicApiResponseDTO;
+import org.example.seasontonebackend.villa.dto.VillaTransactionResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 연립다세대 시세 통계 (한 동네의 한 달치 실거래 목록 기준)
+ */
+@State(Scope.Benchmark)
+public class VillaConverterBenchmark {
+
+    @Param({"50", "500", "5000"})
+    int itemCount;
+
+    private final VillaConverter converter = new VillaConverter();
+    private List<VillaPublicApiResponseDTO.Item> jeonseItems;
+    private List<VillaPublicApiResponseDTO.Item> monthlyItems;
+
+    @Setup
+    public void setUp() throws Exception {
+        VillaPublicApiResponseDTO response = new XmlMapper()
+                .readValue(BenchmarkData.villaRtmsXml(itemCount), VillaPublicApiResponseDTO.class);
+        List<VillaPublicApiResponseDTO.Item> items = response.getBody().getItems().getItemList();
+        jeonseItems = items.stream().filter(item -> converter.parseAmount(item.getMonthlyRent()) == 0).toList();
+        monthlyItems = items.stream().filter(item -> converter.parseAmount(item.getMonthlyRent()) > 0).toList();
+    }
+
+    @Benchmark
+    public VillaMarketDataResponseDTO jeonseMarketData() {
+        return converter.calculateJeonseMarketData("망원동", jeonseItems);
+    }
+
+    @Benchmark
+    public VillaMarketDataResponseDTO monthlyRentMarketData() {
+        return converter.calculateMonthlyRentMarketData("망원동", monthlyItems);
+    }
+
+    @Benchmark
+    public List<VillaTransactionResponseDTO> transactions() {
+        return monthlyItems.stream().map(converter::convertToTransactionDTO).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.seasontonebackend.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업별 응답 시간 기록 (마이크로초)
+ * 측정 구간의 모든 샘플을 보관했다가 끝에서 정렬해 백분위를 계산한다.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    public void record(String operation, long latencyMicros, boolean success) {
+        series.computeIfAbsent(operation, key -> new Series()).add(latencyMicros, success);
+    }
+
+    /**
+     * 작업 이름 순 요약 (측정 구간 길이로 처리량 계산)
+     */
+    public Map<String, Summary> summarize(double elapsedSeconds) {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        series.keySet().stream().sorted().forEach(operation ->
+                summaries.put(operation, series.get(operation).summarize(elapsedSeconds)));
+        return summaries;
+    }
+
+    private static final class Series {
+
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long latencyMicros, boolean success) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = latencyMicros;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized Summary summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+            return new Summary(size, errors, size / elapsedSeconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1000.0, mean / 1000.0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0;
+        }
+    }
+
+    /**
+     * 작업 하나의 결과 (지연 시간은 ms)
+     */
+    public record Summary(long count, long errors, double throughputPerSecond,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis, double meanMillis) {
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.seasontonebackend.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--이름 값 형식)
+ */
+public class LoadTestOptions {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("app-jar", "build/libs/SeasonToneBackend.jar");
+        DEFAULTS.put("base-url", "");                  // 지정 시 앱을 띄우지 않고 이미 떠 있는 서버를 대상으로 함
+        DEFAULTS.put("app-port", "18080");
+        DEFAULTS.put("app-jvm-args", "-Xmx1g");
+        DEFAULTS.put("stub-port", "18089");
+        DEFAULTS.put("stub-latency-ms", "80");         // 외부 API 기본 지연
+        DEFAULTS.put("stub-jitter-ms", "40");
+        DEFAULTS.put("threads", "platform");           // platform | virtual | both (both 는 두 모드를 차례로 돌려 비교, JDK 21 필요)
+        DEFAULTS.put("db", "h2");                      // h2 | mysql (mysql 은 로컬 docker 컨테이너 기동)
+        DEFAULTS.put("mysql-image", "mysql:8.0");
+        DEFAULTS.put("mysql-port", "13306");
+        DEFAULTS.put("dongs", "망원동,합정동,서교동,연남동,미근동,창천동");
+        DEFAULTS.put("members-per-dong", "20");
+        DEFAULTS.put("concurrency", "16");
+        DEFAULTS.put("warmup", "PT20S");
+        DEFAULTS.put("duration", "PT60S");
+        DEFAULTS.put("mix", "login=10,diagnosis-submit=20,report-create=10,public-report=40,smart-measurement=20");
+        DEFAULTS.put("report-dir", "build/reports/loadtest");
+        DEFAULTS.put("tag", "latest");
+        DEFAULTS.put("max-p95-ms", "0");               // 0 보다 크면 어느 작업이든 p95 초과 시 실패 코드로 종료
+        DEFAULTS.put("max-error-rate", "0.01");
+    }
+
+    private final Map<String, String> values;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+            String name = arg.substring(2);
+            String value;
+            int eq = name.indexOf('=');
+            if (eq >= 0) {
+                value = name.substring(eq + 1);
+                name = name.substring(0, eq);
+            } else if (i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("값이 없는 인자: " + arg);
+            }
+            if (!DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("알 수 없는 옵션: --" + name + " (사용 가능: " + DEFAULTS.keySet() + ")");
+            }
+            values.put(name, value);
+        }
+        return new LoadTestOptions(values);
+    }
+
+    public String get(String name) {
+        return values.get(name);
+    }
+
+    public int getInt(String name) {
+        return Integer.parseInt(values.get(name));
+    }
+
+    public double getDouble(String name) {
+        return Double.parseDouble(values.get(name));
+    }
+
+    public Duration getDuration(String name) {
+        return Duration.parse(values.get(name));
+    }
+
+    public List<String> getList(String name) {
+        return Arrays.stream(values.get(name).split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    /**
+     * 작업 비중 (예: login=10,public-report=40)
+     */
+    public Map<String, Integer> getWeights(String name) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : getList(name)) {
+            String[] parts = entry.split("=");
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    public Map<String, String> asMap() {
+        return new LinkedHashMap<>(values);
+    }
+}
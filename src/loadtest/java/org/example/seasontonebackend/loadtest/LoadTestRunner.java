@@ -0,0 +1,539 @@
+package org.example.seasontonebackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 엔드투엔드 부하 테스트
+ * 1) 외부 API 스텁 기동 2) (선택) MySQL 컨테이너 기동 3) 앱을 별도 프로세스로 local,loadtest 프로필 기동
+ * 4) DummyDataService 로 동별 N명 시드 5) 워밍업 후 작업 비중대로 트래픽 발생 6) 작업별 p50/p95/p99, 처리량 보고
+ *
+ * 실행: gradle loadTest -PloadtestArgs="--members-per-dong 50 --concurrency 32 --duration PT2M --tag v1.2.0"
+ * 플랫폼/가상 스레드 비교: --threads both (JDK 21 필요, 모드마다 앱을 새로 띄워 같은 부하를 준다)
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "password123";
+    private static final String ADMIN_EMAIL = "loadtest-admin@example.com";
+    private static final String MYSQL_CONTAINER = "seasontone-loadtest-mysql";
+    private static final String MYSQL_PASSWORD = "loadtest";
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newCachedThreadPool())
+            .build();
+
+    private String baseUrl;
+    // 실행마다 새로 만드는 시드용 관리자 비밀번호 (앱 기동 인자로 전달)
+    private final String adminPassword = UUID.randomUUID().toString();
+    private final List<VirtualUser> users = new ArrayList<>();
+    private final List<String> publicReportIds = new CopyOnWriteArrayList<>();
+
+    public LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        int exitCode = new LoadTestRunner(options).run();
+        System.exit(exitCode);
+    }
+
+    public int run() throws Exception {
+        List<String> modes = threadModes();
+        Path reportDir = Path.of(options.get("report-dir"));
+        Files.createDirectories(reportDir);
+
+        try (StubUpstreamServer stubs = new StubUpstreamServer(options.getInt("stub-port"),
+                options.getInt("stub-latency-ms"), options.getInt("stub-jitter-ms"))) {
+            stubs.start();
+            log("스텁 서버 기동 - http://127.0.0.1:%d (지연 %sms + 0~%sms)",
+                    stubs.getPort(), options.get("stub-latency-ms"), options.get("stub-jitter-ms"));
+
+            Map<String, Map<String, LatencyRecorder.Summary>> results = new LinkedHashMap<>();
+            int exitCode = 0;
+            for (String mode : modes) {
+                String tag = modes.size() > 1 ? options.get("tag") + "-" + mode : options.get("tag");
+                Map<String, LatencyRecorder.Summary> summaries = runMode(mode, tag, stubs, reportDir);
+                results.put(mode, summaries);
+                exitCode = Math.max(exitCode, evaluate(summaries));
+            }
+            if (results.size() > 1) {
+                printComparison(results);
+                writeComparison(reportDir, results);
+            }
+            return exitCode;
+        }
+    }
+
+    private List<String> threadModes() {
+        String threads = options.get("threads");
+        List<String> modes = switch (threads) {
+            case "platform", "virtual" -> List.of(threads);
+            case "both" -> List.of("platform", "virtual");
+            default -> throw new IllegalArgumentException("--threads 는 platform, virtual, both 중 하나: " + threads);
+        };
+        if (modes.contains("virtual")) {
+            if (!options.get("base-url").isBlank()) {
+                throw new IllegalArgumentException("--threads virtual/both 는 앱을 직접 띄울 때만 사용할 수 있습니다 (--base-url 제외).");
+            }
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("가상 스레드 모드는 JDK 21 이상 필요 (gradle loadTest -PjavaVersion=21)");
+            }
+        }
+        return modes;
+    }
+
+    /**
+     * 한 가지 스레드 모드로 앱을 띄워 시드 → 워밍업 → 측정
+     */
+    private Map<String, LatencyRecorder.Summary> runMode(String mode, String tag, StubUpstreamServer stubs, Path reportDir) throws Exception {
+        Process app = null;
+        boolean mysqlStarted = false;
+        users.clear();
+        publicReportIds.clear();
+        try {
+            if (options.get("base-url").isBlank()) {
+                if ("mysql".equals(options.get("db"))) {
+                    startMysql();
+                    mysqlStarted = true;
+                }
+                app = startApp(mode, stubs.getPort(), reportDir.resolve("app-" + tag + ".log"));
+                baseUrl = "http://127.0.0.1:" + options.get("app-port");
+            } else {
+                baseUrl = options.get("base-url");
+            }
+            waitForHealth(Duration.ofMinutes(3));
+
+            seed();
+            stubs.resetRequestCounts();
+            Map<String, LatencyRecorder.Summary> summaries = drive();
+            Map<String, Long> stubCounts = stubs.getRequestCounts();
+
+            log("결과 - %s 스레드", mode);
+            printSummary(summaries, stubCounts);
+            writeReport(reportDir, tag, mode, summaries, stubCounts);
+            return summaries;
+        } finally {
+            if (app != null) {
+                app.destroy();
+                if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                    app.destroyForcibly();
+                }
+            }
+            if (mysqlStarted) {
+                exec(List.of("docker", "rm", "-f", MYSQL_CONTAINER));
+            }
+        }
+    }
+
+    // ========== 환경 준비 ==========
+
+    private Process startApp(String mode, int stubPort, Path logFile) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(List.of(options.get("app-jvm-args").trim().split("\\s+")));
+        command.addAll(List.of("-jar", new File(options.get("app-jar")).getAbsolutePath(),
+                "--spring.profiles.active=local,loadtest",
+                "--server.port=" + options.get("app-port"),
+                "--loadtest.stub-url=http://127.0.0.1:" + stubPort,
+                "--loadtest.admin.email=" + ADMIN_EMAIL,
+                "--loadtest.admin.password=" + adminPassword,
+                "--spring.threads.virtual.enabled=" + "virtual".equals(mode)));
+
+        if ("mysql".equals(options.get("db"))) {
+            command.addAll(List.of(
+                    "--spring.datasource.url=jdbc:mysql://127.0.0.1:" + options.get("mysql-port")
+                            + "/seasontone?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul&rewriteBatchedStatements=true",
+                    "--spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+                    "--spring.datasource.username=root",
+                    "--spring.datasource.password=" + MYSQL_PASSWORD,
+                    "--spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+                    "--spring.jpa.hibernate.ddl-auto=create"));
+        }
+
+        log("앱 기동 - %s, %s 스레드 (로그: %s)", options.get("db"), mode, logFile);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+    }
+
+    private void startMysql() throws Exception {
+        exec(List.of("docker", "rm", "-f", MYSQL_CONTAINER));
+        int exit = exec(List.of("docker", "run", "-d", "--rm", "--name", MYSQL_CONTAINER,
+                "-e", "MYSQL_ROOT_PASSWORD=" + MYSQL_PASSWORD, "-e", "MYSQL_DATABASE=seasontone",
+                "-p", options.get("mysql-port") + ":3306", options.get("mysql-image")));
+        if (exit != 0) {
+            throw new IllegalStateException("MySQL 컨테이너 기동 실패 (docker 확인 필요)");
+        }
+
+        // 초기화용 임시 서버는 TCP 를 열지 않으므로 TCP 접속이 되면 준비 완료
+        Instant deadline = Instant.now().plus(Duration.ofMinutes(2));
+        while (Instant.now().isBefore(deadline)) {
+            if (exec(List.of("docker", "exec", MYSQL_CONTAINER, "mysql", "-h127.0.0.1", "-uroot",
+                    "-p" + MYSQL_PASSWORD, "-e", "SELECT 1", "seasontone")) == 0) {
+                log("MySQL 준비 완료 - 127.0.0.1:%s", options.get("mysql-port"));
+                return;
+            }
+            Thread.sleep(2000);
+        }
+        throw new IllegalStateException("MySQL 컨테이너가 제한 시간 내에 준비되지 않았습니다.");
+    }
+
+    private void waitForHealth(Duration timeout) throws Exception {
+        Instant deadline = Instant.now().plus(timeout);
+        while (Instant.now().isBefore(deadline)) {
+            try {
+                HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).GET());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    log("앱 준비 완료 - %s", baseUrl);
+                    return;
+                }
+            } catch (IOException ignored) {
+                // 기동 중
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("앱이 제한 시간 내에 기동되지 않았습니다: " + baseUrl);
+    }
+
+    private void seed() throws Exception {
+        // 시드 API 는 관리자 전용 - 앱 기동 시 넘긴 관리자 계정으로 로그인
+        HttpResponse<String> adminLogin = send(jsonRequest("/member/doLogin", null,
+                Map.of("email", ADMIN_EMAIL, "password", adminPassword)));
+        if (adminLogin.statusCode() != 200) {
+            throw new IllegalStateException("관리자 로그인 실패: " + adminLogin.body());
+        }
+        String adminToken = objectMapper.readTree(adminLogin.body()).path("token").asText();
+
+        List<String> dongs = options.getList("dongs");
+        int perDong = options.getInt("members-per-dong");
+        String query = "dongs=" + URLEncoder.encode(String.join(",", dongs), StandardCharsets.UTF_8)
+                + "&perDong=" + perDong;
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/dummy-data/per-dong?" + query))
+                .header("Authorization", "Bearer " + adminToken)
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        JsonNode body = objectMapper.readTree(response.body());
+        if (response.statusCode() != 200 || !body.path("success").asBoolean()) {
+            throw new IllegalStateException("시드 실패: " + response.body());
+        }
+        // 시드 계정 이메일 규칙: load-{동 순번}-{순번}@example.com
+        for (int d = 1; d <= dongs.size(); d++) {
+            for (int i = 1; i <= perDong; i++) {
+                users.add(new VirtualUser("load-" + d + "-" + i + "@example.com"));
+            }
+        }
+        log("시드 완료 - 동 %d곳 x %d명 = %d명", dongs.size(), options.getInt("members-per-dong"), users.size());
+
+        // 모든 사용자 로그인 후 공개 리포트 조회 대상 리포트를 몇 개 만들어 둠
+        ExecutorService pool = Executors.newFixedThreadPool(options.getInt("concurrency"));
+        try {
+            for (VirtualUser user : users) {
+                pool.submit(() -> login(user, null));
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.MINUTES);
+        }
+        for (int i = 0; i < Math.min(users.size(), 20); i++) {
+            createReport(users.get(i), null);
+        }
+        if (publicReportIds.isEmpty()) {
+            throw new IllegalStateException("공개 리포트를 만들지 못했습니다. 앱 로그를 확인하세요.");
+        }
+    }
+
+    // ========== 트래픽 ==========
+
+    private Map<String, LatencyRecorder.Summary> drive() throws Exception {
+        Map<String, Integer> weights = options.getWeights("mix");
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        Duration warmup = options.getDuration("warmup");
+        Duration duration = options.getDuration("duration");
+
+        AtomicReference<LatencyRecorder> recorder = new AtomicReference<>(new LatencyRecorder());
+        AtomicBoolean running = new AtomicBoolean(true);
+        int concurrency = options.getInt("concurrency");
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        for (int w = 0; w < concurrency; w++) {
+            workers.submit(() -> {
+                while (running.get()) {
+                    VirtualUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+                    String operation = pick(weights, totalWeight);
+                    try {
+                        execute(operation, user, recorder.get());
+                    } catch (Exception e) {
+                        recorder.get().record(operation, 0, false);
+                    }
+                }
+            });
+        }
+
+        log("워밍업 %ds (동시 사용자 %d)", warmup.toSeconds(), concurrency);
+        Thread.sleep(warmup.toMillis());
+        LatencyRecorder measured = new LatencyRecorder();
+        recorder.set(measured);
+        long start = System.nanoTime();
+        log("측정 %ds - 비중 %s", duration.toSeconds(), weights);
+        Thread.sleep(duration.toMillis());
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        // 측정 종료 이후 끝나는 요청은 버리는 기록기로 보냄
+        recorder.set(new LatencyRecorder());
+        running.set(false);
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+
+        return measured.summarize(elapsedSeconds);
+    }
+
+    private String pick(Map<String, Integer> weights, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void execute(String operation, VirtualUser user, LatencyRecorder recorder) throws Exception {
+        switch (operation) {
+            case "login" -> login(user, recorder);
+            case "diagnosis-submit" -> submitDiagnosis(user, recorder);
+            case "report-create" -> createReport(user, recorder);
+            case "public-report" -> viewPublicReport(recorder);
+            case "smart-measurement" -> measureNoise(user, recorder);
+            default -> throw new IllegalArgumentException("알 수 없는 작업: " + operation);
+        }
+    }
+
+    private void login(VirtualUser user, LatencyRecorder recorder) {
+        try {
+            Map<String, Object> body = Map.of("email", user.email, "password", PASSWORD);
+            HttpResponse<String> response = timed("login", recorder, jsonRequest("/member/doLogin", null, body));
+            if (response.statusCode() == 200) {
+                user.token = objectMapper.readTree(response.body()).path("token").asText();
+            }
+        } catch (Exception e) {
+            if (recorder == null) {
+                log("로그인 실패 - %s: %s", user.email, e.getMessage());
+            } else {
+                recorder.record("login", 0, false);
+            }
+        }
+    }
+
+    private void submitDiagnosis(VirtualUser user, LatencyRecorder recorder) throws Exception {
+        List<Map<String, Object>> responses = new ArrayList<>(20);
+        for (long questionId = 1; questionId <= 20; questionId++) {
+            responses.add(Map.of("questionId", questionId, "score", String.valueOf(1 + ThreadLocalRandom.current().nextInt(5))));
+        }
+        timed("diagnosis-submit", recorder, jsonRequest("/api/v1/diagnosis/responses", user.token, Map.of("responses", responses)));
+    }
+
+    private void createReport(VirtualUser user, LatencyRecorder recorder) throws Exception {
+        Map<String, Object> body = Map.of("reportContent", "곰팡이가 심하고 방음이 잘 안돼요.", "reportType", "free");
+        HttpResponse<String> response = timed("report-create", recorder, jsonRequest("/report/create", user.token, body));
+        if (response.statusCode() == 201) {
+            String publicId = objectMapper.readTree(response.body()).path("publicId").asText(null);
+            if (publicId != null) {
+                publicReportIds.add(publicId);
+            }
+        }
+    }
+
+    private void viewPublicReport(LatencyRecorder recorder) throws Exception {
+        String publicId = publicReportIds.get(ThreadLocalRandom.current().nextInt(publicReportIds.size()));
+        timed("public-report", recorder, HttpRequest.newBuilder(URI.create(baseUrl + "/public/report/" + publicId)).GET());
+    }
+
+    /**
+     * 소음 측정 시작 → 30초 분량(10Hz) 샘플 전송
+     */
+    private void measureNoise(VirtualUser user, LatencyRecorder recorder) throws Exception {
+        HttpResponse<String> started = timed("smart-noise-start", recorder,
+                jsonRequest("/smart-diagnosis/noise/start", user.token, Map.of("location", "거실", "duration", 30)));
+        if (started.statusCode() != 200) {
+            return;
+        }
+        String sessionId = objectMapper.readTree(started.body()).path("data").path("sessionId").asText();
+
+        List<Map<String, Object>> samples = new ArrayList<>(300);
+        Instant now = Instant.now();
+        for (int i = 0; i < 300; i++) {
+            samples.add(Map.of("timestamp", now.plusMillis(i * 100L).toString(),
+                    "decibel", 38 + ThreadLocalRandom.current().nextDouble(20)));
+        }
+        timed("smart-noise-complete", recorder,
+                jsonRequest("/smart-diagnosis/noise/complete", user.token, Map.of("sessionId", sessionId, "samples", samples)));
+    }
+
+    private HttpRequest.Builder jsonRequest(String path, String token, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> timed(String operation, LatencyRecorder recorder, HttpRequest.Builder request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        if (recorder != null) {
+            int status = response.statusCode();
+            recorder.record(operation, (System.nanoTime() - start) / 1000, status >= 200 && status < 300);
+        }
+        return response;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(60)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    // ========== 결과 ==========
+
+    private void printSummary(Map<String, LatencyRecorder.Summary> summaries, Map<String, Long> stubCounts) {
+        System.out.println();
+        System.out.printf("%-22s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        summaries.forEach((operation, s) -> System.out.printf("%-22s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                operation, s.count(), s.errors(), s.throughputPerSecond(), s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis()));
+        double total = summaries.values().stream().mapToDouble(LatencyRecorder.Summary::throughputPerSecond).sum();
+        System.out.printf("%-22s %44.1f ops/s%n", "total", total);
+        System.out.println("stub requests: " + stubCounts);
+    }
+
+    private void writeReport(Path reportDir, String tag, String mode, Map<String, LatencyRecorder.Summary> summaries,
+                             Map<String, Long> stubCounts) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("tag", tag);
+        report.put("threads", mode);
+        report.put("finishedAt", Instant.now().toString());
+        report.put("options", options.asMap());
+        report.put("users", users.size());
+        report.put("operations", summaries);
+        report.put("stubRequests", stubCounts);
+
+        Path file = reportDir.resolve("results-" + tag + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        log("결과 저장 - %s", file);
+    }
+
+    /**
+     * 스레드 모드별 처리량/p95 비교 (리포트 생성·조회 위주, 나머지 작업도 함께 출력)
+     */
+    private void printComparison(Map<String, Map<String, LatencyRecorder.Summary>> results) {
+        List<String> modes = new ArrayList<>(results.keySet());
+        System.out.println();
+        System.out.printf("%-22s", "operation");
+        for (String mode : modes) {
+            System.out.printf(" %13s %13s", mode + " ops/s", mode + " p95");
+        }
+        System.out.println();
+        for (String operation : results.get(modes.get(0)).keySet()) {
+            System.out.printf("%-22s", operation);
+            for (String mode : modes) {
+                LatencyRecorder.Summary s = results.get(mode).get(operation);
+                System.out.printf(" %13.1f %13.1f", s != null ? s.throughputPerSecond() : 0, s != null ? s.p95Millis() : 0);
+            }
+            System.out.println();
+        }
+    }
+
+    private void writeComparison(Path reportDir, Map<String, Map<String, LatencyRecorder.Summary>> results) throws IOException {
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        for (String operation : List.of("report-create", "public-report")) {
+            Map<String, Object> byMode = new LinkedHashMap<>();
+            results.forEach((mode, summaries) -> {
+                LatencyRecorder.Summary s = summaries.get(operation);
+                if (s != null) {
+                    byMode.put(mode, Map.of("throughputPerSecond", s.throughputPerSecond(), "p95Millis", s.p95Millis()));
+                }
+            });
+            comparison.put(operation, byMode);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("tag", options.get("tag"));
+        report.put("finishedAt", Instant.now().toString());
+        report.put("concurrency", options.getInt("concurrency"));
+        report.put("reports", comparison);
+        report.put("operations", results);
+
+        Path file = reportDir.resolve("threads-" + options.get("tag") + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        log("스레드 모드 비교 저장 - %s", file);
+    }
+
+    /**
+     * 회귀 판정 (임계값 초과 시 1)
+     */
+    private int evaluate(Map<String, LatencyRecorder.Summary> summaries) {
+        double maxP95 = options.getDouble("max-p95-ms");
+        double maxErrorRate = options.getDouble("max-error-rate");
+        int failures = 0;
+        for (Map.Entry<String, LatencyRecorder.Summary> entry : summaries.entrySet()) {
+            LatencyRecorder.Summary s = entry.getValue();
+            if (maxP95 > 0 && s.p95Millis() > maxP95) {
+                log("실패 - %s p95 %.1fms > %.1fms", entry.getKey(), s.p95Millis(), maxP95);
+                failures++;
+            }
+            if (s.errorRate() > maxErrorRate) {
+                log("실패 - %s 오류율 %.2f%% > %.2f%%", entry.getKey(), s.errorRate() * 100, maxErrorRate * 100);
+                failures++;
+            }
+        }
+        return failures == 0 ? 0 : 1;
+    }
+
+    private int exec(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        return process.waitFor();
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[loadtest] " + String.format(format, args));
+    }
+
+    private static final class VirtualUser {
+        private final String email;
+        private volatile String token;
+
+        private VirtualUser(String email) {
+            this.email = email;
+        }
+    }
+}
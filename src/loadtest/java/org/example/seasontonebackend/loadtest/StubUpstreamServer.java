@@ -0,0 +1,157 @@
+package org.example.seasontonebackend.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * data.go.kr(RTMS 오피스텔/연립다세대)와 VWorld 를 대신하는 로컬 스텁 서버
+ * 응답마다 baseLatency + [0, jitter) ms 지연을 넣어 외부 API 의 느린 응답을 재현한다.
+ * 같은 LAWD_CD/DEAL_YMD 요청에는 항상 같은 거래 목록을 돌려준다.
+ */
+public class StubUpstreamServer implements AutoCloseable {
+
+    private static final String[] NEIGHBORHOODS = {"망원동", "합정동", "서교동", "연남동", "미근동", "창천동"};
+    private static final String[] BUILDINGS = {"해피빌", "그린타워", "스카이오피스텔", "센트럴하우스", "리버빌"};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long baseLatencyMillis;
+    private final long jitterMillis;
+    private final Map<String, AtomicLong> requestCounts = new HashMap<>();
+
+    public StubUpstreamServer(int port, long baseLatencyMillis, long jitterMillis) throws IOException {
+        this.baseLatencyMillis = baseLatencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 256);
+        // 지연 중인 요청이 다른 요청을 막지 않도록 요청마다 스레드 사용
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+
+        for (String path : new String[]{"/rtms/officetel", "/rtms/villa", "/vworld"}) {
+            requestCounts.put(path, new AtomicLong());
+        }
+        server.createContext("/rtms/officetel", exchange -> respond(exchange, "/rtms/officetel", "application/xml", rtmsXml(exchange, "offiNm")));
+        server.createContext("/rtms/villa", exchange -> respond(exchange, "/rtms/villa", "application/xml", rtmsXml(exchange, "mhouseNm")));
+        server.createContext("/vworld", exchange -> respond(exchange, "/vworld", "application/json", vworldJson(exchange)));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        requestCounts.forEach((path, count) -> counts.put(path, count.get()));
+        return counts;
+    }
+
+    public void resetRequestCounts() {
+        requestCounts.values().forEach(count -> count.set(0));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void respond(HttpExchange exchange, String path, String contentType, String body) throws IOException {
+        requestCounts.get(path).incrementAndGet();
+        try {
+            long delay = baseLatencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis) : 0);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + ";charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String rtmsXml(HttpExchange exchange, String buildingTag) {
+        Map<String, String> query = query(exchange);
+        String lawdCd = query.getOrDefault("LAWD_CD", "11440");
+        String dealYmd = query.getOrDefault("DEAL_YMD", "202501");
+        SplittableRandom random = new SplittableRandom((lawdCd + dealYmd + buildingTag).hashCode());
+        int year = Integer.parseInt(dealYmd.substring(0, 4));
+        int month = Integer.parseInt(dealYmd.substring(4, 6));
+        int itemCount = 20 + random.nextInt(60);
+
+        StringBuilder xml = new StringBuilder(itemCount * 420 + 256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<response><header><resultCode>000</resultCode><resultMsg>OK</resultMsg></header><body><items>");
+        for (int i = 0; i < itemCount; i++) {
+            boolean jeonse = random.nextInt(10) < 4;
+            xml.append("<item>")
+                    .append("<buildYear>").append(1995 + random.nextInt(30)).append("</buildYear>")
+                    .append("<contractType>").append(random.nextBoolean() ? "신규" : "갱신").append("</contractType>")
+                    .append("<dealDay>").append(1 + random.nextInt(28)).append("</dealDay>")
+                    .append("<dealMonth>").append(month).append("</dealMonth>")
+                    .append("<dealYear>").append(year).append("</dealYear>")
+                    .append("<deposit>").append(String.format("%,d", jeonse ? 12000 + random.nextInt(25000) : 500 + random.nextInt(4500))).append("</deposit>")
+                    .append("<excluUseAr>").append(String.format("%.2f", 18 + random.nextDouble() * 40)).append("</excluUseAr>")
+                    .append("<totalFloorAr>").append(String.format("%.2f", 25 + random.nextDouble() * 50)).append("</totalFloorAr>")
+                    .append("<floor>").append(1 + random.nextInt(15)).append("</floor>")
+                    .append("<monthlyRent>").append(jeonse ? 0 : 40 + random.nextInt(100)).append("</monthlyRent>")
+                    .append('<').append(buildingTag).append('>').append(BUILDINGS[random.nextInt(BUILDINGS.length)])
+                    .append("</").append(buildingTag).append('>')
+                    .append("<sggCd>").append(lawdCd, 0, Math.min(5, lawdCd.length())).append("</sggCd>")
+                    .append("<sggNm>마포구</sggNm>")
+                    .append("<umdNm>").append(NEIGHBORHOODS[random.nextInt(NEIGHBORHOODS.length)]).append("</umdNm>")
+                    .append("</item>");
+        }
+        xml.append("</items><numOfRows>").append(itemCount).append("</numOfRows><pageNo>1</pageNo><totalCount>")
+                .append(itemCount).append("</totalCount></body></response>");
+        return xml.toString();
+    }
+
+    private String vworldJson(HttpExchange exchange) {
+        Map<String, String> query = query(exchange);
+        if ("search".equals(query.get("service"))) {
+            return "{\"response\":{\"status\":\"OK\",\"result\":{\"items\":{\"item\":["
+                    + "{\"address\":{\"bcode\":\"1144012300\",\"parcel\":\"서울특별시 마포구 망원동 123\"}}]}}}}";
+        }
+        return "{\"response\":{\"status\":\"OK\",\"result\":["
+                + "{\"type\":\"road\",\"text\":\"서울특별시 마포구 망원로 12\"},"
+                + "{\"type\":\"parcel\",\"text\":\"서울특별시 마포구 망원동 123\"}]}}";
+    }
+
+    private Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.seasontonebackend.common.address;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 다중 문자열 검색용 Aho-Corasick 오토마톤
+ * 모든 패턴을 주소 길이에 비례하는 한 번의 스캔으로 찾고, 겹치는 후보는 leftmost-longest 규칙으로 고른다.
+ * 구성 후에는 읽기 전용이므로 여러 스레드에서 공유해도 된다.
+ */
+public final class AhoCorasick<T> {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<int[]> outputs = new ArrayList<>();
+    private final List<String> patterns = new ArrayList<>();
+    private final List<T> values = new ArrayList<>();
+    private int[] fail;
+
+    public AhoCorasick(Map<String, T> dictionary) {
+        newNode();
+        dictionary.forEach(this::insert);
+        buildFailureLinks();
+    }
+
+    /**
+     * 텍스트에서 겹치지 않는 매칭 목록 (같은 위치에서 시작하면 긴 패턴 우선)
+     */
+    public List<Match<T>> findLeftmostLongest(String text) {
+        List<Match<T>> all = findAll(text);
+        all.sort(Comparator.<Match<T>>comparingInt(Match::start)
+                .thenComparing(Comparator.<Match<T>>comparingInt(Match::length).reversed()));
+
+        List<Match<T>> selected = new ArrayList<>();
+        int lastEnd = 0;
+        for (Match<T> match : all) {
+            if (match.start() >= lastEnd) {
+                selected.add(match);
+                lastEnd = match.end();
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 텍스트에 등장하는 모든 패턴 (겹침 포함)
+     */
+    public List<Match<T>> findAll(String text) {
+        List<Match<T>> matches = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            while (next == null && state != 0) {
+                state = fail[state];
+                next = transitions.get(state).get(c);
+            }
+            state = next != null ? next : 0;
+            for (int patternId : outputs.get(state)) {
+                int length = patterns.get(patternId).length();
+                matches.add(new Match<>(i + 1 - length, i + 1, patterns.get(patternId), values.get(patternId)));
+            }
+        }
+        return matches;
+    }
+
+    private void insert(String pattern, T value) {
+        if (pattern == null || pattern.isEmpty()) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newNode();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        patterns.add(pattern);
+        values.add(value);
+        outputs.set(state, append(outputs.get(state), patterns.size() - 1));
+    }
+
+    private void buildFailureLinks() {
+        fail = new int[transitions.size()];
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = fail[state];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = fail[fallback];
+                }
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                fail[child] = target != null && target != child ? target : 0;
+                // 실패 링크 쪽 출력(접미사 패턴)을 미리 합쳐 검색 시 체인을 따라가지 않도록 함
+                for (int patternId : outputs.get(fail[child])) {
+                    outputs.set(child, append(outputs.get(child), patternId));
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>(4));
+        outputs.add(new int[0]);
+        return transitions.size() - 1;
+    }
+
+    private static int[] append(int[] array, int value) {
+        int[] grown = Arrays.copyOf(array, array.length + 1);
+        grown[array.length] = value;
+        return grown;
+    }
+
+    public record Match<T>(int start, int end, String pattern, T value) {
+
+        public int length() {
+            return end - start;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.seasontonebackend.common.address;
+
+/**
+ * 법정동코드 한 건 (10자리 코드, 전체 명칭, 마지막 단위 명칭, 행정 단위)
+ * 예: 1141010100 / "서울특별시 서대문구 미근동" / "미근동" / EUPMYEONDONG
+ */
+public record LawdCode(String code, String fullName, String name, Level level) {
+
+    public enum Level {
+        SIDO, SIGUNGU, EUPMYEONDONG, RI
+    }
+
+    public static Level levelOf(String code) {
+        if (code.endsWith("00000000")) {
+            return Level.SIDO;
+        }
+        if (code.endsWith("00000")) {
+            return Level.SIGUNGU;
+        }
+        if (code.endsWith("00")) {
+            return Level.EUPMYEONDONG;
+        }
+        return Level.RI;
+    }
+
+    /**
+     * 실거래가 API 용 지역코드 (앞 5자리)
+     */
+    public String lawdCd() {
+        return code.substring(0, 5);
+    }
+
+    /**
+     * other 가 이 코드의 하위 지역인지 (코드 끝의 0 을 뗀 접두어로 판정)
+     */
+    public boolean isAncestorOf(LawdCode other) {
+        if (code.equals(other.code)) {
+            return false;
+        }
+        int end = code.length();
+        while (end > 2 && code.charAt(end - 1) == '0') {
+            end--;
+        }
+        return other.code.startsWith(code.substring(0, end));
+    }
+}
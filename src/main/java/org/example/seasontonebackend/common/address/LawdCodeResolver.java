@@ -0,0 +1,234 @@
+package org.example.seasontonebackend.common.address;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주소 문자열 ↔ 법정동코드 변환 인덱스
+ * 법정동코드 전체자료(코드\t명칭\t폐지여부) 리소스를 읽어 시/도·시/군/구·읍/면/동 이름 전체를 Aho-Corasick 오토마톤으로 만들고,
+ * 주소에 등장한 이름들 중 상하위 관계가 가장 많이 맞는 가장 구체적인 코드를 고른다.
+ * (예: "울산 중구" → 31110, "중구" 단독 → 코드가 가장 작은 서울 중구)
+ */
+@Slf4j
+@Component
+public class LawdCodeResolver {
+
+    // 주소에서 흔히 쓰는 시/도 약칭
+    private static final Map<String, List<String>> SIDO_ALIASES = Map.ofEntries(
+            Map.entry("서울특별시", List.of("서울시", "서울")),
+            Map.entry("부산광역시", List.of("부산시", "부산")),
+            Map.entry("대구광역시", List.of("대구시", "대구")),
+            Map.entry("인천광역시", List.of("인천시", "인천")),
+            Map.entry("광주광역시", List.of("광주시", "광주")),
+            Map.entry("대전광역시", List.of("대전시", "대전")),
+            Map.entry("울산광역시", List.of("울산시", "울산")),
+            Map.entry("세종특별자치시", List.of("세종시", "세종")),
+            Map.entry("경기도", List.of("경기")),
+            Map.entry("충청북도", List.of("충북")),
+            Map.entry("충청남도", List.of("충남")),
+            Map.entry("전라남도", List.of("전남")),
+            Map.entry("경상북도", List.of("경북")),
+            Map.entry("경상남도", List.of("경남")),
+            Map.entry("제주특별자치도", List.of("제주도", "제주")),
+            Map.entry("강원특별자치도", List.of("강원도", "강원")),
+            Map.entry("전북특별자치도", List.of("전라북도", "전북"))
+    );
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${address.lawd-table.resource:classpath:lawd/lawd-codes.tsv}")
+    private String resourceLocation;
+
+    @Value("${address.lawd-table.charset:UTF-8}")
+    private String charset;
+
+    @Value("${address.lawd-table.memo-size:10000}")
+    private int memoSize;
+
+    private Map<String, LawdCode> byCode = Map.of();
+    private AhoCorasick<List<LawdCode>> automaton = new AhoCorasick<>(Map.of());
+    private final Map<String, Optional<LawdCode>> memo = new ConcurrentHashMap<>();
+
+    private final Counter memoHits;
+    private final Counter memoMisses;
+
+    public LawdCodeResolver(ResourceLoader resourceLoader, MeterRegistry meterRegistry) {
+        this.resourceLoader = resourceLoader;
+        this.memoHits = Counter.builder("address.lawd.memo.requests").tag("result", "hit").register(meterRegistry);
+        this.memoMisses = Counter.builder("address.lawd.memo.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("address.lawd.memo.size", memo, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        Resource resource = resourceLoader.getResource(resourceLocation);
+        if (!resource.exists()) {
+            log.warn("법정동코드 리소스가 없습니다: {}", resourceLocation);
+            return;
+        }
+
+        Map<String, LawdCode> codes = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), Charset.forName(charset)))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                LawdCode lawdCode = parseLine(line);
+                if (lawdCode != null) {
+                    codes.put(lawdCode.code(), lawdCode);
+                }
+            }
+        } catch (IOException e) {
+            log.error("법정동코드 리소스 로드 실패: {} - {}", resourceLocation, e.getMessage());
+            return;
+        }
+
+        Map<String, List<LawdCode>> dictionary = new HashMap<>();
+        for (LawdCode lawdCode : codes.values()) {
+            dictionary.computeIfAbsent(lawdCode.name(), key -> new ArrayList<>()).add(lawdCode);
+        }
+        // 약칭은 정식 명칭과 같은 코드들을 가리킴 (세종시는 시/도와 시/군/구 코드가 모두 같은 이름)
+        SIDO_ALIASES.forEach((sidoName, aliases) -> {
+            List<LawdCode> entries = dictionary.get(sidoName);
+            if (entries != null) {
+                List<LawdCode> targets = List.copyOf(entries);
+                aliases.forEach(alias -> dictionary.computeIfAbsent(alias, key -> new ArrayList<>()).addAll(targets));
+            }
+        });
+        dictionary.replaceAll((name, entries) -> {
+            entries.sort(Comparator.comparing(LawdCode::code));
+            return List.copyOf(entries);
+        });
+
+        this.byCode = Map.copyOf(codes);
+        this.automaton = new AhoCorasick<>(dictionary);
+        memo.clear();
+        log.info("법정동코드 인덱스 로드 완료 - 코드 {}개, 이름 {}개", codes.size(), dictionary.size());
+    }
+
+    /**
+     * 주소 문자열에서 가장 구체적인 법정동코드 조회 (결과는 메모이즈)
+     */
+    public Optional<LawdCode> resolve(String address) {
+        if (address == null || address.isBlank()) {
+            return Optional.empty();
+        }
+        String key = address.trim();
+        Optional<LawdCode> cached = memo.get(key);
+        if (cached != null) {
+            memoHits.increment();
+            return cached;
+        }
+
+        memoMisses.increment();
+        Optional<LawdCode> resolved = match(key);
+        if (memo.size() >= memoSize) {
+            memo.clear();
+        }
+        memo.put(key, resolved);
+        return resolved;
+    }
+
+    /**
+     * 코드로 법정동 조회 (5자리 시/군/구 코드는 10자리로 보정)
+     */
+    public Optional<LawdCode> findByCode(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        String normalized = code.length() == 5 ? code + "00000" : code;
+        return Optional.ofNullable(byCode.get(normalized));
+    }
+
+    /**
+     * 주소에 해당 단위(예: 시/군/구) 이름이 포함되어 있는지
+     */
+    public boolean mentions(String address, LawdCode.Level level) {
+        if (address == null) {
+            return false;
+        }
+        return automaton.findLeftmostLongest(address).stream()
+                .flatMap(match -> match.value().stream())
+                .anyMatch(lawdCode -> lawdCode.level() == level);
+    }
+
+    /**
+     * 코드 앞자리(예: 시/도 "11")가 같은 해당 단위의 현존 법정동 (코드 순)
+     */
+    public List<LawdCode> findAll(String codePrefix, LawdCode.Level level) {
+        return byCode.values().stream()
+                .filter(lawdCode -> lawdCode.level() == level && lawdCode.code().startsWith(codePrefix))
+                .sorted(Comparator.comparing(LawdCode::code))
+                .toList();
+    }
+
+    public int size() {
+        return byCode.size();
+    }
+
+    private Optional<LawdCode> match(String address) {
+        List<AhoCorasick.Match<List<LawdCode>>> matches = automaton.findLeftmostLongest(address);
+
+        LawdCode best = null;
+        int bestScore = 0;
+        for (AhoCorasick.Match<List<LawdCode>> match : matches) {
+            for (LawdCode candidate : match.value()) {
+                int score = score(candidate, matches);
+                if (best == null || score > bestScore
+                        || (score == bestScore && candidate.level().compareTo(best.level()) > 0)) {
+                    best = candidate;
+                    bestScore = score;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * 후보 자신 또는 상위 지역이 등장한 매칭 위치 수 (많을수록 주소 전체와 일관됨)
+     */
+    private int score(LawdCode candidate, List<AhoCorasick.Match<List<LawdCode>>> matches) {
+        int score = 0;
+        for (AhoCorasick.Match<List<LawdCode>> match : matches) {
+            for (LawdCode lawdCode : match.value()) {
+                if (lawdCode.equals(candidate) || lawdCode.isAncestorOf(candidate)) {
+                    score++;
+                    break;
+                }
+            }
+        }
+        return score;
+    }
+
+    private LawdCode parseLine(String line) {
+        String[] columns = line.split("\t");
+        if (columns.length < 2 || columns[0].length() != 10 || !columns[0].chars().allMatch(Character::isDigit)) {
+            return null; // 헤더 또는 잘못된 행
+        }
+        if (columns.length >= 3 && "폐지".equals(columns[2].trim())) {
+            return null;
+        }
+        String code = columns[0];
+        String fullName = columns[1].trim();
+        String name = fullName.substring(fullName.lastIndexOf(' ') + 1);
+        return new LawdCode(code, fullName, name, LawdCode.levelOf(code));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.seasontonebackend.common.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 공통 응답 형식 {success, data, message, error}
+ * 기존 Map 응답처럼 success/message 는 항상, data/error 는 넣은 응답에만 나간다.
+ */
+public record ApiResponse<T>(boolean success,
+                             @JsonInclude(JsonInclude.Include.NON_NULL) T data,
+                             String message,
+                             @JsonInclude(JsonInclude.Include.NON_NULL) String error) {
+
+    public static <T> ApiResponse<T> ok(T data, String message) {
+        return new ApiResponse<>(true, data, message, null);
+    }
+
+    public static <T> ApiResponse<T> ok(String message) {
+        return new ApiResponse<>(true, null, message, null);
+    }
+
+    public static <T> ApiResponse<T> fail(String message) {
+        return new ApiResponse<>(false, null, message, null);
+    }
+
+    public static <T> ApiResponse<T> fail(String message, String error) {
+        return new ApiResponse<>(false, null, message, error);
+    }
+}
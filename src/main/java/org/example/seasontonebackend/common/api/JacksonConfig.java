@@ -0,0 +1,21 @@
+package org.example.seasontonebackend.common.api;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 앱 공통 ObjectMapper 설정 (Spring Boot 자동 구성 ObjectMapper 에 모듈 추가)
+ * 컨트롤러 응답, SSE, 공유 리포트 JSON 이 모두 같은 ObjectMapper 를 쓴다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * getter/생성자 호출을 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 처리 (응답 직렬화 CPU 절감)
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
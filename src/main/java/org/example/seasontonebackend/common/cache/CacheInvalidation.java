@@ -0,0 +1,27 @@
+package org.example.seasontonebackend.common.cache;
+
+/**
+ * 다른 인스턴스에 알리는 캐시 무효화 한 건
+ *
+ * @param type   ENTITY: 엔티티 한 건(id) 또는 전체(id == null), REGION: 캐시 영역 하나, ALL: 전체
+ * @param target 엔티티 이름 또는 영역 이름
+ * @param id     엔티티 ID 문자열
+ */
+public record CacheInvalidation(Type type, String target, String id) {
+
+    public enum Type {
+        ENTITY, REGION, ALL
+    }
+
+    public static CacheInvalidation entity(String entityName, Object id) {
+        return new CacheInvalidation(Type.ENTITY, entityName, id == null ? null : id.toString());
+    }
+
+    public static CacheInvalidation region(String region) {
+        return new CacheInvalidation(Type.REGION, region, null);
+    }
+
+    public static CacheInvalidation all() {
+        return new CacheInvalidation(Type.ALL, null, null);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.seasontonebackend.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 전파 (local: 인스턴스 하나라 전파 없음, jdbc: cache_invalidation 테이블로 다른 인스턴스에 알림)
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 다른 인스턴스에 무효화를 알린다. 이 인스턴스의 캐시는 호출 전에 이미 비워져 있어야 한다.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * 다른 인스턴스가 보낸 무효화를 받을 리스너 등록 (자기 자신이 보낸 것은 받지 않음)
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+    /**
+     * 다른 인스턴스로 실제 전파하는지 (false 면 publish 를 호출할 필요 없음)
+     */
+    boolean propagates();
+
+    String name();
+}
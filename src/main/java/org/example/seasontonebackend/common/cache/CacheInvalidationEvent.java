@@ -0,0 +1,40 @@
+package org.example.seasontonebackend.common.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 인스턴스 간 캐시 무효화 기록 (cache.invalidation.backend=jdbc 일 때 사용, 테이블 생성용 엔티티)
+ * 쓰기/조회는 {@link JdbcCacheInvalidationBus} 가 JDBC 로 처리한다.
+ */
+@Entity
+@Table(name = "cache_invalidation", indexes = {
+        @Index(name = "idx_cache_invalidation_created", columnList = "createdAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 보낸 인스턴스 (자기 것은 건너뜀)
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(nullable = false, length = 10)
+    private String type;
+
+    @Column(length = 255)
+    private String target;
+
+    @Column(length = 100)
+    private String targetId;
+
+    // epoch millis
+    @Column(nullable = false)
+    private long createdAt;
+}
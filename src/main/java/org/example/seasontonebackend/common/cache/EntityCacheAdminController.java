@@ -0,0 +1,51 @@
+package org.example.seasontonebackend.common.cache;
+
+import org.example.seasontonebackend.common.api.ApiResponse;
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.member.domain.Role;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 엔티티 캐시 수동 무효화 (관리자, DB 를 직접 수정한 경우). 다른 인스턴스에도 전파된다.
+ */
+@RestController
+@RequestMapping("/api/admin/cache")
+public class EntityCacheAdminController {
+
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    public EntityCacheAdminController(EntityCacheInvalidator entityCacheInvalidator) {
+        this.entityCacheInvalidator = entityCacheInvalidator;
+    }
+
+    @DeleteMapping("/regions/{region}")
+    public ResponseEntity<ApiResponse<Void>> evictRegion(@PathVariable String region,
+                                                         @AuthenticationPrincipal Member member) {
+        if (!isAdmin(member)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.fail("관리자만 사용할 수 있습니다."));
+        }
+        if (!entityCacheInvalidator.evictRegion(region)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.fail("캐시 영역을 찾을 수 없습니다: " + region));
+        }
+        return ResponseEntity.ok(ApiResponse.ok("캐시 영역을 비웠습니다."));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> evictAll(@AuthenticationPrincipal Member member) {
+        if (!isAdmin(member)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.fail("관리자만 사용할 수 있습니다."));
+        }
+        entityCacheInvalidator.evictAll();
+        return ResponseEntity.ok(ApiResponse.ok("전체 캐시를 비웠습니다."));
+    }
+
+    private boolean isAdmin(Member member) {
+        return member != null && member.getRole() == Role.Admin;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.seasontonebackend.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * /actuator/entitycache - 2차 캐시 / 쿼리 캐시 영역별 적중률과 보관 건수
+ * 시계열은 /actuator/metrics/hibernate.second.level.cache.requests, hibernate.cache.query.requests 에서 확인
+ */
+@Component
+@Endpoint(id = "entitycache")
+public class EntityCacheEndpoint {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationBus bus;
+
+    public EntityCacheEndpoint(EntityManagerFactory entityManagerFactory, CacheInvalidationBus bus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.bus = bus;
+    }
+
+    @ReadOperation
+    public Map<String, Object> entityCache() {
+        Statistics statistics = sessionFactory.getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : new TreeSet<>(sessionFactory.getCache().getCacheRegionNames())) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, counts(regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                        regionStatistics.getPutCount(), regionStatistics.getElementCountInMemory()));
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("invalidation", bus.name());
+        result.put("queryCache", counts(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(), CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN));
+        result.put("regions", regions);
+        return result;
+    }
+
+    private Map<String, Object> counts(long hits, long misses, long puts, long entries) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("hits", hits);
+        counts.put("misses", misses);
+        counts.put("puts", puts);
+        long requests = hits + misses;
+        counts.put("hitRatio", requests == 0 ? 0.0 : Math.round(hits * 1000.0 / requests) / 1000.0);
+        if (entries != CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN) {
+            counts.put("entries", entries);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.seasontonebackend.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티 2차 캐시 / 쿼리 캐시 무효화
+ * - JPA 로 쓴 변경은 이 인스턴스에서는 Hibernate 가 처리하고, 커밋 후 다른 인스턴스에 전파만 한다.
+ * - DB 를 직접 수정했거나 JDBC 로 쓴 경우 evict* 를 호출한다 (이 인스턴스 + 다른 인스턴스).
+ */
+@Slf4j
+@Component
+public class EntityCacheInvalidator {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationBus bus;
+
+    private final Counter published;
+    private final Counter received;
+
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory, CacheInvalidationBus bus,
+                                  MeterRegistry meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.bus = bus;
+        this.published = invalidationCounter(meterRegistry, "published");
+        this.received = invalidationCounter(meterRegistry, "received");
+
+        bus.subscribe(this::applyRemote);
+
+        PostCommitWriteListener listener = new PostCommitWriteListener();
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+
+        log.info("엔티티 캐시 무효화 전파: {}", bus.name());
+    }
+
+    private Counter invalidationCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("entity.cache.invalidations")
+                .description("다른 인스턴스와 주고받은 캐시 무효화")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 엔티티 한 건과 관련 컬렉션, 쿼리 캐시 무효화
+     */
+    public void evictEntity(Class<?> entityClass, Object id) {
+        evict(CacheInvalidation.entity(entityClass.getName(), id));
+    }
+
+    /**
+     * 엔티티 종류 전체와 관련 컬렉션, 쿼리 캐시 무효화
+     */
+    public void evictEntity(Class<?> entityClass) {
+        evict(CacheInvalidation.entity(entityClass.getName(), null));
+    }
+
+    /**
+     * 캐시 영역 하나 비우기 (없는 영역이면 false)
+     */
+    public boolean evictRegion(String region) {
+        if (cache().getRegion(region) == null) {
+            return false;
+        }
+        evict(CacheInvalidation.region(region));
+        return true;
+    }
+
+    public void evictAll() {
+        evict(CacheInvalidation.all());
+    }
+
+    private void evict(CacheInvalidation invalidation) {
+        apply(invalidation);
+        publish(invalidation);
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        if (!bus.propagates()) {
+            return;
+        }
+        bus.publish(invalidation);
+        published.increment();
+    }
+
+    private void applyRemote(CacheInvalidation invalidation) {
+        received.increment();
+        log.debug("다른 인스턴스의 캐시 무효화 적용 - {} {} {}", invalidation.type(), invalidation.target(), invalidation.id());
+        apply(invalidation);
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        CacheImplementor cache = cache();
+        switch (invalidation.type()) {
+            case ENTITY -> evictEntityData(cache, invalidation.target(), invalidation.id());
+            case REGION -> cache.evictRegion(invalidation.target());
+            case ALL -> cache.evictAllRegions();
+        }
+    }
+
+    private void evictEntityData(CacheImplementor cache, String entityName, String id) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityName);
+        if (persister == null) {
+            log.warn("캐시 무효화 대상 엔티티를 찾을 수 없음: {}", entityName);
+            return;
+        }
+        Object identifier = id == null ? null : persister.getIdentifierMapping().getJavaType().fromString(id);
+        if (identifier == null) {
+            cache.evictEntityData(entityName);
+        } else {
+            cache.evictEntityData(entityName, identifier);
+        }
+
+        // 이 엔티티가 가진 컬렉션, 이 엔티티를 원소로 담는 컬렉션 (예: 질문 추가 → 미션의 질문 목록)
+        sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+            if (!collection.hasCache()) {
+                return;
+            }
+            if (collection.getOwnerEntityPersister().getEntityName().equals(entityName)) {
+                if (identifier == null) {
+                    cache.evictCollectionData(collection.getRole());
+                } else {
+                    cache.evictCollectionData(collection.getRole(), identifier);
+                }
+            } else if (collection.getAttributeMapping().getElementDescriptor().getPartMappingType() instanceof EntityMappingType element
+                    && element.getEntityName().equals(entityName)) {
+                cache.evictCollectionData(collection.getRole());
+            }
+        });
+
+        // 다른 인스턴스의 쿼리 캐시는 어느 테이블이 바뀌었는지 모르므로 전부 비움
+        cache.evictQueryRegions();
+    }
+
+    private CacheImplementor cache() {
+        return sessionFactory.getCache();
+    }
+
+    /**
+     * 2차 캐시 대상 엔티티가 커밋되면 다른 인스턴스에 알림
+     */
+    private class PostCommitWriteListener
+            implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return bus.propagates() && persister.canWriteToCache();
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            publish(CacheInvalidation.entity(event.getPersister().getEntityName(), event.getId()));
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            publish(CacheInvalidation.entity(event.getPersister().getEntityName(), event.getId()));
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            publish(CacheInvalidation.entity(event.getPersister().getEntityName(), event.getId()));
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.seasontonebackend.common.cache;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 영역 이름 (TTL, 최대 개수는 resources/ehcache.xml)
+ */
+public final class EntityCacheRegions {
+
+    public static final String MEMBER = "member";
+    public static final String MEMBER_BY_EMAIL = "member-by-email";
+
+    public static final String WEEKLY_MISSION = "weekly-mission";
+    public static final String WEEKLY_MISSION_QUESTIONS = "weekly-mission-questions";
+    public static final String MISSION_QUESTION = "mission-question";
+
+    private EntityCacheRegions() {
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.seasontonebackend.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * DB 테이블(cache_invalidation)로 다른 인스턴스에 캐시 무효화를 알림
+ * 각 인스턴스가 poll-interval 마다 최근 기록을 읽어 다른 인스턴스가 남긴 무효화를 적용한다.
+ * 자동 증가 ID 는 커밋 순서와 다를 수 있어 ID 대신 작성 시각으로 최근 구간을 다시 읽고, 처리한 ID 는 건너뛴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.backend", havingValue = "jdbc")
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final String INSERT =
+            "INSERT INTO cache_invalidation (origin, type, target, target_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_RECENT =
+            "SELECT id, origin, type, target, target_id, created_at FROM cache_invalidation WHERE created_at >= ? ORDER BY id";
+
+    // 커밋 순서 역전, 인스턴스 간 시계 차이 여유
+    private static final Duration MIN_LOOKBACK = Duration.ofSeconds(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String origin = UUID.randomUUID().toString();
+    private final long lookbackMillis;
+    private final long retentionMillis;
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    // 처리한 기록 ID → 작성 시각 (다시 읽는 구간을 벗어나면 제거)
+    private final Map<Long, Long> seen = new ConcurrentHashMap<>();
+
+    public JdbcCacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                    @Value("${cache.invalidation.poll-interval:PT2S}") Duration pollInterval,
+                                    @Value("${cache.invalidation.retention:PT10M}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookbackMillis = Math.max(MIN_LOOKBACK.toMillis(), pollInterval.multipliedBy(5).toMillis());
+        this.retentionMillis = Math.max(retention.toMillis(), lookbackMillis * 2);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            jdbcTemplate.update(INSERT, origin, invalidation.type().name(), invalidation.target(), invalidation.id(),
+                    System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            // 변경은 이미 커밋됨 - 다른 인스턴스는 영역 TTL 이 지나면 반영
+            log.warn("캐시 무효화 전파 실패 - {} {}: {}", invalidation.type(), invalidation.target(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval:PT2S}")
+    public void poll() {
+        long since = System.currentTimeMillis() - lookbackMillis;
+        jdbcTemplate.query(SELECT_RECENT, rs -> {
+            long id = rs.getLong("id");
+            if (seen.putIfAbsent(id, rs.getLong("created_at")) != null || origin.equals(rs.getString("origin"))) {
+                return;
+            }
+            deliver(new CacheInvalidation(CacheInvalidation.Type.valueOf(rs.getString("type")),
+                    rs.getString("target"), rs.getString("target_id")));
+        }, since);
+
+        for (Iterator<Long> createdAt = seen.values().iterator(); createdAt.hasNext(); ) {
+            if (createdAt.next() < since) {
+                createdAt.remove();
+            }
+        }
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 적용 실패 - {} {}: {}", invalidation.type(), invalidation.target(), e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.retention:PT10M}")
+    public void purge() {
+        int deleted = jdbcTemplate.update("DELETE FROM cache_invalidation WHERE created_at < ?",
+                System.currentTimeMillis() - retentionMillis);
+        if (deleted > 0) {
+            log.debug("지난 캐시 무효화 기록 삭제 - {}건", deleted);
+        }
+    }
+
+    @Override
+    public boolean propagates() {
+        return true;
+    }
+
+    @Override
+    public String name() {
+        return "jdbc";
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.seasontonebackend.common.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 하나로 운영할 때 (기본값). 인스턴스가 여러 대면 다른 인스턴스는 영역 TTL 이 지나야 반영된다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.backend", havingValue = "local", matchIfMissing = true)
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+    }
+
+    @Override
+    public boolean propagates() {
+        return false;
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.seasontonebackend.common.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.logging.LogContextTaskDecorator;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * I/O 대기가 대부분인 작업(외부 API, SMTP, DB)용 실행기 생성
+ * spring.threads.virtual.enabled=true 이고 JDK 21 이상이면 가상 스레드, 아니면 플랫폼 스레드 풀을 쓴다.
+ * 작업을 넘긴 스레드의 로그 문맥(requestId, tail capture 버퍼)은 작업 스레드로 옮겨 실행한다.
+ */
+@Slf4j
+@Component
+public class BlockingExecutors {
+
+    private final boolean virtual;
+    private final MeterRegistry meterRegistry;
+    private final TaskDecorator taskDecorator = new LogContextTaskDecorator();
+
+    public BlockingExecutors(Environment environment, MeterRegistry meterRegistry) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+        this.meterRegistry = meterRegistry;
+        if (!virtual && environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("가상 스레드 모드가 설정되었지만 JDK {} 에서는 지원되지 않아 플랫폼 스레드로 실행합니다.",
+                    Runtime.version().feature());
+        }
+        log.info("블로킹 작업 실행 모드: {}", virtual ? "가상 스레드" : "플랫폼 스레드");
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * 작업마다 스레드를 쓰는 실행기. 가상 스레드 모드가 아니면 platformThreads 개 고정 풀 (executor.* 메트릭 등록)
+     * 가상 스레드 모드의 동시 실행 수는 DB 연결 풀과 업스트림 벌크헤드가 제한한다.
+     */
+    public ExecutorService newExecutor(String name, int platformThreads) {
+        ExecutorService executor = virtual
+                ? new DecoratingExecutorService(SemaphoreBoundedExecutor.newThreadPerTaskExecutor(threadFactory(name)), taskDecorator)
+                : new DecoratingThreadPoolExecutor(platformThreads, platformThreads, 0, new LinkedBlockingQueue<>(),
+                        threadFactory(name), taskDecorator);
+        // 태그 키를 applicationTaskExecutor 등 다른 executor.* 메트릭과 같게 유지 (Prometheus 는 이름별 태그 키가 같아야 함)
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, name);
+    }
+
+    /**
+     * 가상 스레드 모드일 때만 작업마다 가상 스레드를 쓰는 실행기 (아니면 라이브러리 기본 실행기를 그대로 쓰도록 비움)
+     */
+    public Optional<ExecutorService> virtualExecutor(String name) {
+        return virtual ? Optional.of(newExecutor(name, 1)) : Optional.empty();
+    }
+
+    /**
+     * 동시 실행 수를 maxConcurrency 로, 대기 작업 수를 queueCapacity 로 묶은 실행기 (외부 API 호출 수 제한 등)
+     * 가상 스레드 모드는 작업마다 가상 스레드를 만들고 Semaphore 로 동시 실행 수를 묶는다 (가상 스레드는 풀에 담지 않음).
+     * 플랫폼 스레드 모드는 고정 크기 ThreadPoolExecutor. 어느 쪽이든 대기열이 차면 RejectedExecutionException.
+     */
+    public BoundedExecutorService newBoundedExecutor(String name, int maxConcurrency, int queueCapacity) {
+        if (virtual) {
+            return new SemaphoreBoundedExecutor(name, threadFactory(name), maxConcurrency, queueCapacity, taskDecorator);
+        }
+        BlockingQueue<Runnable> queue = queueCapacity == Integer.MAX_VALUE
+                ? new LinkedBlockingQueue<>()
+                : new ArrayBlockingQueue<>(queueCapacity);
+        return new BoundedThreadPoolExecutor(maxConcurrency, queue, threadFactory(name), taskDecorator);
+    }
+
+    /**
+     * 제출 시점에 작업을 감싸는 ThreadPoolExecutor (executor.pool.* 메트릭이 붙도록 ThreadPoolExecutor 그대로 유지)
+     */
+    private static class DecoratingThreadPoolExecutor extends ThreadPoolExecutor {
+
+        private final TaskDecorator taskDecorator;
+
+        DecoratingThreadPoolExecutor(int coreThreads, int maxThreads, long keepAliveSeconds, BlockingQueue<Runnable> queue,
+                                     ThreadFactory threadFactory, TaskDecorator taskDecorator) {
+            super(coreThreads, maxThreads, keepAliveSeconds, TimeUnit.SECONDS, queue, threadFactory, new AbortPolicy());
+            this.taskDecorator = taskDecorator;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            super.execute(taskDecorator.decorate(command));
+        }
+    }
+
+    private static final class BoundedThreadPoolExecutor extends DecoratingThreadPoolExecutor implements BoundedExecutorService {
+
+        BoundedThreadPoolExecutor(int threads, BlockingQueue<Runnable> queue, ThreadFactory threadFactory,
+                                  TaskDecorator taskDecorator) {
+            super(threads, threads, 60, queue, threadFactory, taskDecorator);
+        }
+
+        @Override
+        public int queuedTasks() {
+            return getQueue().size();
+        }
+
+        @Override
+        public int remainingQueueCapacity() {
+            return getQueue().remainingCapacity();
+        }
+    }
+
+    /**
+     * 가상 스레드 실행기(작업마다 스레드)에 작업 감싸기만 더한 위임 실행기
+     */
+    private static final class DecoratingExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final TaskDecorator taskDecorator;
+
+        DecoratingExecutorService(ExecutorService delegate, TaskDecorator taskDecorator) {
+            this.delegate = delegate;
+            this.taskDecorator = taskDecorator;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(taskDecorator.decorate(command));
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    private ThreadFactory threadFactory(String name) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(name + "-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.seasontonebackend.common.concurrent;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 동시 실행 수와 대기열 크기가 묶인 실행기 (대기열이 가득 차면 RejectedExecutionException)
+ */
+public interface BoundedExecutorService extends ExecutorService {
+
+    /**
+     * 실행 순서를 기다리는 작업 수
+     */
+    int queuedTasks();
+
+    /**
+     * 거절 없이 더 받을 수 있는 대기 작업 수
+     */
+    int remainingQueueCapacity();
+}
@@ -0,0 +1,141 @@
+package org.example.seasontonebackend.common.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드용 제한 실행기. 작업마다 가상 스레드를 만들고 Semaphore 로 동시 실행 수만 묶는다.
+ * 허가를 기다리는 가상 스레드가 곧 대기열이며, 대기 수가 queueCapacity 를 넘으면 바로 거절한다.
+ * 가상 스레드를 풀에 담아 재사용하지 않으므로 ThreadPoolExecutor 의 워커 관리 비용이 없다.
+ */
+final class SemaphoreBoundedExecutor extends AbstractExecutorService implements BoundedExecutorService {
+
+    // JDK 17 로 컴파일하므로 Executors.newThreadPerTaskExecutor (JDK 21) 는 실행 시점에 찾는다
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR = findThreadPerTaskExecutor();
+
+    private final String name;
+    private final ExecutorService threadPerTask;
+    private final TaskDecorator taskDecorator;
+    private final Semaphore permits;
+    private final long maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final int queueCapacity;
+
+    SemaphoreBoundedExecutor(String name, ThreadFactory virtualThreadFactory, int maxConcurrency, int queueCapacity) {
+        this(name, virtualThreadFactory, maxConcurrency, queueCapacity, task -> task);
+    }
+
+    SemaphoreBoundedExecutor(String name, ThreadFactory virtualThreadFactory, int maxConcurrency, int queueCapacity,
+                             TaskDecorator taskDecorator) {
+        this.name = name;
+        this.threadPerTask = newThreadPerTaskExecutor(virtualThreadFactory);
+        this.taskDecorator = taskDecorator;
+        this.permits = new Semaphore(maxConcurrency);
+        this.queueCapacity = queueCapacity;
+        this.maxInFlight = (long) maxConcurrency + queueCapacity;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            throw new RejectedExecutionException(name + " 대기열이 가득 찼습니다.");
+        }
+        Runnable decorated = taskDecorator.decorate(task);
+        try {
+            threadPerTask.execute(() -> run(decorated));
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            // shutdownNow: 아직 시작하지 않은 작업은 버린다
+            inFlight.decrementAndGet();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        running.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            running.decrementAndGet();
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    @Override
+    public int queuedTasks() {
+        return Math.max(0, inFlight.get() - running.get());
+    }
+
+    @Override
+    public int remainingQueueCapacity() {
+        return Math.max(0, queueCapacity - queuedTasks());
+    }
+
+    @Override
+    public void shutdown() {
+        threadPerTask.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return threadPerTask.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return threadPerTask.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return threadPerTask.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return threadPerTask.awaitTermination(timeout, unit);
+    }
+
+    static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        if (NEW_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new IllegalStateException("가상 스레드 실행기는 JDK 21 이상에서만 사용할 수 있습니다.");
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invokeExact(threadFactory);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle findThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.seasontonebackend.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 진단 (가상 스레드 모드에서만 동작)
+ * synchronized 블록이나 네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 붙잡은 경우를
+ * JFR jdk.VirtualThreadPinned 이벤트로 받아 WARN 로그와 jvm.threads.virtual.pinned 카운터로 남긴다.
+ * source 태그: jdbc(드라이버 내부 - H2 는 synchronized 기반이라 local 에서는 정상적으로 발생),
+ * application(우리 코드), library(그 외)
+ * 더 자세한 스택은 -Djdk.tracePinnedThreads=full 로 확인한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "org.example.seasontonebackend";
+    private static final List<String> JDBC_PACKAGES = List.of("org.h2.", "com.mysql.", "com.zaxxer.hikari.", "org.hibernate.");
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 고정 감시 시작 - 기준: {}", threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String source = sourceOf(frames);
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("캐리어 스레드를 붙잡은 가상 스레드 블로킹 횟수")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+        log.warn("가상 스레드 고정 {}ms ({}) - {}", event.getDuration().toMillis(), source, stack);
+    }
+
+    private String sourceOf(List<RecordedFrame> frames) {
+        boolean application = false;
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (JDBC_PACKAGES.stream().anyMatch(type::startsWith)) {
+                return "jdbc";
+            }
+            application |= type.startsWith(APPLICATION_PACKAGE);
+        }
+        return application ? "application" : "library";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recordingStream.close();
+    }
+}
@@ -0,0 +1,218 @@
+package org.example.seasontonebackend.common.fallback;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.timeseries.ContractKind;
+import org.example.seasontonebackend.common.timeseries.MonthlyRentBucket;
+import org.example.seasontonebackend.common.timeseries.PropertyType;
+import org.example.seasontonebackend.common.timeseries.RentTimeSeriesStore;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실거래가 API 가 데이터를 주지 못할 때 쓰는 지역별 대체 시세 테이블
+ * 기준 월세는 해당 지역의 마지막 실거래 집계(중앙값)를 쓰고, 집계가 없으면 지역 가격지수로 정한다.
+ * 동네별 편차·월별 변동은 (법정동코드, 건물 유형) 고정 시드에서 만들기 때문에 새로고침해도 값이 바뀌지 않는다.
+ * 지역별 결과는 한 번 계산해 두고 달이 바뀌거나 새 실거래 집계가 들어올 때만 다시 만든다.
+ */
+@Slf4j
+@Component
+public class MarketFallbackTable {
+
+    // 시드 기반 기준값의 기준 월 (이 달의 월세 = 기준 월세, 앞뒤 달은 추세만큼 조정)
+    private static final YearMonth REFERENCE_MONTH = YearMonth.of(2025, 9);
+    // 전월세 전환율 (연 5.5%) - 전세 집계가 없을 때 월세로부터 전세 보증금 추정
+    private static final double CONVERSION_RATE = 0.055;
+    private static final int DEPOSIT_TO_RENT_RATIO = 50;
+    private static final int TRANSACTIONS_PER_NEIGHBORHOOD = 3;
+
+    private static final Map<PropertyType, Double> BASE_MONTHLY_RENT = Map.of(
+            PropertyType.OFFICETEL, 800000.0,
+            PropertyType.VILLA, 600000.0);
+
+    // 지역 가격지수 {오피스텔, 빌라} (서울 평균 = 1.0)
+    private static final Map<String, double[]> PRICE_INDEX = Map.ofEntries(
+            Map.entry("11680", new double[]{1.4, 1.3}),   // 강남구
+            Map.entry("11650", new double[]{1.4, 1.3}),   // 서초구
+            Map.entry("11710", new double[]{1.2, 1.1}),   // 송파구
+            Map.entry("11740", new double[]{1.2, 1.1}),   // 강동구
+            Map.entry("11440", new double[]{1.1, 1.0}),   // 마포구
+            Map.entry("11170", new double[]{1.1, 1.0}),   // 용산구
+            Map.entry("11200", new double[]{1.0, 0.9}),   // 성동구
+            Map.entry("11215", new double[]{1.0, 0.9}),   // 광진구
+            Map.entry("11230", new double[]{0.9, 0.8}),   // 동대문구
+            Map.entry("11260", new double[]{0.9, 0.8}),   // 중랑구
+            Map.entry("11290", new double[]{0.85, 0.75}), // 성북구
+            Map.entry("11305", new double[]{0.85, 0.75}), // 강북구
+            Map.entry("11320", new double[]{0.8, 0.7}),   // 도봉구
+            Map.entry("11350", new double[]{0.8, 0.7}),   // 노원구
+            Map.entry("11380", new double[]{0.9, 0.8}),   // 은평구
+            Map.entry("11410", new double[]{0.9, 0.8}),   // 서대문구
+            Map.entry("11470", new double[]{0.85, 0.75}), // 양천구
+            Map.entry("11500", new double[]{0.85, 0.75}), // 강서구
+            Map.entry("11530", new double[]{0.8, 0.7}),   // 구로구
+            Map.entry("11545", new double[]{0.8, 0.7}),   // 금천구
+            Map.entry("11560", new double[]{0.9, 0.8}),   // 영등포구
+            Map.entry("11590", new double[]{0.9, 0.8}),   // 동작구
+            Map.entry("11620", new double[]{0.8, 0.7}),   // 관악구
+            Map.entry("31170", new double[]{0.5, 0.5}),   // 울산 동구
+            Map.entry("31710", new double[]{0.4, 0.4})    // 울산 울주군
+    );
+
+    private static final Map<String, List<String>> NEIGHBORHOODS = Map.ofEntries(
+            Map.entry("11410", List.of("미근동", "창천동", "충정로2가", "홍제동", "남가좌동", "합동")),
+            Map.entry("11680", List.of("역삼동", "개포동", "청담동", "삼성동", "대치동", "논현동")),
+            Map.entry("11650", List.of("서초동", "방배동", "잠원동", "반포동", "내곡동", "양재동")),
+            Map.entry("11440", List.of("공덕동", "아현동", "도화동", "용강동", "대흥동", "염리동")),
+            Map.entry("11170", List.of("후암동", "용산동", "남영동", "청파동", "원효로동", "이촌동")),
+            Map.entry("11110", List.of("청계동", "신문로동", "효제동", "혜화동", "명륜동", "이화동")),
+            Map.entry("11140", List.of("명동", "을지로동", "회현동", "신당동", "다산동", "약수동")),
+            Map.entry("11200", List.of("왕십리동", "마장동", "사근동", "행당동", "응봉동", "금호동")),
+            Map.entry("11215", List.of("구의동", "광장동", "자양동", "화양동", "군자동", "중곡동")),
+            Map.entry("11230", List.of("용신동", "제기동", "전농동", "답십리동", "장안동", "청량리동")),
+            Map.entry("11260", List.of("면목동", "상봉동", "중화동", "묵동", "망우동", "신내동")),
+            Map.entry("11290", List.of("성북동", "삼선동", "동선동", "돈암동", "안암동", "보문동")),
+            Map.entry("11305", List.of("삼양동", "미아동", "번동", "수유동", "우이동", "인수동")),
+            Map.entry("11320", List.of("쌍문동", "방학동", "창동", "도봉동", "노해동", "해등동")),
+            Map.entry("11350", List.of("월계동", "공릉동", "하계동", "중계동", "상계동", "녹천동")),
+            Map.entry("11380", List.of("수색동", "녹번동", "불광동", "갈현동", "구산동", "대조동")),
+            Map.entry("11470", List.of("목동", "신월동", "신정동", "염창동", "등촌동", "가양동")),
+            Map.entry("11500", List.of("염창동", "등촌동", "화곡동", "가양동", "마곡동", "내발산동")),
+            Map.entry("11530", List.of("신도림동", "구로동", "가리봉동", "고척동", "개봉동", "오류동")),
+            Map.entry("11545", List.of("가산동", "독산동", "시흥동", "광명동", "범계동", "산본동")),
+            Map.entry("11560", List.of("영등포동", "여의도동", "당산동", "도림동", "문래동", "신길동")),
+            Map.entry("11590", List.of("노량진동", "상도동", "상도1동", "본동", "사당동", "대방동")),
+            Map.entry("11620", List.of("보라매동", "청림동", "성현동", "행운동", "낙성대동", "청룡동")),
+            Map.entry("11710", List.of("잠실동", "신천동", "마천동", "거여동", "문정동", "장지동")),
+            Map.entry("11740", List.of("천호동", "성내동", "길동", "둔촌동", "암사동", "상일동")),
+            Map.entry("31170", List.of("일산동", "방어동", "화정동", "동부동", "서부동", "전하동")),
+            Map.entry("31710", List.of("범서읍", "언양읍", "온양읍", "온산읍", "두동면", "두서면"))
+    );
+
+    private static final List<String> DEFAULT_NEIGHBORHOODS =
+            List.of("인근 지역 1", "인근 지역 2", "인근 지역 3", "인근 지역 4", "인근 지역 5", "인근 지역 6");
+
+    private static final Map<PropertyType, List<String>> BUILDING_SUFFIXES = Map.of(
+            PropertyType.OFFICETEL, List.of("오피스텔", "빌딩", "타워", "센터", "플라자", "하이츠", "스퀘어", "빌리지"),
+            PropertyType.VILLA, List.of("빌라", "하우스", "맨션", "빌", "주택", "하이츠"));
+
+    private final RentTimeSeriesStore timeSeriesStore;
+    private final Map<String, RegionFallbackProfile> profiles = new ConcurrentHashMap<>();
+
+    public MarketFallbackTable(RentTimeSeriesStore timeSeriesStore) {
+        this.timeSeriesStore = timeSeriesStore;
+    }
+
+    /**
+     * 지역·건물 유형별 대체 시세 (캐시된 값이 이번 달 기준이고 새 실거래 집계가 없으면 그대로 반환)
+     */
+    public RegionFallbackProfile get(String lawdCd, PropertyType propertyType) {
+        String region = lawdCd != null ? lawdCd : "";
+        YearMonth currentMonth = YearMonth.now();
+        Optional<MonthlyRentBucket> observed = timeSeriesStore.getLatestBucket(region, propertyType, ContractKind.MONTHLY_RENT);
+        YearMonth anchorMonth = observed.map(MonthlyRentBucket::getMonth).orElse(REFERENCE_MONTH);
+
+        return profiles.compute(region + ":" + propertyType, (key, cached) -> {
+            if (cached != null && cached.getEndMonth().equals(currentMonth) && cached.getAnchorMonth().equals(anchorMonth)) {
+                return cached;
+            }
+            return build(region, propertyType, currentMonth, observed.orElse(null));
+        });
+    }
+
+    private RegionFallbackProfile build(String lawdCd, PropertyType propertyType, YearMonth currentMonth,
+                                        MonthlyRentBucket observedRent) {
+        long seed = seed(lawdCd, propertyType);
+        YearMonth anchorMonth = observedRent != null ? observedRent.getMonth() : REFERENCE_MONTH;
+        double baseRent = observedRent != null
+                ? observedRent.getMedian()
+                : BASE_MONTHLY_RENT.get(propertyType) * priceIndex(lawdCd, propertyType);
+        double jeonseBase = timeSeriesStore.getLatestBucket(lawdCd, propertyType, ContractKind.JEONSE)
+                .map(MonthlyRentBucket::getMedian)
+                .orElse(baseRent * 12 / CONVERSION_RATE);
+
+        // 월별 시계열 (원): 지역별 고정 추세(월 0.2~0.8%) + 달마다 고정된 ±2% 변동
+        double monthlyDrift = 0.002 + 0.006 * unit(seed, 101);
+        long[] monthlyRents = new long[RentTimeSeriesStore.MAX_MONTHS];
+        int[] monthlyCounts = new int[RentTimeSeriesStore.MAX_MONTHS];
+        for (int i = 0; i < monthlyRents.length; i++) {
+            YearMonth month = currentMonth.minusMonths(monthlyRents.length - 1 - i);
+            long epochMonth = epochMonth(month);
+            double trend = Math.pow(1 + monthlyDrift, epochMonth - epochMonth(anchorMonth));
+            double noise = 1 + 0.04 * (unit(seed, epochMonth) - 0.5);
+            monthlyRents[i] = Math.round(baseRent * trend * noise);
+            monthlyCounts[i] = 10 + (int) (20 * unit(seed ^ 0x5bd1e995L, epochMonth));
+        }
+
+        // 동네별 시세·거래 (만원)
+        List<String> names = NEIGHBORHOODS.getOrDefault(lawdCd, DEFAULT_NEIGHBORHOODS);
+        List<String> suffixes = BUILDING_SUFFIXES.get(propertyType);
+        List<RegionFallbackProfile.Neighborhood> neighborhoods = new ArrayList<>(names.size());
+        List<RegionFallbackProfile.Transaction> transactions = new ArrayList<>(names.size() * TRANSACTIONS_PER_NEIGHBORHOOD);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            double avgRent = Math.round(baseRent * (0.8 + 0.4 * unit(seed, 1000 + i)) / 10000);
+            double jeonseDeposit = Math.round(jeonseBase * (0.85 + 0.3 * unit(seed, 3000 + i)) / 10000);
+            neighborhoods.add(new RegionFallbackProfile.Neighborhood(
+                    name,
+                    avgRent,
+                    avgRent * DEPOSIT_TO_RENT_RATIO,
+                    5 + (int) (20 * unit(seed, 2000 + i)),
+                    jeonseDeposit,
+                    3 + (int) (15 * unit(seed, 4000 + i))));
+
+            for (int j = 0; j < TRANSACTIONS_PER_NEIGHBORHOOD; j++) {
+                long salt = 5000 + i * 10L * TRANSACTIONS_PER_NEIGHBORHOOD + j * 10L;
+                long monthlyRent = Math.round(baseRent * (0.7 + 0.6 * unit(seed, salt)) / 10000);
+                transactions.add(new RegionFallbackProfile.Transaction(
+                        name,
+                        name + " " + suffixes.get(j % suffixes.size()),
+                        monthlyRent,
+                        monthlyRent * DEPOSIT_TO_RENT_RATIO,
+                        Math.round((20 + 20 * unit(seed, salt + 1)) * 100) / 100.0,
+                        1 + (int) (20 * unit(seed, salt + 2)),
+                        currentMonth.atDay(1).minusDays((long) (90 * unit(seed, salt + 3))).toString()));
+            }
+        }
+
+        String basis = observedRent != null ? "observed" : "seeded";
+        log.debug("대체 시세 테이블 생성 - 법정동코드: {}, 유형: {}, 기준: {}", lawdCd, propertyType, basis);
+        return new RegionFallbackProfile(lawdCd, propertyType, basis, currentMonth, anchorMonth,
+                neighborhoods, transactions, monthlyRents, monthlyCounts);
+    }
+
+    private static double priceIndex(String lawdCd, PropertyType propertyType) {
+        double[] index = PRICE_INDEX.get(lawdCd);
+        if (index == null) {
+            return 1.0;
+        }
+        return propertyType == PropertyType.OFFICETEL ? index[0] : index[1];
+    }
+
+    /**
+     * (법정동코드, 건물 유형) 고정 시드 - String.hashCode 는 JVM 간 동일하므로 재시작해도 같은 값
+     */
+    private static long seed(String lawdCd, PropertyType propertyType) {
+        return ((long) lawdCd.hashCode() << 32) ^ propertyType.name().hashCode();
+    }
+
+    private static long epochMonth(YearMonth month) {
+        return month.getYear() * 12L + month.getMonthValue() - 1;
+    }
+
+    /**
+     * (시드, 순번) → [0, 1) 고정 난수 (SplitMix64 혼합 함수)
+     */
+    static double unit(long seed, long salt) {
+        long z = seed + salt * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53;
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.seasontonebackend.common.fallback;
+
+import org.example.seasontonebackend.common.timeseries.PropertyType;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지역(법정동코드)·건물 유형별로 미리 계산해 둔 대체 시세
+ * 시세/거래 금액은 실거래가 API 응답과 같은 만원 단위, 시계열 금액은 집계 버킷과 같은 원 단위.
+ * 같은 입력이면 항상 같은 값을 돌려준다.
+ */
+public final class RegionFallbackProfile {
+
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final String lawdCd;
+    private final PropertyType propertyType;
+    private final String basis;
+    private final YearMonth endMonth;
+    private final YearMonth anchorMonth;
+    private final List<Neighborhood> neighborhoods;
+    private final List<Transaction> transactions;
+    // endMonth 기준 과거 → 최근 순 월별 평균 월세(원)와 거래 건수
+    private final long[] monthlyRents;
+    private final int[] monthlyCounts;
+
+    RegionFallbackProfile(String lawdCd, PropertyType propertyType, String basis, YearMonth endMonth, YearMonth anchorMonth,
+                          List<Neighborhood> neighborhoods, List<Transaction> transactions,
+                          long[] monthlyRents, int[] monthlyCounts) {
+        this.lawdCd = lawdCd;
+        this.propertyType = propertyType;
+        this.basis = basis;
+        this.endMonth = endMonth;
+        this.anchorMonth = anchorMonth;
+        this.neighborhoods = List.copyOf(neighborhoods);
+        this.transactions = List.copyOf(transactions);
+        this.monthlyRents = monthlyRents;
+        this.monthlyCounts = monthlyCounts;
+    }
+
+    public String getLawdCd() {
+        return lawdCd;
+    }
+
+    public PropertyType getPropertyType() {
+        return propertyType;
+    }
+
+    /**
+     * 기준값 출처 (observed: 마지막 실거래 집계, seeded: 지역 가격지수 + 고정 시드)
+     */
+    public String getBasis() {
+        return basis;
+    }
+
+    public List<Neighborhood> getNeighborhoods() {
+        return neighborhoods;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    YearMonth getEndMonth() {
+        return endMonth;
+    }
+
+    YearMonth getAnchorMonth() {
+        return anchorMonth;
+    }
+
+    /**
+     * 최근 N개월 대체 시계열 (RentTimeSeriesStore.analyze 와 같은 형태, isMockData=true)
+     */
+    public Map<String, Object> timeSeries(int months) {
+        int period = Math.max(2, Math.min(months, monthlyRents.length));
+        int from = monthlyRents.length - period;
+
+        List<Map<String, Object>> timeSeriesData = new ArrayList<>(period);
+        int totalTransactions = 0;
+        double sumOfSquares = 0;
+        double sumOfChanges = 0;
+        for (int i = from; i < monthlyRents.length; i++) {
+            YearMonth month = endMonth.minusMonths(monthlyRents.length - 1 - i);
+            Map<String, Object> monthData = new HashMap<>();
+            monthData.put("period", month.format(PERIOD_FORMAT));
+            monthData.put("yearMonth", month.toString());
+            monthData.put("averageRent", monthlyRents[i]);
+            monthData.put("transactionCount", monthlyCounts[i]);
+            timeSeriesData.add(monthData);
+            totalTransactions += monthlyCounts[i];
+
+            if (i > from) {
+                double change = (monthlyRents[i] - monthlyRents[i - 1]) * 100.0 / monthlyRents[i - 1];
+                sumOfChanges += change;
+                sumOfSquares += change * change;
+            }
+        }
+
+        double startRent = monthlyRents[from];
+        double endRent = monthlyRents[monthlyRents.length - 1];
+        double totalChangeRate = (endRent - startRent) * 100.0 / startRent;
+        int changes = period - 1;
+        double meanChange = sumOfChanges / changes;
+        double volatility = Math.sqrt(Math.max(0, sumOfSquares / changes - meanChange * meanChange));
+
+        Map<String, Object> analysis = new HashMap<>();
+        analysis.put("totalChangeRate", Math.round(totalChangeRate * 10) / 10.0);
+        analysis.put("monthlyChangeRate", Math.round((totalChangeRate / period) * 10) / 10.0);
+        analysis.put("startPeriod", timeSeriesData.get(0).get("period"));
+        analysis.put("endPeriod", timeSeriesData.get(timeSeriesData.size() - 1).get("period"));
+        analysis.put("startRent", startRent);
+        analysis.put("endRent", endRent);
+        analysis.put("trend", totalChangeRate > 5 ? "상승" : totalChangeRate < -5 ? "하락" : "보합");
+        analysis.put("volatility", Math.round(volatility * 100) / 100.0);
+        analysis.put("totalTransactions", totalTransactions);
+        analysis.put("buildingType", propertyType.getDisplayName());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("timeSeries", timeSeriesData);
+        result.put("analysis", analysis);
+        result.put("period", period + "개월");
+        result.put("lawdCd", lawdCd);
+        result.put("isMockData", true);
+        result.put("fallbackBasis", basis);
+        return result;
+    }
+
+    /**
+     * 동네별 대체 시세 (만원)
+     */
+    public record Neighborhood(String name, double avgMonthlyRent, double avgDeposit, int transactionCount,
+                               double jeonseDeposit, int jeonseTransactionCount) {
+    }
+
+    /**
+     * 대체 거래 내역 한 건 (만원)
+     */
+    public record Transaction(String neighborhood, String buildingName, long monthlyRent, long deposit,
+                              double area, int floor, String contractDate) {
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.seasontonebackend.common.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 호스트별 연결 풀 한도
+ * JDK HttpClient 는 호스트별로 연결을 재사용하지만 상한과 사용량을 노출하지 않으므로,
+ * 동시에 사용 중인 연결 수를 호스트 단위로 제한하고 사용량/대기 수를 게이지로 노출한다.
+ */
+public class HostConnectionLimiter {
+
+    private final int maxConnectionsPerHost;
+    private final long acquireTimeoutMillis;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HostPool> pools = new ConcurrentHashMap<>();
+
+    public HostConnectionLimiter(int maxConnectionsPerHost, long acquireTimeoutMillis, MeterRegistry meterRegistry) {
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 연결 슬롯 획득. 대기 한도를 넘기면 IOException (RestTemplate 에서 ResourceAccessException 으로 전달됨)
+     */
+    public HostPool acquire(String host) throws IOException {
+        HostPool pool = pools.computeIfAbsent(host, this::createPool);
+        pool.pending.incrementAndGet();
+        try {
+            if (!pool.permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IOException("연결 풀 포화 - host: " + host);
+            }
+            return pool;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("연결 풀 대기 중 인터럽트 - host: " + host, e);
+        } finally {
+            pool.pending.decrementAndGet();
+        }
+    }
+
+    private HostPool createPool(String host) {
+        HostPool pool = new HostPool(new Semaphore(maxConnectionsPerHost));
+        Gauge.builder("outbound.http.pool.active", pool, p -> maxConnectionsPerHost - p.permits.availablePermits())
+                .tag("host", host)
+                .register(meterRegistry);
+        Gauge.builder("outbound.http.pool.pending", pool, p -> p.pending.get())
+                .tag("host", host)
+                .register(meterRegistry);
+        Gauge.builder("outbound.http.pool.max", pool, p -> maxConnectionsPerHost)
+                .tag("host", host)
+                .register(meterRegistry);
+        return pool;
+    }
+
+    public static final class HostPool {
+        private final Semaphore permits;
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private HostPool(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        public void release() {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.seasontonebackend.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 모든 외부 호출이 공유하는 HTTP 클라이언트
+ * 하나의 JDK HttpClient(호스트별 keep-alive 연결 재사용, ALPN 으로 HTTP/2 협상)를 두고,
+ * 업스트림마다 읽기 타임아웃과 메트릭 태그만 다른 RestTemplate 을 만들어 준다.
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients {
+
+    private final HttpClient httpClient;
+    private final HttpClient plainHttpClient;
+    private final HostConnectionLimiter connectionLimiter;
+    private final MeterRegistry meterRegistry;
+    private final LawdCodeResolver lawdCodeResolver;
+
+    public OutboundHttpClients(MeterRegistry meterRegistry,
+                               @Value("${outbound.http.connect-timeout:2s}") Duration connectTimeout,
+                               @Value("${outbound.http.http2-enabled:true}") boolean http2Enabled,
+                               @Value("${outbound.http.keep-alive:30s}") Duration keepAlive,
+                               @Value("${outbound.http.max-connections-per-host:20}") int maxConnectionsPerHost,
+                               @Value("${outbound.http.pool-acquire-timeout:1s}") Duration poolAcquireTimeout,
+                               BlockingExecutors blockingExecutors,
+                               LawdCodeResolver lawdCodeResolver) {
+        this.meterRegistry = meterRegistry;
+        this.lawdCodeResolver = lawdCodeResolver;
+        this.connectionLimiter = new HostConnectionLimiter(maxConnectionsPerHost, poolAcquireTimeout.toMillis(), meterRegistry);
+
+        // JDK HttpClient 연결 풀 설정은 시스템 프로퍼티로만 조정 가능 (첫 클라이언트 생성 전에 지정)
+        setIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(keepAlive.toSeconds()));
+        setIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(maxConnectionsPerHost));
+
+        HttpClient.Builder tlsBuilder = HttpClient.newBuilder()
+                .version(http2Enabled ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        // 평문 http 는 h2c 업그레이드 헤더를 보내지 않도록 HTTP/1.1 고정
+        HttpClient.Builder plainBuilder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        // 가상 스레드 모드에서는 응답 수신/본문 처리도 가상 스레드에서 (기본은 플랫폼 스레드 캐시 풀)
+        blockingExecutors.virtualExecutor("outbound-http").ifPresent(executor -> {
+            tlsBuilder.executor(executor);
+            plainBuilder.executor(executor);
+        });
+        this.httpClient = tlsBuilder.build();
+        this.plainHttpClient = plainBuilder.build();
+
+        log.info("외부 HTTP 클라이언트 초기화 - HTTP/2: {}, 연결 타임아웃: {}, 호스트당 최대 연결: {}",
+                http2Enabled, connectTimeout, maxConnectionsPerHost);
+    }
+
+    /**
+     * 업스트림 전용 RestTemplate (공유 연결 풀 사용)
+     */
+    public RestTemplate restTemplate(String upstream, Duration readTimeout) {
+        JdkClientHttpRequestFactory tlsRequestFactory = new JdkClientHttpRequestFactory(httpClient);
+        tlsRequestFactory.setReadTimeout(readTimeout);
+        JdkClientHttpRequestFactory plainRequestFactory = new JdkClientHttpRequestFactory(plainHttpClient);
+        plainRequestFactory.setReadTimeout(readTimeout);
+
+        ClientHttpRequestFactory requestFactory = (uri, httpMethod) -> "https".equalsIgnoreCase(uri.getScheme())
+                ? tlsRequestFactory.createRequest(uri, httpMethod)
+                : plainRequestFactory.createRequest(uri, httpMethod);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(new OutboundHttpInterceptor(upstream, connectionLimiter, meterRegistry, lawdCodeResolver));
+        return restTemplate;
+    }
+
+    private static void setIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.seasontonebackend.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 호출 공통 인터셉터: 호스트 연결 슬롯 관리, gzip 요청, 업스트림/엔드포인트별 지연·오류 메트릭
+ * 실거래가처럼 LAWD_CD 로 지역을 지정하는 호출은 지역별 지연/오류도 따로 기록한다.
+ * 지역 태그는 법정동코드표에 있는 시/군/구 코드만 쓰고 나머지는 other 로 묶는다 (임의 값으로 시계열이 늘지 않도록).
+ */
+class OutboundHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String upstream;
+    private final HostConnectionLimiter connectionLimiter;
+    private final MeterRegistry meterRegistry;
+    private final LawdCodeResolver lawdCodeResolver;
+
+    OutboundHttpInterceptor(String upstream, HostConnectionLimiter connectionLimiter, MeterRegistry meterRegistry,
+                            LawdCodeResolver lawdCodeResolver) {
+        this.upstream = upstream;
+        this.connectionLimiter = connectionLimiter;
+        this.meterRegistry = meterRegistry;
+        this.lawdCodeResolver = lawdCodeResolver;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        URI uri = request.getURI();
+        HostConnectionLimiter.HostPool pool = connectionLimiter.acquire(uri.getHost());
+        long startedAt = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            record(uri, startedAt, String.valueOf(response.getStatusCode().value()), response.getStatusCode().isError() ? "error" : "success");
+            return new PooledClientHttpResponse(response, pool);
+        } catch (IOException | RuntimeException e) {
+            pool.release();
+            record(uri, startedAt, "IO_ERROR", "error");
+            throw e;
+        }
+    }
+
+    private void record(URI uri, long startedAt, String status, String outcome) {
+        long elapsed = System.nanoTime() - startedAt;
+        String endpoint = endpointOf(uri);
+        Timer.builder("outbound.http.requests")
+                .tag("upstream", upstream)
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        // 지역 태그는 시군구 수만큼 늘어나므로 히스토그램 없이 횟수/합계/최대만 기록
+        String lawdCd = queryParam(uri, "LAWD_CD");
+        if (lawdCd != null) {
+            Timer.builder("outbound.http.region.requests")
+                    .tag("upstream", upstream)
+                    .tag("endpoint", endpoint)
+                    .tag("lawd_cd", regionTag(lawdCd))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 경로의 마지막 구간 (예: getRTMSDataSvcOffiRent, address)
+     */
+    private static String endpointOf(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty() || "/".equals(path)) {
+            return "/";
+        }
+        String trimmed = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        return trimmed.substring(trimmed.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * 법정동코드표에 있는 5자리 시/군/구 코드면 그대로, 아니면 other
+     */
+    private String regionTag(String lawdCd) {
+        boolean known = lawdCd.length() == 5 && lawdCd.chars().allMatch(Character::isDigit)
+                && lawdCodeResolver.findByCode(lawdCd).isPresent();
+        return known ? lawdCd : "other";
+    }
+
+    private static String queryParam(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(name + "=")) {
+                String value = pair.substring(name.length() + 1);
+                return value.isEmpty() ? null : value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.seasontonebackend.common.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 응답 래퍼: gzip 본문을 풀어 주고, 응답을 닫을 때 호스트 연결 슬롯을 반환한다.
+ */
+class PooledClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final HostConnectionLimiter.HostPool pool;
+    private final boolean gzipped;
+    private HttpHeaders headers;
+    private InputStream body;
+    private boolean closed;
+
+    PooledClientHttpResponse(ClientHttpResponse delegate, HostConnectionLimiter.HostPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+        this.gzipped = "gzip".equalsIgnoreCase(delegate.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        if (headers == null) {
+            HttpHeaders copy = new HttpHeaders();
+            copy.putAll(delegate.getHeaders());
+            if (gzipped) {
+                // 압축 해제 후 길이/인코딩 헤더는 더 이상 맞지 않음
+                copy.remove(HttpHeaders.CONTENT_ENCODING);
+                copy.remove(HttpHeaders.CONTENT_LENGTH);
+            }
+            headers = copy;
+        }
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = gzipped ? new GZIPInputStream(delegate.getBody()) : delegate.getBody();
+        }
+        return body;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            delegate.close();
+        } finally {
+            pool.release();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.seasontonebackend.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 핫패스 DEBUG/TRACE 로그 속도 제한 (logback-spring.xml 의 turboFilter)
+ * 같은 메시지 템플릿은 초당 maxPerSecond 건까지만 남긴다.
+ * tail capture 로 버퍼링 중인 요청은 제한하지 않는다 (느린/실패 요청은 전체 로그가 필요).
+ */
+public class HotPathLogSampler extends TurboFilter {
+
+    private String loggerPrefix = "";
+    private int maxPerSecond = 5;
+
+    // 메시지 템플릿별 (초 << 20 | 건수)
+    private final Map<String, AtomicLong> windows = new ConcurrentHashMap<>();
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.toInt() > Level.DEBUG_INT || maxPerSecond <= 0) {
+            return FilterReply.NEUTRAL;
+        }
+        // 어차피 꺼진 레벨이면 집계하지 않음
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel()) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        // isDebugEnabled() 같은 사전 확인(format 없음)과 버퍼링 중인 요청은 제한하지 않음
+        if (format == null || TailCapture.isActive()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long second = System.currentTimeMillis() / 1000;
+        AtomicLong window = windows.computeIfAbsent(format, k -> new AtomicLong());
+        long updated = window.updateAndGet(packed -> {
+            if ((packed >>> 20) != second) {
+                return (second << 20) | 1;
+            }
+            return (packed & 0xFFFFF) > maxPerSecond ? packed : packed + 1;
+        });
+        return (updated & 0xFFFFF) > maxPerSecond ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.seasontonebackend.common.logging;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * 작업을 넘긴 스레드의 로그 문맥(MDC requestId, tail capture 버퍼)을 작업 스레드로 옮긴다.
+ * 작업이 끝나면 작업 스레드의 이전 문맥으로 되돌린다 (풀 스레드 재사용 시 다른 요청으로 새지 않도록).
+ */
+public class LogContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        TailCapture.Buffer buffer = TailCapture.current();
+        if ((mdc == null || mdc.isEmpty()) && buffer == null) {
+            return task;
+        }
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            TailCapture.Buffer previousBuffer = TailCapture.attach(buffer);
+            setContextMap(mdc);
+            try {
+                task.run();
+            } finally {
+                setContextMap(previousMdc);
+                TailCapture.attach(previousBuffer);
+            }
+        };
+    }
+
+    private static void setContextMap(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.seasontonebackend.common.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 상관관계 ID(MDC requestId, X-Request-Id 헤더) 부여 및 tail capture 구간 관리
+ * 보안 필터보다 먼저 실행되어 인증 로그에도 requestId 가 붙는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    // 외부에서 받은 ID 는 로그 주입을 막기 위해 형식 검사 후 사용
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private static final String ATTRIBUTE = RequestCorrelationFilter.class.getName() + ".requestId";
+
+    private final long slowThresholdNanos;
+
+    public RequestCorrelationFilter(@Value("${logging.tail-capture.slow-threshold:1s}") Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    // 오류 페이지 디스패치(/error)에도 같은 requestId 를 붙임
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = resolveRequestId(request);
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+
+        boolean capturing = TailCapture.isEnabled();
+        if (capturing) {
+            TailCapture.begin();
+        }
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (capturing) {
+                TailCapture.Buffer buffer = TailCapture.detach();
+                if (!failed && request.isAsyncStarted()) {
+                    // 비동기 요청(SSE 등)은 응답이 실제로 끝날 때 소요 시간과 상태로 판단
+                    request.getAsyncContext().addListener(new CaptureCompletion(buffer, request.getMethod(), request.getRequestURI(),
+                            response, requestId, startedAt));
+                } else {
+                    finishCapture(buffer, request.getMethod(), request.getRequestURI(), requestId, startedAt,
+                            failed ? -1 : response.getStatus());
+                }
+            }
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * 버퍼를 닫고 느리거나 실패한 요청이면 모아 둔 로그와 요약을 출력 (status -1 은 예외)
+     */
+    private void finishCapture(TailCapture.Buffer buffer, String method, String uri, String requestId,
+                               long startedAt, int status) {
+        long elapsed = System.nanoTime() - startedAt;
+        boolean failed = status < 0;
+        boolean keep = failed || status >= 500 || elapsed >= slowThresholdNanos;
+        TailCapture.end(buffer, keep);
+        if (keep) {
+            // 비동기 완료는 다른 스레드에서 불리므로 requestId 를 다시 붙임
+            try (MDC.MDCCloseable ignored = MDC.putCloseable(MDC_KEY, requestId)) {
+                log.warn("{} 요청 - {} {} status={} {}ms", failed ? "실패" : (status >= 500 ? "오류" : "느린"),
+                        method, uri, failed ? "exception" : status, elapsed / 1_000_000);
+            }
+        }
+    }
+
+    private String resolveRequestId(HttpServletRequest request) {
+        Object existing = request.getAttribute(ATTRIBUTE);
+        if (existing instanceof String id) {
+            return id;
+        }
+        String incoming = request.getHeader(HEADER);
+        String requestId = incoming != null && VALID_ID.matcher(incoming).matches()
+                ? incoming
+                : UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        request.setAttribute(ATTRIBUTE, requestId);
+        return requestId;
+    }
+
+    /**
+     * 비동기 요청 완료 시 tail capture 마무리 (onError 뒤에도 onComplete 가 한 번 불림)
+     */
+    private final class CaptureCompletion implements AsyncListener {
+
+        private final TailCapture.Buffer buffer;
+        private final String method;
+        private final String uri;
+        private final HttpServletResponse response;
+        private final String requestId;
+        private final long startedAt;
+        private volatile boolean failed;
+
+        private CaptureCompletion(TailCapture.Buffer buffer, String method, String uri, HttpServletResponse response,
+                                  String requestId, long startedAt) {
+            this.buffer = buffer;
+            this.method = method;
+            this.uri = uri;
+            this.response = response;
+            this.requestId = requestId;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finishCapture(buffer, method, uri, requestId, startedAt, failed ? -1 : response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 비동기 재시작 시 리스너가 빠지므로 다시 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.seasontonebackend.common.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 요청 스레드 단위 로그 버퍼 (tail-based capture)
+ * 요청이 끝날 때까지 INFO 미만 로그를 모아 두었다가, 느리거나 실패한 요청이면 출력하고 아니면 버린다.
+ * 버퍼링은 {@link TailCaptureAppender} 가 설정된 경우(railway 프로필)에만 동작한다.
+ * 요청이 넘긴 작업을 실행하는 스레드({@link LogContextTaskDecorator})와 비동기 요청 완료 시점에도 같은 버퍼를 쓴다.
+ */
+public final class TailCapture {
+
+    private static final ThreadLocal<Buffer> CURRENT = new ThreadLocal<>();
+    private static volatile TailCaptureAppender appender;
+
+    private TailCapture() {
+    }
+
+    static void register(TailCaptureAppender tailCaptureAppender) {
+        appender = tailCaptureAppender;
+    }
+
+    static void unregister(TailCaptureAppender tailCaptureAppender) {
+        if (appender == tailCaptureAppender) {
+            appender = null;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return appender != null;
+    }
+
+    /**
+     * 현재 스레드에서 버퍼링 중인지 여부
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static void begin() {
+        TailCaptureAppender current = appender;
+        if (current != null) {
+            CURRENT.set(new Buffer(current.getMaxEvents()));
+        }
+    }
+
+    /**
+     * 버퍼 종료. keep 이면 모아 둔 로그를 순서대로 출력한다.
+     */
+    public static void end(boolean keep) {
+        end(detach(), keep);
+    }
+
+    /**
+     * 다른 스레드에서 넘겨받은 버퍼 종료 (비동기 요청 완료 시)
+     */
+    static void end(Buffer buffer, boolean keep) {
+        if (buffer == null) {
+            return;
+        }
+        List<ILoggingEvent> events = buffer.close();
+        TailCaptureAppender current = appender;
+        if (keep && current != null) {
+            current.flush(events, buffer.dropped);
+        }
+    }
+
+    static Buffer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에서 버퍼를 떼어 냄 (버퍼는 닫지 않음)
+     */
+    static Buffer detach() {
+        Buffer buffer = CURRENT.get();
+        CURRENT.remove();
+        return buffer;
+    }
+
+    /**
+     * 현재 스레드에 버퍼를 붙이고 이전 버퍼를 반환 (null 이면 떼어 냄)
+     */
+    static Buffer attach(Buffer buffer) {
+        Buffer previous = CURRENT.get();
+        if (buffer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(buffer);
+        }
+        return previous;
+    }
+
+    /**
+     * 요청 하나의 로그 버퍼. 요청 스레드와 작업 스레드가 함께 쓰므로 동기화한다.
+     */
+    static final class Buffer {
+
+        private final int maxEvents;
+        private final Deque<ILoggingEvent> events = new ArrayDeque<>();
+        private int dropped;
+        private boolean closed;
+
+        private Buffer(int maxEvents) {
+            this.maxEvents = maxEvents;
+        }
+
+        // 한도를 넘으면 가장 오래된 로그부터 버림 (실패 직전 로그가 더 유용)
+        // 요청이 끝난 뒤 작업 스레드에서 나온 로그는 버림 (요청 밖 로그와 같게 취급)
+        synchronized void add(ILoggingEvent event) {
+            if (closed) {
+                return;
+            }
+            if (events.size() >= maxEvents) {
+                events.pollFirst();
+                dropped++;
+            }
+            events.addLast(event);
+        }
+
+        synchronized List<ILoggingEvent> close() {
+            closed = true;
+            return new ArrayList<>(events);
+        }
+    }
+}
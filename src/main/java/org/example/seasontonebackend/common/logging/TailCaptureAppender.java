@@ -0,0 +1,113 @@
+package org.example.seasontonebackend.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * tail-based capture 어펜더 (logback-spring.xml 의 railway 프로필에서 사용)
+ * threshold 이상 로그는 바로 하위 어펜더로 넘기고, 미만 로그는 요청 버퍼에 모은다.
+ * 요청 밖(스케줄러 등)에서 나온 threshold 미만 로그는 버린다.
+ */
+public class TailCaptureAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+    private Level threshold = Level.INFO;
+    private int maxEvents = 256;
+
+    public void setThreshold(String threshold) {
+        this.threshold = Level.toLevel(threshold, Level.INFO);
+    }
+
+    public void setMaxEvents(int maxEvents) {
+        this.maxEvents = maxEvents;
+    }
+
+    int getMaxEvents() {
+        return maxEvents;
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        TailCapture.register(this);
+    }
+
+    @Override
+    public void stop() {
+        TailCapture.unregister(this);
+        super.stop();
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (event.getLevel().isGreaterOrEqual(threshold)) {
+            appenders.appendLoopOnAppenders(event);
+            return;
+        }
+        TailCapture.Buffer buffer = TailCapture.current();
+        if (buffer != null) {
+            // 출력 시점이 늦어지므로 메시지/MDC 를 지금 고정
+            event.prepareForDeferredProcessing();
+            buffer.add(event);
+        }
+    }
+
+    void flush(Collection<ILoggingEvent> events, int dropped) {
+        if (dropped > 0) {
+            Logger logger = (Logger) org.slf4j.LoggerFactory.getLogger(TailCaptureAppender.class);
+            LoggingEvent notice = new LoggingEvent(TailCaptureAppender.class.getName(), logger, Level.INFO,
+                    "요청 로그 버퍼 한도 초과로 앞선 로그 {}건 생략", null, new Object[]{dropped});
+            notice.prepareForDeferredProcessing();
+            appenders.appendLoopOnAppenders(notice);
+        }
+        for (ILoggingEvent event : events) {
+            appenders.appendLoopOnAppenders(event);
+        }
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
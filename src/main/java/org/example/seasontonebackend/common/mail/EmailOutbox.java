@@ -0,0 +1,64 @@
+package org.example.seasontonebackend.common.mail;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (outbox)
+ * 호출한 쪽 트랜잭션 안에서 저장되고, 커밋된 뒤 {@link EmailOutboxWorker} 가 발송한다.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_due", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_email_outbox_recipient", columnList = "recipient, sentAt"),
+        @Index(name = "idx_email_outbox_claim", columnList = "claimToken")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 320)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 워커가 가져갈 때 부여하는 식별자 (여러 인스턴스가 같은 메일을 중복 발송하지 않도록)
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package org.example.seasontonebackend.common.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status = org.example.seasontonebackend.common.mail.EmailOutboxStatus.PENDING " +
+            "AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 다른 인스턴스가 먼저 가져간 건은 status 조건으로 제외됨
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = org.example.seasontonebackend.common.mail.EmailOutboxStatus.SENDING, " +
+            "e.claimToken = :token, e.claimedAt = :now " +
+            "WHERE e.id IN :ids AND e.status = org.example.seasontonebackend.common.mail.EmailOutboxStatus.PENDING")
+    int claim(@Param("ids") List<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    List<EmailOutbox> findByClaimToken(String claimToken);
+
+    // 발송 도중 인스턴스가 내려가 SENDING 으로 남은 건을 다시 대기 상태로
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = org.example.seasontonebackend.common.mail.EmailOutboxStatus.PENDING, " +
+            "e.claimToken = NULL, e.nextAttemptAt = :now " +
+            "WHERE e.status = org.example.seasontonebackend.common.mail.EmailOutboxStatus.SENDING AND e.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore, @Param("now") LocalDateTime now);
+
+    long countByRecipientAndStatusAndSentAtAfter(String recipient, EmailOutboxStatus status, LocalDateTime sentAfter);
+
+    long countByStatus(EmailOutboxStatus status);
+}
@@ -0,0 +1,58 @@
+package org.example.seasontonebackend.common.mail;
+
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 메일 발송 접수
+ * 호출한 쪽 트랜잭션에 outbox 행을 추가만 하고 SMTP 는 기다리지 않는다.
+ * 트랜잭션이 롤백되면 메일도 나가지 않고, 커밋되면 워커를 바로 깨운다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.mail.username", matchIfMissing = false)
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxWorker emailOutboxWorker;
+
+    @Transactional
+    public Long enqueue(String to, String subject, String text) {
+        EmailOutbox outbox = EmailOutbox.builder()
+                .recipient(normalizeRecipient(to))
+                .subject(subject)
+                .body(text != null ? text : "")
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        emailOutboxRepository.save(outbox);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailOutboxWorker.wakeUp();
+            }
+        });
+        return outbox.getId();
+    }
+
+    private String normalizeRecipient(String to) {
+        if (to == null || to.isBlank()) {
+            throw new IllegalArgumentException("받는 사람 이메일을 입력해주세요.");
+        }
+        try {
+            InternetAddress address = new InternetAddress(to.trim(), true);
+            return address.getAddress().toLowerCase(Locale.ROOT);
+        } catch (AddressException e) {
+            throw new IllegalArgumentException("올바르지 않은 이메일 주소입니다: " + to);
+        }
+    }
+}
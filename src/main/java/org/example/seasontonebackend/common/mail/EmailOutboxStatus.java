@@ -0,0 +1,8 @@
+package org.example.seasontonebackend.common.mail;
+
+public enum EmailOutboxStatus {
+    PENDING,    // 발송 대기 (nextAttemptAt 이후 발송)
+    SENDING,    // 워커가 가져가 발송 중
+    SENT,
+    DEAD        // 재시도 한도 초과 또는 영구 실패 (자동 재시도 안 함)
+}
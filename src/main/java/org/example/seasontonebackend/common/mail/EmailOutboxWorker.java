@@ -0,0 +1,275 @@
+package org.example.seasontonebackend.common.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.example.seasontonebackend.common.service.EmailService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * outbox 메일 발송 워커
+ * 발송 시각이 된 메일을 가져와(claim) batch-size 건씩 나누고, 워커 스레드마다 SMTP 연결 하나로 한 묶음을 보낸다.
+ * 실패하면 지수 백오프로 재시도하고, max-attempts 를 넘기거나 받는 주소가 거부되면 DEAD 로 남긴다.
+ * 같은 수신자에게는 per-recipient-window 동안 per-recipient-limit 건까지만 보내고 나머지는 미룬다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.mail.username", matchIfMissing = false)
+public class EmailOutboxWorker {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final ExecutorService senders;
+
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+    private final int perRecipientLimit;
+    private final Duration perRecipientWindow;
+
+    // 스케줄 실행과 커밋 직후 wakeUp 이 겹치면 한쪽만 실행
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private final AtomicLong backlog = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public EmailOutboxWorker(EmailOutboxRepository emailOutboxRepository,
+                             EmailService emailService,
+                             TransactionTemplate transactionTemplate,
+                             TaskScheduler taskScheduler,
+                             BlockingExecutors blockingExecutors,
+                             MeterRegistry meterRegistry,
+                             @Value("${email.outbox.batch-size:20}") int batchSize,
+                             @Value("${email.outbox.workers:2}") int workers,
+                             @Value("${email.outbox.max-attempts:6}") int maxAttempts,
+                             @Value("${email.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+                             @Value("${email.outbox.max-backoff:PT1H}") Duration maxBackoff,
+                             @Value("${email.outbox.claim-timeout:PT5M}") Duration claimTimeout,
+                             @Value("${email.outbox.per-recipient-limit:5}") int perRecipientLimit,
+                             @Value("${email.outbox.per-recipient-window:PT1H}") Duration perRecipientWindow) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.taskScheduler = taskScheduler;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+        this.perRecipientLimit = perRecipientLimit;
+        this.perRecipientWindow = perRecipientWindow;
+        this.senders = blockingExecutors.newBoundedExecutor(
+                "email-outbox", workers, Integer.MAX_VALUE);
+
+        Gauge.builder("email.outbox.backlog", backlog, AtomicLong::get)
+                .description("발송 대기 중인 outbox 메일 수 (마지막 폴링 기준)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋 직후 호출 (다음 폴링 주기를 기다리지 않고 바로 발송)
+     */
+    public void wakeUp() {
+        taskScheduler.schedule(this::poll, Instant.now());
+    }
+
+    @Scheduled(initialDelayString = "${email.outbox.initial-delay:PT10S}",
+            fixedDelayString = "${email.outbox.poll-interval:PT5S}")
+    public void poll() {
+        if (!pollLock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer released = transactionTemplate.execute(status ->
+                    emailOutboxRepository.releaseStaleClaims(now.minus(claimTimeout), now));
+            if (released != null && released > 0) {
+                log.warn("발송 중 멈춘 메일 {}건을 다시 대기 상태로 전환", released);
+            }
+
+            List<EmailOutbox> claimed;
+            do {
+                claimed = claimDue(batchSize * workers);
+                deliverAll(claimed);
+            } while (claimed.size() == batchSize * workers);
+
+            backlog.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+        } catch (Exception e) {
+            log.error("메일 outbox 처리 실패: {}", e.getMessage(), e);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private List<EmailOutbox> claimDue(int limit) {
+        String token = UUID.randomUUID().toString();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = emailOutboxRepository.findDueIds(now, PageRequest.of(0, limit));
+            if (ids.isEmpty() || emailOutboxRepository.claim(ids, token, now) == 0) {
+                return List.of();
+            }
+            return emailOutboxRepository.findByClaimToken(token);
+        });
+    }
+
+    private void deliverAll(List<EmailOutbox> claimed) {
+        if (claimed.isEmpty()) {
+            return;
+        }
+        List<EmailOutbox> sendable = applyRecipientLimit(claimed);
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < sendable.size(); from += batchSize) {
+            List<EmailOutbox> batch = sendable.subList(from, Math.min(from + batchSize, sendable.size()));
+            batches.add(CompletableFuture.runAsync(() -> deliver(batch), senders));
+        }
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * 수신자별 발송 한도를 넘는 메일은 미루고 나머지만 돌려준다.
+     */
+    private List<EmailOutbox> applyRecipientLimit(List<EmailOutbox> claimed) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = now.minus(perRecipientWindow);
+        Map<String, Long> remaining = new HashMap<>();
+        List<EmailOutbox> sendable = new ArrayList<>();
+        List<EmailOutbox> deferred = new ArrayList<>();
+
+        for (EmailOutbox outbox : claimed) {
+            long left = remaining.computeIfAbsent(outbox.getRecipient(), recipient -> perRecipientLimit
+                    - emailOutboxRepository.countByRecipientAndStatusAndSentAtAfter(recipient, EmailOutboxStatus.SENT, windowStart));
+            if (left > 0) {
+                remaining.put(outbox.getRecipient(), left - 1);
+                sendable.add(outbox);
+            } else {
+                // 재시도 횟수는 늘리지 않고 한도 창을 나눈 간격만큼 뒤로
+                outbox.setStatus(EmailOutboxStatus.PENDING);
+                outbox.setClaimToken(null);
+                outbox.setNextAttemptAt(now.plus(perRecipientWindow.dividedBy(Math.max(perRecipientLimit, 1))));
+                deferred.add(outbox);
+            }
+        }
+        if (!deferred.isEmpty()) {
+            emailOutboxRepository.saveAll(deferred);
+            count("deferred", deferred.size());
+            log.debug("수신자별 발송 한도 초과로 {}건 연기", deferred.size());
+        }
+        return sendable;
+    }
+
+    private void deliver(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        Map<EmailOutbox, Exception> failures = new HashMap<>();
+        for (EmailOutbox outbox : batch) {
+            try {
+                messages.put(emailService.createMessage(outbox.getRecipient(), outbox.getSubject(), outbox.getBody()), outbox);
+            } catch (MessagingException | RuntimeException e) {
+                failures.put(outbox, e);
+            }
+        }
+        if (!messages.isEmpty()) {
+            emailService.sendBatch(new ArrayList<>(messages.keySet()))
+                    .forEach((message, cause) -> failures.put(messages.get(message), cause));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutbox outbox : batch) {
+            outbox.setClaimToken(null);
+            outbox.setAttempts(outbox.getAttempts() + 1);
+            Exception failure = failures.get(outbox);
+            if (failure == null) {
+                outbox.setStatus(EmailOutboxStatus.SENT);
+                outbox.setSentAt(now);
+                outbox.setLastError(null);
+                count("sent", 1);
+            } else if (isPermanent(failure) || outbox.getAttempts() >= maxAttempts) {
+                outbox.setStatus(EmailOutboxStatus.DEAD);
+                outbox.setLastError(truncate(failure));
+                count("dead", 1);
+                log.warn("메일 발송 포기 - outboxId: {}, 시도 {}회, 원인: {}", outbox.getId(), outbox.getAttempts(), failure.getMessage());
+            } else {
+                outbox.setStatus(EmailOutboxStatus.PENDING);
+                outbox.setNextAttemptAt(now.plus(backoff(outbox.getAttempts())));
+                outbox.setLastError(truncate(failure));
+                count("retry", 1);
+                log.info("메일 발송 실패, 재시도 예정 - outboxId: {}, 시도 {}회, 다음 시도: {}",
+                        outbox.getId(), outbox.getAttempts(), outbox.getNextAttemptAt());
+            }
+        }
+        emailOutboxRepository.saveAll(batch);
+        log.debug("메일 발송 묶음 처리 - {}건 중 실패 {}건", batch.size(), failures.size());
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    // 받는 주소 자체가 거부된 경우(5xx)는 재시도해도 소용없음
+    private boolean isPermanent(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SendFailedException sendFailed
+                    && sendFailed.getInvalidAddresses() != null && sendFailed.getInvalidAddresses().length > 0) {
+                return true;
+            }
+            if (cause instanceof AddressException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String truncate(Exception failure) {
+        String message = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private void count(String result, int amount) {
+        Counter.builder("email.outbox.deliveries")
+                .description("outbox 메일 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.seasontonebackend.common.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 메모리에 두는 토큰 버킷 (기본값, 인스턴스가 여러 대면 한도도 인스턴스 수만큼 늘어남)
+ */
+@Component
+@ConditionalOnProperty(name = "ratelimit.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public Decision tryConsume(String key, int capacity, long refillMillis, long nowMillis) {
+        double refillPerMilli = (double) capacity / refillMillis;
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, nowMillis));
+        synchronized (bucket) {
+            double tokens = Math.min(capacity, bucket.tokens + Math.max(0, nowMillis - bucket.updatedAt) * refillPerMilli);
+            boolean allowed = tokens >= 1;
+            bucket.tokens = allowed ? tokens - 1 : tokens;
+            bucket.updatedAt = nowMillis;
+            return Decision.of(bucket.tokens, refillPerMilli, allowed);
+        }
+    }
+
+    @Override
+    public void refund(String key, int capacity) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        synchronized (bucket) {
+            bucket.tokens = Math.min(capacity, bucket.tokens + 1);
+        }
+    }
+
+    @Override
+    public int evictIdle(long idleMillis, long nowMillis) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> nowMillis - bucket.updatedAt >= idleMillis);
+        return before - buckets.size();
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    private static class Bucket {
+        double tokens;
+        long updatedAt;
+
+        Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
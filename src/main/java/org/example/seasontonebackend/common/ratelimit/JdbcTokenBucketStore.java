@@ -0,0 +1,83 @@
+package org.example.seasontonebackend.common.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * DB 테이블(rate_limit_bucket)을 여러 인스턴스가 공유하는 토큰 버킷
+ * 보충과 차감을 조건부 UPDATE 한 문장으로 처리해 별도 잠금 없이 원자적으로 동작한다.
+ * 시간은 각 인스턴스 시계를 쓰므로 인스턴스 간 시계가 맞아 있어야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "ratelimit.backend", havingValue = "jdbc")
+public class JdbcTokenBucketStore implements TokenBucketStore {
+
+    // 보충량 = 경과 시간 * 초당 보충 속도 (capacity 로 상한)
+    private static final String REFILLED = "LEAST(?, tokens + GREATEST(0, ? - updated_at) * ?)";
+
+    private static final String CONSUME =
+            "UPDATE rate_limit_bucket SET tokens = " + REFILLED + " - 1, updated_at = ? " +
+            "WHERE bucket_key = ? AND " + REFILLED + " >= 1";
+
+    private static final String INSERT =
+            "INSERT INTO rate_limit_bucket (bucket_key, tokens, updated_at) VALUES (?, ?, ?)";
+
+    private static final String SELECT =
+            "SELECT " + REFILLED + " FROM rate_limit_bucket WHERE bucket_key = ?";
+
+    private static final String REFUND =
+            "UPDATE rate_limit_bucket SET tokens = LEAST(?, tokens + 1) WHERE bucket_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTokenBucketStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Decision tryConsume(String key, int capacity, long refillMillis, long nowMillis) {
+        double refillPerMilli = (double) capacity / refillMillis;
+        // 처음 보는 키를 두 인스턴스가 동시에 넣으면 한쪽은 중복 키 → 한 번 더 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (consume(key, capacity, refillPerMilli, nowMillis)) {
+                // 남은 양은 추가 조회가 필요해 생략 (헤더에서 빠짐)
+                return new Decision(true, -1, 0);
+            }
+            List<Double> current = jdbcTemplate.queryForList(SELECT, Double.class, capacity, nowMillis, refillPerMilli, key);
+            if (!current.isEmpty()) {
+                return Decision.of(current.get(0), refillPerMilli, false);
+            }
+            try {
+                jdbcTemplate.update(INSERT, key, capacity - 1.0, nowMillis);
+                return Decision.of(capacity - 1.0, refillPerMilli, true);
+            } catch (DuplicateKeyException e) {
+                // 다음 반복에서 UPDATE
+            }
+        }
+        return Decision.of(0, refillPerMilli, false);
+    }
+
+    private boolean consume(String key, int capacity, double refillPerMilli, long nowMillis) {
+        return jdbcTemplate.update(CONSUME, capacity, nowMillis, refillPerMilli, nowMillis,
+                key, capacity, nowMillis, refillPerMilli) > 0;
+    }
+
+    @Override
+    public void refund(String key, int capacity) {
+        jdbcTemplate.update(REFUND, capacity, key);
+    }
+
+    @Override
+    public int evictIdle(long idleMillis, long nowMillis) {
+        return jdbcTemplate.update("DELETE FROM rate_limit_bucket WHERE updated_at < ?", nowMillis - idleMillis);
+    }
+
+    @Override
+    public String name() {
+        return "jdbc";
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.seasontonebackend.common.ratelimit;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 공유 토큰 버킷 (ratelimit.backend=jdbc 일 때 사용, 테이블 생성용 엔티티)
+ * 갱신은 {@link JdbcTokenBucketStore} 가 조건부 UPDATE 한 번으로 처리한다.
+ */
+@Entity
+@Table(name = "rate_limit_bucket", indexes = {
+        @Index(name = "idx_rate_limit_bucket_updated", columnList = "updatedAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitBucket {
+
+    @Id
+    @Column(length = 200)
+    private String bucketKey;
+
+    @Column(nullable = false)
+    private double tokens;
+
+    // epoch millis (인스턴스 간 비교를 위해 숫자로 저장)
+    @Column(nullable = false)
+    private long updatedAt;
+}
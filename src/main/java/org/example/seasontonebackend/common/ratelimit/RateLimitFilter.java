@@ -0,0 +1,71 @@
+package org.example.seasontonebackend.common.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.seasontonebackend.member.domain.Member;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 경로별 요청 제한 필터
+ * 보안 필터 뒤에서 실행되어 로그인 회원은 회원 ID, 그 외에는 클라이언트 IP 로 버킷을 나눈다.
+ * 초과 시 429 와 Retry-After(초) 헤더로 응답한다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Optional<RateLimitRule> rule = rateLimiter.match(request.getMethod(), path);
+        if (rule.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        TokenBucketStore.Decision decision = rateLimiter.acquire(rule.get(), subject(request));
+        if (decision.remaining() >= 0) {
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        }
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"success\":false,\"message\":\"요청이 너무 많습니다. "
+                + retryAfterSeconds + "초 후 다시 시도해 주세요.\"}");
+    }
+
+    private String subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            if (authentication.getPrincipal() instanceof Member member && member.getId() != null) {
+                return "member:" + member.getId();
+            }
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.seasontonebackend.common.ratelimit;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 경로별 제한 규칙 (ratelimit.routes.{이름}.*)
+ *
+ * @param capacity      사용자(로그인 회원, 없으면 IP)별 버킷 크기
+ * @param refillPeriod  빈 버킷이 가득 차는 데 걸리는 시간 (capacity / refillPeriod 속도로 보충)
+ * @param routeCapacity 모든 사용자가 함께 쓰는 경로 전체 버킷 크기 (0 이면 사용 안 함, 외부 API 할당량 보호용)
+ */
+public record RateLimitRule(String name, List<String> methods, List<PathPattern> paths,
+                            int capacity, Duration refillPeriod, int routeCapacity) {
+
+    static RateLimitRule of(String name, Route route) {
+        if (route.paths() == null || route.paths().isEmpty()) {
+            throw new IllegalStateException("ratelimit.routes." + name + ".paths 가 비어 있습니다.");
+        }
+        List<PathPattern> patterns = route.paths().stream()
+                .map(String::strip)
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        List<String> methods = route.methods() == null ? List.of()
+                : route.methods().stream().map(method -> method.strip().toUpperCase(Locale.ROOT)).toList();
+        return new RateLimitRule(name, methods, patterns,
+                route.capacity() == null ? 10 : route.capacity(),
+                route.refillPeriod() == null ? Duration.ofMinutes(1) : route.refillPeriod(),
+                route.routeCapacity() == null ? 0 : route.routeCapacity());
+    }
+
+    boolean matches(String method, String path) {
+        if (!methods.isEmpty() && !methods.contains(method)) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        return paths.stream().anyMatch(pattern -> pattern.matches(container));
+    }
+
+    /**
+     * application.yml 바인딩용 (methods 를 비우면 모든 메서드)
+     */
+    record Route(List<String> paths, List<String> methods, Integer capacity, Duration refillPeriod, Integer routeCapacity) {
+    }
+}
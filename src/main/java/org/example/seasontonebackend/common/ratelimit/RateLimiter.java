@@ -0,0 +1,120 @@
+package org.example.seasontonebackend.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비싼 API(리포트 생성, VWorld/공공데이터 호출 경로) 입장 제한
+ * 경로 규칙마다 사용자별 버킷과 (설정 시) 경로 전체 버킷을 차례로 확인하고,
+ * 경로 전체 버킷에서 거절되면 사용자 버킷에서 꺼낸 토큰을 되돌린다.
+ * 저장소 오류 시에는 요청을 막지 않고 통과시킨다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    public static final String ALLOWED = "allowed";
+    public static final String LIMITED = "limited";
+    public static final String ERROR = "error";
+
+    private final TokenBucketStore store;
+    private final List<RateLimitRule> rules;
+    private final boolean enabled;
+    private final long idleMillis;
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public RateLimiter(TokenBucketStore store, Environment environment, MeterRegistry meterRegistry,
+                       @Value("${ratelimit.enabled:true}") boolean enabled) {
+        this.store = store;
+        this.enabled = enabled;
+        Map<String, RateLimitRule.Route> routes = Binder.get(environment)
+                .bind("ratelimit.routes", Bindable.mapOf(String.class, RateLimitRule.Route.class))
+                .orElse(Map.of());
+        this.rules = routes.entrySet().stream()
+                .map(entry -> RateLimitRule.of(entry.getKey(), entry.getValue()))
+                .toList();
+        // 가장 긴 보충 시간이 지난 버킷은 가득 찬 상태이므로 지워도 됨
+        this.idleMillis = rules.stream().mapToLong(rule -> rule.refillPeriod().toMillis()).max().orElse(60_000);
+
+        for (RateLimitRule rule : rules) {
+            for (String result : List.of(ALLOWED, LIMITED, ERROR)) {
+                counters.put(rule.name() + ":" + result, Counter.builder("ratelimit.requests")
+                        .tag("route", rule.name())
+                        .tag("result", result)
+                        .register(meterRegistry));
+            }
+        }
+        log.info("요청 제한 {} - 저장소 {}, 규칙 {}", enabled ? "사용" : "미사용", store.name(),
+                rules.stream().map(rule -> rule.name() + "(" + rule.capacity() + "/" + rule.refillPeriod() + ")").toList());
+    }
+
+    public Optional<RateLimitRule> match(String method, String path) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return rules.stream().filter(rule -> rule.matches(method, path)).findFirst();
+    }
+
+    /**
+     * @param subject 사용자 식별자 (member:{id} 또는 ip:{주소})
+     */
+    public TokenBucketStore.Decision acquire(RateLimitRule rule, String subject) {
+        long now = System.currentTimeMillis();
+        long refillMillis = Math.max(1, rule.refillPeriod().toMillis());
+        try {
+            String subjectKey = rule.name() + ":" + subject;
+            TokenBucketStore.Decision decision = store.tryConsume(subjectKey, rule.capacity(), refillMillis, now);
+            if (decision.allowed() && rule.routeCapacity() > 0) {
+                TokenBucketStore.Decision shared = store.tryConsume(rule.name() + ":*", rule.routeCapacity(), refillMillis, now);
+                if (!shared.allowed()) {
+                    // 경로 전체 한도로 거절된 요청이 사용자 토큰까지 쓰지 않도록 되돌림
+                    refund(rule, subjectKey);
+                    decision = shared;
+                }
+            }
+            count(rule, decision.allowed() ? ALLOWED : LIMITED);
+            return decision;
+        } catch (RuntimeException e) {
+            count(rule, ERROR);
+            log.warn("요청 제한 저장소 오류 - {} 통과 처리: {}", rule.name(), e.getMessage());
+            return new TokenBucketStore.Decision(true, -1, 0);
+        }
+    }
+
+    private void refund(RateLimitRule rule, String subjectKey) {
+        try {
+            store.refund(subjectKey, rule.capacity());
+        } catch (RuntimeException e) {
+            log.warn("요청 제한 토큰 반환 실패 - {}: {}", rule.name(), e.getMessage());
+        }
+    }
+
+    private void count(RateLimitRule rule, String result) {
+        counters.get(rule.name() + ":" + result).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.cleanup-interval:PT5M}",
+            initialDelayString = "${ratelimit.cleanup-interval:PT5M}")
+    public void evictIdle() {
+        try {
+            int evicted = store.evictIdle(idleMillis, System.currentTimeMillis());
+            if (evicted > 0) {
+                log.debug("요청 제한 버킷 정리 - {}개", evicted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("요청 제한 버킷 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.seasontonebackend.common.ratelimit;
+
+/**
+ * 토큰 버킷 저장소 (memory: 인스턴스별, jdbc: 여러 인스턴스가 DB 로 공유)
+ */
+public interface TokenBucketStore {
+
+    /**
+     * 버킷에서 토큰 하나를 꺼낸다. 버킷이 없으면 가득 찬 상태로 만든다.
+     *
+     * @param capacity     버킷 크기 (순간 허용량)
+     * @param refillMillis 빈 버킷이 가득 찰 때까지 걸리는 시간
+     */
+    Decision tryConsume(String key, int capacity, long refillMillis, long nowMillis);
+
+    /**
+     * tryConsume 으로 꺼낸 토큰 하나를 되돌린다 (capacity 를 넘지 않음, 버킷이 없으면 무시)
+     */
+    void refund(String key, int capacity);
+
+    /**
+     * 마지막 사용 후 idleMillis 이상 지난 버킷 삭제 (그 사이 가득 찼으므로 지워도 동작은 같음)
+     */
+    int evictIdle(long idleMillis, long nowMillis);
+
+    String name();
+
+    /**
+     * @param remaining        남은 토큰 수 (내림, 모르면 -1)
+     * @param retryAfterMillis 거절된 경우 토큰 하나가 다시 찰 때까지 남은 시간
+     */
+    record Decision(boolean allowed, int remaining, long retryAfterMillis) {
+
+        static Decision of(double tokensAfter, double refillPerMilli, boolean allowed) {
+            if (allowed) {
+                return new Decision(true, (int) Math.floor(tokensAfter), 0);
+            }
+            long wait = (long) Math.ceil((1 - tokensAfter) / refillPerMilli);
+            return new Decision(false, 0, Math.max(1, wait));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.seasontonebackend.common.resilience;
+
+/**
+ * 호출 결과 슬라이딩 윈도우 기반 서킷 브레이커
+ * 실패율이 임계치를 넘으면 OPEN, 대기 시간이 지나면 HALF_OPEN 에서 한 건만 시험 호출한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMillis) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN 에서는 시험 호출 한 건만 허용)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            resetWindow();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recordedCalls >= minimumCalls && getFailureRate() >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 윈도우 내 실패율 (%)
+     */
+    public synchronized double getFailureRate() {
+        return recordedCalls == 0 ? 0.0 : failedCalls * 100.0 / recordedCalls;
+    }
+
+    public synchronized int getRecordedCalls() {
+        return recordedCalls;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        probeInFlight = false;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        nextIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+    }
+}
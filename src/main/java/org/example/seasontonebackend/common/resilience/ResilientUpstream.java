@@ -0,0 +1,130 @@
+package org.example.seasontonebackend.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API(업스트림) 호출 보호 래퍼
+ * 타임아웃이 설정된 RestTemplate, 벌크헤드(동시 호출 제한), 서킷 브레이커, 지연 시간 히스토그램을 묶는다.
+ */
+@Slf4j
+public class ResilientUpstream {
+
+    private final String name;
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+
+    public ResilientUpstream(String name, RestTemplate restTemplate, CircuitBreaker circuitBreaker,
+                             int maxConcurrentCalls, long maxWaitMillis, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+
+        this.successTimer = requestTimer(meterRegistry, "success");
+        this.failureTimer = requestTimer(meterRegistry, "failure");
+        this.circuitOpenRejections = Counter.builder("upstream.rejections")
+                .tag("upstream", name).tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.bulkheadRejections = Counter.builder("upstream.rejections")
+                .tag("upstream", name).tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+        Gauge.builder("upstream.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .tag("upstream", name)
+                .register(meterRegistry);
+        Gauge.builder("upstream.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .tag("upstream", name)
+                .register(meterRegistry);
+    }
+
+    private Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("upstream.requests")
+                .tag("upstream", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보호 장치를 거쳐 호출. 거절되면 UpstreamUnavailableException, 호출 중 예외는 그대로 전파한다.
+     */
+    public <T> T call(Supplier<T> request) {
+        if (!acquireBulkhead()) {
+            bulkheadRejections.increment();
+            throw new UpstreamUnavailableException(name + " 동시 호출 한도 초과");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitOpenRejections.increment();
+                throw new UpstreamUnavailableException(name + " 서킷 오픈 상태");
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                T result = request.get();
+                circuitBreaker.onSuccess();
+                successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                // Error(OOM, StackOverflow 등)도 실패로 기록해 HALF_OPEN 시험 호출이 풀리지 않은 채 남지 않게 함
+                circuitBreaker.onFailure();
+                failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                    log.warn("업스트림 서킷 오픈 - {}: {}", name, e.getMessage());
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RestTemplate getRestTemplate() {
+        return restTemplate;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
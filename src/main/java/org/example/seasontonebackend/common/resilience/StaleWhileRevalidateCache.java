@@ -0,0 +1,135 @@
+package org.example.seasontonebackend.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * stale-while-revalidate 캐시
+ * 신선 기간 안이면 바로 반환하고, 만료됐지만 허용 기간 안이면 마지막 정상 값을 반환하면서 백그라운드에서 갱신한다.
+ * 동기 조회가 실패해도 이전 값이 남아 있으면 그 값을 대신 반환한다.
+ */
+@Slf4j
+public class StaleWhileRevalidateCache<K, V> {
+
+    private final String name;
+    private final long freshMillis;
+    private final long maxStaleMillis;
+    private final int maxEntries;
+    private final Executor refreshExecutor;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter freshHits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    public StaleWhileRevalidateCache(String name, Duration freshTtl, Duration maxStale, int maxEntries,
+                                     Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.freshMillis = freshTtl.toMillis();
+        this.maxStaleMillis = maxStale.toMillis();
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = refreshExecutor;
+        this.freshHits = cacheCounter(meterRegistry, "fresh");
+        this.staleHits = cacheCounter(meterRegistry, "stale");
+        this.misses = cacheCounter(meterRegistry, "miss");
+    }
+
+    private Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("upstream.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회. loader 가 null 을 반환하면 캐시하지 않는다.
+     */
+    public V get(K key, Supplier<V> loader) {
+        Entry<V> entry = entries.get(key);
+        long now = System.currentTimeMillis();
+
+        if (entry != null) {
+            long age = now - entry.storedAt();
+            if (age <= freshMillis) {
+                freshHits.increment();
+                return entry.value();
+            }
+            if (age <= freshMillis + maxStaleMillis) {
+                staleHits.increment();
+                refreshInBackground(key, loader);
+                return entry.value();
+            }
+        }
+
+        misses.increment();
+        try {
+            V value = loader.get();
+            put(key, value);
+            return value;
+        } catch (RuntimeException e) {
+            if (entry != null) {
+                log.warn("캐시 갱신 실패, 마지막 정상 값 반환 - {}: {}", name, e.getMessage());
+                return entry.value();
+            }
+            throw e;
+        }
+    }
+
+    private void refreshInBackground(K key, Supplier<V> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    put(key, loader.get());
+                } catch (RuntimeException e) {
+                    log.debug("백그라운드 캐시 갱신 실패 - {}: {}", name, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private void put(K key, V value) {
+        if (value == null) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+        if (entries.size() > maxEntries) {
+            evictOldest();
+        }
+    }
+
+    private void evictOldest() {
+        int toEvict = Math.max(1, maxEntries / 10);
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().storedAt()))
+                .limit(toEvict)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long storedAt) {
+    }
+}
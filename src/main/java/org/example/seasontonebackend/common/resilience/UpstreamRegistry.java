@@ -0,0 +1,97 @@
+package org.example.seasontonebackend.common.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.example.seasontonebackend.common.http.OutboundHttpClients;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 외부 API(업스트림)별 보호 장치 레지스트리
+ * 설정은 resilience.{업스트림명}.* 에서 읽는다. (rtms: 국토부 실거래가, vworld: VWorld 지오코딩)
+ * 연결 타임아웃과 연결 풀은 공유 HTTP 클라이언트(outbound.http.*) 설정을 따른다.
+ */
+@Slf4j
+@Component
+public class UpstreamRegistry {
+
+    public static final String RTMS = "rtms";
+    public static final String VWORLD = "vworld";
+
+    private final Environment environment;
+    private final OutboundHttpClients outboundHttpClients;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ResilientUpstream> upstreams = new ConcurrentHashMap<>();
+
+    // stale-while-revalidate 백그라운드 갱신 전용 (큐가 차면 갱신을 건너뛰고 기존 값을 계속 제공)
+    private final ExecutorService refreshExecutor;
+
+    public UpstreamRegistry(Environment environment, OutboundHttpClients outboundHttpClients, MeterRegistry meterRegistry,
+                            BlockingExecutors blockingExecutors) {
+        this.environment = environment;
+        this.outboundHttpClients = outboundHttpClients;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = blockingExecutors.newBoundedExecutor(
+                "upstream-refresh", 2, 100);
+    }
+
+    public ResilientUpstream get(String name) {
+        return upstreams.computeIfAbsent(name, this::create);
+    }
+
+    public Collection<ResilientUpstream> getAll() {
+        return Collections.unmodifiableCollection(upstreams.values());
+    }
+
+    /**
+     * 업스트림 응답용 stale-while-revalidate 캐시 생성
+     */
+    public <K, V> StaleWhileRevalidateCache<K, V> createCache(String cacheName, String upstreamName) {
+        String prefix = "resilience." + upstreamName + ".cache.";
+        return new StaleWhileRevalidateCache<>(
+                cacheName,
+                property(prefix + "fresh-ttl", Duration.class, Duration.ofHours(6)),
+                property(prefix + "max-stale", Duration.class, Duration.ofDays(7)),
+                property(prefix + "max-entries", Integer.class, 5000),
+                refreshExecutor,
+                meterRegistry);
+    }
+
+    private ResilientUpstream create(String name) {
+        String prefix = "resilience." + name + ".";
+        Duration readTimeout = property(prefix + "read-timeout", Duration.class, Duration.ofSeconds(5));
+
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                property(prefix + "window-size", Integer.class, 20),
+                property(prefix + "minimum-calls", Integer.class, 10),
+                property(prefix + "failure-rate-threshold", Double.class, 50.0),
+                property(prefix + "open-duration", Duration.class, Duration.ofSeconds(30)).toMillis());
+
+        log.info("업스트림 보호 설정 - {}: 읽기 타임아웃 {}", name, readTimeout);
+        return new ResilientUpstream(
+                name,
+                outboundHttpClients.restTemplate(name, readTimeout),
+                circuitBreaker,
+                property(prefix + "max-concurrent-calls", Integer.class, 8),
+                property(prefix + "max-wait", Duration.class, Duration.ofMillis(500)).toMillis(),
+                meterRegistry);
+    }
+
+    private <T> T property(String key, Class<T> type, T defaultValue) {
+        return environment.getProperty(key, type, defaultValue);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
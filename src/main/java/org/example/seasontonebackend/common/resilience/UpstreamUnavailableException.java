@@ -0,0 +1,10 @@
+package org.example.seasontonebackend.common.resilience;
+
+/**
+ * 서킷 오픈 또는 동시 호출 한도 초과로 외부 API 호출이 거절된 경우
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
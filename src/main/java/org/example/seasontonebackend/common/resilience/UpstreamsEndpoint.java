@@ -0,0 +1,40 @@
+package org.example.seasontonebackend.common.resilience;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/upstreams - 업스트림별 서킷 상태와 벌크헤드 사용량
+ * 지연 시간 히스토그램은 /actuator/metrics/upstream.requests 에서 확인
+ */
+@Component
+@Endpoint(id = "upstreams")
+public class UpstreamsEndpoint {
+
+    private final UpstreamRegistry upstreamRegistry;
+
+    public UpstreamsEndpoint(UpstreamRegistry upstreamRegistry) {
+        this.upstreamRegistry = upstreamRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> upstreams() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (ResilientUpstream upstream : upstreamRegistry.getAll()) {
+            CircuitBreaker circuitBreaker = upstream.getCircuitBreaker();
+
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("state", circuitBreaker.getState().name());
+            status.put("failureRate", Math.round(circuitBreaker.getFailureRate() * 10) / 10.0);
+            status.put("bufferedCalls", circuitBreaker.getRecordedCalls());
+            status.put("availableConcurrentCalls", upstream.getAvailableConcurrentCalls());
+            status.put("maxConcurrentCalls", upstream.getMaxConcurrentCalls());
+            result.put(upstream.getName(), status);
+        }
+        return result;
+    }
+}
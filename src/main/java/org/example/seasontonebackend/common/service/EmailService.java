@@ -1,13 +1,22 @@
-
 package org.example.seasontonebackend.common.service;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @ConditionalOnProperty(name = "spring.mail.username", matchIfMissing = false)
 public class EmailService {
@@ -19,10 +28,8 @@ public class EmailService {
     private String fromEmail;
 
     public void sendSimpleMessage(String to, String subject, String text) {
-        if (emailSender == null || fromEmail == null || fromEmail.isEmpty()) {
-            throw new IllegalStateException("메일 서비스가 설정되지 않았습니다. 환경변수를 확인해주세요.");
-        }
-        
+        checkConfigured();
+
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom(fromEmail);
         message.setTo(to);
@@ -30,4 +37,47 @@ public class EmailService {
         message.setText(text);
         emailSender.send(message);
     }
+
+    public MimeMessage createMessage(String to, String subject, String text) throws MessagingException {
+        checkConfigured();
+
+        MimeMessage message = emailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(fromEmail);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(text);
+        return message;
+    }
+
+    /**
+     * 여러 메일을 SMTP 연결 하나로 발송
+     * 실패한 메일과 원인을 돌려준다 (연결 자체가 실패하면 전부 실패로 처리).
+     */
+    public Map<MimeMessage, Exception> sendBatch(List<MimeMessage> messages) {
+        checkConfigured();
+
+        Map<MimeMessage, Exception> failures = new IdentityHashMap<>();
+        try {
+            emailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, cause) -> {
+                if (message instanceof MimeMessage mimeMessage) {
+                    failures.put(mimeMessage, cause);
+                }
+            });
+            if (failures.isEmpty()) {
+                messages.forEach(message -> failures.put(message, e));
+            }
+        } catch (MailException e) {
+            messages.forEach(message -> failures.put(message, e));
+        }
+        return failures;
+    }
+
+    private void checkConfigured() {
+        if (emailSender == null || fromEmail == null || fromEmail.isEmpty()) {
+            throw new IllegalStateException("메일 서비스가 설정되지 않았습니다. 환경변수를 확인해주세요.");
+        }
+    }
 }
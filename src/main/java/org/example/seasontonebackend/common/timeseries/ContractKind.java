@@ -0,0 +1,16 @@
+package org.example.seasontonebackend.common.timeseries;
+
+public enum ContractKind {
+    JEONSE("전세"),
+    MONTHLY_RENT("월세");
+
+    private final String displayName;
+
+    ContractKind(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
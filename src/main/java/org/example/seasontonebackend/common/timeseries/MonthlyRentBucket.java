@@ -0,0 +1,106 @@
+package org.example.seasontonebackend.common.timeseries;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+
+/**
+ * 한 달치 실거래 금액 사전 집계 버킷 (불변)
+ * 건수/합계/최솟값/최댓값과 정렬된 표본(중앙값·분위수 스케치)을 보관한다.
+ */
+public final class MonthlyRentBucket {
+
+    // 분위수 스케치 표본 최대 크기 (초과 시 균등 간격으로 솎아냄, 오차 1/MAX_SAMPLES 이내)
+    private static final int MAX_SAMPLES = 256;
+
+    private final YearMonth month;
+    private final int count;
+    private final double sum;
+    private final double min;
+    private final double max;
+    private final double[] samples;
+    private final long fetchedAt;
+
+    private MonthlyRentBucket(YearMonth month, int count, double sum, double min, double max,
+                              double[] samples, long fetchedAt) {
+        this.month = month;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.samples = samples;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public static MonthlyRentBucket of(YearMonth month, double[] amounts, long fetchedAt) {
+        double[] valid = Arrays.stream(amounts).filter(amount -> amount > 0).sorted().toArray();
+        int count = valid.length;
+        if (count == 0) {
+            return new MonthlyRentBucket(month, 0, 0.0, 0.0, 0.0, new double[0], fetchedAt);
+        }
+
+        double sum = 0.0;
+        for (double amount : valid) {
+            sum += amount;
+        }
+
+        double[] samples = valid;
+        if (count > MAX_SAMPLES) {
+            samples = new double[MAX_SAMPLES];
+            for (int i = 0; i < MAX_SAMPLES; i++) {
+                samples[i] = valid[(int) ((long) i * (count - 1) / (MAX_SAMPLES - 1))];
+            }
+        }
+
+        return new MonthlyRentBucket(month, count, sum, valid[0], valid[count - 1], samples, fetchedAt);
+    }
+
+    /**
+     * 분위수 (0.0 ~ 1.0), 표본 사이는 선형 보간
+     */
+    public double percentile(double p) {
+        if (samples.length == 0) {
+            return 0.0;
+        }
+        double position = Math.max(0.0, Math.min(1.0, p)) * (samples.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        double weight = position - lower;
+        return samples[lower] + (samples[upper] - samples[lower]) * weight;
+    }
+
+    public double getMedian() {
+        return percentile(0.5);
+    }
+
+    public double getAverage() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public long getFetchedAt() {
+        return fetchedAt;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.seasontonebackend.common.timeseries;
+
+public enum PropertyType {
+    OFFICETEL("오피스텔"),
+    VILLA("빌라");
+
+    private final String displayName;
+
+    PropertyType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
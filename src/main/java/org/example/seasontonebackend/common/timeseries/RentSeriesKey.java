@@ -0,0 +1,7 @@
+package org.example.seasontonebackend.common.timeseries;
+
+/**
+ * 시계열 버킷 키 (법정동코드, 매물 유형, 계약 유형)
+ */
+public record RentSeriesKey(String lawdCd, PropertyType propertyType, ContractKind contractKind) {
+}
@@ -0,0 +1,83 @@
+package org.example.seasontonebackend.common.timeseries;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 시계열 버킷 백필/갱신 스케줄러
+ * 등록된 지역의 비어 있는 달을 채우고, 신고가 늦게 들어오는 최근 달은 주기적으로 다시 가져온다.
+ * 외부 API 호출량은 실행당 예산(max-calls-per-run)으로 제한한다.
+ */
+@Slf4j
+@Component
+public class RentTimeSeriesRefresher {
+
+    private final RentTimeSeriesStore timeSeriesStore;
+    private final List<RentTransactionSource> sources;
+
+    @Value("${timeseries.backfill.max-calls-per-run:40}")
+    private int maxCallsPerRun;
+
+    @Value("${timeseries.backfill.recent-months:2}")
+    private int recentMonths;
+
+    @Value("${timeseries.backfill.recent-ttl:PT6H}")
+    private Duration recentTtl;
+
+    public RentTimeSeriesRefresher(RentTimeSeriesStore timeSeriesStore, List<RentTransactionSource> sources,
+                                   @Value("${timeseries.seed-lawd-codes:}") String[] seedLawdCodes) {
+        this.timeSeriesStore = timeSeriesStore;
+        this.sources = sources;
+        // 미리 수집해 둘 지역 (쉼표 구분)
+        Arrays.stream(seedLawdCodes).map(String::trim).filter(code -> !code.isEmpty()).forEach(timeSeriesStore::track);
+    }
+
+    @Scheduled(initialDelayString = "${timeseries.backfill.initial-delay:PT15S}",
+            fixedDelayString = "${timeseries.backfill.interval:PT30S}")
+    public void refresh() {
+        int budget = maxCallsPerRun;
+        YearMonth currentMonth = YearMonth.now();
+        long staleBefore = System.currentTimeMillis() - recentTtl.toMillis();
+
+        for (String lawdCd : timeSeriesStore.getTrackedLawdCodes()) {
+            for (RentTransactionSource source : sources) {
+                for (int i = 0; i < RentTimeSeriesStore.MAX_MONTHS && budget > 0; i++) {
+                    YearMonth month = currentMonth.minusMonths(i);
+                    if (!needsFetch(lawdCd, source.getPropertyType(), month, i < recentMonths, staleBefore)) {
+                        continue;
+                    }
+
+                    budget--;
+                    Map<ContractKind, double[]> amounts = source.fetchMonthlyAmounts(lawdCd, month);
+                    if (amounts == null) {
+                        // 외부 API 장애 시 이번 실행은 중단하고 다음 주기에 재시도
+                        log.warn("시계열 백필 중단 - 법정동코드: {}, 유형: {}, 월: {}", lawdCd, source.getPropertyType(), month);
+                        return;
+                    }
+                    timeSeriesStore.recordMonth(lawdCd, source.getPropertyType(), month, amounts);
+                }
+            }
+        }
+
+        if (budget < maxCallsPerRun) {
+            log.info("시계열 백필 완료 - API 호출 {}건", maxCallsPerRun - budget);
+        }
+    }
+
+    private boolean needsFetch(String lawdCd, PropertyType propertyType, YearMonth month, boolean recent, long staleBefore) {
+        Optional<MonthlyRentBucket> bucket = timeSeriesStore.getBucket(lawdCd, propertyType, ContractKind.MONTHLY_RENT, month);
+        if (bucket.isEmpty()) {
+            return true;
+        }
+        return recent && bucket.get().getFetchedAt() < staleBefore;
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.seasontonebackend.common.timeseries;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 월별 사전 집계 버킷 기반 전월세 시계열 저장소
+ * 요청 경로에서는 외부 API 를 호출하지 않고 메모리 버킷만 읽어 추세를 계산한다.
+ * 버킷 적재는 {@link RentTimeSeriesRefresher} 와 시세 조회 시 가져온 최근 데이터가 담당한다.
+ * 수집 대상은 법정동코드표에 있는 (폐지되지 않은) 시/군/구 코드만, 최근 요청 순으로 max-tracked-regions 곳까지 유지한다.
+ */
+@Slf4j
+@Component
+public class RentTimeSeriesStore {
+
+    public static final int MAX_MONTHS = 36;
+    // 36개월 조회에서도 전년 동월 대비 변동률을 낼 수 있도록 12개월을 더 보관
+    private static final int RETENTION_MONTHS = MAX_MONTHS + 12;
+    private static final int ROLLING_WINDOW = 3;
+    private static final int MIN_POINTS_FOR_TREND = 2;
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final Map<RentSeriesKey, ConcurrentSkipListMap<YearMonth, MonthlyRentBucket>> series = new ConcurrentHashMap<>();
+    // 최근 요청 순 (접근 순서 LinkedHashMap, trackedLawdCodes 로 동기화)
+    private final LinkedHashMap<String, Boolean> trackedLawdCodes = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LawdCodeResolver lawdCodeResolver;
+    private final int maxTrackedRegions;
+
+    public RentTimeSeriesStore(LawdCodeResolver lawdCodeResolver,
+                               @Value("${timeseries.max-tracked-regions:300}") int maxTrackedRegions) {
+        this.lawdCodeResolver = lawdCodeResolver;
+        this.maxTrackedRegions = maxTrackedRegions;
+    }
+
+    /**
+     * 한 달치 금액을 계약 유형별 버킷으로 교체 저장 (같은 달 재조회 시 덮어씀)
+     */
+    public void recordMonth(String lawdCd, PropertyType propertyType, YearMonth month, Map<ContractKind, double[]> amounts) {
+        if (!track(lawdCd)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        YearMonth oldestToKeep = YearMonth.now().minusMonths(RETENTION_MONTHS - 1);
+
+        for (ContractKind kind : ContractKind.values()) {
+            double[] values = amounts.getOrDefault(kind, new double[0]);
+            ConcurrentSkipListMap<YearMonth, MonthlyRentBucket> buckets =
+                    series.computeIfAbsent(new RentSeriesKey(lawdCd, propertyType, kind), key -> new ConcurrentSkipListMap<>());
+            buckets.put(month, MonthlyRentBucket.of(month, values, now));
+            buckets.headMap(oldestToKeep).clear();
+        }
+    }
+
+    public Optional<MonthlyRentBucket> getBucket(String lawdCd, PropertyType propertyType, ContractKind kind, YearMonth month) {
+        ConcurrentSkipListMap<YearMonth, MonthlyRentBucket> buckets = series.get(new RentSeriesKey(lawdCd, propertyType, kind));
+        return buckets == null ? Optional.empty() : Optional.ofNullable(buckets.get(month));
+    }
+
+    /**
+     * 거래가 있는 가장 최근 달의 버킷
+     */
+    public Optional<MonthlyRentBucket> getLatestBucket(String lawdCd, PropertyType propertyType, ContractKind kind) {
+        ConcurrentSkipListMap<YearMonth, MonthlyRentBucket> buckets = series.get(new RentSeriesKey(lawdCd, propertyType, kind));
+        if (buckets == null) {
+            return Optional.empty();
+        }
+        return buckets.descendingMap().values().stream()
+                .filter(bucket -> !bucket.isEmpty())
+                .findFirst();
+    }
+
+    /**
+     * 백필 대상 지역으로 등록 (실제 수집은 스케줄러가 요청 경로 밖에서 수행)
+     * 법정동코드표에 없는 코드는 등록하지 않고 false. 한도를 넘으면 가장 오래 요청되지 않은 지역과 그 버킷을 지운다.
+     */
+    public boolean track(String lawdCd) {
+        if (!isKnownRegion(lawdCd)) {
+            log.debug("시계열 수집 대상이 아닌 법정동코드 무시: {}", lawdCd);
+            return false;
+        }
+
+        String evicted = null;
+        synchronized (trackedLawdCodes) {
+            if (trackedLawdCodes.put(lawdCd, Boolean.TRUE) != null) {
+                return true;
+            }
+            if (trackedLawdCodes.size() > maxTrackedRegions) {
+                Iterator<String> eldest = trackedLawdCodes.keySet().iterator();
+                evicted = eldest.next();
+                eldest.remove();
+            }
+        }
+
+        log.info("시계열 수집 대상 지역 등록 - 법정동코드: {}", lawdCd);
+        if (evicted != null) {
+            String evictedCode = evicted;
+            series.keySet().removeIf(key -> key.lawdCd().equals(evictedCode));
+            log.info("시계열 수집 대상 지역 한도 초과로 제외 - 법정동코드: {}", evictedCode);
+        }
+        return true;
+    }
+
+    public Set<String> getTrackedLawdCodes() {
+        synchronized (trackedLawdCodes) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(trackedLawdCodes.keySet()));
+        }
+    }
+
+    // 실거래가 API 지역코드 형식(5자리)이고 폐지되지 않은 시/군/구
+    private boolean isKnownRegion(String lawdCd) {
+        return lawdCd != null && lawdCd.length() == 5 && lawdCd.chars().allMatch(Character::isDigit)
+                && lawdCodeResolver.findByCode(lawdCd).isPresent();
+    }
+
+    /**
+     * 최근 N개월 추세 분석 (이동평균, 전년 동월 대비 변동률, 변동성)
+     * 집계된 달이 2개월 미만이면 비어 있는 결과를 반환하고 수집 대상으로 등록한다.
+     */
+    public Optional<Map<String, Object>> analyze(String lawdCd, PropertyType propertyType, ContractKind kind, int months) {
+        if (!track(lawdCd)) {
+            return Optional.empty();
+        }
+
+        int period = Math.max(1, Math.min(months, MAX_MONTHS));
+        ConcurrentSkipListMap<YearMonth, MonthlyRentBucket> buckets = series.get(new RentSeriesKey(lawdCd, propertyType, kind));
+        if (buckets == null) {
+            return Optional.empty();
+        }
+
+        YearMonth endMonth = YearMonth.now();
+        YearMonth startMonth = endMonth.minusMonths(period - 1);
+        List<MonthlyRentBucket> points = buckets.subMap(startMonth, true, endMonth, true).values().stream()
+                .filter(bucket -> !bucket.isEmpty())
+                .toList();
+        if (points.size() < MIN_POINTS_FOR_TREND) {
+            return Optional.empty();
+        }
+
+        List<Map<String, Object>> timeSeriesData = new ArrayList<>();
+        int totalTransactions = 0;
+        for (int i = 0; i < points.size(); i++) {
+            MonthlyRentBucket bucket = points.get(i);
+            totalTransactions += bucket.getCount();
+
+            Map<String, Object> monthData = new HashMap<>();
+            monthData.put("period", bucket.getMonth().format(PERIOD_FORMAT));
+            monthData.put("yearMonth", bucket.getMonth().toString());
+            monthData.put("averageRent", Math.round(bucket.getAverage()));
+            monthData.put("medianRent", Math.round(bucket.getMedian()));
+            monthData.put("p25Rent", Math.round(bucket.percentile(0.25)));
+            monthData.put("p75Rent", Math.round(bucket.percentile(0.75)));
+            monthData.put("transactionCount", bucket.getCount());
+            monthData.put("rollingAverage", Math.round(rollingAverage(points, i)));
+            timeSeriesData.add(monthData);
+        }
+
+        MonthlyRentBucket first = points.get(0);
+        MonthlyRentBucket last = points.get(points.size() - 1);
+        double changeRate = changeRate(first.getAverage(), last.getAverage());
+        // 빈 달이 있으면 요청 기간보다 짧으므로 실제로 쓴 첫 달~마지막 달 간격으로 나눔
+        long spanMonths = Math.max(1, ChronoUnit.MONTHS.between(first.getMonth(), last.getMonth()));
+
+        Map<String, Object> analysis = new HashMap<>();
+        analysis.put("totalChangeRate", roundToTwo(changeRate));
+        analysis.put("monthlyChangeRate", roundToTwo(changeRate / spanMonths));
+        analysis.put("startPeriod", first.getMonth().format(PERIOD_FORMAT));
+        analysis.put("endPeriod", last.getMonth().format(PERIOD_FORMAT));
+        analysis.put("startRent", Math.round(first.getAverage()));
+        analysis.put("endRent", Math.round(last.getAverage()));
+        analysis.put("trend", changeRate > 5 ? "상승" : changeRate < -5 ? "하락" : "보합");
+        analysis.put("volatility", roundToTwo(volatility(points)));
+        analysis.put("totalTransactions", totalTransactions);
+        analysis.put("buildingType", propertyType.getDisplayName());
+        analysis.put("contractType", kind.getDisplayName());
+
+        MonthlyRentBucket lastYear = buckets.get(last.getMonth().minusYears(1));
+        if (lastYear != null && !lastYear.isEmpty()) {
+            analysis.put("yoyChangeRate", roundToTwo(changeRate(lastYear.getAverage(), last.getAverage())));
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("timeSeries", timeSeriesData);
+        result.put("analysis", analysis);
+        result.put("period", period + "개월");
+        result.put("lawdCd", lawdCd);
+        result.put("isMockData", false);
+        return Optional.of(result);
+    }
+
+    private double rollingAverage(List<MonthlyRentBucket> points, int index) {
+        int from = Math.max(0, index - ROLLING_WINDOW + 1);
+        double sum = 0.0;
+        for (int i = from; i <= index; i++) {
+            sum += points.get(i).getAverage();
+        }
+        return sum / (index - from + 1);
+    }
+
+    /**
+     * 월간 변동률(%)의 표준편차
+     */
+    private double volatility(List<MonthlyRentBucket> points) {
+        int n = points.size() - 1;
+        if (n < 2) {
+            return 0.0;
+        }
+        double[] changes = new double[n];
+        double mean = 0.0;
+        for (int i = 0; i < n; i++) {
+            changes[i] = changeRate(points.get(i).getAverage(), points.get(i + 1).getAverage());
+            mean += changes[i];
+        }
+        mean /= n;
+
+        double variance = 0.0;
+        for (double change : changes) {
+            variance += (change - mean) * (change - mean);
+        }
+        return Math.sqrt(variance / (n - 1));
+    }
+
+    private double changeRate(double from, double to) {
+        return from == 0.0 ? 0.0 : (to - from) / from * 100;
+    }
+
+    private double roundToTwo(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.seasontonebackend.common.timeseries;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * 월별 실거래 금액을 제공하는 외부 데이터 소스 (오피스텔/빌라 실거래가 API)
+ */
+public interface RentTransactionSource {
+
+    PropertyType getPropertyType();
+
+    /**
+     * 한 달치 실거래 금액(원 단위)을 계약 유형별로 조회한다.
+     * 외부 API 호출에 실패하면 null 을 반환한다. (거래가 없는 달은 빈 배열)
+     */
+    Map<ContractKind, double[]> fetchMonthlyAmounts(String lawdCd, YearMonth month);
+
+    /**
+     * 실거래가 API 의 만원 단위 금액 문자열을 원 단위로 변환
+     */
+    static double manwonToWon(String amount) {
+        if (amount == null || amount.trim().isEmpty()) {
+            return 0.0;
+        }
+        try {
+            return Double.parseDouble(amount.replace(",", "").trim()) * 10000;
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+}
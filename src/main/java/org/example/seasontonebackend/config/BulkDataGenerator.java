@@ -0,0 +1,434 @@
+package org.example.seasontonebackend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.example.seasontonebackend.diagnosis.domain.DiagnosisScore;
+import org.example.seasontonebackend.member.domain.Role;
+import org.example.seasontonebackend.member.domain.SocialType;
+import org.example.seasontonebackend.smartdiagnosis.domain.entity.SmartMeasurement;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대용량 합성 데이터 생성 (리포트/집계 성능 작업용, {@link BulkDataRunner} 로 실행)
+ * JPA saveAll 대신 JDBC 배치 INSERT 를 청크 단위로 병렬 실행한다. MySQL 은 rewriteBatchedStatements=true 로 다중 행 INSERT 가 된다.
+ * 청크마다 ID 범위를 미리 계산해 두므로 병렬로 넣어도 같은 seed 면 같은 데이터가 나온다 (빈 DB 라면 ID 까지 같음).
+ * 사용자는 동별로 Zipf 분포로 몰리고, 동/건물마다 점수와 월세 수준이 달라 동네/건물 비교가 실제처럼 갈린다.
+ */
+@Slf4j
+@Component
+public class BulkDataGenerator {
+
+    private static final String PASSWORD = "password123";
+
+    // DummyDataService 와 같은 카테고리별 점수 경향 (1 소음, 2 수압/온수, 3 채광, 7 보안, 9 편의시설)
+    private static final double[] CATEGORY_MEANS = {2.0, 3.0, 2.5, 3.0, 3.0, 3.0, 3.5, 3.0, 3.0, 3.0};
+    private static final String[] CONTRACT_TYPES = {"월세", "전세", "반전세"};
+    private static final String[] LOCATIONS = {"거실", "침실", "화장실", "주방", "베란다"};
+    private static final String[] DEVICES = {"스마트폰", "태블릿", "노트북", "데스크톱"};
+    private static final String[] USER_INPUTS = {
+            "소음 문제가 심각합니다. 위층에서 계속 발소리가 들려요.",
+            "수압이 너무 약해서 샤워할 때 불편합니다.",
+            "채광이 부족해서 낮에도 불을 켜야 합니다.",
+            "난방비가 너무 많이 나와요.",
+            "환기가 잘 안되어 습도가 높습니다.",
+            "인터넷 속도가 너무 느려요."
+    };
+
+    private static final String INSERT_MEMBER = "INSERT INTO member (id, name, email, password, role, building, detail_address, building_type, "
+            + "contract_type, security, rent, maintenance_fee, is_gps_verified, is_contract_verified, dong, onboarding_completed, "
+            + "diagnosis_completed, provider_id, social_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RESPONSE = "INSERT INTO diagnosis_responses (id, user_id, question_id, score, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_MEASUREMENT = "INSERT INTO smart_measurements (measurement_id, member_id, measurement_type, measured_value, "
+            + "unit, location_info, device_info, measurement_duration, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_NOISE_POINT = "INSERT INTO noise_data_points (data_point_id, measurement_id, decibel, timestamp) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_REPORT = "INSERT INTO report (report_id, public_id, member_id, user_input, report_type, is_shareable) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final BlockingExecutors blockingExecutors;
+
+    public BulkDataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             PasswordEncoder passwordEncoder, BlockingExecutors blockingExecutors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.blockingExecutors = blockingExecutors;
+    }
+
+    /**
+     * 생성 옵션
+     * measurementsMax/reportsMax: 사용자당 0~max 개 (균등), noisePoints: 소음 측정 1건당 데이터 포인트 수
+     */
+    public record Options(long members, List<String> dongs, long seed, double dongSkew, int buildingsPerDong,
+                          int measurementsMax, int noisePoints, int reportsMax, int chunkSize, int batchSize, int threads) {
+    }
+
+    public record Result(long members, long responses, long measurements, long noisePoints, long reports, long elapsedMillis) {
+
+        public long totalRows() {
+            return members + responses + measurements + noisePoints + reports;
+        }
+    }
+
+    public Result generate(Options options) throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        Dongs dongs = new Dongs(options);
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        // 1단계: 청크별 행 수를 세어 ID 시작값 확정 (값 생성과 같은 난수열을 다시 돌려 계산)
+        int chunkCount = (int) ((options.members() + options.chunkSize() - 1) / options.chunkSize());
+        Ids base = Ids.next(jdbcTemplate);
+        List<Chunk> chunks = new ArrayList<>(chunkCount);
+        Ids cursor = base;
+        for (int c = 0; c < chunkCount; c++) {
+            long first = (long) c * options.chunkSize();
+            int size = (int) Math.min(options.chunkSize(), options.members() - first);
+            Chunk chunk = new Chunk(c, size, cursor);
+            chunks.add(chunk);
+            cursor = cursor.plus(chunk.count(options));
+        }
+        Ids totals = cursor.minus(base);
+        reserveIdentities(cursor);
+        log.info("합성 데이터 생성 시작 - 사용자 {}명, 진단 응답 {}건, 측정 {}건, 소음 포인트 {}건, 리포트 {}건 (청크 {}개, 스레드 {}개, seed {})",
+                totals.member(), totals.response(), totals.measurement(), totals.noisePoint(), totals.report(),
+                chunkCount, options.threads(), options.seed());
+
+        // 2단계: 청크 병렬 INSERT (청크 하나 = 트랜잭션 하나)
+        ExecutorService executor = blockingExecutors.newBoundedExecutor("bulk-data", options.threads(),
+                Integer.MAX_VALUE);
+        AtomicLong insertedRows = new AtomicLong();
+        long totalRows = totals.member() + totals.response() + totals.measurement() + totals.noisePoint() + totals.report();
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunkCount);
+            for (Chunk chunk : chunks) {
+                futures.add(executor.submit(() -> {
+                    long rows = insertChunk(chunk, options, dongs, encodedPassword, now);
+                    long done = insertedRows.addAndGet(rows);
+                    if (chunk.index() % 10 == 9 || done == totalRows) {
+                        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+                        log.info("합성 데이터 진행 - {}/{}행 ({}%), {}행/초", done, totalRows, done * 100 / Math.max(1, totalRows), done * 1000 / elapsed);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("합성 데이터 생성 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        return new Result(totals.member(), totals.response(), totals.measurement(), totals.noisePoint(), totals.report(), elapsed);
+    }
+
+    private long insertChunk(Chunk chunk, Options options, Dongs dongs, String encodedPassword, LocalDateTime now) {
+        Rows rows = new Rows();
+        SplittableRandom counts = chunk.countsRandom(options.seed());
+        SplittableRandom values = chunk.valuesRandom(options.seed());
+        long responseId = chunk.start().response();
+        long measurementId = chunk.start().measurement();
+        long noisePointId = chunk.start().noisePoint();
+        long reportId = chunk.start().report();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            long memberId = chunk.start().member() + i;
+            MemberPlan plan = MemberPlan.draw(counts, options);
+
+            int dongIndex = dongs.sample(values);
+            int buildingNo = dongs.sampleBuilding(values);
+            String dong = dongs.name(dongIndex);
+            boolean villa = buildingNo % 3 != 0;
+            String building = dong.replace("동", "") + (villa ? "빌라" : "오피스텔") + buildingNo;
+            double rentLevel = dongs.rentLevel(dongIndex) * (0.8 + values.nextDouble() * 0.4);
+
+            rows.members.add(new Object[]{memberId, "합성" + memberId, "bulk-" + memberId + "@example.com", encodedPassword,
+                    Role.User.name(), building, "서울시 " + dong + " " + (i % 20 + 1) + "호", villa ? "빌라" : "오피스텔",
+                    CONTRACT_TYPES[values.nextInt(CONTRACT_TYPES.length)],
+                    (long) (rentLevel * (10 + values.nextInt(40))) * 10000, (int) rentLevel * 10000,
+                    (values.nextInt(10) + 5) * 10000, values.nextInt(10) < 8, values.nextInt(10) < 4, dong,
+                    true, plan.diagnosed(), "bulk_" + memberId, values.nextBoolean() ? SocialType.GOOGLE.name() : SocialType.KAKAO.name()});
+
+            if (plan.diagnosed()) {
+                // 동/건물 단위 편차를 더해 같은 건물 사용자끼리 점수가 비슷하게
+                double offset = dongs.scoreOffset(dongIndex) + dongs.buildingOffset(dongIndex, buildingNo);
+                LocalDateTime answeredAt = now.minusDays(values.nextInt(90)).minusMinutes(values.nextInt(1440));
+                for (int category = 1; category <= 10; category++) {
+                    for (int question = 1; question <= 2; question++) {
+                        long score = Math.round(CATEGORY_MEANS[category - 1] + offset + values.nextGaussian() * 0.9);
+                        int clamped = (int) Math.max(1, Math.min(5, score));
+                        rows.responses.add(new Object[]{responseId++, memberId, (long) (category - 1) * 2 + question,
+                                DiagnosisScore.values()[clamped - 1].name(), answeredAt});
+                    }
+                }
+            }
+
+            for (SmartMeasurement.MeasurementType type : plan.measurementTypes()) {
+                LocalDateTime measuredAt = now.minusDays(values.nextInt(60)).minusSeconds(values.nextInt(86_400));
+                double measured = switch (type) {
+                    case NOISE -> 30 + values.nextDouble() * 50;
+                    case LEVEL -> values.nextDouble() * 5;
+                    case INTERNET -> 10 + values.nextDouble() * 490;
+                };
+                String unit = switch (type) {
+                    case NOISE -> "dB";
+                    case LEVEL -> "degree";
+                    case INTERNET -> "Mbps";
+                };
+                rows.measurements.add(new Object[]{measurementId, memberId, type.name(), decimal(measured), unit,
+                        LOCATIONS[values.nextInt(LOCATIONS.length)], DEVICES[values.nextInt(DEVICES.length)],
+                        values.nextInt(240) + 60, measuredAt});
+                if (type == SmartMeasurement.MeasurementType.NOISE) {
+                    for (int p = 0; p < options.noisePoints(); p++) {
+                        double decibel = Math.max(20, Math.min(110, measured + values.nextGaussian() * 6));
+                        rows.noisePoints.add(new Object[]{noisePointId++, measurementId, decimal(decibel), measuredAt.plusSeconds(p)});
+                    }
+                }
+                measurementId++;
+            }
+
+            for (int r = 0; r < plan.reports(); r++) {
+                UUID publicId = new UUID((values.nextLong() & ~0xF000L) | 0x4000L,
+                        (values.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+                rows.reports.add(new Object[]{reportId++, publicId.toString(), memberId,
+                        USER_INPUTS[values.nextInt(USER_INPUTS.length)], values.nextInt(10) < 2 ? "premium" : "free", true});
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            batchInsert(INSERT_MEMBER, rows.members, options.batchSize());
+            batchInsert(INSERT_RESPONSE, rows.responses, options.batchSize());
+            batchInsert(INSERT_MEASUREMENT, rows.measurements, options.batchSize());
+            batchInsert(INSERT_NOISE_POINT, rows.noisePoints, options.batchSize());
+            batchInsert(INSERT_REPORT, rows.reports, options.batchSize());
+        });
+        return rows.size();
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows, int batchSize) {
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * ID 를 직접 넣으므로 INSERT 전에 IDENTITY 시작값을 생성 범위 뒤로 옮김
+     * 생성 중에 앱이 INSERT 해도 범위가 겹치지 않고, 끝난 뒤에도 그대로 이어진다.
+     */
+    private void reserveIdentities(Ids next) {
+        String product = jdbcTemplate.execute((Connection connection) -> {
+            try {
+                return connection.getMetaData().getDatabaseProductName();
+            } catch (SQLException e) {
+                return "";
+            }
+        });
+        String template;
+        if ("H2".equalsIgnoreCase(product)) {
+            template = "ALTER TABLE %s ALTER COLUMN %s RESTART WITH %d";
+        } else if ("MySQL".equalsIgnoreCase(product)) {
+            template = "ALTER TABLE %1$s AUTO_INCREMENT = %3$d";
+        } else {
+            log.warn("IDENTITY 시작값을 옮기지 못하는 DB 입니다 ({}). 생성 중 앱의 INSERT 와 ID 가 겹칠 수 있습니다.", product);
+            return;
+        }
+        jdbcTemplate.execute(String.format(template, "member", "id", next.member()));
+        jdbcTemplate.execute(String.format(template, "diagnosis_responses", "id", next.response()));
+        jdbcTemplate.execute(String.format(template, "smart_measurements", "measurement_id", next.measurement()));
+        jdbcTemplate.execute(String.format(template, "noise_data_points", "data_point_id", next.noisePoint()));
+        jdbcTemplate.execute(String.format(template, "report", "report_id", next.report()));
+    }
+
+    /**
+     * 테이블별 다음 ID (또는 행 수)
+     */
+    private record Ids(long member, long response, long measurement, long noisePoint, long report) {
+
+        static Ids next(JdbcTemplate jdbcTemplate) {
+            return new Ids(nextId(jdbcTemplate, "member", "id"), nextId(jdbcTemplate, "diagnosis_responses", "id"),
+                    nextId(jdbcTemplate, "smart_measurements", "measurement_id"),
+                    nextId(jdbcTemplate, "noise_data_points", "data_point_id"), nextId(jdbcTemplate, "report", "report_id"));
+        }
+
+        private static long nextId(JdbcTemplate jdbcTemplate, String table, String column) {
+            Long max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+            return max == null ? 1 : max + 1;
+        }
+
+        Ids plus(Ids other) {
+            return new Ids(member + other.member, response + other.response, measurement + other.measurement,
+                    noisePoint + other.noisePoint, report + other.report);
+        }
+
+        Ids minus(Ids other) {
+            return new Ids(member - other.member, response - other.response, measurement - other.measurement,
+                    noisePoint - other.noisePoint, report - other.report);
+        }
+    }
+
+    private record Chunk(int index, int size, Ids start) {
+
+        // 행 수를 정하는 난수열과 값을 정하는 난수열을 분리해 1단계에서 행 수만 빠르게 계산
+        SplittableRandom countsRandom(long seed) {
+            return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        }
+
+        SplittableRandom valuesRandom(long seed) {
+            return new SplittableRandom((seed ^ 0x5DEECE66DL) * 0xC2B2AE3D27D4EB4FL + index);
+        }
+
+        Ids count(Options options) {
+            SplittableRandom counts = countsRandom(options.seed());
+            long responses = 0;
+            long measurements = 0;
+            long noisePoints = 0;
+            long reports = 0;
+            for (int i = 0; i < size; i++) {
+                MemberPlan plan = MemberPlan.draw(counts, options);
+                responses += plan.diagnosed() ? 20 : 0;
+                measurements += plan.measurementTypes().length;
+                for (SmartMeasurement.MeasurementType type : plan.measurementTypes()) {
+                    if (type == SmartMeasurement.MeasurementType.NOISE) {
+                        noisePoints += options.noisePoints();
+                    }
+                }
+                reports += plan.reports();
+            }
+            return new Ids(size, responses, measurements, noisePoints, reports);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 행 수 (진단 여부, 측정 종류, 리포트 수)
+     */
+    private record MemberPlan(boolean diagnosed, SmartMeasurement.MeasurementType[] measurementTypes, int reports) {
+
+        private static final SmartMeasurement.MeasurementType[] TYPES = SmartMeasurement.MeasurementType.values();
+
+        static MemberPlan draw(SplittableRandom counts, Options options) {
+            boolean diagnosed = counts.nextInt(100) < 85;
+            SmartMeasurement.MeasurementType[] types = new SmartMeasurement.MeasurementType[counts.nextInt(options.measurementsMax() + 1)];
+            for (int m = 0; m < types.length; m++) {
+                types[m] = TYPES[counts.nextInt(TYPES.length)];
+            }
+            return new MemberPlan(diagnosed, types, counts.nextInt(options.reportsMax() + 1));
+        }
+    }
+
+    /**
+     * 동별 가중치(Zipf)와 동/건물 단위 편차. seed 로만 정해지므로 청크 간에 공유한다.
+     */
+    private static final class Dongs {
+
+        private final String[] names;
+        private final double[] cumulative;
+        private final double[] buildingCumulative;
+        private final double[] scoreOffsets;
+        private final double[] rentLevels;
+        private final long seed;
+
+        Dongs(Options options) {
+            this.seed = options.seed();
+            SplittableRandom random = new SplittableRandom(seed);
+            List<String> shuffled = new ArrayList<>(options.dongs());
+            // 큰 동이 이름순으로 정해지지 않도록 섞은 뒤 순위 부여
+            for (int i = shuffled.size() - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                String tmp = shuffled.get(i);
+                shuffled.set(i, shuffled.get(j));
+                shuffled.set(j, tmp);
+            }
+            this.names = shuffled.toArray(String[]::new);
+            this.cumulative = zipf(names.length, options.dongSkew());
+            this.buildingCumulative = zipf(options.buildingsPerDong(), 1.0);
+            this.scoreOffsets = new double[names.length];
+            this.rentLevels = new double[names.length];
+            for (int i = 0; i < names.length; i++) {
+                scoreOffsets[i] = random.nextGaussian() * 0.5;
+                rentLevels[i] = 40 + random.nextInt(50);
+            }
+        }
+
+        private static double[] zipf(int n, double exponent) {
+            double[] weights = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                weights[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                weights[i] /= sum;
+            }
+            return weights;
+        }
+
+        private static int pick(double[] cumulative, double point) {
+            int index = Arrays.binarySearch(cumulative, point);
+            return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+        }
+
+        int sample(SplittableRandom random) {
+            return pick(cumulative, random.nextDouble());
+        }
+
+        int sampleBuilding(SplittableRandom random) {
+            return pick(buildingCumulative, random.nextDouble()) + 1;
+        }
+
+        String name(int index) {
+            return names[index];
+        }
+
+        double scoreOffset(int index) {
+            return scoreOffsets[index];
+        }
+
+        double rentLevel(int index) {
+            return rentLevels[index];
+        }
+
+        double buildingOffset(int dongIndex, int buildingNo) {
+            return new SplittableRandom(seed * 31 + (long) dongIndex * 10_007 + buildingNo).nextGaussian() * 0.3;
+        }
+    }
+
+    private static final class Rows {
+        private final List<Object[]> members = new ArrayList<>();
+        private final List<Object[]> responses = new ArrayList<>();
+        private final List<Object[]> measurements = new ArrayList<>();
+        private final List<Object[]> noisePoints = new ArrayList<>();
+        private final List<Object[]> reports = new ArrayList<>();
+
+        long size() {
+            return members.size() + responses.size() + measurements.size() + noisePoints.size() + reports.size();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.seasontonebackend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.address.LawdCode;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.example.seasontonebackend.common.cache.EntityCacheInvalidator;
+import org.example.seasontonebackend.common.cache.EntityCacheRegions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대용량 합성 데이터 생성 CLI (gradle generateBulkData, bulkdata.members 를 지정했을 때만 동작)
+ * 끝나면 bulkdata.exit=true(기본) 일 때 앱을 종료한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bulkdata.members")
+public class BulkDataRunner implements ApplicationRunner {
+
+    private static final String SEOUL_SIDO_CODE = "11";
+
+    private final BulkDataGenerator bulkDataGenerator;
+    private final ConfigurableApplicationContext applicationContext;
+    private final LawdCodeResolver lawdCodeResolver;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    @Value("${bulkdata.members}")
+    private long members;
+
+    // 비우면 법정동 코드표의 서울 동 전체
+    @Value("${bulkdata.dongs:}")
+    private List<String> dongs;
+
+    @Value("${bulkdata.seed:42}")
+    private long seed;
+
+    @Value("${bulkdata.dong-skew:1.1}")
+    private double dongSkew;
+
+    @Value("${bulkdata.buildings-per-dong:40}")
+    private int buildingsPerDong;
+
+    @Value("${bulkdata.measurements-max:6}")
+    private int measurementsMax;
+
+    @Value("${bulkdata.noise-points:20}")
+    private int noisePoints;
+
+    @Value("${bulkdata.reports-max:2}")
+    private int reportsMax;
+
+    @Value("${bulkdata.chunk-size:2000}")
+    private int chunkSize;
+
+    @Value("${bulkdata.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${bulkdata.threads:0}")
+    private int threads;
+
+    @Value("${bulkdata.exit:true}")
+    private boolean exit;
+
+    public BulkDataRunner(BulkDataGenerator bulkDataGenerator, ConfigurableApplicationContext applicationContext,
+                          LawdCodeResolver lawdCodeResolver, EntityCacheInvalidator entityCacheInvalidator) {
+        this.bulkDataGenerator = bulkDataGenerator;
+        this.applicationContext = applicationContext;
+        this.lawdCodeResolver = lawdCodeResolver;
+        this.entityCacheInvalidator = entityCacheInvalidator;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        int exitCode = 0;
+        try {
+            List<String> targetDongs = dongs == null || dongs.stream().allMatch(String::isBlank) ? seoulDongs() : dongs;
+            int workers = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors());
+            BulkDataGenerator.Options options = new BulkDataGenerator.Options(members, targetDongs, seed, dongSkew,
+                    buildingsPerDong, measurementsMax, noisePoints, reportsMax, chunkSize, batchSize, workers);
+
+            BulkDataGenerator.Result result = bulkDataGenerator.generate(options);
+            // JDBC 로 넣은 회원은 Hibernate 가 모름 → 이메일 조회 캐시에 남은 '없음' 결과 제거 (실행 중인 인스턴스에도 전파)
+            entityCacheInvalidator.evictRegion(EntityCacheRegions.MEMBER_BY_EMAIL);
+            log.info("합성 데이터 생성 완료 - 사용자 {}명, 진단 응답 {}건, 측정 {}건, 소음 포인트 {}건, 리포트 {}건 / {}초 ({}행/초)",
+                    result.members(), result.responses(), result.measurements(), result.noisePoints(), result.reports(),
+                    result.elapsedMillis() / 1000, result.totalRows() * 1000 / Math.max(1, result.elapsedMillis()));
+        } catch (Exception e) {
+            log.error("합성 데이터 생성 실패", e);
+            exitCode = 1;
+        }
+
+        if (exit) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+
+    private List<String> seoulDongs() {
+        // address.lawd-table.resource 로 읽은 코드표에서 "서울특별시 강남구 역삼동" 처럼 동 단위 현존 행만
+        List<String> names = lawdCodeResolver.findAll(SEOUL_SIDO_CODE, LawdCode.Level.EUPMYEONDONG).stream()
+                .map(LawdCode::name)
+                .distinct()
+                .toList();
+        if (names.isEmpty()) {
+            throw new IllegalStateException("법정동 코드표에 서울 동 단위 행이 없습니다. bulkdata.dongs 를 지정하세요.");
+        }
+        return names;
+    }
+}
@@ -2,11 +2,17 @@ package org.example.seasontonebackend.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.member.domain.Role;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -15,6 +21,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DummyDataController {
 
+    // 동별 시드 한도 (요청 한 번에 만들 수 있는 계정 수 제한)
+    private static final int MAX_SEED_DONGS = 50;
+    private static final int MAX_SEED_PER_DONG = 500;
+
     private final DummyDataService dummyDataService;
     private final Environment environment;
 
@@ -52,6 +62,51 @@ public class DummyDataController {
         }
     }
 
+    // 동별 N명 시드 (부하 테스트 환경의 관리자만 허용)
+    // 계정 이메일은 load-{동 순번}-{순번}@example.com 으로 정해져 있어 응답에 담지 않음
+    @PostMapping("/dummy-data/per-dong")
+    public ResponseEntity<Map<String, Object>> createDummyDataPerDong(@RequestParam List<String> dongs,
+                                                                      @RequestParam(defaultValue = "20") int perDong,
+                                                                      @AuthenticationPrincipal Member member) {
+        if (Arrays.stream(environment.getActiveProfiles()).noneMatch("loadtest"::equals)) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "부하 테스트 환경에서만 더미 데이터 생성이 가능합니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (member == null || member.getRole() != Role.Admin) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "관리자만 사용할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+        if (dongs.isEmpty() || dongs.size() > MAX_SEED_DONGS || perDong < 1 || perDong > MAX_SEED_PER_DONG) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "동은 1~" + MAX_SEED_DONGS + "곳, 동별 인원은 1~" + MAX_SEED_PER_DONG + "명까지 가능합니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        try {
+            List<String> emails = dummyDataService.createDummyUsersPerDong(dongs, perDong);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", emails.size() + "명의 더미 사용자가 생성되었습니다.");
+            response.put("count", emails.size());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("더미 데이터 생성 중 오류 발생", e);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "더미 데이터 생성 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     @DeleteMapping("/dummy-data")
     public ResponseEntity<Map<String, Object>> clearDummyData() {
         // Railway 환경에서만 허용
@@ -112,6 +112,55 @@ public class DummyDataService {
         createReportsForUsers(savedMembers);
     }
 
+    /**
+     * 동마다 perDong 명씩 사용자 생성 (부하 테스트 시드용)
+     * 이메일은 load-{동 순번}-{순번}@example.com, 비밀번호는 password123
+     */
+    @Transactional
+    public List<String> createDummyUsersPerDong(List<String> dongs, int perDong) {
+        log.info("동 {}곳에 {}명씩 더미 사용자를 생성합니다...", dongs.size(), perDong);
+
+        // 모든 사용자가 같은 비밀번호이므로 해시는 한 번만 계산
+        String encodedPassword = passwordEncoder.encode("password123");
+        String[] buildingTypes = {"빌라", "오피스텔"};
+        String[] contractTypes = {"월세", "전세", "반전세"};
+
+        List<Member> members = new ArrayList<>(dongs.size() * perDong);
+        for (int d = 0; d < dongs.size(); d++) {
+            String dong = dongs.get(d);
+            for (int i = 0; i < perDong; i++) {
+                // 동마다 건물 5곳에 나눠 배치 (건물 단위 비교가 가능하도록)
+                String building = dong.replace("동", "") + "빌라" + (i % 5 + 1);
+                members.add(Member.builder()
+                    .name("부하" + (d + 1) + "-" + (i + 1))
+                    .email("load-" + (d + 1) + "-" + (i + 1) + "@example.com")
+                    .password(encodedPassword)
+                    .role(Role.User)
+                    .building(building)
+                    .detailAddress("서울시 " + dong + " " + (i + 1) + "호")
+                    .buildingType(buildingTypes[i % buildingTypes.length])
+                    .contractType(contractTypes[random.nextInt(contractTypes.length)])
+                    .security((long) (random.nextInt(3000) + 500) * 10000)
+                    .rent((random.nextInt(50) + 40) * 10000)
+                    .maintenanceFee((random.nextInt(10) + 5) * 10000)
+                    .gpsVerified(true)
+                    .contractVerified(random.nextBoolean())
+                    .dong(dong)
+                    .onboardingCompleted(true)
+                    .diagnosisCompleted(true)
+                    .build());
+            }
+        }
+
+        List<Member> savedMembers = memberRepository.saveAll(members);
+        createSmartMeasurementsForUsers(savedMembers);
+        createDiagnosisResponsesForUsers(savedMembers);
+        createReportsForUsers(savedMembers);
+
+        log.info("{}명의 부하 테스트 사용자가 생성되었습니다.", savedMembers.size());
+        return savedMembers.stream().map(Member::getEmail).toList();
+    }
+
     private void createSmartMeasurementsForUsers(List<Member> members) {
         List<SmartMeasurement> measurements = new ArrayList<>();
         
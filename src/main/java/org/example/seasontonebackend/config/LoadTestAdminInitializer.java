@@ -0,0 +1,46 @@
+package org.example.seasontonebackend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.member.domain.Role;
+import org.example.seasontonebackend.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트 시드용 관리자 계정 생성 (loadtest 프로필에서 loadtest.admin.email 을 지정했을 때만 동작)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "loadtest.admin.email")
+@RequiredArgsConstructor
+public class LoadTestAdminInitializer implements ApplicationRunner {
+
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${loadtest.admin.email}")
+    private String email;
+
+    @Value("${loadtest.admin.password}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (memberRepository.findByEmail(email).isPresent()) {
+            return;
+        }
+        memberRepository.save(Member.builder()
+                .name("부하테스트관리자")
+                .email(email)
+                .password(passwordEncoder.encode(password))
+                .role(Role.Admin)
+                .build());
+        log.info("부하 테스트 관리자 계정 생성 - {}", email);
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.seasontonebackend.diagnosis.api;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.seasontonebackend.member.domain.Member;
@@ -19,6 +21,7 @@ import java.util.Map;
 public class DiagnosisController {
 
     private final DiagnosisService diagnosisService;
+    private final MeterRegistry meterRegistry;
 
     @GetMapping("/questions")
     public ResponseEntity<Map<String, Object>> getQuestions() {
@@ -43,8 +46,11 @@ public class DiagnosisController {
     public ResponseEntity<Map<String, Object>> submitResponses(
             @RequestBody DiagnosisRequestDTO request,
             @AuthenticationPrincipal Member member) {
+        // 커밋까지 포함한 제출 시간
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             DiagnosisSubmissionResponseDTO data = diagnosisService.submitResponses(member, request);
+            sample.stop(meterRegistry.timer("diagnosis.submit", "outcome", "success"));
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -52,6 +58,7 @@ public class DiagnosisController {
             response.put("message", "진단 응답이 저장되었습니다.");
             return ResponseEntity.ok(response);
         } catch (Exception e) {
+            sample.stop(meterRegistry.timer("diagnosis.submit", "outcome", "error"));
             log.error("진단 응답 제출 실패 - 사용자: {}, 오류: {}", member.getEmail(), e.getMessage());
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
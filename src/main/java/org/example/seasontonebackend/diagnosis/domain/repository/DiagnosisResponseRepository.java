@@ -12,6 +12,10 @@ import java.util.List;
 public interface DiagnosisResponseRepository extends JpaRepository<DiagnosisResponse, Long> {
     List<DiagnosisResponse> findByUserId(Long userId);
 
+    // 같은 동 회원들의 응답 (회원별로 나눠 조회하지 않도록 한 번에)
+    @Query("SELECT dr FROM DiagnosisResponse dr WHERE dr.userId IN (SELECT m.id FROM Member m WHERE m.dong = :dong)")
+    List<DiagnosisResponse> findByMemberDong(@Param("dong") String dong);
+
     @Modifying
     @Query("DELETE FROM DiagnosisResponse dr WHERE dr.userId = :userId")
     void deleteByUserId(@Param("userId") Long userId);
@@ -2,7 +2,10 @@ package org.example.seasontonebackend.location.api;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.seasontonebackend.location.application.BatchGeocodingService;
 import org.example.seasontonebackend.location.application.LocationService;
+import org.example.seasontonebackend.location.dto.BatchGeocodeRequest;
 import org.example.seasontonebackend.location.dto.LocationVerificationRequest;
 import org.example.seasontonebackend.location.dto.LocationVerificationResponse;
 import org.example.seasontonebackend.location.dto.AddressPreviewResponse;
@@ -10,14 +13,20 @@ import org.example.seasontonebackend.location.exception.LocationException;
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.member.repository.MemberRepository;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 위치 인증 API 컨트롤러
@@ -35,6 +44,8 @@ public class LocationController {
 
     private final LocationService locationService;
     private final MemberRepository memberRepository;
+    private final BatchGeocodingService batchGeocodingService;
+    private final ObjectMapper objectMapper;
 
     /**
      * GPS 좌표를 이용한 위치 인증
@@ -42,15 +53,15 @@ public class LocationController {
      */
     @PostMapping("/verify")
     public ResponseEntity<Map<String, Object>> verifyLocation(@RequestBody LocationVerificationRequest request) {
-        log.info("🔥🔥🔥 LocationController.verifyLocation 호출됨!");
-        log.info("📥 받은 데이터: {}", request);
+        log.debug("🔥🔥🔥 LocationController.verifyLocation 호출됨!");
+        log.debug("📥 받은 데이터: {}", request);
 
         try {
             // JWT 토큰에서 사용자 ID 추출
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             String userId = authentication.getName(); // 또는 토큰에서 추출하는 다른 방법
 
-            log.info("🔐 토큰에서 추출된 사용자 ID: {}", userId);
+            log.debug("🔐 토큰에서 추출된 사용자 ID: {}", userId);
 
             // 기본 유효성 검증
             if (userId == null || userId.trim().isEmpty()) {
@@ -182,6 +193,43 @@ public class LocationController {
         }
     }
 
+    /**
+     * 주소/좌표 일괄 법정동 조회
+     * 결과는 처리되는 순서대로 한 줄에 하나씩 NDJSON 으로 스트리밍 (입력 순서와 다를 수 있음)
+     */
+    @PostMapping(value = "/batch", produces = "application/x-ndjson")
+    public ResponseEntity<?> resolveBatch(@RequestBody BatchGeocodeRequest request) {
+        try {
+            batchGeocodingService.validate(request);
+        } catch (LocationException e) {
+            Map<String, Object> errorResult = new HashMap<>();
+            errorResult.put("success", false);
+            errorResult.put("data", null);
+            errorResult.put("message", e.getMessage());
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResult);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            // 소켓 쓰기 중 블로킹되므로 synchronized 대신 ReentrantLock (가상 스레드 고정 방지)
+            ReentrantLock writeLock = new ReentrantLock();
+            batchGeocodingService.resolve(request, result -> {
+                try {
+                    byte[] line = (objectMapper.writeValueAsString(result) + "\n").getBytes(StandardCharsets.UTF_8);
+                    writeLock.lock();
+                    try {
+                        outputStream.write(line);
+                        outputStream.flush();
+                    } finally {
+                        writeLock.unlock();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+
     /**
      * API 상태 확인
      */
@@ -0,0 +1,216 @@
+package org.example.seasontonebackend.location.application;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.address.LawdCode;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.example.seasontonebackend.location.dto.BatchGeocodeRequest;
+import org.example.seasontonebackend.location.dto.BatchGeocodeResult;
+import org.example.seasontonebackend.location.exception.LocationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 주소/좌표 일괄 법정동 조회 서비스
+ * 입력을 중복 제거한 뒤 로컬 인덱스(법정동코드 테이블, 경계 폴리곤)와 역지오코딩 캐시로 먼저 처리하고,
+ * 남은 것만 제한된 병렬도로 VWorld 에 보낸다. 결과는 처리되는 대로 sink 로 전달된다.
+ */
+@Slf4j
+@Service
+public class BatchGeocodingService {
+
+    private final GeocodingService geocodingService;
+    private final LawdCodeResolver lawdCodeResolver;
+    private final DongBoundaryIndex dongBoundaryIndex;
+    private final ReverseGeocodeCache reverseGeocodeCache;
+    private final int maxItems;
+
+    // VWorld 호출 전용 (모든 일괄 요청이 공유하므로 동시 호출 수가 parallelism 을 넘지 않음)
+    private final ExecutorService remoteExecutor;
+
+    public BatchGeocodingService(GeocodingService geocodingService,
+                                 LawdCodeResolver lawdCodeResolver,
+                                 DongBoundaryIndex dongBoundaryIndex,
+                                 ReverseGeocodeCache reverseGeocodeCache,
+                                 @Value("${location.batch.max-items:5000}") int maxItems,
+                                 @Value("${location.batch.parallelism:4}") int parallelism,
+                                 BlockingExecutors blockingExecutors) {
+        this.geocodingService = geocodingService;
+        this.lawdCodeResolver = lawdCodeResolver;
+        this.dongBoundaryIndex = dongBoundaryIndex;
+        this.reverseGeocodeCache = reverseGeocodeCache;
+        this.maxItems = maxItems;
+        this.remoteExecutor = blockingExecutors.newBoundedExecutor(
+                "geocode-batch", parallelism, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 요청 크기 검증 (스트리밍 시작 전에 호출)
+     */
+    public void validate(BatchGeocodeRequest request) {
+        int addresses = request.getAddresses() != null ? request.getAddresses().size() : 0;
+        int coordinates = request.getCoordinates() != null ? request.getCoordinates().size() : 0;
+        if (addresses + coordinates == 0) {
+            throw new LocationException("주소 또는 좌표를 하나 이상 입력해야 합니다.");
+        }
+        if (addresses + coordinates > maxItems) {
+            throw new LocationException("한 번에 최대 " + maxItems + "건까지 조회할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 일괄 조회. 중복 입력은 한 번만 처리하며 sink 는 여러 스레드에서 호출될 수 있다.
+     */
+    public void resolve(BatchGeocodeRequest request, Consumer<BatchGeocodeResult> sink) {
+        Set<String> addresses = new LinkedHashSet<>();
+        if (request.getAddresses() != null) {
+            for (String address : request.getAddresses()) {
+                if (address != null && !address.isBlank()) {
+                    addresses.add(address.trim());
+                }
+            }
+        }
+
+        // 같은 역지오코딩 격자에 속한 좌표는 같은 결과이므로 한 번만 조회
+        Map<String, BatchGeocodeRequest.Coordinate> coordinates = new LinkedHashMap<>();
+        if (request.getCoordinates() != null) {
+            for (BatchGeocodeRequest.Coordinate coordinate : request.getCoordinates()) {
+                if (coordinate != null && coordinate.getLongitude() != null && coordinate.getLatitude() != null) {
+                    coordinates.putIfAbsent(
+                            reverseGeocodeCache.cellKey(coordinate.getLongitude(), coordinate.getLatitude()), coordinate);
+                }
+            }
+        }
+
+        AtomicInteger remoteCalls = new AtomicInteger();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        for (String address : addresses) {
+            Optional<BatchGeocodeResult> local = resolveAddressLocally(address);
+            if (local.isPresent()) {
+                sink.accept(local.get());
+            } else {
+                remoteCalls.incrementAndGet();
+                pending.add(CompletableFuture.runAsync(() -> sink.accept(resolveAddressRemotely(address)), remoteExecutor));
+            }
+        }
+
+        for (Map.Entry<String, BatchGeocodeRequest.Coordinate> entry : coordinates.entrySet()) {
+            double longitude = entry.getValue().getLongitude();
+            double latitude = entry.getValue().getLatitude();
+            Optional<BatchGeocodeResult> local = resolveCoordinateLocally(entry.getKey(), longitude, latitude);
+            if (local.isPresent()) {
+                sink.accept(local.get());
+            } else {
+                remoteCalls.incrementAndGet();
+                pending.add(CompletableFuture.runAsync(
+                        () -> sink.accept(resolveCoordinateRemotely(longitude, latitude)), remoteExecutor));
+            }
+        }
+
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        log.info("일괄 지오코딩 완료 - 주소 {}건, 좌표 {}건 (VWorld 호출 {}건)",
+                addresses.size(), coordinates.size(), remoteCalls.get());
+    }
+
+    private Optional<BatchGeocodeResult> resolveAddressLocally(String address) {
+        return lawdCodeResolver.resolve(address)
+                .filter(lawdCode -> lawdCode.level() != LawdCode.Level.SIDO)
+                .map(lawdCode -> BatchGeocodeResult.builder()
+                        .input(address)
+                        .resolved(true)
+                        .lawdCd(lawdCode.lawdCd())
+                        .address(lawdCode.fullName())
+                        .source("index")
+                        .build());
+    }
+
+    private BatchGeocodeResult resolveAddressRemotely(String address) {
+        try {
+            Optional<String> lawdCd = geocodingService.searchLawdCodeRemotely(address);
+            if (lawdCd.isEmpty()) {
+                return unresolved(BatchGeocodeResult.builder().input(address), "주소에 해당하는 법정동을 찾을 수 없습니다.");
+            }
+            return BatchGeocodeResult.builder()
+                    .input(address)
+                    .resolved(true)
+                    .lawdCd(lawdCd.get())
+                    .address(lawdCodeResolver.findByCode(lawdCd.get()).map(LawdCode::fullName).orElse(null))
+                    .source("vworld")
+                    .build();
+        } catch (Exception e) {
+            return unresolved(BatchGeocodeResult.builder().input(address), e.getMessage());
+        }
+    }
+
+    private Optional<BatchGeocodeResult> resolveCoordinateLocally(String cellKey, double longitude, double latitude) {
+        Optional<DongBoundaryIndex.DongRegion> region = dongBoundaryIndex.locate(longitude, latitude);
+        if (region.isPresent()) {
+            GeocodingService.AddressComponents components = region.get().toAddressComponents();
+            return Optional.of(coordinateResult(longitude, latitude, components, components.getFullAddress(),
+                    region.get().lawdCd(), "index"));
+        }
+        return reverseGeocodeCache.get(cellKey)
+                .map(cached -> coordinateResult(longitude, latitude, cached.getComponents(), cached.getAddress(),
+                        lawdCdOf(cached.getComponents()), "cache"));
+    }
+
+    private BatchGeocodeResult resolveCoordinateRemotely(double longitude, double latitude) {
+        try {
+            ReverseGeocodeResult result = geocodingService.reverseGeocode(longitude, latitude);
+            if (result == null || result.getAddress() == null) {
+                return unresolved(BatchGeocodeResult.builder().longitude(longitude).latitude(latitude),
+                        "GPS 좌표에서 주소를 찾을 수 없습니다.");
+            }
+            return coordinateResult(longitude, latitude, result.getComponents(), result.getAddress(),
+                    lawdCdOf(result.getComponents()), "vworld");
+        } catch (Exception e) {
+            return unresolved(BatchGeocodeResult.builder().longitude(longitude).latitude(latitude), e.getMessage());
+        }
+    }
+
+    private BatchGeocodeResult coordinateResult(double longitude, double latitude,
+                                                GeocodingService.AddressComponents components,
+                                                String address, String lawdCd, String source) {
+        return BatchGeocodeResult.builder()
+                .longitude(longitude)
+                .latitude(latitude)
+                .resolved(true)
+                .lawdCd(lawdCd)
+                .address(address)
+                .si(components.getSi())
+                .gu(components.getGu())
+                .dong(components.getDong())
+                .source(source)
+                .build();
+    }
+
+    private String lawdCdOf(GeocodingService.AddressComponents components) {
+        return lawdCodeResolver.resolve(components.getFormattedAddress())
+                .filter(lawdCode -> lawdCode.level() != LawdCode.Level.SIDO)
+                .map(LawdCode::lawdCd)
+                .orElse(null);
+    }
+
+    private BatchGeocodeResult unresolved(BatchGeocodeResult.BatchGeocodeResultBuilder builder, String message) {
+        return builder.resolved(false).message(message).build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        remoteExecutor.shutdownNow();
+    }
+}
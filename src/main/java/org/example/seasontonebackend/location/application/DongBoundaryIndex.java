@@ -0,0 +1,281 @@
+package org.example.seasontonebackend.location.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 법정동 경계 폴리곤 기반 오프라인 역지오코딩 인덱스
+ * GeoJSON(FeatureCollection, Polygon/MultiPolygon, WGS84 경위도) 리소스를 읽어 균일 격자 인덱스를 만들고,
+ * 좌표가 속한 법정동을 네트워크 호출 없이 point-in-polygon 으로 찾는다.
+ * 리소스가 없으면 비활성화되고 호출 측은 VWorld 로 대체한다.
+ */
+@Slf4j
+@Component
+public class DongBoundaryIndex {
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${location.dong-index.resource:classpath:geo/dong-boundaries.geojson}")
+    private String resourceLocation;
+
+    @Value("${location.dong-index.cell-size-degrees:0.01}")
+    private double cellSize;
+
+    @Value("${location.dong-index.code-property:code}")
+    private String codeProperty;
+
+    @Value("${location.dong-index.sido-property:sido}")
+    private String sidoProperty;
+
+    @Value("${location.dong-index.sigungu-property:sigungu}")
+    private String sigunguProperty;
+
+    @Value("${location.dong-index.dong-property:dong}")
+    private String dongProperty;
+
+    // 인덱스 구성 후에는 읽기 전용
+    private List<Boundary> boundaries = List.of();
+    private int[][] grid = new int[0][];
+    private double minLon;
+    private double minLat;
+    private int columns;
+    private int rows;
+
+    public DongBoundaryIndex(ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void load() {
+        Resource resource = resourceLoader.getResource(resourceLocation);
+        if (!resource.exists()) {
+            log.info("법정동 경계 리소스가 없어 오프라인 인덱스를 사용하지 않습니다: {}", resourceLocation);
+            return;
+        }
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            JsonNode root = objectMapper.readTree(inputStream);
+            List<Boundary> loaded = new ArrayList<>();
+            for (JsonNode feature : root.path("features")) {
+                Boundary boundary = toBoundary(feature);
+                if (boundary != null) {
+                    loaded.add(boundary);
+                }
+            }
+            buildGrid(loaded);
+            log.info("법정동 경계 인덱스 로드 완료 - {}개 폴리곤, 격자 {}x{}", loaded.size(), columns, rows);
+        } catch (IOException e) {
+            log.error("법정동 경계 리소스 로드 실패: {} - {}", resourceLocation, e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return !boundaries.isEmpty();
+    }
+
+    /**
+     * 좌표가 속한 법정동 조회 (경계 데이터가 없거나 범위 밖이면 empty)
+     */
+    public Optional<DongRegion> locate(double longitude, double latitude) {
+        if (boundaries.isEmpty()) {
+            return Optional.empty();
+        }
+        int column = (int) Math.floor((longitude - minLon) / cellSize);
+        int row = (int) Math.floor((latitude - minLat) / cellSize);
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            return Optional.empty();
+        }
+
+        int[] candidates = grid[row * columns + column];
+        if (candidates == null) {
+            return Optional.empty();
+        }
+        for (int candidate : candidates) {
+            Boundary boundary = boundaries.get(candidate);
+            if (boundary.contains(longitude, latitude)) {
+                return Optional.of(boundary.region);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Boundary toBoundary(JsonNode feature) {
+        JsonNode properties = feature.path("properties");
+        JsonNode geometry = feature.path("geometry");
+        String type = geometry.path("type").asText();
+
+        List<List<double[]>> polygons = new ArrayList<>();
+        if ("Polygon".equals(type)) {
+            polygons.add(toRings(geometry.path("coordinates")));
+        } else if ("MultiPolygon".equals(type)) {
+            for (JsonNode polygon : geometry.path("coordinates")) {
+                polygons.add(toRings(polygon));
+            }
+        } else {
+            return null;
+        }
+
+        DongRegion region = new DongRegion(
+                properties.path(codeProperty).asText(""),
+                properties.path(sidoProperty).asText(""),
+                properties.path(sigunguProperty).asText(""),
+                properties.path(dongProperty).asText(""));
+        return new Boundary(region, polygons);
+    }
+
+    /**
+     * GeoJSON 링 목록을 [x0, y0, x1, y1, ...] 평탄화 배열로 변환 (첫 링은 외곽, 나머지는 구멍)
+     */
+    private List<double[]> toRings(JsonNode polygon) {
+        List<double[]> rings = new ArrayList<>();
+        for (JsonNode ring : polygon) {
+            double[] coordinates = new double[ring.size() * 2];
+            int i = 0;
+            for (JsonNode point : ring) {
+                coordinates[i++] = point.get(0).asDouble();
+                coordinates[i++] = point.get(1).asDouble();
+            }
+            rings.add(coordinates);
+        }
+        return rings;
+    }
+
+    private void buildGrid(List<Boundary> loaded) {
+        if (loaded.isEmpty()) {
+            return;
+        }
+        double maxLon = -Double.MAX_VALUE;
+        double maxLat = -Double.MAX_VALUE;
+        minLon = Double.MAX_VALUE;
+        minLat = Double.MAX_VALUE;
+        for (Boundary boundary : loaded) {
+            minLon = Math.min(minLon, boundary.minX);
+            minLat = Math.min(minLat, boundary.minY);
+            maxLon = Math.max(maxLon, boundary.maxX);
+            maxLat = Math.max(maxLat, boundary.maxY);
+        }
+        columns = (int) Math.floor((maxLon - minLon) / cellSize) + 1;
+        rows = (int) Math.floor((maxLat - minLat) / cellSize) + 1;
+
+        // 셀마다 bbox 가 겹치는 폴리곤 번호를 모은 뒤 int[] 로 압축
+        List<List<Integer>> cells = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            cells.add(null);
+        }
+        for (int index = 0; index < loaded.size(); index++) {
+            Boundary boundary = loaded.get(index);
+            int fromColumn = (int) Math.floor((boundary.minX - minLon) / cellSize);
+            int toColumn = (int) Math.floor((boundary.maxX - minLon) / cellSize);
+            int fromRow = (int) Math.floor((boundary.minY - minLat) / cellSize);
+            int toRow = (int) Math.floor((boundary.maxY - minLat) / cellSize);
+            for (int row = fromRow; row <= toRow; row++) {
+                for (int column = fromColumn; column <= toColumn; column++) {
+                    int cell = row * columns + column;
+                    if (cells.get(cell) == null) {
+                        cells.set(cell, new ArrayList<>(4));
+                    }
+                    cells.get(cell).add(index);
+                }
+            }
+        }
+
+        int[][] compacted = new int[cells.size()][];
+        for (int i = 0; i < cells.size(); i++) {
+            List<Integer> cell = cells.get(i);
+            if (cell != null) {
+                compacted[i] = cell.stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+        this.grid = compacted;
+        this.boundaries = List.copyOf(loaded);
+    }
+
+    /**
+     * 인덱스가 찾은 법정동 (10자리 법정동코드와 시/도, 시/군/구, 읍/면/동 이름)
+     */
+    public record DongRegion(String code, String sido, String sigungu, String dong) {
+
+        public String lawdCd() {
+            return code.length() >= 5 ? code.substring(0, 5) : code;
+        }
+
+        public GeocodingService.AddressComponents toAddressComponents() {
+            String formatted = String.join(" ", sido, sigungu, dong).trim();
+            return new GeocodingService.AddressComponents(sido, sigungu, dong, formatted);
+        }
+    }
+
+    private static final class Boundary {
+        private final DongRegion region;
+        private final List<List<double[]>> polygons;
+        private double minX = Double.MAX_VALUE;
+        private double minY = Double.MAX_VALUE;
+        private double maxX = -Double.MAX_VALUE;
+        private double maxY = -Double.MAX_VALUE;
+
+        private Boundary(DongRegion region, List<List<double[]>> polygons) {
+            this.region = region;
+            this.polygons = polygons;
+            for (List<double[]> rings : polygons) {
+                double[] outer = rings.isEmpty() ? new double[0] : rings.get(0);
+                for (int i = 0; i + 1 < outer.length; i += 2) {
+                    minX = Math.min(minX, outer[i]);
+                    maxX = Math.max(maxX, outer[i]);
+                    minY = Math.min(minY, outer[i + 1]);
+                    maxY = Math.max(maxY, outer[i + 1]);
+                }
+            }
+        }
+
+        private boolean contains(double x, double y) {
+            if (x < minX || x > maxX || y < minY || y > maxY) {
+                return false;
+            }
+            for (List<double[]> rings : polygons) {
+                if (rings.isEmpty() || !inRing(rings.get(0), x, y)) {
+                    continue;
+                }
+                boolean inHole = false;
+                for (int i = 1; i < rings.size() && !inHole; i++) {
+                    inHole = inRing(rings.get(i), x, y);
+                }
+                if (!inHole) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 반직선 교차(ray casting) 판정
+         */
+        private static boolean inRing(double[] ring, double x, double y) {
+            boolean inside = false;
+            int points = ring.length / 2;
+            for (int i = 0, j = points - 1; i < points; j = i++) {
+                double xi = ring[i * 2];
+                double yi = ring[i * 2 + 1];
+                double xj = ring[j * 2];
+                double yj = ring[j * 2 + 1];
+                if ((yi > y) != (yj > y) && x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package org.example.seasontonebackend.location.application;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.address.LawdCode;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.example.seasontonebackend.common.resilience.ResilientUpstream;
+import org.example.seasontonebackend.common.resilience.StaleWhileRevalidateCache;
+import org.example.seasontonebackend.common.resilience.UpstreamRegistry;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -18,7 +25,13 @@ import java.util.Optional;
 @Service
 public class GeocodingService {
 
-    private final RestTemplate restTemplate;
+    private final ResilientUpstream vworldUpstream;
+    private final StaleWhileRevalidateCache<String, String> lawdCodeCache;
+    private final ReverseGeocodeCache reverseGeocodeCache;
+    private final LawdCodeResolver lawdCodeResolver;
+
+    // 요청 단위 역지오코딩 메모 (같은 요청 내 중복 호출 제거)
+    private static final String REQUEST_MEMO_ATTRIBUTE = GeocodingService.class.getName() + ".REVERSE_GEOCODE_MEMO";
 
     @Value("${vworld.api.key}")
     private String apiKey;
@@ -29,51 +42,12 @@ public class GeocodingService {
     @Value("${vworld.api.enabled:true}")
     private boolean apiEnabled;
 
-    // 주소 -> 법정동 코드 변환을 위한 캐시/폴백 맵 (확장된 매핑)
-    private static final Map<String, String> LAWD_CODE_MAP = Map.ofEntries(
-        // 서울시
-        Map.entry("강남구", "11680"), Map.entry("강동구", "11740"), Map.entry("강북구", "11305"),
-        Map.entry("강서구", "11500"), Map.entry("관악구", "11620"), Map.entry("광진구", "11215"),
-        Map.entry("구로구", "11530"), Map.entry("금천구", "11545"), Map.entry("노원구", "11350"),
-        Map.entry("도봉구", "11320"), Map.entry("동대문구", "11230"), Map.entry("동작구", "11590"),
-        Map.entry("마포구", "11440"), Map.entry("서대문구", "11410"), Map.entry("서초구", "11650"),
-        Map.entry("성동구", "11200"), Map.entry("성북구", "11290"), Map.entry("송파구", "11710"),
-        Map.entry("양천구", "11470"), Map.entry("영등포구", "11560"), Map.entry("용산구", "11170"),
-        Map.entry("은평구", "11380"), Map.entry("종로구", "11110"), Map.entry("서울중구", "11140"),
-        Map.entry("중랑구", "11260"),
-        
-        // 울산광역시
-        Map.entry("울주군", "31170"), Map.entry("울산중구", "31110"), Map.entry("울산남구", "31120"),
-        Map.entry("울산동구", "31130"), Map.entry("울산북구", "31140"),
-        
-        // 부산광역시
-        Map.entry("부산진구", "26230"), Map.entry("해운대구", "26350"), Map.entry("사상구", "26530"),
-        Map.entry("금정구", "26410"), Map.entry("연제구", "26470"), Map.entry("수영구", "26500"),
-        Map.entry("사하구", "26440"), Map.entry("동래구", "26260"), Map.entry("영도구", "26200"),
-        Map.entry("부산강서구", "26440"), Map.entry("부산남구", "26200"), Map.entry("부산북구", "26290"),
-        Map.entry("부산중구", "26110"), Map.entry("부산서구", "26200"), Map.entry("부산동구", "26140"),
-        
-        // 대구광역시
-        Map.entry("달서구", "27290"), Map.entry("달성군", "27710"), Map.entry("수성구", "27260"),
-        Map.entry("대구북구", "27200"), Map.entry("대구서구", "27200"), Map.entry("대구남구", "27200"),
-        Map.entry("대구동구", "27140"), Map.entry("대구중구", "27110"),
-        
-        // 인천광역시
-        Map.entry("연수구", "28185"), Map.entry("계양구", "28140"), Map.entry("미추홀구", "28177"),
-        Map.entry("인천남동구", "28140"), Map.entry("부평구", "28140"), Map.entry("인천서구", "28140"),
-        Map.entry("인천동구", "28110"), Map.entry("인천중구", "28110"),
-        
-        // 광주광역시
-        Map.entry("광산구", "29200"), Map.entry("광주서구", "29170"), Map.entry("광주북구", "29155"),
-        Map.entry("광주남구", "29140"), Map.entry("광주동구", "29110"),
-        
-        // 대전광역시
-        Map.entry("유성구", "30200"), Map.entry("대덕구", "30180"), Map.entry("대전서구", "30170"),
-        Map.entry("대전중구", "30110"), Map.entry("대전동구", "30140")
-    );
-
-    public GeocodingService() {
-        this.restTemplate = new RestTemplate();
+    public GeocodingService(UpstreamRegistry upstreamRegistry, ReverseGeocodeCache reverseGeocodeCache,
+                            LawdCodeResolver lawdCodeResolver) {
+        this.reverseGeocodeCache = reverseGeocodeCache;
+        this.lawdCodeResolver = lawdCodeResolver;
+        this.vworldUpstream = upstreamRegistry.get(UpstreamRegistry.VWORLD);
+        this.lawdCodeCache = upstreamRegistry.createCache("vworld-search", UpstreamRegistry.VWORLD);
     }
 
     @jakarta.annotation.PostConstruct
@@ -89,7 +63,7 @@ public class GeocodingService {
      * 주소 문자열로부터 법정동 코드를 조회. VWorld API를 우선 사용하고, 실패 시 내부 맵에서 찾습니다.
      */
     public String getLawdCodeFromAddress(String address) {
-        log.info("주소로부터 법정동 코드 조회 시작: {}", address);
+        log.debug("주소로부터 법정동 코드 조회 시작: {}", address);
         
         if (!apiEnabled) {
             log.warn("VWorld API is disabled. Falling back to local map.");
@@ -97,47 +71,9 @@ public class GeocodingService {
         }
 
         try {
-            String url = UriComponentsBuilder.fromHttpUrl(apiUrl)
-                .queryParam("service", "search")
-                .queryParam("request", "search")
-                .queryParam("version", "2.0")
-                .queryParam("crs", "epsg:4326")
-                .queryParam("size", "1")
-                .queryParam("page", "1")
-                .queryParam("query", address)
-                .queryParam("type", "address")
-                .queryParam("category", "road")
-                .queryParam("format", "json")
-                .queryParam("errorFormat", "json")
-                .queryParam("key", apiKey)
-                .toUriString();
-
-            log.info("🌐 VWorld 주소 검색 API 요청 URL: {}", url);
-            String response = restTemplate.getForObject(url, String.class);
-            log.info("📄 VWorld 주소 검색 API 응답: {}", response);
-
-            JSONObject jsonResponse = new JSONObject(response);
-            String status = jsonResponse.getJSONObject("response").getString("status");
-
-            if ("OK".equals(status)) {
-                log.info("✅ VWorld API 응답 상태: OK");
-                JSONArray items = jsonResponse.getJSONObject("response").getJSONObject("result").getJSONObject("items").getJSONArray("item");
-                log.info("📊 검색된 아이템 수: {}", items.length());
-                
-                if (items.length() > 0) {
-                    String lawdCd = items.getJSONObject(0).getJSONObject("address").getString("bcode");
-                    log.info("🏠 첫 번째 결과의 법정동 코드: {}", lawdCd);
-                    
-                    if (lawdCd != null && !lawdCd.isEmpty()) {
-                        String resultCode = lawdCd.substring(0, 5); // 10자리 코드 중 앞 5자리(구 코드)만 사용
-                        log.info("✅ VWorld API에서 법정동 코드 조회 성공: {} -> {}", lawdCd, resultCode);
-                        return resultCode;
-                    }
-                } else {
-                    log.warn("⚠️ VWorld API에서 검색 결과가 없습니다.");
-                }
-            } else {
-                log.warn("⚠️ VWorld API 응답 상태가 OK가 아닙니다: {}", status);
+            String lawdCd = lawdCodeCache.get(address, () -> vworldUpstream.call(() -> searchLawdCode(address)));
+            if (lawdCd != null) {
+                return lawdCd;
             }
             log.warn("🔄 VWorld API에서 주소를 찾지 못했습니다. 로컬 맵에서 다시 시도합니다.");
             return findLawdCodeFromMap(address);
@@ -147,20 +83,132 @@ public class GeocodingService {
         }
     }
 
+    /**
+     * VWorld(검색 캐시 포함)로만 법정동 코드 조회. API 비활성화/실패/검색 결과 없음이면 empty
+     */
+    public Optional<String> searchLawdCodeRemotely(String address) {
+        if (!apiEnabled) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(lawdCodeCache.get(address, () -> vworldUpstream.call(() -> searchLawdCode(address))));
+        } catch (Exception e) {
+            log.warn("VWorld 주소 검색 실패: {} - {}", address, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * VWorld 주소 검색 API 로 법정동 코드(앞 5자리) 조회. 결과가 없으면 null
+     */
+    private String searchLawdCode(String address) {
+        String url = UriComponentsBuilder.fromHttpUrl(apiUrl)
+            .queryParam("service", "search")
+            .queryParam("request", "search")
+            .queryParam("version", "2.0")
+            .queryParam("crs", "epsg:4326")
+            .queryParam("size", "1")
+            .queryParam("page", "1")
+            .queryParam("query", address)
+            .queryParam("type", "address")
+            .queryParam("category", "road")
+            .queryParam("format", "json")
+            .queryParam("errorFormat", "json")
+            .queryParam("key", apiKey)
+            .toUriString();
+
+        // URL 에 API 키가 포함되므로 검색어만 기록
+        log.debug("VWorld 주소 검색 API 요청 - 검색어: {}", address);
+        String response = vworldUpstream.getRestTemplate().getForObject(url, String.class);
+        log.trace("VWorld 주소 검색 API 응답: {}", response);
+
+        JSONObject jsonResponse = new JSONObject(response);
+        String status = jsonResponse.getJSONObject("response").getString("status");
+
+        if ("OK".equals(status)) {
+            log.debug("✅ VWorld API 응답 상태: OK");
+            JSONArray items = jsonResponse.getJSONObject("response").getJSONObject("result").getJSONObject("items").getJSONArray("item");
+            log.debug("📊 검색된 아이템 수: {}", items.length());
+            
+            if (items.length() > 0) {
+                String lawdCd = items.getJSONObject(0).getJSONObject("address").getString("bcode");
+                log.debug("🏠 첫 번째 결과의 법정동 코드: {}", lawdCd);
+                
+                if (lawdCd != null && !lawdCd.isEmpty()) {
+                    String resultCode = lawdCd.substring(0, 5); // 10자리 코드 중 앞 5자리(구 코드)만 사용
+                    log.debug("✅ VWorld API에서 법정동 코드 조회 성공: {} -> {}", lawdCd, resultCode);
+                    return resultCode;
+                }
+            } else {
+                log.warn("⚠️ VWorld API에서 검색 결과가 없습니다.");
+            }
+        } else {
+            log.warn("⚠️ VWorld API 응답 상태가 OK가 아닙니다: {}", status);
+        }
+        return null;
+    }
+
+    /**
+     * 로컬 법정동코드 인덱스에서 시/군/구 코드 조회 (VWorld 비활성화/실패 시 폴백)
+     */
     private String findLawdCodeFromMap(String address) {
-        return LAWD_CODE_MAP.entrySet().stream()
-            .filter(entry -> address.contains(entry.getKey()))
-            .map(Map.Entry::getValue)
-            .findFirst()
-            .orElse("11410"); // 기본값: 마포구
+        return lawdCodeResolver.resolve(address)
+            .filter(lawdCode -> lawdCode.level() != LawdCode.Level.SIDO)
+            .map(LawdCode::lawdCd)
+            .orElse("11410"); // 기본값: 서대문구
     }
 
     /**
      * GPS 좌표를 주소로 변환
      */
     public String getAddressFromCoordinates(double longitude, double latitude) {
-        log.info("=== VWorld API 호출 시작 ===");
-        log.info("입력 좌표 - 경도: {}, 위도: {}", longitude, latitude);
+        ReverseGeocodeResult result = reverseGeocode(longitude, latitude);
+        return result != null ? result.getAddress() : null;
+    }
+
+    /**
+     * GPS 좌표 역지오코딩 (요청 내 메모 → 격자 캐시 → VWorld 순으로 조회)
+     * 같은 요청 안에서 같은 좌표를 다시 조회해도 VWorld 는 한 번만 호출된다. 실패 시 null
+     */
+    public ReverseGeocodeResult reverseGeocode(double longitude, double latitude) {
+        String cellKey = reverseGeocodeCache.cellKey(longitude, latitude);
+
+        Map<String, Optional<ReverseGeocodeResult>> memo = requestMemo();
+        if (memo != null && memo.containsKey(cellKey)) {
+            return memo.get(cellKey).orElse(null);
+        }
+
+        ReverseGeocodeResult result = reverseGeocodeCache.get(cellKey).orElse(null);
+        if (result == null) {
+            result = requestReverseGeocode(longitude, latitude);
+            if (result != null) {
+                reverseGeocodeCache.put(cellKey, result);
+            }
+        }
+
+        if (memo != null) {
+            memo.put(cellKey, Optional.ofNullable(result));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Optional<ReverseGeocodeResult>> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<String, Optional<ReverseGeocodeResult>>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, Optional<ReverseGeocodeResult>>) memo;
+    }
+
+    private ReverseGeocodeResult requestReverseGeocode(double longitude, double latitude) {
+        log.debug("=== VWorld API 호출 시작 ===");
+        log.debug("입력 좌표 - 경도: {}, 위도: {}", longitude, latitude);
 
         try {
             // 프록시 URL인 경우 coords 파라미터 사용
@@ -175,10 +223,9 @@ public class GeocodingService {
                 );
             }
             
-            log.info("🌐 VWorld API 요청 URL: {}", url);
 
-            String response = restTemplate.getForObject(url, String.class);
-            log.info("VWorld API 응답: {}", response);
+            String response = vworldUpstream.call(() -> vworldUpstream.getRestTemplate().getForObject(url, String.class));
+            log.trace("VWorld API 응답: {}", response);
 
             if (response == null) {
                 log.error("VWorld API 응답이 null입니다.");
@@ -187,12 +234,12 @@ public class GeocodingService {
 
             JSONObject jsonResponse = new JSONObject(response);
 
-            // 프록시 응답 처리
+            // 프록시 응답 처리 (프록시는 대표 주소 하나만 반환)
             if (apiUrl.contains("vworld-proxy")) {
                 if (jsonResponse.has("success") && jsonResponse.getBoolean("success")) {
                     String address = jsonResponse.getString("address");
-                    log.info("✅ 프록시를 통한 주소 변환 성공: {}", address);
-                    return address;
+                    log.debug("✅ 프록시를 통한 주소 변환 성공: {}", address);
+                    return new ReverseGeocodeResult(address, null, parseAddressComponents(address));
                 } else {
                     String error = jsonResponse.optString("error", "주소 변환 실패");
                     log.error("❌ 프록시 오류: {}", error);
@@ -238,10 +285,10 @@ public class GeocodingService {
 
                         String selectedAddress = roadAddress != null ? roadAddress : parcelAddress;
                         if (selectedAddress != null) {
-                            log.info("✅ 주소 변환 성공: {}", selectedAddress);
-                            log.info("도로명주소: {}", roadAddress);
-                            log.info("지번주소: {}", parcelAddress);
-                            return selectedAddress;
+                            log.debug("✅ 주소 변환 성공: {}", selectedAddress);
+                            log.debug("도로명주소: {}", roadAddress);
+                            log.debug("지번주소: {}", parcelAddress);
+                            return new ReverseGeocodeResult(roadAddress, parcelAddress, parseAddressComponents(selectedAddress));
                         }
                     }
                 }
@@ -265,8 +312,8 @@ public class GeocodingService {
      * 주소에서 동네(neighborhood) 정보 추출
      */
     public String getNeighborhoodFromCoordinates(double longitude, double latitude) {
-        String fullAddress = getAddressFromCoordinates(longitude, latitude);
-        return extractNeighborhoodFromAddress(fullAddress);
+        ReverseGeocodeResult result = reverseGeocode(longitude, latitude);
+        return extractNeighborhoodFromAddress(result != null ? result.getAddress() : null);
     }
 
     /**
@@ -277,7 +324,7 @@ public class GeocodingService {
             return "알 수 없는 동";
         }
 
-        log.info("주소 파싱 시작: {}", address);
+        log.debug("주소 파싱 시작: {}", address);
         String[] parts = address.split(" ");
         StringBuilder result = new StringBuilder();
         
@@ -285,7 +332,7 @@ public class GeocodingService {
         for (String part : parts) {
             if (part.endsWith("시") || part.endsWith("도") || part.endsWith("특별시") || part.endsWith("광역시")) {
                 result.append(part).append(" ");
-                log.info("시/도 발견: {}", part);
+                log.debug("시/도 발견: {}", part);
                 break;
             }
         }
@@ -294,7 +341,7 @@ public class GeocodingService {
         for (String part : parts) {
             if (part.endsWith("구") || part.endsWith("군")) {
                 result.append(part).append(" ");
-                log.info("구/군 발견: {}", part);
+                log.debug("구/군 발견: {}", part);
                 break;
             }
         }
@@ -303,13 +350,13 @@ public class GeocodingService {
         for (String part : parts) {
             if (part.endsWith("동") || part.endsWith("면") || part.endsWith("읍")) {
                 result.append(part);
-                log.info("동/읍/면 발견: {}", part);
+                log.debug("동/읍/면 발견: {}", part);
                 break;
             }
         }
         
         String resultStr = result.toString().trim();
-        log.info("최종 파싱 결과: {}", resultStr);
+        log.debug("최종 파싱 결과: {}", resultStr);
         return resultStr.isEmpty() ? "알 수 없는 동" : resultStr;
     }
 
@@ -321,7 +368,7 @@ public class GeocodingService {
             return new AddressComponents("알 수 없음", "알 수 없음", "알 수 없음", "알 수 없음");
         }
 
-        log.info("표준화된 주소 파싱 시작: {}", address);
+        log.debug("표준화된 주소 파싱 시작: {}", address);
         String[] parts = address.split(" ");
         
         String si = "";
@@ -333,7 +380,7 @@ public class GeocodingService {
         for (String part : parts) {
             if (part.endsWith("시") || part.endsWith("도") || part.endsWith("특별시") || part.endsWith("광역시")) {
                 si = part;
-                log.info("시/도 발견: {}", si);
+                log.debug("시/도 발견: {}", si);
                 break;
             }
         }
@@ -342,7 +389,7 @@ public class GeocodingService {
         for (String part : parts) {
             if (part.endsWith("구") || part.endsWith("군")) {
                 gu = part;
-                log.info("구/군 발견: {}", gu);
+                log.debug("구/군 발견: {}", gu);
                 break;
             }
         }
@@ -351,13 +398,13 @@ public class GeocodingService {
         for (String part : parts) {
             if (part.endsWith("동") || part.endsWith("면") || part.endsWith("읍")) {
                 dong = part;
-                log.info("동/읍/면 발견: {}", dong);
+                log.debug("동/읍/면 발견: {}", dong);
                 break;
             }
         }
         
         AddressComponents components = new AddressComponents(si, gu, dong, fullAddress);
-        log.info("표준화된 주소 파싱 완료: {}", components);
+        log.debug("표준화된 주소 파싱 완료: {}", components);
         return components;
     }
 
@@ -11,6 +11,7 @@ import org.example.seasontonebackend.location.dto.LocationAccuracyResponse;
 import org.example.seasontonebackend.location.exception.LocationException;
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +31,11 @@ public class LocationService {
 
     private final GeocodingService geocodingService;
     private final MemberRepository memberRepository; // MemberRepository 주입
+    private final DongBoundaryIndex dongBoundaryIndex;
+
+    // 오프라인 인덱스로 동을 찾은 경우에도 VWorld 로 도로명 주소를 보강할지 여부
+    @Value("${location.dong-index.vworld-enrichment:false}")
+    private boolean vworldEnrichment;
 
     /**
      * 주소로부터 법정동 코드를 조회합니다.
@@ -49,18 +55,16 @@ public class LocationService {
         log.info("🏠 건물명: {}", request.getBuildingName());
 
         try {
-            // 1. GPS 좌표를 주소로 변환
-            String address = geocodingService.getAddressFromCoordinates(
-                    request.getLongitude(),
-                    request.getLatitude()
-            );
+            // 1. GPS 좌표가 속한 법정동 조회 (오프라인 경계 인덱스 우선, 없으면 VWorld)
+            ReverseGeocodeResult geocodeResult = resolveDong(request.getLongitude(), request.getLatitude());
 
-            if (address == null || address.isEmpty()) {
+            if (geocodeResult == null || geocodeResult.getAddress() == null || geocodeResult.getAddress().isEmpty()) {
                 throw new LocationException("GPS 좌표에서 주소를 찾을 수 없습니다.");
             }
+            String address = geocodeResult.getAddress();
 
-            // 2. 표준화된 주소 정보 파싱
-            GeocodingService.AddressComponents addressComponents = geocodingService.parseAddressComponents(address);
+            // 2. 표준화된 주소 정보 (역지오코딩 결과에 포함)
+            GeocodingService.AddressComponents addressComponents = geocodeResult.getComponents();
 
             // 3. 위치 인증 범위 검증
             if (!geocodingService.isWithinAcceptableRange(
@@ -110,8 +114,11 @@ public class LocationService {
         log.info("📍 주소 미리보기 요청 - 경도: {}, 위도: {}", longitude, latitude);
 
         try {
-            String address = geocodingService.getAddressFromCoordinates(longitude, latitude);
-            GeocodingService.AddressComponents addressComponents = geocodingService.parseAddressComponents(address);
+            ReverseGeocodeResult geocodeResult = geocodingService.reverseGeocode(longitude, latitude);
+            String address = geocodeResult != null ? geocodeResult.getAddress() : null;
+            GeocodingService.AddressComponents addressComponents = geocodeResult != null
+                    ? geocodeResult.getComponents()
+                    : geocodingService.parseAddressComponents(null);
 
             return AddressPreviewResponse.builder()
                     .address(address)
@@ -146,32 +153,24 @@ public class LocationService {
                 request.getLongitude(), request.getLatitude(), request.getAccuracy());
 
         try {
-            // 1. GPS 좌표를 주소로 변환
-            String address = geocodingService.getAddressFromCoordinates(
-                    request.getLongitude(),
-                    request.getLatitude()
-            );
+            // 1. GPS 좌표가 속한 법정동 조회 (한 번만 조회하고 이후 단계에서 재사용)
+            ReverseGeocodeResult geocodeResult = resolveDong(request.getLongitude(), request.getLatitude());
 
-            if (address == null || address.isEmpty()) {
+            if (geocodeResult == null || geocodeResult.getAddress() == null || geocodeResult.getAddress().isEmpty()) {
                 throw new LocationException("GPS 좌표에서 주소를 찾을 수 없습니다.");
             }
+            String address = geocodeResult.getAddress();
 
-            // 2. 동네 정보 추출
-            String neighborhood = geocodingService.getNeighborhoodFromCoordinates(
-                    request.getLongitude(),
-                    request.getLatitude()
-            );
-
-            // 3. 정확도 기반 신뢰도 계산
+            // 2. 정확도 기반 신뢰도 계산
             Integer confidence = calculateConfidence(request.getAccuracy());
             
-            // 4. 인증 성공 여부 판단 (70% 이상이면 성공)
+            // 3. 인증 성공 여부 판단 (70% 이상이면 성공)
             boolean isVerified = confidence >= 70;
 
-            // 5. 표준화된 주소 정보 파싱
-            GeocodingService.AddressComponents addressComponents = geocodingService.parseAddressComponents(address);
+            // 4. 표준화된 주소 정보
+            GeocodingService.AddressComponents addressComponents = geocodeResult.getComponents();
 
-            // 6. 응답 생성
+            // 5. 응답 생성
             GPSVerificationResponse response = GPSVerificationResponse.builder()
                     .isVerified(isVerified)
                     .confidence(confidence)
@@ -223,6 +222,30 @@ public class LocationService {
         }
     }
 
+    /**
+     * 좌표가 속한 법정동 조회
+     * 경계 인덱스에서 찾으면 네트워크 호출 없이 반환하고, VWorld 는 보강(설정 시) 또는 인덱스 미적중 시에만 사용한다.
+     */
+    private ReverseGeocodeResult resolveDong(double longitude, double latitude) {
+        DongBoundaryIndex.DongRegion region = dongBoundaryIndex.locate(longitude, latitude).orElse(null);
+        if (region == null) {
+            return geocodingService.reverseGeocode(longitude, latitude);
+        }
+
+        GeocodingService.AddressComponents components = region.toAddressComponents();
+        if (vworldEnrichment) {
+            try {
+                ReverseGeocodeResult enriched = geocodingService.reverseGeocode(longitude, latitude);
+                if (enriched != null && enriched.getRoadAddress() != null) {
+                    return new ReverseGeocodeResult(enriched.getRoadAddress(), enriched.getParcelAddress(), components);
+                }
+            } catch (Exception e) {
+                log.warn("VWorld 주소 보강 실패, 경계 인덱스 결과만 사용합니다: {}", e.getMessage());
+            }
+        }
+        return new ReverseGeocodeResult(null, components.getFullAddress(), components);
+    }
+
     /**
      * 정확도 기반 신뢰도 계산
      */
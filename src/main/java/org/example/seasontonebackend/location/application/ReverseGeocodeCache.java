@@ -0,0 +1,216 @@
+package org.example.seasontonebackend.location.application;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좌표 격자(기본 15m) 단위 역지오코딩 캐시
+ * 같은 격자 안의 좌표는 같은 주소로 보고 VWorld 호출을 생략한다. LRU + TTL 로 만료하며,
+ * persist-file 을 지정하면 종료 시/주기적으로 파일에 저장해 재시작 후에도 캐시를 이어 쓴다.
+ */
+@Slf4j
+@Component
+public class ReverseGeocodeCache {
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final double cellSizeMeters;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final String persistFile;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CachedAddress> entries;
+    private boolean dirty;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ReverseGeocodeCache(@Value("${location.geocode-cache.cell-size-meters:15}") double cellSizeMeters,
+                               @Value("${location.geocode-cache.max-entries:50000}") int maxEntries,
+                               @Value("${location.geocode-cache.ttl:30d}") Duration ttl,
+                               @Value("${location.geocode-cache.persist-file:}") String persistFile,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.cellSizeMeters = cellSizeMeters;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.persistFile = persistFile;
+        this.objectMapper = objectMapper;
+        // accessOrder=true: 조회 순서 기준 LRU
+        this.entries = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAddress> eldest) {
+                return size() > ReverseGeocodeCache.this.maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("geocode.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("geocode.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("geocode.cache.size", this, ReverseGeocodeCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 좌표를 격자 키로 양자화 (위도 방향 셀 크기 고정, 경도 방향은 위도에 따라 보정)
+     */
+    public String cellKey(double longitude, double latitude) {
+        double latStep = cellSizeMeters / METERS_PER_DEGREE_LAT;
+        long latIndex = (long) Math.floor(latitude / latStep);
+        double rowLatitude = (latIndex + 0.5) * latStep;
+        double lonStep = cellSizeMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(rowLatitude)));
+        long lonIndex = (long) Math.floor(longitude / lonStep);
+        return latIndex + ":" + lonIndex;
+    }
+
+    public Optional<ReverseGeocodeResult> get(String cellKey) {
+        lock.lock();
+        try {
+            CachedAddress cached = entries.get(cellKey);
+            if (cached == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            if (System.currentTimeMillis() - cached.storedAt() > ttlMillis) {
+                entries.remove(cellKey);
+                dirty = true;
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(cached.toResult());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String cellKey, ReverseGeocodeResult result) {
+        lock.lock();
+        try {
+            entries.put(cellKey, CachedAddress.from(result, System.currentTimeMillis()));
+            dirty = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PostConstruct
+    public void load() {
+        if (persistFile == null || persistFile.isBlank()) {
+            return;
+        }
+        Path path = Paths.get(persistFile);
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            List<PersistedEntry> persisted = objectMapper.readValue(path.toFile(), new TypeReference<List<PersistedEntry>>() {});
+            long now = System.currentTimeMillis();
+            lock.lock();
+            try {
+                for (PersistedEntry entry : persisted) {
+                    if (now - entry.address().storedAt() <= ttlMillis) {
+                        entries.put(entry.key(), entry.address());
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            log.info("역지오코딩 캐시 복원 - {}건 ({})", entries.size(), path);
+        } catch (IOException e) {
+            log.warn("역지오코딩 캐시 파일을 읽지 못했습니다: {} - {}", path, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${location.geocode-cache.persist-interval:PT10M}",
+            initialDelayString = "${location.geocode-cache.persist-interval:PT10M}")
+    public void persistPeriodically() {
+        persist();
+    }
+
+    @PreDestroy
+    public void persist() {
+        if (persistFile == null || persistFile.isBlank()) {
+            return;
+        }
+        List<PersistedEntry> snapshot;
+        lock.lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            snapshot = new ArrayList<>(entries.size());
+            entries.forEach((key, address) -> snapshot.add(new PersistedEntry(key, address)));
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+
+        Path path = Paths.get(persistFile);
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // 임시 파일에 쓴 뒤 교체해 저장 중 종료돼도 기존 파일을 보존
+            Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), snapshot);
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("역지오코딩 캐시 저장 - {}건", snapshot.size());
+        } catch (IOException e) {
+            log.warn("역지오코딩 캐시 파일 저장 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시/파일 저장용 값 (AddressComponents 는 정규화된 값 그대로 보관)
+     */
+    public record CachedAddress(String roadAddress, String parcelAddress, String si, String gu, String dong,
+                         String fullAddress, long storedAt) {
+
+        static CachedAddress from(ReverseGeocodeResult result, long storedAt) {
+            GeocodingService.AddressComponents components = result.getComponents();
+            return new CachedAddress(result.getRoadAddress(), result.getParcelAddress(),
+                    components.getSi(), components.getGu(), components.getDong(), components.getFullAddress(), storedAt);
+        }
+
+        ReverseGeocodeResult toResult() {
+            return new ReverseGeocodeResult(roadAddress, parcelAddress,
+                    new GeocodingService.AddressComponents(si, gu, dong, fullAddress));
+        }
+    }
+
+    public record PersistedEntry(String key, CachedAddress address) {
+    }
+}
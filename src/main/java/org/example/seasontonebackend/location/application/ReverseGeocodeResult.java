@@ -0,0 +1,36 @@
+package org.example.seasontonebackend.location.application;
+
+/**
+ * 역지오코딩 결과 (도로명/지번 주소와 파싱된 주소 구성 요소)
+ */
+public class ReverseGeocodeResult {
+
+    private final String roadAddress;
+    private final String parcelAddress;
+    private final GeocodingService.AddressComponents components;
+
+    public ReverseGeocodeResult(String roadAddress, String parcelAddress, GeocodingService.AddressComponents components) {
+        this.roadAddress = roadAddress;
+        this.parcelAddress = parcelAddress;
+        this.components = components;
+    }
+
+    public String getRoadAddress() {
+        return roadAddress;
+    }
+
+    public String getParcelAddress() {
+        return parcelAddress;
+    }
+
+    public GeocodingService.AddressComponents getComponents() {
+        return components;
+    }
+
+    /**
+     * 대표 주소 (도로명 우선, 없으면 지번)
+     */
+    public String getAddress() {
+        return roadAddress != null ? roadAddress : parcelAddress;
+    }
+}
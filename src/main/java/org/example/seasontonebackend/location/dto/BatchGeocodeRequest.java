@@ -0,0 +1,29 @@
+package org.example.seasontonebackend.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 지오코딩 요청 DTO (주소 목록과 좌표 목록 중 하나 이상)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchGeocodeRequest {
+
+    private List<String> addresses;
+    private List<Coordinate> coordinates;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Coordinate {
+        private Double longitude;
+        private Double latitude;
+    }
+}
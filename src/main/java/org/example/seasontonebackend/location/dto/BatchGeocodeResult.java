@@ -0,0 +1,30 @@
+package org.example.seasontonebackend.location.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 지오코딩 결과 한 건 (NDJSON 한 줄)
+ * source: index(로컬 인덱스), cache(역지오코딩 캐시), vworld(외부 API 호출)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchGeocodeResult {
+    private String input;
+    private Double longitude;
+    private Double latitude;
+    private boolean resolved;
+    private String lawdCd;
+    private String address;
+    private String si;
+    private String gu;
+    private String dong;
+    private String source;
+    private String message;
+}
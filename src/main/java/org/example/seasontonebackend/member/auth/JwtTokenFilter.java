@@ -3,6 +3,8 @@ package org.example.seasontonebackend.member.auth;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,6 +24,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationServiceException;
@@ -53,6 +56,7 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtTokenFilter extends GenericFilter {
     private final String secretKey;
     private final MemberRepository memberRepository;
+    private final MeterRegistry meterRegistry;
 
     private static final List<String> PUBLIC_PATHS = List.of(
             "/public",
@@ -71,9 +75,10 @@ public class JwtTokenFilter extends GenericFilter {
     );
 
     // 생성자를 통해 secretKey와 memberRepository를 주입받음
-    public JwtTokenFilter(MemberRepository memberRepository, String secretKey) {
+    public JwtTokenFilter(MemberRepository memberRepository, String secretKey, MeterRegistry meterRegistry) {
         this.memberRepository = memberRepository;
         this.secretKey = secretKey;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -81,12 +86,14 @@ public class JwtTokenFilter extends GenericFilter {
         HttpServletRequest httpServletRequest = (HttpServletRequest) request;
         HttpServletResponse httpServletResponse = (HttpServletResponse) response;
         String uri = httpServletRequest.getRequestURI();
+        long startedAt = System.nanoTime();
 
-        log.info(">>> JwtTokenFilter: Received request for URI: {}", uri);
+        log.debug(">>> JwtTokenFilter: Received request for URI: {}", uri);
 
         // 공개 경로는 필터를 통과
         if (PUBLIC_PATHS.stream().anyMatch(uri::startsWith)) {
-            log.info("Public path detected, skipping JWT filter for URI: {}", uri);
+            log.debug("Public path detected, skipping JWT filter for URI: {}", uri);
+            recordFilterTime(startedAt, "public");
             chain.doFilter(request, response);
             return;
         }
@@ -98,11 +105,7 @@ public class JwtTokenFilter extends GenericFilter {
                     throw new AuthenticationServiceException("not bearer type");
                 }
                 String jwtToken = token.substring(7);
-                Claims claims = Jwts.parserBuilder()
-                        .setSigningKey(secretKey)
-                        .build()
-                        .parseClaimsJws(jwtToken)
-                        .getBody();
+                Claims claims = parseClaims(jwtToken);
 
                 List<GrantedAuthority> authoruties = new ArrayList<>();
                 authoruties.add(new SimpleGrantedAuthority("ROLE_" + claims.get("role")));
@@ -111,28 +114,32 @@ public class JwtTokenFilter extends GenericFilter {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
                 String email = claims.getSubject();
-                log.info("JWT Token parsed - Email: {}", email);
+                log.debug("JWT Token parsed - Email: {}", email);
                 
                 Member member = memberRepository.findByEmail(email).orElse(null);
                 if (member != null) {
-                    log.info("Member found: {} (ID: {})", member.getEmail(), member.getId());
+                    log.debug("Member found: {} (ID: {})", member.getEmail(), member.getId());
                     Authentication memberAuth = new UsernamePasswordAuthenticationToken(member, jwtToken, member.getAuthorities());
                     SecurityContextHolder.getContext().setAuthentication(memberAuth);
-                    log.info("Authentication set successfully for member: {}", member.getEmail());
+                    log.debug("Authentication set successfully for member: {}", member.getEmail());
                 } else {
                     SecurityContextHolder.clearContext();
                     log.warn("Member not found for email: {}. This usually means the user was deleted from the database but the JWT token is still valid.", email);
+                    recordFilterTime(startedAt, "unknown_member");
                     httpServletResponse.setStatus(HttpStatus.UNAUTHORIZED.value());
                     httpServletResponse.setContentType("application/json;charset=UTF-8");
                     httpServletResponse.getWriter().write("{\"success\":false,\"message\":\"사용자 정보를 찾을 수 없습니다. 다시 로그인해주세요.\"}");
                     return; // 필터 체인 중단
                 }
+                recordFilterTime(startedAt, "authenticated");
             } else {
-                 log.info("No JWT token found in Authorization header for URI: {}", uri);
+                 log.debug("No JWT token found in Authorization header for URI: {}", uri);
+                 recordFilterTime(startedAt, "anonymous");
             }
             chain.doFilter(request, response);
         } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT Token for URI: {}. Error: {}", uri, e.getMessage());
+            recordFilterTime(startedAt, "invalid");
             httpServletResponse.setStatus(HttpStatus.UNAUTHORIZED.value());
             httpServletResponse.setContentType("application/json;charset=UTF-8");
             httpServletResponse.getWriter().write("{\"success\":false,\"message\":\"유효하지 않은 토큰입니다.\"}");
@@ -140,4 +147,21 @@ public class JwtTokenFilter extends GenericFilter {
             return; 
         }
     }
-}
\ No newline at end of file
+
+    // 필터 자체 처리 시간 (체인 이후 처리는 제외)
+    private void recordFilterTime(long startedAt, String result) {
+        Timer.builder("auth.jwt.filter")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    // 서명 검증 후 클레임 추출 (벤치마크에서 직접 호출하므로 패키지 공개)
+    Claims parseClaims(String jwtToken) {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(jwtToken)
+                .getBody();
+    }
+}
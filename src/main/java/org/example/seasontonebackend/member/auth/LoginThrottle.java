@@ -0,0 +1,171 @@
+package org.example.seasontonebackend.member.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이메일/IP 별 로그인 실패 제한
+ * 허용 횟수를 넘긴 실패마다 잠금 시간을 두 배로 늘린다 (최대 max-lockout).
+ * 해시 대기열이 차오를수록 허용 횟수를 줄여, 부하가 높을 때 무차별 대입이 해시 스레드를 차지하지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final PasswordHasher passwordHasher;
+    private final int emailThreshold;
+    private final int ipThreshold;
+    private final long baseLockoutMillis;
+    private final long maxLockoutMillis;
+    private final long failureWindowMillis;
+
+    private final Map<String, Failures> byEmail = new ConcurrentHashMap<>();
+    private final Map<String, Failures> byIp = new ConcurrentHashMap<>();
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter throttled;
+    private final Counter rejected;
+
+    public LoginThrottle(PasswordHasher passwordHasher, MeterRegistry meterRegistry,
+                         @Value("${security.login.email-threshold:5}") int emailThreshold,
+                         @Value("${security.login.ip-threshold:20}") int ipThreshold,
+                         @Value("${security.login.base-lockout:1s}") Duration baseLockout,
+                         @Value("${security.login.max-lockout:15m}") Duration maxLockout,
+                         @Value("${security.login.failure-window:15m}") Duration failureWindow) {
+        this.passwordHasher = passwordHasher;
+        this.emailThreshold = emailThreshold;
+        this.ipThreshold = ipThreshold;
+        this.baseLockoutMillis = baseLockout.toMillis();
+        this.maxLockoutMillis = maxLockout.toMillis();
+        this.failureWindowMillis = failureWindow.toMillis();
+
+        this.successes = attemptCounter(meterRegistry, "success");
+        this.failures = attemptCounter(meterRegistry, "failure");
+        this.throttled = attemptCounter(meterRegistry, "throttled");
+        this.rejected = attemptCounter(meterRegistry, "rejected");
+        Gauge.builder("auth.login.throttle.entries", () -> byEmail.size() + byIp.size())
+                .description("실패 기록이 남아 있는 이메일/IP 수")
+                .register(meterRegistry);
+    }
+
+    private Counter attemptCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.login.attempts")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해시 계산 전에 호출. 잠긴 이메일/IP 면 LoginThrottledException
+     */
+    public void check(String email, String ip) {
+        long now = System.currentTimeMillis();
+        long retryAfter = Math.max(remaining(byEmail.get(key(email)), now), remaining(byIp.get(ip), now));
+        if (retryAfter > 0) {
+            throttled.increment();
+            throw new LoginThrottledException(Duration.ofMillis(retryAfter));
+        }
+    }
+
+    public void onSuccess(String email) {
+        successes.increment();
+        byEmail.remove(key(email));
+    }
+
+    public void onFailure(String email, String ip) {
+        failures.increment();
+        long now = System.currentTimeMillis();
+        // 부하가 높을수록 허용 횟수를 줄임 (대기열이 다 차면 절반)
+        double load = passwordHasher.queueUtilization();
+        record(byEmail, key(email), adaptive(emailThreshold, load), now);
+        if (ip != null) {
+            record(byIp, ip, adaptive(ipThreshold, load), now);
+        }
+    }
+
+    public void onRejected() {
+        rejected.increment();
+    }
+
+    private void record(Map<String, Failures> failuresByKey, String key, int threshold, long now) {
+        failuresByKey.compute(key, (k, previous) -> {
+            Failures current = previous == null || now - previous.lastFailureAt > failureWindowMillis
+                    ? new Failures() : previous;
+            current.count++;
+            current.lastFailureAt = now;
+            int over = current.count - threshold;
+            if (over >= 0) {
+                long lockout = Math.min(maxLockoutMillis, baseLockoutMillis << Math.min(over, 30));
+                current.lockedUntil = now + lockout;
+                if (over == 0) {
+                    log.info("로그인 실패 누적으로 잠금 - {} ({}회)", mask(k), current.count);
+                }
+            }
+            return current;
+        });
+    }
+
+    private static int adaptive(int threshold, double load) {
+        return Math.max(1, (int) Math.round(threshold * (1 - load / 2)));
+    }
+
+    private static long remaining(Failures entry, long now) {
+        return entry == null ? 0 : entry.lockedUntil - now;
+    }
+
+    private static String key(String email) {
+        return email == null ? "" : email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String mask(String key) {
+        int at = key.indexOf('@');
+        return at > 1 ? key.charAt(0) + "***" + key.substring(at) : key;
+    }
+
+    /**
+     * 잠금이 풀리고 실패 유지 기간도 지난 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${security.login.cleanup-interval:PT5M}",
+            initialDelayString = "${security.login.cleanup-interval:PT5M}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        byEmail.values().removeIf(entry -> expired(entry, now));
+        byIp.values().removeIf(entry -> expired(entry, now));
+    }
+
+    private boolean expired(Failures entry, long now) {
+        return entry.lockedUntil <= now && now - entry.lastFailureAt > failureWindowMillis;
+    }
+
+    private static class Failures {
+        int count;
+        long lastFailureAt;
+        long lockedUntil;
+    }
+
+    /**
+     * 로그인 실패가 누적되어 잠긴 경우
+     */
+    public static class LoginThrottledException extends RuntimeException {
+        private final Duration retryAfter;
+
+        public LoginThrottledException(Duration retryAfter) {
+            super("로그인 시도가 너무 많습니다. " + Math.max(1, retryAfter.toSeconds()) + "초 후 다시 시도해 주세요.");
+            this.retryAfter = retryAfter;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+    }
+}
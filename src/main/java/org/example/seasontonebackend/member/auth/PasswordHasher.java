@@ -0,0 +1,115 @@
+package org.example.seasontonebackend.member.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.example.seasontonebackend.common.concurrent.BoundedExecutorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt 는 일부러 CPU 를 많이 쓰므로 요청 스레드에서 바로 돌리지 않고 코어 수만큼의 스레드로 제한한다.
+ * 대기열이 가득 차면 바로 거절해 로그인 폭주가 다른 API 의 스레드/CPU 를 잠식하지 않게 한다.
+ * 대기열 길이는 executor.queued{name=password-hashing} 로 노출된다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final BoundedExecutorService executor;
+    private final ExecutorService monitored;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, BlockingExecutors blockingExecutors, MeterRegistry meterRegistry,
+                          @Value("${security.password.hashing-threads:0}") int hashingThreads,
+                          @Value("${security.password.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        this.executor = blockingExecutors.newBoundedExecutor("password-hashing", threads,
+                queueCapacity);
+        this.monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+        log.info("비밀번호 해시 실행기 - 스레드 {}개, 대기열 {}", threads, queueCapacity);
+    }
+
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 확인. 일치하고 저장된 해시의 work factor 가 현재 설정보다 낮으면 새 해시를 함께 반환한다.
+     */
+    public CompletableFuture<Verification> verify(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (encodedPassword == null || !passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return Verification.MISMATCH;
+            }
+            if (passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return new Verification(true, passwordEncoder.encode(rawPassword));
+            }
+            return Verification.MATCH;
+        });
+    }
+
+    /**
+     * 대기열 사용률 (0~1, 로그인 제한을 부하에 맞춰 조절할 때 사용)
+     */
+    public double queueUtilization() {
+        int queued = executor.queuedTasks();
+        int capacity = queued + executor.remainingQueueCapacity();
+        return capacity == 0 ? 0 : (double) queued / capacity;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, monitored);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new PasswordHashingBusyException());
+        }
+    }
+
+    /**
+     * CompletableFuture 를 기다리는 동기 호출용 (회원가입 등)
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @param rehashed work factor 가 바뀌어 다시 만든 해시 (없으면 null)
+     */
+    public record Verification(boolean matched, String rehashed) {
+        static final Verification MATCH = new Verification(true, null);
+        static final Verification MISMATCH = new Verification(false, null);
+    }
+
+    /**
+     * 해시 대기열이 가득 찬 경우 (잠시 후 재시도)
+     */
+    public static class PasswordHashingBusyException extends RuntimeException {
+        public PasswordHashingBusyException() {
+            super("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.seasontonebackend.member.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.example.seasontonebackend.member.auth.JwtTokenFilter;
 import org.example.seasontonebackend.member.repository.MemberRepository;
 import org.example.seasontonebackend.member.service.GoogleService;
@@ -10,7 +11,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.SecurityFilterChain;
@@ -21,6 +24,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 public class SecurityConfig {
@@ -28,24 +32,37 @@ public class SecurityConfig {
     private final MemberRepository memberRepository;
     private final GoogleService googleService;
     private final KakaoService kakaoService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${jwt.secret}")
     private String secretKey;
 
-    public SecurityConfig(MemberRepository memberRepository, GoogleService googleService, KakaoService kakaoService) {
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    public SecurityConfig(MemberRepository memberRepository, GoogleService googleService, KakaoService kakaoService,
+                          MeterRegistry meterRegistry) {
         this.memberRepository = memberRepository;
         this.googleService = googleService;
         this.kakaoService = kakaoService;
+        this.meterRegistry = meterRegistry;
     }
 
+    /**
+     * bcrypt-strength 를 올리면 기존 해시는 다음 로그인 때 새 강도로 다시 저장된다 (upgradeEncoding).
+     * {bcrypt} 외의 접두사로 저장된 예전 해시도 확인은 가능하다.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        encoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return encoder;
     }
 
     @Bean
     public SecurityFilterChain myfilter(HttpSecurity httpSecurity) throws Exception {
-        JwtTokenFilter jwtTokenFilter = new JwtTokenFilter(memberRepository, secretKey);
+        JwtTokenFilter jwtTokenFilter = new JwtTokenFilter(memberRepository, secretKey, meterRegistry);
 
         return httpSecurity
                 .cors(cors -> cors.configurationSource(configurationSource()))
@@ -2,34 +2,45 @@ package org.example.seasontonebackend.member.controller;
 
 
 
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.api.ApiResponse;
 import org.example.seasontonebackend.member.auth.JwtTokenProvider;
+import org.example.seasontonebackend.member.auth.LoginThrottle;
+import org.example.seasontonebackend.member.auth.PasswordHasher;
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.member.domain.Role;
 import org.example.seasontonebackend.member.dto.MemberCreateDto;
 import org.example.seasontonebackend.member.dto.MemberDongBuildingRequestDto;
 import org.example.seasontonebackend.member.dto.MemberLoginDto;
 import org.example.seasontonebackend.member.dto.MemberProfileDto;
+import org.example.seasontonebackend.member.dto.MemberResponseDto;
 import org.example.seasontonebackend.member.service.MemberService;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.view.RedirectView;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @RestController
 @RequestMapping("/member")
 public class MemberController {
     private final MemberService memberService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginThrottle loginThrottle;
 
 
-    public MemberController(MemberService memberService, JwtTokenProvider jwtTokenProvider) {
+    public MemberController(MemberService memberService, JwtTokenProvider jwtTokenProvider, LoginThrottle loginThrottle) {
         this.memberService = memberService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.loginThrottle = loginThrottle;
     }
 
     @PostMapping("/create")
@@ -42,18 +53,9 @@ public class MemberController {
             System.out.println("회원 생성 성공: " + member.getEmail());
             
             // 프론트엔드가 기대하는 형태로 응답 구성
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "회원가입이 완료되었습니다.");
-            response.put("user", Map.of(
-                "id", member.getId().toString(),
-                "email", member.getEmail(),
-                "nickname", member.getName(), // 프론트엔드는 nickname 필드를 기대함
-                "role", member.getRole().toString().toLowerCase(), // 프론트엔드는 소문자 role을 기대함
-                "profileCompleted", false,
-                "diagnosisCompleted", false,
-                "onboardingCompleted", false
-            ));
+            MemberResponseDto.Created response = new MemberResponseDto.Created(true, "회원가입이 완료되었습니다.",
+                    new MemberResponseDto.CreatedUser(member.getId().toString(), member.getEmail(), member.getName(),
+                            member.getRole().toString().toLowerCase(), false, false, false));
             
             System.out.println("=== 회원가입 응답 완료 ===");
             return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -62,42 +64,62 @@ public class MemberController {
             System.err.println("오류 메시지: " + e.getMessage());
             e.printStackTrace();
             
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "회원가입 중 오류가 발생했습니다: " + e.getMessage());
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("회원가입 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
 
+    /**
+     * 비밀번호 확인은 해시 실행기에서 비동기로 처리하고, 이메일/IP 별 실패 누적 시 429 로 응답한다.
+     */
     @PostMapping("/doLogin")
-    public ResponseEntity<?> doLogin(@RequestBody MemberLoginDto memberLoginDto) {
+    public CompletableFuture<ResponseEntity<?>> doLogin(@RequestBody MemberLoginDto memberLoginDto, HttpServletRequest request) {
+        String ip = request.getRemoteAddr();
         try {
-            System.out.println("=== 로그인 요청 시작 ===");
-            System.out.println("요청 데이터: " + memberLoginDto);
-            
-            Member member = memberService.login(memberLoginDto);
-            System.out.println("로그인 성공: " + member.getEmail());
-            
-            String jwtToken = jwtTokenProvider.createToken(member.getId(), member.getEmail(), member.getRole().toString());
-            System.out.println("JWT 토큰 생성 완료");
+            loginThrottle.check(memberLoginDto.getEmail(), ip);
+        } catch (LoginThrottle.LoginThrottledException e) {
+            return CompletableFuture.completedFuture(loginError(e));
+        }
 
-            Map<String, Object> loginInfo = new HashMap<>();
-            loginInfo.put("id", member.getId());
-            loginInfo.put("token", jwtToken);
-            
-            System.out.println("=== 로그인 응답 완료 ===");
-            return new ResponseEntity<>(loginInfo, HttpStatus.OK);
+        CompletableFuture<Member> login;
+        try {
+            login = memberService.loginAsync(memberLoginDto);
         } catch (Exception e) {
-            System.err.println("=== 로그인 오류 발생 ===");
-            System.err.println("오류 메시지: " + e.getMessage());
-            e.printStackTrace();
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "로그인 중 오류가 발생했습니다: " + e.getMessage());
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            login = CompletableFuture.failedFuture(e);
+        }
+        return login.handle((member, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause instanceof PasswordHasher.PasswordHashingBusyException) {
+                    loginThrottle.onRejected();
+                } else if (cause instanceof IllegalArgumentException) {
+                    loginThrottle.onFailure(memberLoginDto.getEmail(), ip);
+                }
+                return loginError(cause);
+            }
+            loginThrottle.onSuccess(memberLoginDto.getEmail());
+
+            String jwtToken = jwtTokenProvider.createToken(member.getId(), member.getEmail(), member.getRole().toString());
+
+            return new ResponseEntity<>(new MemberResponseDto.Login(member.getId(), jwtToken), HttpStatus.OK);
+        });
+    }
+
+    private ResponseEntity<?> loginError(Throwable e) {
+        if (e instanceof LoginThrottle.LoginThrottledException throttled) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, throttled.getRetryAfter().toSeconds())))
+                    .body(ApiResponse.fail(throttled.getMessage()));
+        }
+        if (e instanceof PasswordHasher.PasswordHashingBusyException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.fail(e.getMessage()));
+        }
+        if (!(e instanceof IllegalArgumentException)) {
+            log.error("로그인 처리 중 오류", e);
         }
+        return new ResponseEntity<>(ApiResponse.fail("로그인 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
 
@@ -115,10 +137,7 @@ public class MemberController {
         
         if (member == null) {
             System.out.println("ERROR: Member is null!");
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "인증된 사용자 정보를 찾을 수 없습니다.");
-            return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+            return new ResponseEntity<>(ApiResponse.fail("인증된 사용자 정보를 찾을 수 없습니다."), HttpStatus.UNAUTHORIZED);
         }
         
         System.out.println("Member ID: " + member.getId());
@@ -127,11 +146,7 @@ public class MemberController {
         memberService.setMemberDongBuilding(memberDongBuildingRequestDto, member.getId());
 
         // 성공 응답에 success 필드 포함
-        Map<String, Object> successResponse = new HashMap<>();
-        successResponse.put("success", true);
-        successResponse.put("message", "프로필이 성공적으로 업데이트되었습니다.");
-        
-        return new ResponseEntity<>(successResponse, HttpStatus.OK);
+        return new ResponseEntity<>(ApiResponse.ok("프로필이 성공적으로 업데이트되었습니다."), HttpStatus.OK);
     }
 
     @PutMapping("/update")
@@ -139,17 +154,9 @@ public class MemberController {
         try {
             memberService.updateUserInfo(member, updateData);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "사용자 정보가 성공적으로 업데이트되었습니다.");
-            
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            return new ResponseEntity<>(ApiResponse.ok("사용자 정보가 성공적으로 업데이트되었습니다."), HttpStatus.OK);
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "사용자 정보 업데이트 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("사용자 정보 업데이트 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
@@ -162,20 +169,12 @@ public class MemberController {
             
             memberService.updateUserInfo(member, updateData);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "프로필이 성공적으로 업데이트되었습니다.");
-            
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            return new ResponseEntity<>(ApiResponse.ok("프로필이 성공적으로 업데이트되었습니다."), HttpStatus.OK);
         } catch (Exception e) {
             System.err.println("프로필 업데이트 오류: " + e.getMessage());
             e.printStackTrace();
             
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "프로필 업데이트 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("프로필 업데이트 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
@@ -201,46 +200,30 @@ public class MemberController {
             System.out.println("Request: " + request);
             
             if (member == null) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "인증된 사용자 정보를 찾을 수 없습니다.");
-                return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+                return new ResponseEntity<>(ApiResponse.fail("인증된 사용자 정보를 찾을 수 없습니다."), HttpStatus.UNAUTHORIZED);
             }
             
             String nickname = request.get("nickname");
             if (nickname == null) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "닉네임이 제공되지 않았습니다.");
-                return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+                return new ResponseEntity<>(ApiResponse.fail("닉네임이 제공되지 않았습니다."), HttpStatus.BAD_REQUEST);
             }
             
             memberService.updateNickname(member, nickname);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "닉네임이 성공적으로 변경되었습니다.");
-            response.put("nickname", nickname.trim());
-            
             System.out.println("=== 닉네임 수정 완료 ===");
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            return new ResponseEntity<>(new MemberResponseDto.NicknameUpdated(true, "닉네임이 성공적으로 변경되었습니다.", nickname.trim()),
+                    HttpStatus.OK);
             
         } catch (IllegalArgumentException e) {
             System.err.println("닉네임 수정 오류: " + e.getMessage());
             
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+            return new ResponseEntity<>(ApiResponse.fail(e.getMessage()), HttpStatus.BAD_REQUEST);
             
         } catch (Exception e) {
             System.err.println("닉네임 수정 오류: " + e.getMessage());
             e.printStackTrace();
             
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "닉네임 수정 중 오류가 발생했습니다: " + e.getMessage());
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("닉네임 수정 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
@@ -2,6 +2,10 @@ package org.example.seasontonebackend.member.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.seasontonebackend.common.cache.EntityCacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +15,9 @@ import java.util.Collections;
 
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.MEMBER) // 인증 필터가 요청마다 조회
+@DynamicUpdate // 로그인 시 해시 재생성처럼 일부 필드만 바꿀 때 다른 컬럼을 덮어쓰지 않음
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -0,0 +1,24 @@
+package org.example.seasontonebackend.member.dto;
+
+/**
+ * 회원 API 중 공통 형식({@code ApiResponse})과 필드가 다른 응답들
+ */
+public class MemberResponseDto {
+
+    private MemberResponseDto() {
+    }
+
+    public record Login(Long id, String token) {
+    }
+
+    public record Created(boolean success, String message, CreatedUser user) {
+    }
+
+    // 프론트엔드는 id 를 문자열, role 을 소문자로 기대함
+    public record CreatedUser(String id, String email, String nickname, String role,
+                              boolean profileCompleted, boolean diagnosisCompleted, boolean onboardingCompleted) {
+    }
+
+    public record NicknameUpdated(boolean success, String message, String nickname) {
+    }
+}
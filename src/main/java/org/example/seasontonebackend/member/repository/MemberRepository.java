@@ -2,14 +2,23 @@ package org.example.seasontonebackend.member.repository;
 
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.member.domain.SocialType;
+import jakarta.persistence.QueryHint;
+import org.example.seasontonebackend.common.cache.EntityCacheRegions;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    // 인증 필터가 요청마다 호출 → 결과(회원 ID)는 쿼리 캐시, 회원 엔티티는 2차 캐시에서
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.MEMBER_BY_EMAIL)
+    })
     Optional<Member> findByEmail(String email);
-    List<Member> findByDong(String dong);
+    List<NeighborhoodMember> findByDong(String dong);
     Optional<Member> findByProviderId(String providerId);
     Optional<Member> findByIdAndSocialType(Long id, SocialType socialType);
 }
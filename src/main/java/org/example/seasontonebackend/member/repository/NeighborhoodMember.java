@@ -0,0 +1,7 @@
+package org.example.seasontonebackend.member.repository;
+
+/**
+ * 리포트 동네/건물 비교에 필요한 회원 정보만 담은 조회 결과
+ */
+public record NeighborhoodMember(Long id, String building) {
+}
@@ -1,31 +1,38 @@
 package org.example.seasontonebackend.member.service;
 
 
+import lombok.extern.slf4j.Slf4j;
 import org.example.seasontonebackend.diagnosis.domain.repository.DiagnosisResponseRepository;
+import org.example.seasontonebackend.member.auth.PasswordHasher;
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.member.dto.MemberCreateDto;
 import org.example.seasontonebackend.member.dto.MemberDongBuildingRequestDto;
 import org.example.seasontonebackend.member.dto.MemberLoginDto;
 import org.example.seasontonebackend.member.dto.MemberProfileDto;
 import org.example.seasontonebackend.member.repository.MemberRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @Service
 @Transactional
 public class MemberService {
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final DiagnosisResponseRepository diagnosisResponseRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder, DiagnosisResponseRepository diagnosisResponseRepository) {
+    public MemberService(MemberRepository memberRepository, PasswordHasher passwordHasher, DiagnosisResponseRepository diagnosisResponseRepository,
+                         TransactionTemplate transactionTemplate) {
         this.memberRepository = memberRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.diagnosisResponseRepository = diagnosisResponseRepository;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public Member create(MemberCreateDto memberCreateDto) {
@@ -39,7 +46,7 @@ public class MemberService {
         Member newMember = Member.builder()
                 .email(memberCreateDto.getEmail())
                 .name(memberCreateDto.getName())
-                .password(passwordEncoder.encode(memberCreateDto.getPassword()))
+                .password(PasswordHasher.join(passwordHasher.encode(memberCreateDto.getPassword())))
                 // 나머지 필드들은 기본값으로 초기화 (나중에 프로필 설정에서 업데이트)
                 .dong(null)
                 .building(null)
@@ -57,18 +64,45 @@ public class MemberService {
     }
 
     public Member login(MemberLoginDto memberLoginDto) {
+        return PasswordHasher.join(loginAsync(memberLoginDto));
+    }
+
+    /**
+     * 비밀번호 확인은 password-hashing 실행기에서 처리 (요청 스레드는 해시 계산 동안 묶이지 않음)
+     * 저장된 해시의 강도가 현재 설정보다 낮으면 확인한 비밀번호로 다시 해시해 저장한다.
+     */
+    @Transactional(readOnly = true)
+    public CompletableFuture<Member> loginAsync(MemberLoginDto memberLoginDto) {
         Optional<Member> optMember = memberRepository.findByEmail(memberLoginDto.getEmail());
         if (!optMember.isPresent()) {
-            throw new IllegalArgumentException("no email found");
+            return CompletableFuture.failedFuture(new IllegalArgumentException("no email found"));
         }
 
         Member member = optMember.get();
 
-        if (!passwordEncoder.matches(memberLoginDto.getPassword(), member.getPassword())) {
-            throw new IllegalArgumentException("wrong password");
-        }
+        return passwordHasher.verify(memberLoginDto.getPassword(), member.getPassword())
+                .thenApply(verification -> {
+                    if (!verification.matched()) {
+                        throw new IllegalArgumentException("wrong password");
+                    }
+                    if (verification.rehashed() != null) {
+                        rehash(member, verification.rehashed());
+                    }
+                    return member;
+                });
+    }
 
-        return member;
+    // 해시 스레드에서 호출되므로 별도 트랜잭션. 벌크 UPDATE 는 회원 2차 캐시 영역 전체를 비우므로 엔티티로 갱신한다.
+    private void rehash(Member member, String rehashed) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> memberRepository.findById(member.getId())
+                    .ifPresent(managed -> managed.setPassword(rehashed)));
+            member.setPassword(rehashed);
+            log.info("비밀번호 해시 갱신 - 회원 {}", member.getId());
+        } catch (RuntimeException e) {
+            // 갱신에 실패해도 로그인은 진행 (다음 로그인 때 다시 시도)
+            log.warn("비밀번호 해시 갱신 실패 - 회원 {}: {}", member.getId(), e.getMessage());
+        }
     }
 
 
@@ -0,0 +1,62 @@
+package org.example.seasontonebackend.mission.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.member.domain.Role;
+import org.example.seasontonebackend.mission.application.MissionService;
+import org.example.seasontonebackend.mission.dto.MissionResponseDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/missions")
+@RequiredArgsConstructor
+@Slf4j
+public class MissionAdminController {
+
+    private final MissionService missionService;
+
+    // 미션 활성/비활성 전환 (현재 미션 캐시도 무효화)
+    @PatchMapping("/{missionId}/active")
+    public ResponseEntity<MissionResponseDTO.ApiResponse<Void>> updateMissionActive(
+            @PathVariable Long missionId,
+            @RequestParam boolean active,
+            @AuthenticationPrincipal Member member) {
+
+        if (!isAdmin(member)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(MissionResponseDTO.ApiResponse.error("관리자만 사용할 수 있습니다."));
+        }
+
+        try {
+            missionService.updateMissionActive(missionId, active);
+            return ResponseEntity.ok(MissionResponseDTO.ApiResponse.success(null, "미션 상태가 변경되었습니다."));
+
+        } catch (Exception e) {
+            log.error("미션 상태 변경 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(MissionResponseDTO.ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    // 현재 미션 캐시 다시 적재
+    @PostMapping("/current/refresh")
+    public ResponseEntity<MissionResponseDTO.ApiResponse<Void>> refreshCurrentMission(
+            @AuthenticationPrincipal Member member) {
+
+        if (!isAdmin(member)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(MissionResponseDTO.ApiResponse.error("관리자만 사용할 수 있습니다."));
+        }
+
+        missionService.refreshCurrentMission();
+        return ResponseEntity.ok(MissionResponseDTO.ApiResponse.success(null, "현재 미션을 다시 불러왔습니다."));
+    }
+
+    private boolean isAdmin(Member member) {
+        return member != null && member.getRole() == Role.Admin;
+    }
+}
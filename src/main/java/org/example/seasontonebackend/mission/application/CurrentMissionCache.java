@@ -0,0 +1,154 @@
+package org.example.seasontonebackend.mission.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.mission.converter.MissionConverter;
+import org.example.seasontonebackend.mission.domain.entity.WeeklyMission;
+import org.example.seasontonebackend.mission.domain.repository.WeeklyMissionRepository;
+import org.example.seasontonebackend.mission.dto.MissionResponseDTO;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 현재 주간 미션 캐시
+ * 활성 미션과 질문(옵션 JSON 파싱 완료)을 메모리에 올려 두고, 미션의 시작/종료 경계 시각에 맞춰 다음 미션으로 교체한다.
+ * 참여자 수와 참여 여부는 인스턴스마다 달라지지 않도록 여기 두지 않고 참여 기록 테이블에서 읽는다.
+ */
+@Slf4j
+@Component
+public class CurrentMissionCache {
+
+    private final WeeklyMissionRepository missionRepository;
+    private final MissionConverter missionConverter;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    // 적재 중 DB 조회가 있으므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어 스레드를 붙잡지 않도록)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+    private ScheduledFuture<?> rollover;
+
+    public CurrentMissionCache(WeeklyMissionRepository missionRepository,
+                               MissionConverter missionConverter,
+                               TaskScheduler taskScheduler,
+                               TransactionTemplate transactionTemplate) {
+        this.missionRepository = missionRepository;
+        this.missionConverter = missionConverter;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * 현재 미션 (경계를 지난 스냅샷이면 즉시 다시 적재)
+     */
+    public Optional<CachedMission> get() {
+        Snapshot current = snapshot;
+        if (current == null || current.isExpired(LocalDate.now())) {
+            current = reload();
+        }
+        return Optional.ofNullable(current.mission());
+    }
+
+    /**
+     * 캐시 무효화 (관리자 변경 후 호출)
+     */
+    public void invalidate() {
+        log.info("현재 미션 캐시 무효화");
+        reload();
+    }
+
+    private Snapshot reload() {
+        reloadLock.lock();
+        try {
+            Snapshot loaded = transactionTemplate.execute(status -> load());
+            snapshot = loaded;
+            scheduleRollover(loaded.validUntil());
+
+            if (loaded.mission() != null) {
+                log.info("현재 미션 적재 - 미션ID: {}, 기간: {} ~ {}",
+                        loaded.mission().missionId(), loaded.mission().startDate(), loaded.mission().endDate());
+            } else {
+                log.info("현재 활성 미션 없음 - 다음 확인일: {}", loaded.validUntil());
+            }
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        LocalDate today = LocalDate.now();
+        LocalDate nextStart = missionRepository.findNextActiveStartDate();
+        Optional<WeeklyMission> current = missionRepository.findCurrentActiveMissionWithQuestions();
+
+        if (current.isEmpty()) {
+            // 예정된 미션이 없으면 DB 에 직접 등록된 미션도 잡을 수 있도록 다음 날 다시 확인
+            LocalDate recheck = nextStart != null ? nextStart : today.plusDays(1);
+            return new Snapshot(null, recheck);
+        }
+
+        WeeklyMission mission = current.get();
+        LocalDate validUntil = mission.getEndDate().plusDays(1);
+        if (nextStart != null && nextStart.isBefore(validUntil)) {
+            validUntil = nextStart;
+        }
+        if (!validUntil.isAfter(today)) {
+            validUntil = today.plusDays(1);
+        }
+
+        CachedMission cached = new CachedMission(
+                mission.getMissionId(),
+                mission.getCategory(),
+                mission.getTitle(),
+                mission.getDescription(),
+                mission.getStartDate(),
+                mission.getEndDate(),
+                List.copyOf(missionConverter.toMissionQuestionDtos(mission)));
+        return new Snapshot(cached, validUntil);
+    }
+
+    /**
+     * 다음 경계(종료일 다음 날 또는 다음 미션 시작일) 자정에 교체 예약
+     */
+    private void scheduleRollover(LocalDate boundary) {
+        if (rollover != null) {
+            rollover.cancel(false);
+            rollover = null;
+        }
+        rollover = taskScheduler.schedule(this::reload,
+                boundary.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * 캐시된 미션 한 건 (엔티티와 분리된 불변 값)
+     */
+    public record CachedMission(Long missionId, String category, String title, String description,
+                                LocalDate startDate, LocalDate endDate,
+                                List<MissionResponseDTO.MissionQuestion> questions) {
+    }
+
+    /**
+     * 캐시 상태. mission 이 null 이면 현재 활성 미션 없음. validUntil 날짜가 되면 다시 적재한다.
+     */
+    private record Snapshot(CachedMission mission, LocalDate validUntil) {
+
+        boolean isExpired(LocalDate today) {
+            return !today.isBefore(validUntil);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.seasontonebackend.mission.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.mission.domain.entity.MissionQuestion;
+import org.example.seasontonebackend.mission.domain.repository.MemberScoreTotal;
+import org.example.seasontonebackend.mission.domain.repository.UserMissionResponseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미션별 점수 분포 저장소
+ * 미션 결과를 처음 조회할 때 응답 테이블을 회원별 총점으로 한 번 집계해 히스토그램을 만들고,
+ * 이후 이 인스턴스의 참여는 커밋 시점에 히스토그램에 더한다. 결과 조회는 집계 쿼리 없이 히스토그램만 읽는다.
+ * 다른 인스턴스에서 커밋된 참여는 여기 더해지지 않으므로, 집계가 refresh-interval 보다 오래되면 다시 집계한다.
+ * 집계는 맵 잠금 밖에서 한 스레드만 실행하고, 같은 미션을 조회하는 다른 스레드는 그 결과를 기다린다.
+ */
+@Slf4j
+@Component
+public class MissionAnalyticsStore {
+
+    private final UserMissionResponseRepository responseRepository;
+    private final long refreshIntervalNanos;
+
+    private final Map<Long, CompletableFuture<MissionStats>> statsByMission = new ConcurrentHashMap<>();
+
+    public MissionAnalyticsStore(UserMissionResponseRepository responseRepository,
+                                 @Value("${mission.analytics.refresh-interval:PT1M}") Duration refreshInterval) {
+        this.responseRepository = responseRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    /**
+     * 미션 통계 (없거나 오래됐으면 응답 테이블에서 다시 집계)
+     */
+    public MissionStats get(Long missionId, int questionCount) {
+        CompletableFuture<MissionStats> future;
+        while (true) {
+            future = statsByMission.get(missionId);
+            if (future != null && !isStale(future)) {
+                break;
+            }
+            CompletableFuture<MissionStats> created = new CompletableFuture<>();
+            boolean claimed = future == null
+                    ? statsByMission.putIfAbsent(missionId, created) == null
+                    : statsByMission.replace(missionId, future, created);
+            if (claimed) {
+                MissionStats previous = future != null ? future.join() : null;
+                return load(missionId, questionCount * MissionQuestion.MAX_SCORE, created, previous);
+            }
+            // 다른 스레드가 먼저 집계를 시작함 - 그 결과를 다시 읽음
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 참여 커밋 후 호출. 아직 집계 전인 미션은 첫 조회 때 응답 테이블에서 함께 집계된다.
+     * 집계 중이면 집계가 끝난 뒤 더한다 (같은 회원이 집계 결과에도 있으면 한 번만 반영).
+     */
+    public void recordParticipation(Long missionId, Long memberId, String building, String dong, int totalScore) {
+        CompletableFuture<MissionStats> future = statsByMission.get(missionId);
+        if (future != null) {
+            future.thenAccept(stats -> stats.add(memberId, building, dong, totalScore));
+        }
+    }
+
+    private MissionStats load(Long missionId, int maxScore, CompletableFuture<MissionStats> target, MissionStats previous) {
+        try {
+            MissionStats stats = new MissionStats(maxScore);
+            for (MemberScoreTotal row : responseRepository.sumScoresByMember(missionId)) {
+                stats.add(row.memberId(), row.building(), row.dong(), row.totalScore().intValue());
+            }
+            log.debug("미션 점수 분포 집계 - 미션ID: {}, 참여자 {}명", missionId, stats.getOverall().getTotal());
+            target.complete(stats);
+            return stats;
+        } catch (RuntimeException e) {
+            if (previous != null) {
+                // 재집계 실패 - 이전 집계(이미 오래된 상태라 다음 조회에서 다시 시도)를 계속 씀, 기다리던 스레드도 같은 값
+                log.warn("미션 점수 분포 재집계 실패, 이전 집계 사용 - 미션ID: {}: {}", missionId, e.getMessage());
+                target.complete(previous);
+                return previous;
+            }
+            // 실패한 집계는 남기지 않음 (다음 조회에서 다시 시도)
+            statsByMission.remove(missionId, target);
+            target.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private boolean isStale(CompletableFuture<MissionStats> future) {
+        // 집계 중인 미션은 기다림 (실패한 집계는 맵에서 바로 빠짐)
+        return future.isDone() && !future.isCompletedExceptionally()
+                && future.join().isOlderThan(refreshIntervalNanos);
+    }
+
+    /**
+     * 미션 하나의 전체/건물별/동별 히스토그램
+     */
+    public static class MissionStats {
+
+        private final int maxScore;
+        private final MissionScoreHistogram overall;
+        private final Map<String, MissionScoreHistogram> byBuilding = new ConcurrentHashMap<>();
+        private final Map<String, MissionScoreHistogram> byDong = new ConcurrentHashMap<>();
+        // 집계 쿼리와 커밋 후 반영이 겹쳐도 한 번만 더하도록 반영된 회원 기록
+        private final Set<Long> countedMembers = ConcurrentHashMap.newKeySet();
+        private final long loadedAt = System.nanoTime();
+
+        MissionStats(int maxScore) {
+            this.maxScore = maxScore;
+            this.overall = new MissionScoreHistogram(maxScore);
+        }
+
+        boolean isOlderThan(long nanos) {
+            return System.nanoTime() - loadedAt >= nanos;
+        }
+
+        void add(Long memberId, String building, String dong, int totalScore) {
+            if (!countedMembers.add(memberId)) {
+                return;
+            }
+            if (totalScore < 0 || totalScore > maxScore) {
+                // 점수 검증 이전에 저장된 응답 - 범위 끝 칸으로 보정
+                log.warn("미션 총점이 범위를 벗어남 - 회원ID: {}, 총점: {}, 최대: {}", memberId, totalScore, maxScore);
+                totalScore = Math.max(0, Math.min(totalScore, maxScore));
+            }
+            overall.add(totalScore);
+            if (building != null && !building.isBlank()) {
+                byBuilding.computeIfAbsent(building, key -> new MissionScoreHistogram(maxScore)).add(totalScore);
+            }
+            if (dong != null && !dong.isBlank()) {
+                byDong.computeIfAbsent(dong, key -> new MissionScoreHistogram(maxScore)).add(totalScore);
+            }
+        }
+
+        public int getMaxScore() {
+            return maxScore;
+        }
+
+        public MissionScoreHistogram getOverall() {
+            return overall;
+        }
+
+        public Optional<MissionScoreHistogram> getBuilding(String building) {
+            return building == null ? Optional.empty() : Optional.ofNullable(byBuilding.get(building));
+        }
+
+        public Optional<MissionScoreHistogram> getDong(String dong) {
+            return dong == null ? Optional.empty() : Optional.ofNullable(byDong.get(dong));
+        }
+    }
+}
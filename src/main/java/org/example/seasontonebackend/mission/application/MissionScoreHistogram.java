@@ -0,0 +1,88 @@
+package org.example.seasontonebackend.mission.application;
+
+/**
+ * 미션 총점 히스토그램 (0 ~ maxScore 점, 점수당 한 칸)
+ * 참여 시 한 칸만 증가시키고, 평균/백분위/순위는 칸 수(최대 점수)에 비례하는 비용으로 계산한다.
+ * 참여자 수와 무관하게 조회 비용이 일정하다.
+ */
+public class MissionScoreHistogram {
+
+    private final int[] counts;
+    private long sum;
+    private int total;
+
+    public MissionScoreHistogram(int maxScore) {
+        this.counts = new int[Math.max(maxScore, 0) + 1];
+    }
+
+    public synchronized void add(int score) {
+        int bucket = clamp(score);
+        counts[bucket]++;
+        sum += bucket;
+        total++;
+    }
+
+    public synchronized int getTotal() {
+        return total;
+    }
+
+    public synchronized double getAverage() {
+        return total == 0 ? 0.0 : (double) sum / total;
+    }
+
+    /**
+     * 백분위 순위 (0~100, 해당 점수보다 낮은 비율 + 같은 점수의 절반)
+     */
+    public synchronized double percentileRank(int score) {
+        if (total == 0) {
+            return 0.0;
+        }
+        int bucket = clamp(score);
+        int below = 0;
+        for (int i = 0; i < bucket; i++) {
+            below += counts[i];
+        }
+        return (below + counts[bucket] / 2.0) * 100.0 / total;
+    }
+
+    /**
+     * 순위 (1부터, 동점자는 같은 순위)
+     */
+    public synchronized int rankOf(int score) {
+        int bucket = clamp(score);
+        int above = 0;
+        for (int i = bucket + 1; i < counts.length; i++) {
+            above += counts[i];
+        }
+        return above + 1;
+    }
+
+    /**
+     * 주어진 점수 이상인 참여자 비율(%)
+     */
+    public synchronized double shareAtLeast(int score) {
+        if (total == 0) {
+            return 0.0;
+        }
+        int atLeast = 0;
+        for (int i = clamp(score); i < counts.length; i++) {
+            atLeast += counts[i];
+        }
+        return atLeast * 100.0 / total;
+    }
+
+    /**
+     * 점수별 인원 (복사본)
+     */
+    public synchronized int[] snapshot() {
+        return counts.clone();
+    }
+
+    public int getMaxScore() {
+        return counts.length - 1;
+    }
+
+    private int clamp(int score) {
+        return Math.max(0, Math.min(score, counts.length - 1));
+    }
+}
@@ -2,10 +2,13 @@ package org.example.seasontonebackend.mission.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.cache.EntityCacheInvalidator;
 import org.example.seasontonebackend.mission.converter.MissionConverter;
 import org.example.seasontonebackend.mission.domain.entity.MissionQuestion;
 import org.example.seasontonebackend.mission.domain.entity.UserMissionResponse;
 import org.example.seasontonebackend.mission.domain.entity.WeeklyMission;
+import org.example.seasontonebackend.mission.domain.repository.MissionParticipationRepository;
+import org.example.seasontonebackend.mission.domain.repository.UserMissionResponseBatchRepository;
 import org.example.seasontonebackend.mission.domain.repository.UserMissionResponseRepository;
 import org.example.seasontonebackend.mission.domain.repository.WeeklyMissionRepository;
 import org.example.seasontonebackend.mission.dto.MissionRequestDTO;
@@ -13,8 +16,21 @@ import org.example.seasontonebackend.mission.dto.MissionResponseDTO;
 import org.example.seasontonebackend.mission.exception.MissionException;
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.member.repository.MemberRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -24,18 +40,23 @@ public class MissionService {
 
     private final WeeklyMissionRepository missionRepository;
     private final UserMissionResponseRepository responseRepository;
+    private final UserMissionResponseBatchRepository responseBatchRepository;
+    private final MissionParticipationRepository participationRepository;
     private final MemberRepository memberRepository;
     private final MissionConverter missionConverter;
+    private final CurrentMissionCache currentMissionCache;
+    private final MissionAnalyticsStore analyticsStore;
+    private final EntityCacheInvalidator entityCacheInvalidator;
 
-    // 현재 활성 미션 조회
+    // 현재 활성 미션 조회 (미션·질문은 메모리 캐시, 참여자 수와 참여 여부는 인스턴스 간에 맞도록 DB 에서)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public MissionResponseDTO.CurrentMission getCurrentMission(Long memberId) {
-        WeeklyMission mission = missionRepository.findCurrentActiveMissionWithQuestions()
+        CurrentMissionCache.CachedMission mission = currentMissionCache.get()
                 .orElseThrow(() -> new MissionException("현재 활성화된 미션이 없습니다."));
 
-        Integer participationCount = missionRepository.countParticipantsByMissionId(mission.getMissionId());
-        Boolean userParticipated = responseRepository.existsByMemberIdAndMissionId(memberId, mission.getMissionId());
-
-        return missionConverter.toCurrentMissionDto(mission, participationCount, userParticipated);
+        int participantCount = participationRepository.findParticipantCount(mission.missionId());
+        boolean userParticipated = memberId != null && participationRepository.exists(mission.missionId(), memberId);
+        return missionConverter.toCurrentMissionDto(mission, participantCount, userParticipated);
     }
 
     // 미션 참여하기
@@ -46,36 +67,67 @@ public class MissionService {
         WeeklyMission mission = missionRepository.findById(missionId)
                 .orElseThrow(() -> new MissionException("미션을 찾을 수 없습니다."));
 
-        // 이미 참여했는지 확인
-        if (responseRepository.existsByMemberIdAndMissionId(memberId, missionId)) {
+        // 이미 참여했는지 확인 (동시 요청은 아래 유니크 제약이 걸러냄)
+        if (participationRepository.exists(missionId, memberId)) {
             throw new MissionException("이미 참여한 미션입니다.");
         }
 
-        Long responseId = null;
+        // 질문 ID → 질문 (응답마다 질문 목록을 순회하지 않도록 한 번만 구성)
+        Map<Long, MissionQuestion> questionsById = new HashMap<>();
+        for (MissionQuestion question : mission.getQuestions()) {
+            questionsById.put(question.getQuestionId(), question);
+        }
+
+        List<UserMissionResponse> responses = new ArrayList<>(request.getResponses().size());
+        Set<Long> answeredQuestionIds = new HashSet<>();
         for (MissionRequestDTO.MissionParticipate.Response response : request.getResponses()) {
-            MissionQuestion question = mission.getQuestions().stream()
-                    .filter(q -> q.getQuestionId().equals(response.getQuestionId()))
-                    .findFirst()
-                    .orElseThrow(() -> new MissionException("질문을 찾을 수 없습니다."));
+            MissionQuestion question = questionsById.get(response.getQuestionId());
+            if (question == null) {
+                throw new MissionException("질문을 찾을 수 없습니다.");
+            }
+            if (!answeredQuestionIds.add(question.getQuestionId())) {
+                throw new MissionException("같은 질문에 중복으로 응답할 수 없습니다.");
+            }
+            Integer score = response.getScore();
+            if (score == null || score < MissionQuestion.MIN_SCORE || score > MissionQuestion.MAX_SCORE) {
+                throw new MissionException("점수는 " + MissionQuestion.MIN_SCORE + "~" + MissionQuestion.MAX_SCORE + "점이어야 합니다.");
+            }
 
-            UserMissionResponse userResponse = UserMissionResponse.builder()
+            responses.add(UserMissionResponse.builder()
                     .member(member)
                     .mission(mission)
                     .question(question)
                     .answer(response.getAnswer())
-                    .score(response.getScore())
-                    .build();
+                    .score(score)
+                    .build());
+        }
 
-            UserMissionResponse saved = responseRepository.save(userResponse);
-            if (responseId == null) {
-                responseId = saved.getResponseId();
-            }
+        if (responses.isEmpty()) {
+            throw new MissionException("응답이 비어 있습니다.");
         }
 
+        // 동시에 들어온 참여 요청은 질문 구성이 달라도 (mission, member) 유니크 제약으로 한 건만 성공
+        Long responseId;
+        try {
+            participationRepository.insert(missionId, memberId);
+            responseId = responseBatchRepository.insertAll(responses);
+        } catch (DataIntegrityViolationException e) {
+            throw new MissionException("이미 참여한 미션입니다.");
+        }
+
+        // 참여 기록과 같은 트랜잭션에서 증가시키므로 첫 참여에서만 한 번 반영됨
+        participationRepository.incrementParticipantCount(missionId);
+
+        int totalScore = responses.stream().mapToInt(UserMissionResponse::getScore).sum();
+        afterCommit(() -> {
+            analyticsStore.recordParticipation(missionId, memberId, member.getBuilding(), member.getDong(), totalScore);
+        });
+
         return responseId;
     }
 
-    // 미션 결과 조회
+    // 미션 결과 조회 (점수 분포는 미션별 히스토그램에서 계산)
+    @Transactional(readOnly = true)
     public MissionResponseDTO.MissionResult getMissionResult(Long memberId, Long missionId) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MissionException("사용자를 찾을 수 없습니다."));
@@ -89,6 +141,45 @@ public class MissionService {
             throw new MissionException("참여하지 않은 미션입니다.");
         }
 
-        return missionConverter.toMissionResultDto(mission, userScore);
+        MissionAnalyticsStore.MissionStats stats = analyticsStore.get(missionId, mission.getQuestions().size());
+        return missionConverter.toMissionResultDto(mission, userScore, stats, member.getBuilding(), member.getDong());
+    }
+
+    // 미션 활성 여부 변경 (관리자)
+    public void updateMissionActive(Long missionId, boolean active) {
+        WeeklyMission mission = missionRepository.findById(missionId)
+                .orElseThrow(() -> new MissionException("미션을 찾을 수 없습니다."));
+
+        mission.setIsActive(active);
+        afterCommit(currentMissionCache::invalidate);
+    }
+
+    // 현재 미션 캐시 다시 적재 (관리자, DB 를 직접 수정한 경우 - 엔티티 2차 캐시도 비움)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refreshCurrentMission() {
+        entityCacheInvalidator.evictEntity(WeeklyMission.class);
+        entityCacheInvalidator.evictEntity(MissionQuestion.class);
+        currentMissionCache.invalidate();
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 기동 시 참여 기록과 참여자 수를 응답 테이블 기준으로 맞춤 (참여 기록 도입 이전 데이터 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileParticipantCounts() {
+        try {
+            int updated = participationRepository.reconcile();
+            log.info("미션 참여자 수 보정 완료 - 미션 {}건", updated);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 보정한 경우 (그쪽 결과가 반영됨)
+            log.warn("미션 참여자 수 보정 건너뜀 - 다른 인스턴스와 동시 보정: {}", e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,9 @@ package org.example.seasontonebackend.mission.converter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.mission.application.CurrentMissionCache;
+import org.example.seasontonebackend.mission.application.MissionAnalyticsStore;
+import org.example.seasontonebackend.mission.application.MissionScoreHistogram;
 import org.example.seasontonebackend.mission.domain.entity.MissionQuestion;
 import org.example.seasontonebackend.mission.domain.entity.WeeklyMission;
 import org.example.seasontonebackend.mission.dto.MissionResponseDTO;
@@ -37,38 +40,94 @@ public class MissionConverter {
                 .build();
     }
 
-    public MissionResponseDTO.MissionResult toMissionResultDto(WeeklyMission mission, Integer userScore) {
-        // 임시 데이터로 비교 정보 생성 (나중에 실제 계산으로 교체)
-        MissionResponseDTO.ComparisonData buildingComparison = MissionResponseDTO.ComparisonData.builder()
-                .average(6.2)
-                .userRank(3)
-                .totalParticipants(12)
-                .comparisonText("우리 건물 평균보다 만족도가 높습니다")
+    public MissionResponseDTO.CurrentMission toCurrentMissionDto(CurrentMissionCache.CachedMission mission,
+                                                                 int participationCount, boolean userParticipated) {
+        return MissionResponseDTO.CurrentMission.builder()
+                .missionId(mission.missionId())
+                .category(mission.category())
+                .title(mission.title())
+                .description(mission.description())
+                .startDate(mission.startDate())
+                .endDate(mission.endDate())
+                .questions(mission.questions())
+                .participationCount(participationCount)
+                .userParticipated(userParticipated)
                 .build();
+    }
 
-        MissionResponseDTO.ComparisonData neighborhoodComparison = MissionResponseDTO.ComparisonData.builder()
-                .average(5.8)
-                .userRank(8)
-                .totalParticipants(45)
-                .comparisonText("우리 동네 평균보다 만족도가 높습니다")
-                .build();
+    public List<MissionResponseDTO.MissionQuestion> toMissionQuestionDtos(WeeklyMission mission) {
+        return mission.getQuestions().stream()
+                .map(this::toMissionQuestionDto)
+                .collect(Collectors.toList());
+    }
+
+    public MissionResponseDTO.MissionResult toMissionResultDto(WeeklyMission mission, Integer userScore,
+                                                               MissionAnalyticsStore.MissionStats stats,
+                                                               String building, String dong) {
+        MissionScoreHistogram overall = stats.getOverall();
+        double percentileRank = overall.percentileRank(userScore);
+        double topPercent = overall.getTotal() == 0 ? 0.0 : overall.rankOf(userScore) * 100.0 / overall.getTotal();
+
+        MissionResponseDTO.ComparisonData buildingComparison = stats.getBuilding(building)
+                .map(histogram -> toComparisonData(histogram, userScore, "우리 건물"))
+                .orElse(null);
+        MissionResponseDTO.ComparisonData neighborhoodComparison = stats.getDong(dong)
+                .map(histogram -> toComparisonData(histogram, userScore, "우리 동네"))
+                .orElse(null);
+
+        int[] counts = overall.snapshot();
+        List<MissionResponseDTO.ScoreBucket> distribution = new ArrayList<>(counts.length);
+        for (int score = 0; score < counts.length; score++) {
+            distribution.add(MissionResponseDTO.ScoreBucket.builder().score(score).count(counts[score]).build());
+        }
 
-        // 인사이트 생성
-        List<String> insights = List.of(
-                "우리 건물은 " + mission.getCategory() + " 환경이 만족스러운 편입니다",
-                "87%의 참가자가 " + mission.getCategory() + "에 만족하고 있습니다"
-        );
+        // 만점의 70% 이상을 만족으로 본다
+        int satisfiedScore = (int) Math.ceil(stats.getMaxScore() * 0.7);
+        List<String> insights = new ArrayList<>();
+        insights.add("전체 참여자 " + overall.getTotal() + "명 중 상위 " + roundToOne(topPercent) + "%입니다");
+        insights.add(Math.round(overall.shareAtLeast(satisfiedScore)) + "%의 참가자가 " + mission.getCategory() + "에 만족하고 있습니다");
+        if (buildingComparison != null) {
+            insights.add(buildingComparison.getComparisonText());
+        }
 
         return MissionResponseDTO.MissionResult.builder()
                 .userScore(userScore)
-                .maxScore(10) // 최대 점수 (질문 2개 * 5점)
+                .maxScore(stats.getMaxScore())
                 .category(mission.getCategory())
+                .percentileRank(roundToOne(percentileRank))
+                .topPercent(roundToOne(topPercent))
+                .totalParticipants(overall.getTotal())
+                .averageScore(roundToOne(overall.getAverage()))
+                .scoreDistribution(distribution)
                 .buildingComparison(buildingComparison)
                 .neighborhoodComparison(neighborhoodComparison)
                 .insights(insights)
                 .build();
     }
 
+    private MissionResponseDTO.ComparisonData toComparisonData(MissionScoreHistogram histogram, int userScore, String scope) {
+        double average = histogram.getAverage();
+        String comparisonText;
+        if (userScore > average) {
+            comparisonText = scope + " 평균보다 만족도가 높습니다";
+        } else if (userScore < average) {
+            comparisonText = scope + " 평균보다 만족도가 낮습니다";
+        } else {
+            comparisonText = scope + " 평균과 만족도가 비슷합니다";
+        }
+
+        return MissionResponseDTO.ComparisonData.builder()
+                .average(roundToOne(average))
+                .userRank(histogram.rankOf(userScore))
+                .totalParticipants(histogram.getTotal())
+                .comparisonText(comparisonText)
+                .build();
+    }
+
+    private double roundToOne(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
     // 미션 목록 조회용
     public List<MissionResponseDTO.MissionSummary> toMissionSummaryList(List<WeeklyMission> missions) {
         return missions.stream()
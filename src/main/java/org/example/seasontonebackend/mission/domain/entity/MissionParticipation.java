@@ -0,0 +1,39 @@
+package org.example.seasontonebackend.mission.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.seasontonebackend.member.domain.Member;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 미션 참여 (회원·미션당 한 행)
+ * 유니크 제약으로 동시에 들어온 참여 요청 중 하나만 성공하고, 성공한 경우에만 참여자 수를 올린다.
+ */
+@Entity
+@Table(name = "mission_participations",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_mission_participation",
+                columnNames = {"mission_id", "member_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MissionParticipation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long participationId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mission_id", nullable = false)
+    private WeeklyMission mission;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(nullable = false)
+    private LocalDateTime participatedAt;
+}
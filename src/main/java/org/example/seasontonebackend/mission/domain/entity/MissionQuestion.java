@@ -2,9 +2,14 @@ package org.example.seasontonebackend.mission.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.seasontonebackend.common.cache.EntityCacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "mission_questions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.MISSION_QUESTION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -12,6 +17,10 @@ import lombok.*;
 @Builder
 public class MissionQuestion {
 
+    // 모든 질문은 5점 척도 (응답 점수 범위)
+    public static final int MIN_SCORE = 1;
+    public static final int MAX_SCORE = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long questionId;
@@ -8,7 +8,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_mission_responses")
+@Table(name = "user_mission_responses",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_mission_response",
+                columnNames = {"member_id", "mission_id", "question_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
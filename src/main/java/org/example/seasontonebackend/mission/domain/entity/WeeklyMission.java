@@ -2,6 +2,10 @@ package org.example.seasontonebackend.mission.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.seasontonebackend.common.cache.EntityCacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
@@ -11,6 +15,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "weekly_missions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.WEEKLY_MISSION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,10 +47,17 @@ public class WeeklyMission {
     @Builder.Default
     private Boolean isActive = true;
 
+    // 참여자 수 (첫 참여 시 DB 에서 원자적으로 증가, JPA 로는 쓰지 않으므로 엔티티 값은 늦을 수 있음)
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer participantCount = 0;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
     @OneToMany(mappedBy = "mission", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.WEEKLY_MISSION_QUESTIONS)
     @Builder.Default
     private List<MissionQuestion> questions = new ArrayList<>();
 
@@ -77,6 +90,10 @@ public class WeeklyMission {
         return isActive;
     }
 
+    public Integer getParticipantCount() {
+        return participantCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,7 @@
+package org.example.seasontonebackend.mission.domain.repository;
+
+/**
+ * 미션 참여자별 총점 (점수 분포 집계용 프로젝션)
+ */
+public record MemberScoreTotal(Long memberId, String building, String dong, Long totalScore) {
+}
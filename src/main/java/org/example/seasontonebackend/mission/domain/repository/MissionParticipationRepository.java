@@ -0,0 +1,81 @@
+package org.example.seasontonebackend.mission.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미션 참여 기록과 참여자 수
+ * 참여자 수는 JPQL 벌크 UPDATE 대신 JDBC 로 올린다 (벌크 UPDATE 는 미션 2차 캐시 영역 전체를 비우므로).
+ */
+@Repository
+@RequiredArgsConstructor
+public class MissionParticipationRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO mission_participations (mission_id, member_id, participated_at) VALUES (?, ?, ?)";
+
+    private static final String EXISTS_SQL =
+            "SELECT COUNT(*) FROM mission_participations WHERE mission_id = ? AND member_id = ?";
+
+    private static final String COUNT_SQL =
+            "SELECT participant_count FROM weekly_missions WHERE mission_id = ?";
+
+    private static final String INCREMENT_SQL =
+            "UPDATE weekly_missions SET participant_count = participant_count + 1 WHERE mission_id = ?";
+
+    // 참여 기록 도입 이전 응답으로 참여 행 채우기
+    private static final String BACKFILL_SQL = "INSERT INTO mission_participations (mission_id, member_id, participated_at) "
+            + "SELECT r.mission_id, r.member_id, MIN(r.submitted_at) FROM user_mission_responses r "
+            + "WHERE NOT EXISTS (SELECT 1 FROM mission_participations p "
+            + "WHERE p.mission_id = r.mission_id AND p.member_id = r.member_id) "
+            + "GROUP BY r.mission_id, r.member_id";
+
+    private static final String RECONCILE_SQL = "UPDATE weekly_missions SET participant_count = "
+            + "(SELECT COUNT(*) FROM mission_participations p WHERE p.mission_id = weekly_missions.mission_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 참여 기록 저장 (이미 참여했으면 DuplicateKeyException)
+     */
+    public void insert(Long missionId, Long memberId) {
+        jdbcTemplate.update(INSERT_SQL, missionId, memberId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 참여 여부 (유니크 인덱스 조회)
+     */
+    public boolean exists(Long missionId, Long memberId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, missionId, memberId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 현재 참여자 수 (엔티티 2차 캐시를 거치지 않고 DB 에서 읽음)
+     */
+    public int findParticipantCount(Long missionId) {
+        List<Integer> counts = jdbcTemplate.queryForList(COUNT_SQL, Integer.class, missionId);
+        return counts.isEmpty() || counts.get(0) == null ? 0 : counts.get(0);
+    }
+
+    /**
+     * 참여자 수 1 증가 (insert 와 같은 트랜잭션에서 호출하므로 첫 참여에서만 한 번 반영됨)
+     */
+    public int incrementParticipantCount(Long missionId) {
+        return jdbcTemplate.update(INCREMENT_SQL, missionId);
+    }
+
+    /**
+     * 응답 테이블 기준으로 참여 기록을 채우고 전체 미션 참여자 수를 다시 계산 (기동 시 1회)
+     * 반환값은 보정한 미션 수
+     */
+    public int reconcile() {
+        jdbcTemplate.update(BACKFILL_SQL);
+        return jdbcTemplate.update(RECONCILE_SQL);
+    }
+}
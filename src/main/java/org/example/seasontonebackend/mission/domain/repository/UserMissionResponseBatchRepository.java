@@ -0,0 +1,68 @@
+package org.example.seasontonebackend.mission.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.seasontonebackend.mission.domain.entity.UserMissionResponse;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미션 응답 일괄 저장
+ * 응답 ID 가 IDENTITY 라 JPA saveAll 로는 행마다 INSERT 가 나가므로, 한 번의 JDBC 배치로 전체 응답을 넣는다.
+ * (MySQL 은 rewriteBatchedStatements=true 에서 다중 행 INSERT 하나로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserMissionResponseBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO user_mission_responses "
+            + "(member_id, mission_id, question_id, answer, score, submitted_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 응답 목록을 한 번에 저장하고 생성된 첫 번째 응답 ID 를 반환
+     * (member, mission, question) 중복 시 DuplicateKeyException
+     */
+    public Long insertAll(List<UserMissionResponse> responses) {
+        Timestamp submittedAt = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"response_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        UserMissionResponse response = responses.get(i);
+                        ps.setLong(1, response.getMember().getId());
+                        ps.setLong(2, response.getMission().getMissionId());
+                        ps.setLong(3, response.getQuestion().getQuestionId());
+                        ps.setString(4, response.getAnswer());
+                        ps.setInt(5, response.getScore());
+                        ps.setTimestamp(6, submittedAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return responses.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.isEmpty()) {
+            return null;
+        }
+        Object firstKey = keys.get(0).values().iterator().next();
+        return firstKey instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface UserMissionResponseRepository extends JpaRepository<UserMissionResponse, Long> {
 
@@ -14,4 +16,9 @@ public interface UserMissionResponseRepository extends JpaRepository<UserMission
 
     @Query("SELECT SUM(r.score) FROM UserMissionResponse r WHERE r.member.id = :memberId AND r.mission.missionId = :missionId")
     Integer getTotalScoreByMemberAndMission(@Param("memberId") Long memberId, @Param("missionId") Long missionId);
+
+    @Query("SELECT new org.example.seasontonebackend.mission.domain.repository.MemberScoreTotal(" +
+            "r.member.id, r.member.building, r.member.dong, SUM(r.score)) FROM UserMissionResponse r " +
+            "WHERE r.mission.missionId = :missionId GROUP BY r.member.id, r.member.building, r.member.dong")
+    List<MemberScoreTotal> sumScoresByMember(@Param("missionId") Long missionId);
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +18,9 @@ public interface WeeklyMissionRepository extends JpaRepository<WeeklyMission, Lo
     @Query("SELECT m FROM WeeklyMission m LEFT JOIN FETCH m.questions WHERE m.isActive = true AND CURRENT_DATE BETWEEN m.startDate AND m.endDate")
     Optional<WeeklyMission> findCurrentActiveMissionWithQuestions();
 
+    @Query("SELECT MIN(m.startDate) FROM WeeklyMission m WHERE m.isActive = true AND m.startDate > CURRENT_DATE")
+    LocalDate findNextActiveStartDate();
+
     @Query("SELECT COUNT(DISTINCT r.member.id) FROM UserMissionResponse r WHERE r.mission.missionId = :missionId")
     Integer countParticipantsByMissionId(@Param("missionId") Long missionId);
 }
\ No newline at end of file
@@ -46,6 +46,11 @@ public class MissionResponseDTO {
         private Integer userScore;
         private Integer maxScore;
         private String category;
+        private Double percentileRank; // 전체 참여자 중 백분위 (0~100)
+        private Double topPercent; // 상위 N%
+        private Integer totalParticipants;
+        private Double averageScore;
+        private List<ScoreBucket> scoreDistribution;
         private ComparisonData buildingComparison;
         private ComparisonData neighborhoodComparison;
         private List<String> insights;
@@ -94,6 +99,16 @@ public class MissionResponseDTO {
         private String comparisonText;
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ScoreBucket {
+        private Integer score;
+        private Integer count;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
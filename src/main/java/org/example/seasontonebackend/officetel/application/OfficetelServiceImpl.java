@@ -3,6 +3,16 @@ package org.example.seasontonebackend.officetel.application;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.fallback.MarketFallbackTable;
+import org.example.seasontonebackend.common.fallback.RegionFallbackProfile;
+import org.example.seasontonebackend.common.resilience.ResilientUpstream;
+import org.example.seasontonebackend.common.resilience.StaleWhileRevalidateCache;
+import org.example.seasontonebackend.common.resilience.UpstreamRegistry;
+import org.example.seasontonebackend.common.resilience.UpstreamUnavailableException;
+import org.example.seasontonebackend.common.timeseries.ContractKind;
+import org.example.seasontonebackend.common.timeseries.PropertyType;
+import org.example.seasontonebackend.common.timeseries.RentTimeSeriesStore;
+import org.example.seasontonebackend.common.timeseries.RentTransactionSource;
 import org.example.seasontonebackend.officetel.converter.OfficetelConverter;
 import org.example.seasontonebackend.officetel.dto.OfficetelMarketDataResponseDTO;
 import org.example.seasontonebackend.officetel.dto.OfficetelTransactionResponseDTO;
@@ -10,7 +20,6 @@ import org.example.seasontonebackend.officetel.dto.PublicApiResponseDTO;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -21,9 +30,8 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-public class OfficetelServiceImpl implements OfficetelService {
+public class OfficetelServiceImpl implements OfficetelService, RentTransactionSource {
 
-    private static final String API_URL = "https://apis.data.go.kr/1613000/RTMSDataSvcOffiRent/getRTMSDataSvcOffiRent";
     private static final String DATE_FORMAT = "%d-%02d-%02d";
     private static final int MONTHS_TO_FETCH = 3;
     private static final int MAX_ROWS_PER_REQUEST = 100;
@@ -31,12 +39,24 @@ public class OfficetelServiceImpl implements OfficetelService {
     @Value("${officetel.api.service-key}")
     private String serviceKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 부하 테스트 등에서 로컬 스텁으로 교체할 수 있도록 설정으로 분리
+    @Value("${officetel.api.base-url:https://apis.data.go.kr/1613000/RTMSDataSvcOffiRent/getRTMSDataSvcOffiRent}")
+    private String apiUrl;
+
     private final XmlMapper xmlMapper = new XmlMapper();
     private final OfficetelConverter officetelConverter;
+    private final RentTimeSeriesStore timeSeriesStore;
+    private final MarketFallbackTable marketFallbackTable;
+    private final ResilientUpstream rtmsUpstream;
+    private final StaleWhileRevalidateCache<String, List<PublicApiResponseDTO.Item>> rtmsCache;
 
-    public OfficetelServiceImpl(OfficetelConverter officetelConverter) {
+    public OfficetelServiceImpl(OfficetelConverter officetelConverter, RentTimeSeriesStore timeSeriesStore, UpstreamRegistry upstreamRegistry,
+                                 MarketFallbackTable marketFallbackTable) {
         this.officetelConverter = officetelConverter;
+        this.timeSeriesStore = timeSeriesStore;
+        this.marketFallbackTable = marketFallbackTable;
+        this.rtmsUpstream = upstreamRegistry.get(UpstreamRegistry.RTMS);
+        this.rtmsCache = upstreamRegistry.createCache("officetel-rtms", UpstreamRegistry.RTMS);
     }
 
     @Override
@@ -92,13 +112,39 @@ public class OfficetelServiceImpl implements OfficetelService {
             YearMonth targetMonth = currentMonth.minusMonths(i);
             String dealYmd = targetMonth.format(DateTimeFormatter.ofPattern("yyyyMM"));
             List<PublicApiResponseDTO.Item> monthlyItems = callApiAndParseXml(lawdCd, dealYmd);
-            if (monthlyItems != null && !monthlyItems.isEmpty()) {
+            if (monthlyItems != null) {
+                // 조회한 최근 달은 시계열 버킷에도 반영
+                timeSeriesStore.recordMonth(lawdCd, PropertyType.OFFICETEL, targetMonth, toMonthlyAmounts(monthlyItems));
                 allItems.addAll(monthlyItems);
             }
         }
         return allItems;
     }
 
+    @Override
+    public PropertyType getPropertyType() {
+        return PropertyType.OFFICETEL;
+    }
+
+    @Override
+    public Map<ContractKind, double[]> fetchMonthlyAmounts(String lawdCd, YearMonth month) {
+        List<PublicApiResponseDTO.Item> monthlyItems = callApiAndParseXml(lawdCd, month.format(DateTimeFormatter.ofPattern("yyyyMM")));
+        return monthlyItems == null ? null : toMonthlyAmounts(monthlyItems);
+    }
+
+    private Map<ContractKind, double[]> toMonthlyAmounts(List<PublicApiResponseDTO.Item> items) {
+        Map<ContractKind, double[]> amounts = new EnumMap<>(ContractKind.class);
+        amounts.put(ContractKind.JEONSE, items.stream()
+                .filter(this::isJeonseTransaction)
+                .mapToDouble(item -> RentTransactionSource.manwonToWon(item.getDeposit()))
+                .toArray());
+        amounts.put(ContractKind.MONTHLY_RENT, items.stream()
+                .filter(this::isMonthlyRentTransaction)
+                .mapToDouble(item -> RentTransactionSource.manwonToWon(item.getMonthlyRent()))
+                .toArray());
+        return amounts;
+    }
+
     private boolean isValidNeighborhood(PublicApiResponseDTO.Item item) {
         return item.getNeighborhood() != null && !item.getNeighborhood().trim().isEmpty();
     }
@@ -124,254 +170,89 @@ public class OfficetelServiceImpl implements OfficetelService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 실거래가 API 호출 (거래가 없는 달은 빈 목록, 호출/파싱 실패 시 null)
+     */
     private List<PublicApiResponseDTO.Item> callApiAndParseXml(String lawdCd, String dealYmd) {
         // 수동으로 URL 구성하여 인코딩 문제 해결
         String encodedServiceKey = java.net.URLEncoder.encode(serviceKey, java.nio.charset.StandardCharsets.UTF_8);
         String url = String.format("%s?serviceKey=%s&LAWD_CD=%s&DEAL_YMD=%s&numOfRows=%d", 
-                API_URL, encodedServiceKey, lawdCd, dealYmd, MAX_ROWS_PER_REQUEST);
+                apiUrl, encodedServiceKey, lawdCd, dealYmd, MAX_ROWS_PER_REQUEST);
         URI uri = URI.create(url);
 
-        log.debug("API 요청 URL: {}", uri);
+        // URL 에 서비스 키가 포함되므로 지역/월만 기록
+        log.debug("오피스텔 API 요청 - 법정동코드: {}, 계약년월: {}", lawdCd, dealYmd);
 
         try {
-            String xmlResponse = restTemplate.getForObject(uri, String.class);
-            if (xmlResponse != null) {
-                PublicApiResponseDTO responseDto = xmlMapper.readValue(xmlResponse, PublicApiResponseDTO.class);
-                if (responseDto != null && responseDto.getBody() != null && responseDto.getBody().getItems() != null) {
-                    log.info("API 응답 성공 - 데이터 건수: {}", responseDto.getBody().getItems().getItemList().size());
-                    return responseDto.getBody().getItems().getItemList();
+            // 같은 지역/월 재조회는 캐시에서 제공하고, 만료된 값은 백그라운드에서 갱신
+            return rtmsCache.get(lawdCd + ":" + dealYmd, () -> rtmsUpstream.call(() -> requestItems(uri)));
+        } catch (UpstreamUnavailableException e) {
+            log.warn("API 호출 생략 - {}", e.getMessage());
+        } catch (RestClientException e) {
+            log.error("API 호출 실패 - 법정동코드: {}, 계약년월: {}, 오류: {}", lawdCd, dealYmd, e.getMessage());
+        } catch (Exception e) {
+            log.error("API 예상치 못한 오류 발생 - 법정동코드: {}, 계약년월: {}, 오류: {}", lawdCd, dealYmd, e.getMessage());
+        }
+        return null;
+    }
+
+    private List<PublicApiResponseDTO.Item> requestItems(URI uri) {
+        String xmlResponse = rtmsUpstream.getRestTemplate().getForObject(uri, String.class);
+        if (xmlResponse == null) {
+            return Collections.emptyList();
+        }
+        try {
+            PublicApiResponseDTO responseDto = xmlMapper.readValue(xmlResponse, PublicApiResponseDTO.class);
+            if (responseDto != null && responseDto.getBody() != null && responseDto.getBody().getItems() != null) {
+                List<PublicApiResponseDTO.Item> itemList = responseDto.getBody().getItems().getItemList();
+                if (itemList != null) {
+                    log.debug("API 응답 성공 - 데이터 건수: {}", itemList.size());
+                    return itemList;
                 }
             }
-        } catch (RestClientException e) {
-            log.error("API 호출 실패 - URL: {}, 오류: {}", uri, e.getMessage());
+            return Collections.emptyList();
         } catch (JsonProcessingException e) {
-            log.error("XML 파싱 실패 - URL: {}, 오류: {}", uri, e.getMessage());
-        } catch (Exception e) {
-            log.error("예상치 못한 오류 발생 - URL: {}, 오류: {}", uri, e.getMessage());
+            // 한도 초과 등 오류 응답도 XML 파싱 실패로 드러나므로 업스트림 실패로 집계
+            throw new IllegalStateException("XML 파싱 실패: " + e.getOriginalMessage(), e);
         }
-        return Collections.emptyList();
     }
 
     @Override
     public Map<String, Object> getTimeSeriesAnalysis(String lawdCd, int months) {
         log.info("오피스텔 시계열 분석 시작 - 법정동코드: {}, 분석 기간: {}개월", lawdCd, months);
-        
-        Map<String, Object> result = new HashMap<>();
-        
-        // 오피스텔은 목업 데이터로 처리 (실제 API 연동은 복잡함)
-        result = createMockTimeSeriesData(lawdCd, months, "오피스텔");
-        
-        return result;
-    }
-    
-    private Map<String, Object> createMockTimeSeriesData(String lawdCd, int months, String buildingType) {
-        List<Map<String, Object>> timeSeriesData = new ArrayList<>();
-        YearMonth currentMonth = YearMonth.now();
-        
-        // 지역별 기본 가격 설정
-        double baseRent = getBaseRentByRegion(lawdCd, buildingType);
-        
-        for (int i = months - 1; i >= 0; i--) {
-            YearMonth targetMonth = currentMonth.minusMonths(i);
-            // 시장 변동성 반영 (월 1-3만원 변동)
-            double monthlyRent = baseRent + (months - i - 1) * 15000 + (Math.random() - 0.5) * 60000;
-            
-            Map<String, Object> monthData = new HashMap<>();
-            monthData.put("period", targetMonth.format(DateTimeFormatter.ofPattern("yyyy-MM")));
-            monthData.put("averageRent", Math.round(monthlyRent));
-            monthData.put("transactionCount", (int) (Math.random() * 20) + 10); // 10-30건
-            monthData.put("yearMonth", targetMonth.toString());
-            
-            timeSeriesData.add(monthData);
-        }
-        
-        // 목업 분석 결과
-        Map<String, Object> analysis = new HashMap<>();
-        double startRent = (Double) timeSeriesData.get(0).get("averageRent");
-        double endRent = (Double) timeSeriesData.get(timeSeriesData.size() - 1).get("averageRent");
-        double totalChangeRate = ((endRent - startRent) / startRent) * 100;
-        
-        analysis.put("totalChangeRate", Math.round(totalChangeRate * 10) / 10.0);
-        analysis.put("monthlyChangeRate", Math.round((totalChangeRate / months) * 10) / 10.0);
-        analysis.put("startPeriod", timeSeriesData.get(0).get("period"));
-        analysis.put("endPeriod", timeSeriesData.get(timeSeriesData.size() - 1).get("period"));
-        analysis.put("startRent", startRent);
-        analysis.put("endRent", endRent);
-        analysis.put("trend", totalChangeRate > 0 ? "상승" : totalChangeRate < -5 ? "하락" : "안정");
-        analysis.put("buildingType", buildingType);
-        
-        Map<String, Object> result = new HashMap<>();
-        result.put("timeSeries", timeSeriesData);
-        result.put("analysis", analysis);
-        result.put("period", months + "개월");
-        result.put("isMockData", true);
-        
-        return result;
-    }
-    
-    private double getBaseRentByRegion(String lawdCd, String buildingType) {
-        // 건물 유형별 기본 가격
-        double baseRent = buildingType.equals("오피스텔") ? 800000 : 600000;
-        
-        // 지역별 가격 조정
-        switch (lawdCd) {
-            case "11680": // 강남구
-            case "11650": // 서초구
-                return baseRent * 1.4;
-            case "11710": // 송파구
-            case "11740": // 강동구
-                return baseRent * 1.2;
-            case "11440": // 마포구
-            case "11170": // 용산구
-                return baseRent * 1.1;
-            case "11200": // 성동구
-            case "11215": // 광진구
-                return baseRent * 1.0;
-            case "11230": // 동대문구
-            case "11260": // 중랑구
-                return baseRent * 0.9;
-            case "11290": // 성북구
-            case "11305": // 강북구
-                return baseRent * 0.85;
-            case "11320": // 도봉구
-            case "11350": // 노원구
-                return baseRent * 0.8;
-            case "11380": // 은평구
-            case "11410": // 서대문구
-                return baseRent * 0.9;
-            case "11470": // 양천구
-            case "11500": // 강서구
-                return baseRent * 0.85;
-            case "11530": // 구로구
-            case "11545": // 금천구
-                return baseRent * 0.8;
-            case "11560": // 영등포구
-            case "11590": // 동작구
-                return baseRent * 0.9;
-            case "11620": // 관악구
-                return baseRent * 0.8;
-            default:
-                return baseRent;
-        }
+
+        // 사전 집계된 월별 버킷에서 조회 (요청 경로에서 외부 API 호출 없음)
+        return timeSeriesStore.analyze(lawdCd, PropertyType.OFFICETEL, ContractKind.MONTHLY_RENT, months)
+                .orElseGet(() -> {
+                    log.warn("집계된 시계열 데이터가 부족해 목업 데이터를 반환합니다. 법정동코드: {}", lawdCd);
+                    return marketFallbackTable.get(lawdCd, PropertyType.OFFICETEL).timeSeries(months);
+                });
     }
     
     private List<OfficetelMarketDataResponseDTO> createSimulatedMarketData(String lawdCd) {
-        List<OfficetelMarketDataResponseDTO> simulatedData = new ArrayList<>();
-        double baseRent = getBaseRentByRegion(lawdCd, "오피스텔");
-        
-        // 지역별 동네 이름 생성
-        String[] neighborhoods = getNeighborhoodNamesByRegion(lawdCd);
-        
-        for (String neighborhood : neighborhoods) {
-            double variation = 0.8 + Math.random() * 0.4; // 0.8 ~ 1.2 배
-            double avgRent = Math.round(baseRent * variation);
-            double avgDeposit = Math.round(avgRent * 50); // 월세의 50배
-            
-            OfficetelMarketDataResponseDTO marketData = OfficetelMarketDataResponseDTO.builder()
-                    .neighborhood(neighborhood)
-                    .avgMonthlyRent(avgRent)
-                    .avgDeposit(avgDeposit)
-                    .transactionCount((int) (Math.random() * 20) + 5) // 5-25건
-                    .build();
-            
-            simulatedData.add(marketData);
-        }
-        
-        return simulatedData;
-    }
-    
-    private String[] getNeighborhoodNamesByRegion(String lawdCd) {
-        switch (lawdCd) {
-            case "11410": // 서대문구
-                return new String[]{"미근동", "창천동", "충정로2가", "홍제동", "남가좌동", "합동"};
-            case "11680": // 강남구
-                return new String[]{"역삼동", "개포동", "청담동", "삼성동", "대치동", "논현동"};
-            case "11650": // 서초구
-                return new String[]{"서초동", "방배동", "잠원동", "반포동", "내곡동", "양재동"};
-            case "11440": // 마포구
-                return new String[]{"공덕동", "아현동", "도화동", "용강동", "대흥동", "염리동"};
-            case "11170": // 용산구
-                return new String[]{"후암동", "용산동", "남영동", "청파동", "원효로동", "이촌동"};
-            case "11110": // 종로구
-                return new String[]{"청계동", "신문로동", "효제동", "혜화동", "명륜동", "이화동"};
-            case "11140": // 중구
-                return new String[]{"명동", "을지로동", "회현동", "신당동", "다산동", "약수동"};
-            case "11200": // 성동구
-                return new String[]{"왕십리동", "마장동", "사근동", "행당동", "응봉동", "금호동"};
-            case "11215": // 광진구
-                return new String[]{"구의동", "광장동", "자양동", "화양동", "군자동", "중곡동"};
-            case "11230": // 동대문구
-                return new String[]{"용신동", "제기동", "전농동", "답십리동", "장안동", "청량리동"};
-            case "11260": // 중랑구
-                return new String[]{"면목동", "상봉동", "중화동", "묵동", "망우동", "신내동"};
-            case "11290": // 성북구
-                return new String[]{"성북동", "삼선동", "동선동", "돈암동", "안암동", "보문동"};
-            case "11305": // 강북구
-                return new String[]{"삼양동", "미아동", "번동", "수유동", "우이동", "인수동"};
-            case "11320": // 도봉구
-                return new String[]{"쌍문동", "방학동", "창동", "도봉동", "노해동", "해등동"};
-            case "11350": // 노원구
-                return new String[]{"월계동", "공릉동", "하계동", "중계동", "상계동", "녹천동"};
-            case "11380": // 은평구
-                return new String[]{"수색동", "녹번동", "불광동", "갈현동", "구산동", "대조동"};
-            case "11470": // 양천구
-                return new String[]{"목동", "신월동", "신정동", "염창동", "등촌동", "가양동"};
-            case "11500": // 강서구
-                return new String[]{"염창동", "등촌동", "화곡동", "가양동", "마곡동", "내발산동"};
-            case "11530": // 구로구
-                return new String[]{"신도림동", "구로동", "가리봉동", "고척동", "개봉동", "오류동"};
-            case "11545": // 금천구
-                return new String[]{"가산동", "독산동", "시흥동", "광명동", "범계동", "산본동"};
-            case "11560": // 영등포구
-                return new String[]{"영등포동", "여의도동", "당산동", "도림동", "문래동", "신길동"};
-            case "11590": // 동작구
-                return new String[]{"노량진동", "상도동", "상도1동", "본동", "사당동", "대방동"};
-            case "11620": // 관악구
-                return new String[]{"보라매동", "청림동", "성현동", "행운동", "낙성대동", "청룡동"};
-            case "11710": // 송파구
-                return new String[]{"잠실동", "신천동", "마천동", "거여동", "문정동", "장지동"};
-            case "11740": // 강동구
-                return new String[]{"천호동", "성내동", "길동", "둔촌동", "암사동", "상일동"};
-            default:
-                return new String[]{"인근 지역 1", "인근 지역 2", "인근 지역 3", "인근 지역 4", "인근 지역 5", "인근 지역 6"};
-        }
+        return marketFallbackTable.get(lawdCd, PropertyType.OFFICETEL).getNeighborhoods().stream()
+                .map(neighborhood -> OfficetelMarketDataResponseDTO.builder()
+                        .neighborhood(neighborhood.name())
+                        .avgMonthlyRent(neighborhood.avgMonthlyRent())
+                        .avgDeposit(neighborhood.avgDeposit())
+                        .transactionCount(neighborhood.transactionCount())
+                        .build())
+                .collect(Collectors.toList());
     }
-    
+
     private Map<String, List<OfficetelTransactionResponseDTO>> createSimulatedTransactionData(String lawdCd) {
-        Map<String, List<OfficetelTransactionResponseDTO>> transactionData = new HashMap<>();
-        double baseRent = getBaseRentByRegion(lawdCd, "오피스텔");
-        String[] neighborhoods = getNeighborhoodNamesByRegion(lawdCd);
-        
-        String[] buildingNames = {
-            "오피스텔", "빌딩", "타워", "센터", "플라자", "하이츠", "스퀘어", "빌리지"
-        };
-        
-        for (String neighborhood : neighborhoods) {
-            List<OfficetelTransactionResponseDTO> transactions = new ArrayList<>();
-            
-            for (int i = 0; i < 3; i++) { // 동네당 3건씩
-                String buildingName = neighborhood + " " + buildingNames[i % buildingNames.length];
-                double variation = 0.7 + Math.random() * 0.6; // 0.7 ~ 1.3 배
-                double monthlyRent = Math.round(baseRent * variation);
-                double deposit = Math.round(monthlyRent * 50); // 월세의 50배
-                
-                OfficetelTransactionResponseDTO transaction = OfficetelTransactionResponseDTO.builder()
-                        .buildingName(buildingName)
-                        .monthlyRent(String.valueOf(monthlyRent))
-                        .deposit(String.valueOf(deposit))
-                        .area(String.valueOf(20 + Math.random() * 20)) // 20-40㎡
-                        .floor(String.valueOf((int) (Math.random() * 20) + 1)) // 1-20층
-                        .contractDate(java.time.LocalDate.now().minusDays((int) (Math.random() * 90)).toString())
-                        .contractType("월세")
-                        .contractTerm("2년")
-                        .build();
-                
-                transactions.add(transaction);
-            }
-            
-            transactionData.put(neighborhood, transactions);
-        }
-        
-        return transactionData;
+        return marketFallbackTable.get(lawdCd, PropertyType.OFFICETEL).getTransactions().stream()
+                .collect(Collectors.groupingBy(RegionFallbackProfile.Transaction::neighborhood, Collectors.mapping(
+                        transaction -> OfficetelTransactionResponseDTO.builder()
+                                .buildingName(transaction.buildingName())
+                                .monthlyRent(String.valueOf(transaction.monthlyRent()))
+                                .deposit(String.valueOf(transaction.deposit()))
+                                .area(String.valueOf(transaction.area()))
+                                .floor(String.valueOf(transaction.floor()))
+                                .contractDate(transaction.contractDate())
+                                .contractType("월세")
+                                .contractTerm("2년")
+                                .build(),
+                        Collectors.toList())));
     }
-}
\ No newline at end of file
+}
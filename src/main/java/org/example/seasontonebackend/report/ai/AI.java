@@ -1,52 +1,229 @@
 package org.example.seasontonebackend.report.ai;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.example.seasontonebackend.common.concurrent.BoundedExecutorService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+/**
+ * AI 텍스트 생성 (협상 카드 문구, 문서 초안)
+ * - 같은 정규화 프롬프트 + 리포트 입력값이면 캐시된 응답을 그대로 사용
+ * - 같은 요청이 동시에 들어오면 제공자 호출은 한 번만 하고 결과를 나눠 받음
+ * - 제공자 호출은 ai-generation 실행기에서 동시 실행 수를 제한해 처리
+ */
+@Slf4j
 @Component
 public class AI {
-    private static final String API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash:generateContent?key=";
-    private static final String API_KEY = "YOUR_API_KEY";
 
-    public String getGeminiResponse(String prompt) {
-        // 로컬 테스트를 위해 실제 API 호출을 주석 처리하고, 더미 데이터를 반환합니다.
-        return "임시 AI 응답입니다: " + prompt.substring(0, 20) + "...";
+    private final LlmProvider provider;
+    private final LlmResponseCache cache;
+    private final ObjectMapper keyMapper;
+    private final MeterRegistry meterRegistry;
+    private final BoundedExecutorService executor;
 
-        /*
+    private final Map<String, CompletableFuture<LlmResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter coalesced;
+    private final Counter misses;
+
+    public AI(LlmProvider provider, LlmResponseCache cache, ObjectMapper objectMapper,
+              BlockingExecutors blockingExecutors, MeterRegistry meterRegistry,
+              @Value("${ai.max-concurrency:4}") int maxConcurrency,
+              @Value("${ai.queue-capacity:50}") int queueCapacity) {
+        this.provider = provider;
+        this.cache = cache;
+        // 입력값 Map 의 키 순서가 달라도 같은 캐시 키가 나오도록 정렬
+        this.keyMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.meterRegistry = meterRegistry;
+        this.executor = blockingExecutors.newBoundedExecutor("ai-generation", maxConcurrency,
+                queueCapacity);
+
+        this.cacheHits = requestCounter(meterRegistry, "hit");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.misses = requestCounter(meterRegistry, "miss");
+
+        log.info("AI 생성 제공자: {} (동시 실행 {}개)", provider.name(), maxConcurrency);
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.generation.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public LlmResponse generate(LlmRequest request) {
         try {
-            URL url = new URL(API_URL + API_KEY);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setRequestProperty("Content-Type", "application/json; utf-8");
-            connection.setDoOutput(true);
+            return generateAsync(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new LlmException("AI 응답 생성 실패: " + e.getMessage(), e);
+        }
+    }
 
-            String jsonInputString = "{\"contents\":[{\"parts\":[{\"text\": \"" + prompt + "\"}]}]}";
+    public CompletableFuture<LlmResponse> generateAsync(LlmRequest request) {
+        return submit(request, null);
+    }
+
+    /**
+     * 스트리밍 생성. 캐시 적중이나 합쳐진 요청이면 완성된 응답을 한 조각으로 넘긴다.
+     * onChunk 는 생성 스레드에서 호출되므로 오래 막지 않아야 한다.
+     */
+    public CompletableFuture<LlmResponse> streamAsync(LlmRequest request, Consumer<String> onChunk) {
+        return submit(request, onChunk);
+    }
+
+    private CompletableFuture<LlmResponse> submit(LlmRequest request, Consumer<String> onChunk) {
+        LlmRequest normalized = new LlmRequest(request.purpose(), normalize(request.prompt()),
+                request.inputs() == null ? Map.of() : request.inputs());
+        String key = cacheKey(normalized);
+
+        Optional<LlmResponse> cached = cache.get(key);
+        if (cached.isPresent()) {
+            cacheHits.increment();
+            return CompletableFuture.completedFuture(deliver(cached.get(), onChunk));
+        }
 
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = jsonInputString.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
+        CompletableFuture<LlmResponse> created = new CompletableFuture<>();
+        CompletableFuture<LlmResponse> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            coalesced.increment();
+            return running.thenApply(response -> deliver(response, onChunk));
+        }
+        // 조회와 등록 사이에 앞선 생성이 끝났을 수 있음
+        cached = cache.get(key);
+        if (cached.isPresent()) {
+            inFlight.remove(key, created);
+            created.complete(cached.get());
+            cacheHits.increment();
+            return CompletableFuture.completedFuture(deliver(cached.get(), onChunk));
+        }
+
+        misses.increment();
+        try {
+            executor.execute(() -> run(key, normalized, onChunk, created));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(new LlmException("AI 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요.", e));
+        }
+        // 호출자가 공유 future 를 완료/취소하지 못하도록 복사본 반환
+        return created.thenApply(Function.identity());
+    }
+
+    private void run(String key, LlmRequest request, Consumer<String> onChunk, CompletableFuture<LlmResponse> result) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            LlmResponse response = onChunk == null
+                    ? provider.generate(request)
+                    : provider.stream(request, firstChunkTimed(request, onChunk));
+            recordTokens(request, response);
+            if (response.text() != null && !response.text().isBlank()) {
+                cache.put(key, response);
             }
+            result.complete(response);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            log.warn("AI 생성 실패 - {}: {}", request.purpose(), e.getMessage());
+            result.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, result);
+            sample.stop(Timer.builder("ai.generation.latency")
+                    .description("제공자 호출 시간 (캐시 미적중 시)")
+                    .tag("provider", provider.name())
+                    .tag("purpose", request.purpose())
+                    .tag("result", outcome)
+                    .register(meterRegistry));
+        }
+    }
 
-            try (BufferedReader br = new BufferedReader(
-                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
-                StringBuilder response = new StringBuilder();
-                String responseLine;
-                while ((responseLine = br.readLine()) != null) {
-                    response.append(responseLine.trim());
-                }
-                return response.toString();
+    // 스트리밍은 첫 조각까지의 시간이 체감 지연
+    private Consumer<String> firstChunkTimed(LlmRequest request, Consumer<String> onChunk) {
+        long startedAt = System.nanoTime();
+        boolean[] first = {true};
+        return chunk -> {
+            if (first[0]) {
+                first[0] = false;
+                Timer.builder("ai.generation.first-chunk")
+                        .tag("provider", provider.name())
+                        .tag("purpose", request.purpose())
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
             }
-        } catch (IOException e) {
-            e.printStackTrace();
-            return "Error: " + e.getMessage();
+            onChunk.accept(chunk);
+        };
+    }
+
+    private void recordTokens(LlmRequest request, LlmResponse response) {
+        tokenCounter(request, "prompt").increment(response.promptTokens());
+        tokenCounter(request, "completion").increment(response.completionTokens());
+    }
+
+    private Counter tokenCounter(LlmRequest request, String type) {
+        return Counter.builder("ai.generation.tokens")
+                .tag("provider", provider.name())
+                .tag("purpose", request.purpose())
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private LlmResponse deliver(LlmResponse response, Consumer<String> onChunk) {
+        if (onChunk != null) {
+            onChunk.accept(response.text());
+        }
+        return response;
+    }
+
+    /**
+     * 줄 단위로 앞뒤 공백을 자르고 연속 공백/빈 줄을 합침 (공백만 다른 프롬프트는 같은 요청으로 봄)
+     */
+    static String normalize(String prompt) {
+        return Normalizer.normalize(prompt == null ? "" : prompt, Normalizer.Form.NFC)
+                .replaceAll("[\\t\\x0B\\f\\r ]+", " ")
+                .replaceAll(" ?\\n[\\n ]*", "\n")
+                .strip();
+    }
+
+    private String cacheKey(LlmRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String material = provider.name() + "\n" + request.purpose() + "\n" + request.prompt() + "\n"
+                    + keyMapper.writeValueAsString(request.inputs());
+            return HexFormat.of().formatHex(digest.digest(material.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (JsonProcessingException e) {
+            throw new LlmException("AI 입력값 직렬화 실패: " + e.getMessage(), e);
         }
-        */
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.seasontonebackend.report.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.http.OutboundHttpClients;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Gemini generateContent / streamGenerateContent(SSE) 호출
+ * API 키는 쿼리 문자열 대신 헤더로 보내 접근 로그에 남지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.provider", havingValue = "gemini")
+public class GeminiLlmProvider implements LlmProvider {
+
+    private static final String API_KEY_HEADER = "x-goog-api-key";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final URI generateUri;
+    private final URI streamUri;
+    private final Map<String, Object> generationConfig;
+
+    public GeminiLlmProvider(OutboundHttpClients outboundHttpClients,
+                             ObjectMapper objectMapper,
+                             @Value("${ai.gemini.api-key:}") String apiKey,
+                             @Value("${ai.gemini.base-url:https://generativelanguage.googleapis.com/v1beta/models}") String baseUrl,
+                             @Value("${ai.gemini.model:gemini-1.5-flash}") String model,
+                             @Value("${ai.gemini.read-timeout:20s}") Duration readTimeout,
+                             @Value("${ai.max-output-tokens:1024}") int maxOutputTokens,
+                             @Value("${ai.temperature:0.4}") double temperature) {
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new IllegalStateException("ai.provider=gemini 에는 ai.gemini.api-key(GEMINI_API_KEY) 가 필요합니다");
+        }
+        this.restTemplate = outboundHttpClients.restTemplate("gemini", readTimeout);
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.generateUri = UriComponentsBuilder.fromUriString(baseUrl)
+                .path("/" + model + ":generateContent").build().toUri();
+        this.streamUri = UriComponentsBuilder.fromUriString(baseUrl)
+                .path("/" + model + ":streamGenerateContent").queryParam("alt", "sse").build().toUri();
+        this.generationConfig = Map.of("maxOutputTokens", maxOutputTokens, "temperature", temperature);
+    }
+
+    @Override
+    public String name() {
+        return "gemini";
+    }
+
+    @Override
+    public LlmResponse generate(LlmRequest request) {
+        JsonNode body = execute(generateUri, request, reader -> objectMapper.readTree(reader));
+        return new LlmResponse(extractText(body), name(),
+                body.path("usageMetadata").path("promptTokenCount").asInt(),
+                body.path("usageMetadata").path("candidatesTokenCount").asInt());
+    }
+
+    @Override
+    public LlmResponse stream(LlmRequest request, Consumer<String> onChunk) {
+        return execute(streamUri, request, reader -> {
+            StringBuilder text = new StringBuilder();
+            JsonNode usage = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("data:")) {
+                    continue;
+                }
+                JsonNode chunk = objectMapper.readTree(line.substring(5));
+                String piece = extractText(chunk);
+                if (!piece.isEmpty()) {
+                    text.append(piece);
+                    onChunk.accept(piece);
+                }
+                // usageMetadata 는 누적값이라 마지막 조각 기준
+                if (chunk.has("usageMetadata")) {
+                    usage = chunk.get("usageMetadata");
+                }
+            }
+            return new LlmResponse(text.toString(), name(),
+                    usage == null ? 0 : usage.path("promptTokenCount").asInt(),
+                    usage == null ? 0 : usage.path("candidatesTokenCount").asInt());
+        });
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(BufferedReader reader) throws IOException;
+    }
+
+    private <T> T execute(URI uri, LlmRequest request, BodyReader<T> bodyReader) {
+        Map<String, Object> payload = Map.of(
+                "contents", List.of(Map.of("role", "user", "parts", List.of(Map.of("text", request.prompt())))),
+                "generationConfig", generationConfig);
+        try {
+            return restTemplate.execute(uri, HttpMethod.POST,
+                    httpRequest -> {
+                        httpRequest.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        httpRequest.getHeaders().set(API_KEY_HEADER, apiKey);
+                        objectMapper.writeValue(httpRequest.getBody(), payload);
+                    },
+                    httpResponse -> bodyReader.read(new BufferedReader(
+                            new InputStreamReader(httpResponse.getBody(), StandardCharsets.UTF_8))));
+        } catch (RestClientException e) {
+            log.error("Gemini API 호출 실패 - {}: {}", request.purpose(), e.getMessage());
+            throw new LlmException("AI 응답 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String extractText(JsonNode body) {
+        StringBuilder text = new StringBuilder();
+        for (JsonNode part : body.path("candidates").path(0).path("content").path("parts")) {
+            text.append(part.path("text").asText(""));
+        }
+        return text.toString();
+    }
+}
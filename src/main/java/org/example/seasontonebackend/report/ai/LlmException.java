@@ -0,0 +1,15 @@
+package org.example.seasontonebackend.report.ai;
+
+/**
+ * AI 생성 관련 예외 클래스
+ */
+public class LlmException extends RuntimeException {
+
+    public LlmException(String message) {
+        super(message);
+    }
+
+    public LlmException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.seasontonebackend.report.ai;
+
+import java.util.function.Consumer;
+
+/**
+ * 텍스트 생성 제공자 (ai.provider 로 선택: stub | gemini)
+ * 캐시/중복 요청 합치기/지표는 {@link AI} 가 담당하므로 구현체는 호출만 한다.
+ */
+public interface LlmProvider {
+
+    String name();
+
+    LlmResponse generate(LlmRequest request);
+
+    /**
+     * 생성되는 대로 조각을 onChunk 로 넘기고, 끝나면 전체 응답을 반환
+     * 스트리밍을 지원하지 않는 제공자는 전체 응답을 한 조각으로 넘긴다.
+     */
+    default LlmResponse stream(LlmRequest request, Consumer<String> onChunk) {
+        LlmResponse response = generate(request);
+        onChunk.accept(response.text());
+        return response;
+    }
+}
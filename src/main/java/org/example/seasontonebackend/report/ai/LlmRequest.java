@@ -0,0 +1,11 @@
+package org.example.seasontonebackend.report.ai;
+
+import java.util.Map;
+
+/**
+ * 생성 요청
+ * purpose: 용도별 지표/캐시 구분 (negotiation-card, document 등)
+ * inputs: 프롬프트를 만든 리포트 입력값. 캐시 키에 함께 들어가므로 응답에 영향을 주는 값만 넣는다.
+ */
+public record LlmRequest(String purpose, String prompt, Map<String, Object> inputs) {
+}
@@ -0,0 +1,7 @@
+package org.example.seasontonebackend.report.ai;
+
+/**
+ * 생성 결과 (토큰 수는 제공자가 알려주지 않으면 추정값)
+ */
+public record LlmResponse(String text, String provider, int promptTokens, int completionTokens) {
+}
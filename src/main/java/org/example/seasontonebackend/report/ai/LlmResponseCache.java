@@ -0,0 +1,81 @@
+package org.example.seasontonebackend.report.ai;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 생성 결과 캐시 (LRU + TTL, 키는 {@link AI} 가 정규화한 프롬프트와 리포트 입력값의 해시)
+ */
+@Component
+public class LlmResponseCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries;
+
+    public LlmResponseCache(@Value("${ai.cache.max-entries:2000}") int maxEntries,
+                            @Value("${ai.cache.ttl:24h}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        // accessOrder=true: 조회 순서 기준 LRU
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > LlmResponseCache.this.maxEntries;
+            }
+        };
+        Gauge.builder("ai.cache.size", this, LlmResponseCache::size).register(meterRegistry);
+    }
+
+    public Optional<LlmResponse> get(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (System.currentTimeMillis() - entry.storedAt() > ttlMillis) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.response());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String key, LlmResponse response) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(key, new Entry(response, System.currentTimeMillis()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(LlmResponse response, long storedAt) {
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.seasontonebackend.report.ai;
+
+import org.example.seasontonebackend.report.dto.ReportResponseDto;
+import org.example.seasontonebackend.report.pdf.DocumentTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 리포트 데이터로 AI 생성 요청 만들기
+ * 캐시 키에 들어가는 입력값은 응답에 영향을 주는 값만 담는다 (생성일, 참여 인원 등은 제외).
+ */
+@Component
+public class ReportPrompts {
+
+    public static final String NEGOTIATION_CARD = "negotiation-card";
+    public static final String DOCUMENT = "document";
+
+    // 문서 초안과 무관한 입력 (작성일 등은 PDF 에서 채움)
+    private static final List<String> DOCUMENT_IGNORED_FIELDS = List.of("date", "subject", "relatedLaw");
+
+    public LlmRequest negotiationCards(ReportResponseDto report) {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        ReportResponseDto.ContractSummaryDto contract = report.getContractSummary();
+        if (contract != null) {
+            inputs.put("address", contract.getAddress());
+            inputs.put("buildingType", contract.getBuildingType());
+            inputs.put("contractType", contract.getContractType());
+            inputs.put("conditions", contract.getConditions());
+        }
+        // 소수 첫째 자리까지만 반영해 평균이 조금씩 움직여도 같은 응답을 재사용
+        Map<String, String> scores = new TreeMap<>();
+        if (report.getSubjectiveMetrics() != null && report.getSubjectiveMetrics().getCategoryScores() != null) {
+            for (ReportResponseDto.ScoreComparison score : report.getSubjectiveMetrics().getCategoryScores()) {
+                scores.put(score.getCategory(), String.format("%.1f/%.1f", score.getMyScore(), score.getNeighborhoodAverage()));
+            }
+        }
+        inputs.put("scores", scores);
+
+        StringBuilder prompt = new StringBuilder()
+                .append("당신은 임차인의 임대료/시설 협상을 돕는 상담가입니다.\n")
+                .append("아래 거주 만족도 점수(내 점수/동네 평균, 5점 만점)와 계약 정보를 바탕으로\n")
+                .append("점수가 동네 평균보다 낮은 항목 중 우선순위가 높은 2가지에 대해 임대인에게 전달할 협상 문구를 작성하세요.\n")
+                .append("각 문구는 정중한 존댓말로 3문장 이내, 객관적 수치를 근거로 들고 구체적인 개선 요청을 포함하세요.\n\n");
+        inputs.forEach((name, value) -> {
+            if (!"scores".equals(name) && value != null) {
+                prompt.append(name).append(": ").append(value).append('\n');
+            }
+        });
+        scores.forEach((category, value) -> prompt.append("- ").append(category).append(": ").append(value).append('\n'));
+
+        return new LlmRequest(NEGOTIATION_CARD, prompt.toString(), inputs);
+    }
+
+    public LlmRequest documentDraft(DocumentTemplate template, Map<String, String> fields) {
+        Map<String, Object> inputs = new TreeMap<>();
+        inputs.put("template", template.getCode());
+        if (fields != null) {
+            fields.forEach((name, value) -> {
+                if (value != null && !value.isBlank() && !DOCUMENT_IGNORED_FIELDS.contains(name)) {
+                    inputs.put(name, value.strip());
+                }
+            });
+        }
+
+        StringBuilder prompt = new StringBuilder()
+                .append("임차인이 임대인에게 보내는 '").append(template.getTitle()).append("'의 본문을 작성하세요.\n")
+                .append("사실관계와 요청 사항, 이행 기한을 분명히 적고, 감정적인 표현 없이 격식 있는 문체로 5문장 이내로 작성하세요.\n")
+                .append("주어지지 않은 사실은 지어내지 말고 [ ] 빈칸으로 남기세요.\n\n");
+        inputs.forEach((name, value) -> {
+            if (!"template".equals(name)) {
+                prompt.append(name).append(": ").append(value).append('\n');
+            }
+        });
+
+        return new LlmRequest(DOCUMENT, prompt.toString(), inputs);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.seasontonebackend.report.ai;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 로컬/테스트용 결정적 제공자 (외부 호출 없음, 같은 프롬프트면 항상 같은 응답)
+ */
+@Component
+@ConditionalOnProperty(name = "ai.provider", havingValue = "stub", matchIfMissing = true)
+public class StubLlmProvider implements LlmProvider {
+
+    @Override
+    public String name() {
+        return "stub";
+    }
+
+    @Override
+    public LlmResponse generate(LlmRequest request) {
+        String prompt = request.prompt();
+        String fingerprint = UUID.nameUUIDFromBytes(prompt.getBytes(StandardCharsets.UTF_8)).toString().substring(0, 8);
+        String text = "[" + request.purpose() + " 초안 " + fingerprint + "] "
+                + prompt.substring(0, Math.min(80, prompt.length())).replaceAll("\\s+", " ").trim() + " ...";
+        return new LlmResponse(text, name(), countWords(prompt), countWords(text));
+    }
+
+    // 실제 제공자처럼 단어 단위로 나눠 전송
+    @Override
+    public LlmResponse stream(LlmRequest request, Consumer<String> onChunk) {
+        LlmResponse response = generate(request);
+        for (String chunk : response.text().split("(?<= )")) {
+            onChunk.accept(chunk);
+        }
+        return response;
+    }
+
+    private int countWords(String text) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? 0 : trimmed.split("\\s+").length;
+    }
+}
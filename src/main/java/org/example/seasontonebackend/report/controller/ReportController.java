@@ -1,29 +1,65 @@
 package org.example.seasontonebackend.report.controller;
 
 import lombok.Data;
-import org.example.seasontonebackend.common.service.EmailService;
+import org.example.seasontonebackend.common.api.ApiResponse;
+import org.example.seasontonebackend.common.mail.EmailOutboxService;
 import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.report.ai.AI;
+import org.example.seasontonebackend.report.ai.LlmRequest;
+import org.example.seasontonebackend.report.ai.LlmResponse;
+import org.example.seasontonebackend.report.ai.ReportPrompts;
+import org.example.seasontonebackend.report.dto.ReportActionResponseDto;
 import org.example.seasontonebackend.report.dto.ReportRequestDto;
 import org.example.seasontonebackend.report.dto.ReportResponseDto;
+import org.example.seasontonebackend.report.pdf.DocumentTemplate;
+import org.example.seasontonebackend.report.pdf.PdfSource;
+import org.example.seasontonebackend.report.pdf.ReportPdfException;
+import org.example.seasontonebackend.report.pdf.ReportPdfService;
 import org.example.seasontonebackend.report.service.ReportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 public class ReportController {
     private final ReportService reportService;
-    private final EmailService emailService; // EmailService 주입
+    private final ReportPdfService reportPdfService;
+    private final EmailOutboxService emailOutboxService; // 메일 설정이 없으면 null
+    private final AI ai;
+    private final ReportPrompts reportPrompts;
+    private final long aiStreamTimeoutMillis;
 
-    public ReportController(ReportService reportService, @Autowired(required = false) EmailService emailService) {
+    public ReportController(ReportService reportService, ReportPdfService reportPdfService,
+                            @Autowired(required = false) EmailOutboxService emailOutboxService,
+                            AI ai, ReportPrompts reportPrompts,
+                            @Value("${ai.stream-timeout:2m}") Duration aiStreamTimeout) {
         this.reportService = reportService;
-        this.emailService = emailService; // 생성자에서 초기화
+        this.reportPdfService = reportPdfService;
+        this.emailOutboxService = emailOutboxService;
+        this.ai = ai;
+        this.reportPrompts = reportPrompts;
+        this.aiStreamTimeoutMillis = aiStreamTimeout.toMillis();
     }
 
     // 이메일 요청을 위한 DTO
@@ -33,30 +69,25 @@ public class ReportController {
         private String content;
     }
 
+    /**
+     * 문서 메일 발송 접수 (outbox 에 저장 후 202, 실제 발송은 백그라운드 워커)
+     */
     @PostMapping("/api/report/send-email")
     public ResponseEntity<?> sendDocumentByEmail(@RequestBody EmailRequest emailRequest) {
         try {
-            if (emailService == null) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "메일 서비스가 설정되지 않았습니다.");
-                return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+            if (emailOutboxService == null) {
+                return new ResponseEntity<>(ApiResponse.fail("메일 서비스가 설정되지 않았습니다."), HttpStatus.SERVICE_UNAVAILABLE);
             }
             
             String subject = "월세의 정석: 생성된 법적 문서입니다.";
-            emailService.sendSimpleMessage(emailRequest.getTo(), subject, emailRequest.getContent());
+            Long outboxId = emailOutboxService.enqueue(emailRequest.getTo(), subject, emailRequest.getContent());
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "이메일이 성공적으로 발송되었습니다.");
-
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            return new ResponseEntity<>(new ReportActionResponseDto.EmailQueued(true, outboxId, "이메일 발송이 접수되었습니다."),
+                    HttpStatus.ACCEPTED);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(ApiResponse.fail(e.getMessage()), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "이메일 발송 중 오류가 발생했습니다: " + e.getMessage());
-
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("이메일 발송 접수 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
@@ -66,18 +97,9 @@ public class ReportController {
         try {
             String publicId = reportService.createReport(reportRequestDto, member);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("publicId", publicId);
-            response.put("shareUrl", "/report/" + publicId);
-            
-            return new ResponseEntity<>(response, HttpStatus.CREATED);
+            return new ResponseEntity<>(ReportActionResponseDto.Created.of(publicId), HttpStatus.CREATED);
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "리포트 생성 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("리포트 생성 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
     
@@ -87,104 +109,241 @@ public class ReportController {
         try {
             CompletableFuture<String> future = reportService.createReportAsync(reportRequestDto, member);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "리포트 생성이 시작되었습니다. 잠시 후 완료됩니다.");
-            response.put("processing", true);
-            
-            return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+            return new ResponseEntity<>(new ReportActionResponseDto.Processing(true, "리포트 생성이 시작되었습니다. 잠시 후 완료됩니다.", true),
+                    HttpStatus.ACCEPTED);
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "리포트 생성 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("리포트 생성 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
 
     @GetMapping("/report/{reportId}")
-    public ResponseEntity<?> getReport(@PathVariable Long reportId, @AuthenticationPrincipal Member member) {
+    public ResponseEntity<ApiResponse<ReportResponseDto>> getReport(@PathVariable Long reportId, @AuthenticationPrincipal Member member) {
         try {
             ReportResponseDto reportResponseDto = reportService.getReport(reportId);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", reportResponseDto);
-            response.put("message", "리포트를 조회했습니다.");
-            
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            return new ResponseEntity<>(ApiResponse.ok(reportResponseDto, "리포트를 조회했습니다."), HttpStatus.OK);
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "리포트 조회 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("리포트 조회 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
     // 공개 리포트 조회 API (비회원도 접근 가능)
     @GetMapping("/public/report/{publicId}")
-    public ResponseEntity<?> getPublicReport(@PathVariable String publicId) {
+    public ResponseEntity<ApiResponse<ReportResponseDto>> getPublicReport(@PathVariable String publicId) {
         try {
             ReportResponseDto reportResponseDto = reportService.getReportByPublicId(publicId);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", reportResponseDto);
-            response.put("message", "리포트를 조회했습니다.");
-            
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            return new ResponseEntity<>(ApiResponse.ok(reportResponseDto, "리포트를 조회했습니다."), HttpStatus.OK);
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "리포트 조회 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("리포트 조회 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
     @GetMapping("/report/comprehensive")
-    public ResponseEntity<?> getComprehensiveReport(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<ApiResponse<ReportResponseDto>> getComprehensiveReport(@AuthenticationPrincipal Member member) {
         try {
             ReportResponseDto reportResponseDto = reportService.getComprehensiveReport(member);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", reportResponseDto);
-            response.put("message", "종합 리포트를 조회했습니다.");
-            
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            return new ResponseEntity<>(ApiResponse.ok(reportResponseDto, "종합 리포트를 조회했습니다."), HttpStatus.OK);
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "리포트 생성 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("리포트 생성 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
     // 공유 URL 생성 API
     @PostMapping("/report/share-url")
-    public ResponseEntity<?> generateShareUrl(@RequestBody Map<String, Object> request, @AuthenticationPrincipal Member member) {
+    public ResponseEntity<ApiResponse<ReportActionResponseDto.ShareUrl>> generateShareUrl(@RequestBody Map<String, Object> request, @AuthenticationPrincipal Member member) {
         try {
             String reportId = (String) request.get("reportId");
             Boolean isPremium = (Boolean) request.getOrDefault("isPremium", false);
             
             String shareUrl = reportService.generateShareUrl(reportId, isPremium);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", Map.of("shareUrl", shareUrl));
-            response.put("message", "공유 URL이 생성되었습니다.");
-            
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            return new ResponseEntity<>(ApiResponse.ok(new ReportActionResponseDto.ShareUrl(shareUrl), "공유 URL이 생성되었습니다."), HttpStatus.OK);
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "공유 URL 생성 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(ApiResponse.fail("공유 URL 생성 중 오류가 발생했습니다: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // AI 협상 문구 (작성자 본인만, 같은 리포트 입력이면 캐시된 응답 사용, 동시에 같은 요청이 오면 한 번만 생성)
+    @GetMapping("/report/{reportId}/ai/negotiation")
+    public CompletableFuture<ResponseEntity<?>> generateNegotiationScript(@PathVariable Long reportId,
+                                                                         @AuthenticationPrincipal Member member) {
+        try {
+            return ai.generateAsync(reportPrompts.negotiationCards(reportService.getOwnReport(reportId, member)))
+                    .handle(this::aiResponse);
+        } catch (AccessDeniedException e) {
+            throw e;
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(aiError("AI 협상 문구 생성 중 오류가 발생했습니다: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    // 권한 오류는 SSE 를 열기 전에 403 JSON 으로 응답 (handleAccessDenied)
+    @GetMapping(value = "/report/{reportId}/ai/negotiation/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNegotiationScript(@PathVariable Long reportId, @AuthenticationPrincipal Member member) {
+        try {
+            return aiStream(reportPrompts.negotiationCards(reportService.getOwnReport(reportId, member)));
+        } catch (AccessDeniedException e) {
+            throw e;
+        } catch (Exception e) {
+            return aiStreamError("AI 협상 문구 생성 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // AI 문서 본문 초안 (PDF 문서 템플릿과 같은 입력값 사용)
+    @PostMapping("/report/documents/{template}/ai-draft")
+    public CompletableFuture<ResponseEntity<?>> generateDocumentDraft(@PathVariable String template, @RequestBody(required = false) Map<String, String> fields) {
+        Optional<DocumentTemplate> documentTemplate = DocumentTemplate.find(template);
+        if (documentTemplate.isEmpty()) {
+            return CompletableFuture.completedFuture(aiError("지원하지 않는 문서 종류입니다: " + template, HttpStatus.BAD_REQUEST));
         }
+        return ai.generateAsync(reportPrompts.documentDraft(documentTemplate.get(), fields))
+                .handle(this::aiResponse);
+    }
+
+    @PostMapping(value = "/report/documents/{template}/ai-draft/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDocumentDraft(@PathVariable String template, @RequestBody(required = false) Map<String, String> fields) {
+        Optional<DocumentTemplate> documentTemplate = DocumentTemplate.find(template);
+        if (documentTemplate.isEmpty()) {
+            return aiStreamError("지원하지 않는 문서 종류입니다: " + template);
+        }
+        return aiStream(reportPrompts.documentDraft(documentTemplate.get(), fields));
+    }
+
+    private ResponseEntity<?> aiResponse(LlmResponse llmResponse, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return aiError("AI 응답 생성 중 오류가 발생했습니다: " + cause.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new ResponseEntity<>(new ReportActionResponseDto.AiText(true, llmResponse.text(), llmResponse.provider()), HttpStatus.OK);
+    }
+
+    private ResponseEntity<?> aiError(String message, HttpStatus status) {
+        return new ResponseEntity<>(ApiResponse.fail(message), status);
+    }
+
+    /**
+     * SSE 전송: chunk 이벤트로 생성 조각, 끝나면 done 이벤트(제공자/토큰 수), 실패하면 error 이벤트
+     * 클라이언트가 끊겨도 생성은 끝까지 진행해 캐시에 남긴다 (다시 요청하면 바로 응답).
+     */
+    private SseEmitter aiStream(LlmRequest request) {
+        SseEmitter emitter = new SseEmitter(aiStreamTimeoutMillis);
+        AtomicBoolean connected = new AtomicBoolean(true);
+        emitter.onCompletion(() -> connected.set(false));
+        emitter.onTimeout(() -> connected.set(false));
+        emitter.onError(e -> connected.set(false));
+
+        ai.streamAsync(request, chunk -> sendEvent(emitter, connected, SseEmitter.event().name("chunk").data(chunk)))
+                .whenComplete((llmResponse, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        sendEvent(emitter, connected, SseEmitter.event().name("error")
+                                .data("AI 응답 생성 중 오류가 발생했습니다: " + cause.getMessage()));
+                    } else {
+                        ReportActionResponseDto.AiDone done = new ReportActionResponseDto.AiDone(
+                                llmResponse.provider(), llmResponse.promptTokens(), llmResponse.completionTokens());
+                        sendEvent(emitter, connected, SseEmitter.event().name("done").data(done, MediaType.APPLICATION_JSON));
+                    }
+                    if (connected.get()) {
+                        emitter.complete();
+                    }
+                });
+        return emitter;
+    }
+
+    private SseEmitter aiStreamError(String message) {
+        SseEmitter emitter = new SseEmitter(aiStreamTimeoutMillis);
+        sendEvent(emitter, new AtomicBoolean(true), SseEmitter.event().name("error").data(message));
+        emitter.complete();
+        return emitter;
+    }
+
+    private void sendEvent(SseEmitter emitter, AtomicBoolean connected, SseEmitter.SseEventBuilder event) {
+        if (!connected.get()) {
+            return;
+        }
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            connected.set(false);
+        }
+    }
+
+    // 공유 리포트 PDF 다운로드 (비회원도 접근 가능, 같은 리포트는 캐시된 파일을 그대로 전송)
+    @GetMapping("/public/report/{publicId}/pdf")
+    public ResponseEntity<StreamingResponseBody> downloadPublicReportPdf(@PathVariable String publicId, WebRequest webRequest) {
+        try {
+            return pdfResponse(reportPdfService.sharedReport(publicId), webRequest);
+        } catch (ReportPdfException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ReportPdfException("리포트 PDF 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 회원 리포트 PDF (작성자 본인만, 공유 링크는 /public/report/{publicId}/pdf)
+    @GetMapping("/report/{reportId}/pdf")
+    public ResponseEntity<StreamingResponseBody> downloadReportPdf(@PathVariable Long reportId, WebRequest webRequest,
+                                                                   @AuthenticationPrincipal Member member) {
+        try {
+            return pdfResponse(reportPdfService.report(reportId, member), webRequest);
+        } catch (ReportPdfException | AccessDeniedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ReportPdfException("리포트 PDF 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 문서 템플릿 PDF (수선 요구서, 내용증명, 법적 고지서 - 코드 또는 이름으로 지정)
+    @PostMapping("/report/documents/{template}/pdf")
+    public ResponseEntity<StreamingResponseBody> downloadDocumentPdf(@PathVariable String template, @RequestBody(required = false) Map<String, String> fields) {
+        try {
+            return pdfResponse(reportPdfService.document(template, fields), null);
+        } catch (ReportPdfException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ReportPdfException("문서 PDF 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 파일 그대로, 없으면 렌더링하면서 바로 전송 (ETag = 캐시 키, GET 은 304 지원)
+     * StreamingResponseBody 는 ResponseEntity 제네릭 타입으로 판별되므로 PDF 엔드포인트의 오류는 예외로 처리한다.
+     */
+    private ResponseEntity<StreamingResponseBody> pdfResponse(PdfSource source, WebRequest webRequest) throws IOException {
+        String eTag = "\"" + source.cacheKey() + "\"";
+        if (webRequest != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        // checkNotModified 가 ETag 를 이미 붙인 경우에는 다시 붙이지 않음
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (webRequest == null) {
+            builder.eTag(eTag);
+        }
+        builder.contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(source.filename(), StandardCharsets.UTF_8).build().toString());
+
+        Optional<Path> cached = reportPdfService.findCached(source);
+        if (cached.isPresent()) {
+            Path file = cached.get();
+            return builder.contentLength(Files.size(file)).body(outputStream -> Files.copy(file, outputStream));
+        }
+        return builder.body(outputStream -> reportPdfService.stream(source, outputStream));
+    }
+
+    // 원인 예외가 없는 ReportPdfException 은 잘못된 요청(지원하지 않는 문서 등)
+    @ExceptionHandler(ReportPdfException.class)
+    public ResponseEntity<?> handlePdfException(ReportPdfException e) {
+        HttpStatus status = e.getCause() == null ? HttpStatus.BAD_REQUEST : HttpStatus.INTERNAL_SERVER_ERROR;
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(ApiResponse.fail(e.getMessage()));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<?> handleAccessDenied(AccessDeniedException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).contentType(MediaType.APPLICATION_JSON).body(ApiResponse.fail(e.getMessage()));
     }
 }
@@ -12,11 +12,16 @@ import java.util.UUID;
 
 @Builder
 @Entity
+@NamedEntityGraph(name = Report.WITH_MEMBER, attributeNodes = @NamedAttributeNode("member"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 public class Report {
+
+    // 리포트 생성에 회원 정보가 필요한 조회 (open-in-view 를 끈 뒤 지연 로딩 대신 한 번에 조회)
+    public static final String WITH_MEMBER = "Report.withMember";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "report_id")
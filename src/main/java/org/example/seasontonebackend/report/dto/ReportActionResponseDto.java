@@ -0,0 +1,32 @@
+package org.example.seasontonebackend.report.dto;
+
+/**
+ * 리포트 API 중 공통 형식({@code ApiResponse})과 필드가 다른 응답들
+ */
+public class ReportActionResponseDto {
+
+    private ReportActionResponseDto() {
+    }
+
+    public record Created(boolean success, String publicId, String shareUrl) {
+        public static Created of(String publicId) {
+            return new Created(true, publicId, "/report/" + publicId);
+        }
+    }
+
+    public record Processing(boolean success, String message, boolean processing) {
+    }
+
+    public record EmailQueued(boolean success, Long outboxId, String message) {
+    }
+
+    public record ShareUrl(String shareUrl) {
+    }
+
+    public record AiText(boolean success, String text, String provider) {
+    }
+
+    // SSE done 이벤트
+    public record AiDone(String provider, int promptTokens, int completionTokens) {
+    }
+}
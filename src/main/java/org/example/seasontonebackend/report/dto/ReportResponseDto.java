@@ -1,5 +1,6 @@
 package org.example.seasontonebackend.report.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,6 +9,10 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 리포트 응답. 무료 리포트는 프리미엄/스마트 진단 항목 등이 비어 있으므로 null 필드는 JSON 에서 뺀다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 @Builder
 @NoArgsConstructor
@@ -49,6 +54,7 @@ public class ReportResponseDto {
 
     // --- 각 DTO의 상세 구조 ---
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -62,6 +68,7 @@ public class ReportResponseDto {
         private int reliabilityScore; // 신뢰도 점수 (e.g., 87)
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -75,6 +82,7 @@ public class ReportResponseDto {
         private boolean contractVerified; // 계약서 인증 여부
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -84,6 +92,7 @@ public class ReportResponseDto {
         private List<ScoreComparison> categoryScores; // 카테고리별 점수 비교 (채광, 방음 등)
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -96,6 +105,7 @@ public class ReportResponseDto {
     }
 
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -111,6 +121,7 @@ public class ReportResponseDto {
         private String expertTip; // 전문가 팁
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -126,6 +137,7 @@ public class ReportResponseDto {
         private List<String> requiredDocuments; // 필요 서류 목록
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -140,6 +152,7 @@ public class ReportResponseDto {
         private ExpertConsultationDto expertConsultation; // 전문가 상담 정보
     }
     
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -152,6 +165,7 @@ public class ReportResponseDto {
         private String cost; // 비용
     }
     
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -163,6 +177,7 @@ public class ReportResponseDto {
         private String contactInfo; // 연락처
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -179,6 +194,7 @@ public class ReportResponseDto {
         private String lastUpdated; // 마지막 업데이트
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -191,6 +207,7 @@ public class ReportResponseDto {
     }
 
     // 프리미엄 기능 DTO들
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -203,6 +220,7 @@ public class ReportResponseDto {
         private SharingOptionsDto sharingOptions;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -215,6 +233,7 @@ public class ReportResponseDto {
         private String dataSource;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -224,6 +243,7 @@ public class ReportResponseDto {
         private double averageRent;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -233,6 +253,7 @@ public class ReportResponseDto {
         private List<String> templates;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Getter
     @Builder
     @NoArgsConstructor
@@ -0,0 +1,38 @@
+package org.example.seasontonebackend.report.pdf;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 프리미엄 리포트 문서 템플릿 (resources/report/templates/{code}.txt)
+ */
+public enum DocumentTemplate {
+    REPAIR_REQUEST("repair-request", "수선 요구서"),
+    CERTIFIED_NOTICE("certified-notice", "내용증명"),
+    LEGAL_NOTICE("legal-notice", "법적 고지서");
+
+    private final String code;
+    private final String title;
+
+    DocumentTemplate(String code, String title) {
+        this.code = code;
+        this.title = title;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * 코드(repair-request) 또는 화면에 표시되는 이름(수선 요구서)으로 찾기
+     */
+    public static Optional<DocumentTemplate> find(String codeOrTitle) {
+        return Arrays.stream(values())
+                .filter(template -> template.code.equalsIgnoreCase(codeOrTitle) || template.title.equals(codeOrTitle))
+                .findFirst();
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.seasontonebackend.report.pdf;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 렌더링된 PDF 파일 캐시 (키 = 내용 해시)
+ * 처음 요청은 응답으로 흘려보내면서 같은 바이트를 임시 파일에 쓰고, 끝까지 성공하면 캐시 파일로 옮긴다.
+ * 전체 크기가 max-size 를 넘으면 가장 오래 쓰이지 않은 파일부터 지운다.
+ */
+@Slf4j
+@Component
+public class PdfCache {
+
+    private static final String SUFFIX = ".pdf";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Counter hits;
+    private final Counter misses;
+
+    public PdfCache(@Value("${report.pdf.cache.directory:${java.io.tmpdir}/seasontone-pdf}") Path directory,
+                    @Value("${report.pdf.cache.max-size:200MB}") DataSize maxSize,
+                    MeterRegistry meterRegistry) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxSize.toBytes();
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        log.info("PDF 캐시 디렉터리: {} (최대 {}MB)", this.directory, maxSize.toMegabytes());
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("report.pdf.cache.requests")
+                .description("PDF 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Optional<Path> find(String key) {
+        Path file = directory.resolve(key + SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        try {
+            // 최근 사용 시각 기록 (정리할 때 오래된 것부터 지움)
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("PDF 캐시 사용 시각 갱신 실패 - {}: {}", key, e.getMessage());
+        }
+        return Optional.of(file);
+    }
+
+    /**
+     * writer 출력을 out 과 캐시 파일에 동시에 쓴다. 중간에 실패하면 캐시에 남기지 않는다.
+     */
+    public void writeThrough(String key, OutputStream out, PdfSource.Writer writer) throws IOException {
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                writer.write(new TeeOutputStream(out, file));
+            }
+            Files.move(temp, directory.resolve(key + SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> cached = new ArrayList<>(files.filter(file -> file.getFileName().toString().endsWith(SUFFIX)).toList());
+            long total = 0;
+            for (Path file : cached) {
+                total += Files.size(file);
+            }
+            if (total <= maxBytes) {
+                return;
+            }
+            cached.sort(Comparator.comparingLong(PdfCache::lastModified));
+            int removed = 0;
+            for (Path file : cached) {
+                if (total <= maxBytes) {
+                    break;
+                }
+                long size = Files.size(file);
+                if (Files.deleteIfExists(file)) {
+                    total -= size;
+                    removed++;
+                }
+            }
+            log.info("PDF 캐시 정리 - {}개 삭제, 남은 용량 {}KB", removed, total / 1024);
+        } catch (IOException e) {
+            log.warn("PDF 캐시 정리 실패: {}", e.getMessage());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 응답과 캐시 파일에 같은 바이트를 쓰는 스트림 (닫을 때 응답 스트림은 닫지 않음)
+     */
+    private static final class TeeOutputStream extends OutputStream {
+
+        private final OutputStream primary;
+        private final OutputStream copy;
+
+        private TeeOutputStream(OutputStream primary, OutputStream copy) {
+            this.primary = primary;
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            primary.write(b);
+            copy.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            primary.write(b, off, len);
+            copy.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            primary.flush();
+            copy.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
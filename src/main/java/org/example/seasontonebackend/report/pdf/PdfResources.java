@@ -0,0 +1,109 @@
+package org.example.seasontonebackend.report.pdf;
+
+import com.lowagie.text.pdf.BaseFont;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * PDF 렌더링 공용 리소스 (폰트, 문서 템플릿)
+ * 기동 시 한 번만 읽어 두고 모든 렌더링이 공유한다. BaseFont 는 읽기 전용이라 여러 문서에서 동시에 써도 된다.
+ * 한글 폰트는 report.pdf.font-locations 순서대로 찾고 (.ttc 는 "경로#번호"), 하나도 없으면 내장 폰트를 쓰므로 한글이 보이지 않는다.
+ */
+@Slf4j
+@Component
+public class PdfResources {
+
+    private final BaseFont baseFont;
+    private final String fontName;
+    private final Map<DocumentTemplate, String> templates;
+
+    public PdfResources(ResourceLoader resourceLoader,
+                        @Value("${report.pdf.font-locations:}") String[] fontLocations) {
+        BaseFont loaded = null;
+        String loadedName = null;
+        for (String location : fontLocations) {
+            loaded = loadFont(resourceLoader, location.trim());
+            if (loaded != null) {
+                loadedName = location.trim();
+                break;
+            }
+        }
+        if (loaded == null) {
+            log.warn("PDF 한글 폰트를 찾지 못했습니다 (report.pdf.font-locations 확인). 한글이 표시되지 않습니다.");
+            loaded = builtInFont();
+            loadedName = BaseFont.HELVETICA;
+        }
+        this.baseFont = loaded;
+        this.fontName = loadedName;
+        this.templates = loadTemplates(resourceLoader);
+        log.info("PDF 리소스 적재 - 폰트: {}, 문서 템플릿 {}종", fontName, templates.size());
+    }
+
+    public BaseFont getBaseFont() {
+        return baseFont;
+    }
+
+    /**
+     * 캐시 키에 포함 (폰트가 바뀌면 이전 PDF 를 재사용하지 않도록)
+     */
+    public String getFontName() {
+        return fontName;
+    }
+
+    public String getTemplate(DocumentTemplate template) {
+        return templates.get(template);
+    }
+
+    private BaseFont loadFont(ResourceLoader resourceLoader, String location) {
+        if (location.isEmpty()) {
+            return null;
+        }
+        // TrueType Collection 은 "파일.ttc#0" 처럼 글꼴 번호를 붙임 (OpenPDF 에는 "파일.ttc,0" 으로 전달)
+        int hash = location.lastIndexOf('#');
+        String path = hash >= 0 ? location.substring(0, hash) : location;
+        String suffix = hash >= 0 ? "," + location.substring(hash + 1) : "";
+
+        Resource resource = resourceLoader.getResource(path.contains(":") ? path : "file:" + path);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            String name = resource.getFilename() != null ? resource.getFilename() : path;
+            return BaseFont.createFont(name + suffix, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, true, in.readAllBytes(), null);
+        } catch (Exception e) {
+            log.warn("PDF 폰트 적재 실패 - {}: {}", location, e.getMessage());
+            return null;
+        }
+    }
+
+    private BaseFont builtInFont() {
+        try {
+            return BaseFont.createFont(BaseFont.HELVETICA, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+        } catch (Exception e) {
+            throw new IllegalStateException("PDF 기본 폰트를 만들 수 없습니다.", e);
+        }
+    }
+
+    private Map<DocumentTemplate, String> loadTemplates(ResourceLoader resourceLoader) {
+        Map<DocumentTemplate, String> loaded = new EnumMap<>(DocumentTemplate.class);
+        for (DocumentTemplate template : DocumentTemplate.values()) {
+            Resource resource = resourceLoader.getResource("classpath:report/templates/" + template.getCode() + ".txt");
+            try (InputStream in = resource.getInputStream()) {
+                loaded.put(template, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("문서 템플릿을 읽을 수 없습니다: " + template.getCode(), e);
+            }
+        }
+        return Collections.unmodifiableMap(loaded);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.seasontonebackend.report.pdf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 렌더링할 PDF 한 건 (캐시 키 = 내용 해시, 캐시에 없을 때만 writer 실행)
+ */
+public record PdfSource(String cacheKey, String filename, Writer writer) {
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(OutputStream outputStream) throws IOException;
+    }
+}
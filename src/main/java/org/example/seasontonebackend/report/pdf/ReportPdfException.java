@@ -0,0 +1,15 @@
+package org.example.seasontonebackend.report.pdf;
+
+/**
+ * PDF 생성 관련 예외 클래스
+ */
+public class ReportPdfException extends RuntimeException {
+
+    public ReportPdfException(String message) {
+        super(message);
+    }
+
+    public ReportPdfException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,386 @@
+package org.example.seasontonebackend.report.pdf;
+
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfPageEventHelper;
+import com.lowagie.text.pdf.PdfWriter;
+import org.example.seasontonebackend.report.dto.ReportResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 리포트/문서 PDF 렌더러
+ * PdfWriter 는 페이지가 끝날 때마다 출력 스트림에 내보내므로 문서 전체를 메모리에 들고 있지 않는다.
+ * 출력 스트림은 닫지 않는다 (호출한 쪽 소유).
+ */
+@Component
+public class ReportPdfRenderer {
+
+    // 레이아웃이 바뀌면 올려서 이전 캐시를 무효화
+    public static final String LAYOUT_VERSION = "1";
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+    private static final String BLANK = "(                    )";
+    private static final Color HEADER_BACKGROUND = new Color(0xEE, 0xF2, 0xF7);
+
+    private final PdfResources pdfResources;
+    private final Font titleFont;
+    private final Font sectionFont;
+    private final Font bodyFont;
+    private final Font boldFont;
+    private final Font smallFont;
+
+    public ReportPdfRenderer(PdfResources pdfResources) {
+        this.pdfResources = pdfResources;
+        this.titleFont = new Font(pdfResources.getBaseFont(), 18, Font.BOLD);
+        this.sectionFont = new Font(pdfResources.getBaseFont(), 13, Font.BOLD);
+        this.bodyFont = new Font(pdfResources.getBaseFont(), 10);
+        this.boldFont = new Font(pdfResources.getBaseFont(), 10, Font.BOLD);
+        this.smallFont = new Font(pdfResources.getBaseFont(), 8, Font.NORMAL, Color.GRAY);
+    }
+
+    public void renderReport(ReportResponseDto report, OutputStream out) throws IOException {
+        render(out, document -> {
+            ReportResponseDto.ReportHeaderDto header = report.getHeader();
+            document.add(title(header != null && header.getTitle() != null ? header.getTitle() : "임대차 협상 리포트"));
+            if (header != null) {
+                document.add(line(join(" · ", header.getGeneratedDate(), "참여 " + header.getParticipantCount() + "명",
+                        "신뢰도 " + header.getReliabilityScore() + "점"), smallFont));
+                addIfPresent(document, header.getDataPeriod(), smallFont);
+                addIfPresent(document, header.getDataRecency(), smallFont);
+            }
+
+            addContractSummary(document, report.getContractSummary());
+            addSubjectiveMetrics(document, report.getSubjectiveMetrics());
+            addObjectiveMetrics(document, report.getObjectiveMetrics());
+            addNegotiationCards(document, report.getNegotiationCards());
+            addPolicyInfos(document, report.getPolicyInfos());
+            addDisputeGuide(document, report.getDisputeGuide());
+            if (report.getPremiumFeatures() != null) {
+                addTimeSeries(document, report.getPremiumFeatures().getTimeSeriesAnalysis());
+            }
+        });
+    }
+
+    /**
+     * 문서 템플릿 렌더링. 첫 줄은 제목, 빈 줄은 문단 구분, {{이름}} 은 fields 값 (없으면 빈칸)
+     */
+    public void renderDocument(DocumentTemplate template, Map<String, String> fields, OutputStream out) throws IOException {
+        String[] lines = fill(pdfResources.getTemplate(template), fields).split("\\R", -1);
+        render(out, document -> {
+            Paragraph title = new Paragraph(lines[0], titleFont);
+            title.setAlignment(Element.ALIGN_CENTER);
+            title.setSpacingAfter(24);
+            document.add(title);
+
+            Paragraph paragraph = new Paragraph(16, "", bodyFont);
+            for (int i = 1; i < lines.length; i++) {
+                if (lines[i].isBlank()) {
+                    if (!paragraph.isEmpty()) {
+                        paragraph.setSpacingAfter(10);
+                        document.add(paragraph);
+                        paragraph = new Paragraph(16, "", bodyFont);
+                    }
+                    continue;
+                }
+                if (!paragraph.isEmpty()) {
+                    paragraph.add(Chunk.NEWLINE);
+                }
+                paragraph.add(new Chunk(lines[i], bodyFont));
+            }
+            if (!paragraph.isEmpty()) {
+                document.add(paragraph);
+            }
+        });
+    }
+
+    static String fill(String template, Map<String, String> fields) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder filled = new StringBuilder();
+        while (matcher.find()) {
+            String value = fields.get(matcher.group(1));
+            matcher.appendReplacement(filled, Matcher.quoteReplacement(value == null || value.isBlank() ? BLANK : value.trim()));
+        }
+        matcher.appendTail(filled);
+        return filled.toString();
+    }
+
+    // ========== 리포트 섹션 ==========
+
+    private void addContractSummary(Document document, ReportResponseDto.ContractSummaryDto summary) {
+        if (summary == null) {
+            return;
+        }
+        document.add(section("나의 계약 정보"));
+        PdfPTable table = table(new float[]{1, 3});
+        row(table, "주소", summary.getAddress());
+        row(table, "건물 유형", summary.getBuildingType());
+        row(table, "계약 유형", summary.getContractType());
+        row(table, "조건", summary.getConditions());
+        row(table, "인증", join(" / ", summary.isGpsVerified() ? "GPS 인증" : "GPS 미인증",
+                summary.isContractVerified() ? "계약서 인증" : "계약서 미인증"));
+        document.add(table);
+    }
+
+    private void addSubjectiveMetrics(Document document, ReportResponseDto.SubjectiveMetricsDto metrics) {
+        if (metrics == null) {
+            return;
+        }
+        document.add(section("거주 환경 평가"));
+        PdfPTable table = table(new float[]{2, 1, 1, 1});
+        headerRow(table, "항목", "나의 점수", "건물 평균", "동네 평균");
+        List<ReportResponseDto.ScoreComparison> scores = new ArrayList<>();
+        if (metrics.getOverallScore() != null) {
+            scores.add(metrics.getOverallScore());
+        }
+        if (metrics.getCategoryScores() != null) {
+            scores.addAll(metrics.getCategoryScores());
+        }
+        for (ReportResponseDto.ScoreComparison score : scores) {
+            table.addCell(cell(score.getCategory(), bodyFont));
+            table.addCell(numberCell(score.getMyScore(), "%.1f"));
+            table.addCell(numberCell(score.getBuildingAverage(), "%.1f"));
+            table.addCell(numberCell(score.getNeighborhoodAverage(), "%.1f"));
+        }
+        document.add(table);
+    }
+
+    private void addObjectiveMetrics(Document document, ReportResponseDto.ObjectiveMetricsDto metrics) {
+        if (metrics == null) {
+            return;
+        }
+        document.add(section("시세 비교"));
+        addIfPresent(document, metrics.getMarketAnalysis(), bodyFont);
+        PdfPTable summary = table(new float[]{1, 1, 1, 1});
+        headerRow(summary, "시장 평균 보증금", "시장 평균 월세", "나의 보증금", "나의 월세");
+        summary.addCell(numberCell(metrics.getAverageMarketDeposit(), "%,.0f만원"));
+        summary.addCell(numberCell(metrics.getAverageMarketRent(), "%,.0f만원"));
+        summary.addCell(numberCell(metrics.getUserDeposit(), "%,.0f만원"));
+        summary.addCell(numberCell(metrics.getUserRent(), "%,.0f만원"));
+        document.add(summary);
+        addIfPresent(document, metrics.getPriceComparison(), bodyFont);
+
+        if (metrics.getNeighborhoodComparisons() != null && !metrics.getNeighborhoodComparisons().isEmpty()) {
+            PdfPTable neighborhoods = table(new float[]{2, 1, 1, 1});
+            headerRow(neighborhoods, "동네", "평균 보증금", "평균 월세", "거래 건수");
+            for (ReportResponseDto.NeighborhoodComparisonDto neighborhood : metrics.getNeighborhoodComparisons()) {
+                neighborhoods.addCell(cell(neighborhood.getNeighborhoodName(), bodyFont));
+                neighborhoods.addCell(numberCell(neighborhood.getAverageDeposit(), "%,.0f만원"));
+                neighborhoods.addCell(numberCell(neighborhood.getAverageMonthlyRent(), "%,.0f만원"));
+                neighborhoods.addCell(numberCell(neighborhood.getTransactionCount(), "%,.0f건"));
+            }
+            document.add(neighborhoods);
+        }
+        addIfPresent(document, join(" · ", metrics.getDataSource(), metrics.getLastUpdated()), smallFont);
+    }
+
+    private void addNegotiationCards(Document document, List<ReportResponseDto.NegotiationCardDto> cards) {
+        if (cards == null || cards.isEmpty()) {
+            return;
+        }
+        document.add(section("협상 카드"));
+        for (ReportResponseDto.NegotiationCardDto card : cards) {
+            document.add(line(card.getPriority() + "순위 · " + nullToEmpty(card.getTitle()), boldFont));
+            addIfPresent(document, card.getRecommendationScript(), bodyFont);
+            addIfPresent(document, prefixed("성공 확률: ", card.getSuccessProbability()), smallFont);
+            addIfPresent(document, prefixed("대체 전략: ", card.getAlternativeStrategy()), smallFont);
+            addIfPresent(document, prefixed("전문가 팁: ", card.getExpertTip()), smallFont);
+        }
+    }
+
+    private void addPolicyInfos(Document document, List<ReportResponseDto.PolicyInfoDto> policies) {
+        if (policies == null || policies.isEmpty()) {
+            return;
+        }
+        document.add(section("맞춤 정책 정보"));
+        for (ReportResponseDto.PolicyInfoDto policy : policies) {
+            String eligibility = policy.getIsEligible() == null ? null : (policy.getIsEligible() ? "(신청 가능)" : "(조건 미충족)");
+            document.add(line(join(" ", policy.getTitle(), eligibility), boldFont));
+            addIfPresent(document, policy.getDescription(), bodyFont);
+            addIfPresent(document, prefixed("신청 마감: ", policy.getApplicationDeadline()), smallFont);
+            if (policy.getRequiredDocuments() != null && !policy.getRequiredDocuments().isEmpty()) {
+                document.add(line("필요 서류: " + String.join(", ", policy.getRequiredDocuments()), smallFont));
+            }
+            addIfPresent(document, policy.getLink(), smallFont);
+        }
+    }
+
+    private void addDisputeGuide(Document document, ReportResponseDto.DisputeGuideDto guide) {
+        if (guide == null) {
+            return;
+        }
+        document.add(section("분쟁 해결 가이드"));
+        addIfPresent(document, prefixed("관련 법령: ", guide.getRelatedLaw()), bodyFont);
+        addIfPresent(document, prefixed("분쟁조정위원회: ", guide.getCommitteeInfo()), bodyFont);
+        if (guide.getDisputeRoadmap() != null && !guide.getDisputeRoadmap().isEmpty()) {
+            PdfPTable table = table(new float[]{0.5f, 1.5f, 3, 1, 1});
+            headerRow(table, "단계", "내용", "설명", "소요 기간", "비용");
+            for (ReportResponseDto.DisputeRoadmapStepDto step : guide.getDisputeRoadmap()) {
+                table.addCell(cell(String.valueOf(step.getStep()), bodyFont));
+                table.addCell(cell(step.getTitle(), bodyFont));
+                table.addCell(cell(step.getDescription(), bodyFont));
+                table.addCell(cell(step.getEstimatedTime(), bodyFont));
+                table.addCell(cell(step.getCost(), bodyFont));
+            }
+            document.add(table);
+        }
+    }
+
+    private void addTimeSeries(Document document, ReportResponseDto.TimeSeriesAnalysisDto analysis) {
+        if (analysis == null || analysis.getRentTrend() == null || analysis.getRentTrend().isEmpty()) {
+            return;
+        }
+        document.add(section("월세 추이" + (analysis.getPeriod() != null ? " (" + analysis.getPeriod() + ")" : "")));
+        PdfPTable table = table(new float[]{1, 1});
+        headerRow(table, "월", "평균 월세");
+        for (ReportResponseDto.RentTrendDto trend : analysis.getRentTrend()) {
+            table.addCell(cell(trend.getMonth(), bodyFont));
+            table.addCell(numberCell(trend.getAverageRent(), "%,.1f만원"));
+        }
+        document.add(table);
+        document.add(line(String.format("변동성 %.1f%% · 예측 신뢰도 %d%%", analysis.getMarketVolatility(), analysis.getPredictionConfidence()), smallFont));
+        addIfPresent(document, analysis.getDataSource(), smallFont);
+    }
+
+    // ========== 공통 ==========
+
+    @FunctionalInterface
+    private interface Content {
+        void addTo(Document document) throws DocumentException;
+    }
+
+    private void render(OutputStream out, Content content) throws IOException {
+        Document document = new Document(PageSize.A4, 48, 48, 56, 56);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            writer.setPageEvent(new PageNumberFooter(smallFont));
+            document.addCreator("SeasonTone");
+            document.open();
+            content.addTo(document);
+        } catch (DocumentException e) {
+            throw new ReportPdfException("PDF 생성 실패: " + e.getMessage(), e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
+        }
+        out.flush();
+    }
+
+    private Paragraph title(String text) {
+        Paragraph title = new Paragraph(text, titleFont);
+        title.setAlignment(Element.ALIGN_CENTER);
+        title.setSpacingAfter(6);
+        return title;
+    }
+
+    private Paragraph section(String text) {
+        Paragraph section = new Paragraph(text, sectionFont);
+        section.setSpacingBefore(16);
+        section.setSpacingAfter(6);
+        return section;
+    }
+
+    private Paragraph line(String text, Font font) {
+        Paragraph line = new Paragraph(14, text, font);
+        line.setSpacingAfter(3);
+        return line;
+    }
+
+    private void addIfPresent(Document document, String text, Font font) {
+        if (text != null && !text.isBlank()) {
+            document.add(line(text, font));
+        }
+    }
+
+    private PdfPTable table(float[] widths) {
+        PdfPTable table = new PdfPTable(widths);
+        table.setWidthPercentage(100);
+        table.setSpacingBefore(4);
+        table.setSpacingAfter(6);
+        return table;
+    }
+
+    private void headerRow(PdfPTable table, String... headers) {
+        for (String header : headers) {
+            PdfPCell cell = cell(header, boldFont);
+            cell.setBackgroundColor(HEADER_BACKGROUND);
+            table.addCell(cell);
+        }
+        table.setHeaderRows(1);
+    }
+
+    private void row(PdfPTable table, String label, String value) {
+        PdfPCell labelCell = cell(label, boldFont);
+        labelCell.setBackgroundColor(HEADER_BACKGROUND);
+        table.addCell(labelCell);
+        table.addCell(cell(value, bodyFont));
+    }
+
+    private PdfPCell cell(String text, Font font) {
+        PdfPCell cell = new PdfPCell(new Phrase(nullToEmpty(text), font));
+        cell.setPadding(4);
+        return cell;
+    }
+
+    private PdfPCell numberCell(double value, String format) {
+        PdfPCell cell = cell(String.format(format, value), bodyFont);
+        cell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+        return cell;
+    }
+
+    private static String prefixed(String prefix, String value) {
+        return value == null || value.isBlank() ? null : prefix + value;
+    }
+
+    private static String join(String delimiter, String... parts) {
+        List<String> present = new ArrayList<>();
+        for (String part : parts) {
+            if (part != null && !part.isBlank()) {
+                present.add(part);
+            }
+        }
+        return String.join(delimiter, present);
+    }
+
+    private static String nullToEmpty(String text) {
+        return text != null ? text : "";
+    }
+
+    /**
+     * 쪽 번호 꼬리말 (문서마다 새로 생성)
+     */
+    private static final class PageNumberFooter extends PdfPageEventHelper {
+
+        private final Font font;
+
+        private PageNumberFooter(Font font) {
+            this.font = font;
+        }
+
+        @Override
+        public void onEndPage(PdfWriter writer, Document document) {
+            ColumnText.showTextAligned(writer.getDirectContent(), Element.ALIGN_CENTER,
+                    new Phrase("- " + writer.getPageNumber() + " -", font),
+                    (document.left() + document.right()) / 2, document.bottom() - 24, 0);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.seasontonebackend.report.pdf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.report.dto.ReportResponseDto;
+import org.example.seasontonebackend.report.service.ReportService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 리포트/문서 PDF 다운로드
+ * 캐시 키는 렌더링 입력(리포트 JSON 또는 템플릿+입력값)과 레이아웃 버전, 폰트의 SHA-256 이라
+ * 같은 공유 리포트를 다시 받으면 렌더링 없이 캐시 파일만 읽는다.
+ */
+@Slf4j
+@Service
+public class ReportPdfService {
+
+    private static final DateTimeFormatter DOCUMENT_DATE = DateTimeFormatter.ofPattern("yyyy년 M월 d일");
+    private static final String DEFAULT_RELATED_LAW = "주택임대차보호법, 민법 제623조(임대인의 의무)";
+
+    private final ReportService reportService;
+    private final ReportPdfRenderer reportPdfRenderer;
+    private final PdfResources pdfResources;
+    private final PdfCache pdfCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public ReportPdfService(ReportService reportService, ReportPdfRenderer reportPdfRenderer, PdfResources pdfResources,
+                            PdfCache pdfCache, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.reportService = reportService;
+        this.reportPdfRenderer = reportPdfRenderer;
+        this.pdfResources = pdfResources;
+        this.pdfCache = pdfCache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 공유 리포트 PDF (저장된 공유 데이터 기준이라 캐시 적중 시 리포트를 다시 만들지 않음)
+     */
+    public PdfSource sharedReport(String publicId) {
+        String json = reportService.getSharedReportJson(publicId);
+        return new PdfSource(cacheKey("report", json), "seasontone-report-" + publicId + ".pdf", out -> {
+            ReportResponseDto report = objectMapper.readValue(json, ReportResponseDto.class);
+            timed("report", () -> reportPdfRenderer.renderReport(report, out));
+        });
+    }
+
+    /**
+     * 회원 리포트 PDF. 작성자가 아니면 캐시 조회나 렌더링 전에 AccessDeniedException
+     */
+    public PdfSource report(Long reportId, Member requester) {
+        ReportResponseDto report = reportService.getOwnReport(reportId, requester);
+        return new PdfSource(cacheKey("report", toJson(report)), "seasontone-report-" + reportId + ".pdf",
+                out -> timed("report", () -> reportPdfRenderer.renderReport(report, out)));
+    }
+
+    /**
+     * 문서 템플릿 PDF. 입력하지 않은 항목은 빈칸으로 두어 손으로 채울 수 있게 한다.
+     */
+    public PdfSource document(String templateName, Map<String, String> input) {
+        DocumentTemplate template = DocumentTemplate.find(templateName)
+                .orElseThrow(() -> new ReportPdfException("지원하지 않는 문서 종류입니다: " + templateName));
+
+        // 키 순서가 달라도 같은 캐시 키가 나오도록 정렬
+        Map<String, String> fields = new TreeMap<>();
+        fields.put("date", LocalDate.now().format(DOCUMENT_DATE));
+        fields.put("subject", template.getTitle());
+        fields.put("relatedLaw", DEFAULT_RELATED_LAW);
+        if (input != null) {
+            input.forEach((name, value) -> {
+                if (value != null && !value.isBlank()) {
+                    fields.put(name, value);
+                }
+            });
+        }
+        String content = template.getCode() + "\n" + pdfResources.getTemplate(template) + "\n" + toJson(fields);
+        return new PdfSource(cacheKey("document", content), template.getTitle() + ".pdf",
+                out -> timed(template.getCode(), () -> reportPdfRenderer.renderDocument(template, fields, out)));
+    }
+
+    public Optional<Path> findCached(PdfSource source) {
+        return pdfCache.find(source.cacheKey());
+    }
+
+    /**
+     * 응답으로 바로 흘려보내면서 캐시에 저장
+     */
+    public void stream(PdfSource source, OutputStream out) throws IOException {
+        pdfCache.writeThrough(source.cacheKey(), out, source.writer());
+    }
+
+    @FunctionalInterface
+    private interface Rendering {
+        void run() throws IOException;
+    }
+
+    private void timed(String kind, Rendering rendering) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            rendering.run();
+        } finally {
+            sample.stop(Timer.builder("report.pdf.render")
+                    .description("PDF 렌더링 시간 (캐시 미적중 시)")
+                    .tag("kind", kind)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new ReportPdfException("PDF 입력 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String cacheKey(String kind, String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((kind + "\n" + ReportPdfRenderer.LAYOUT_VERSION + "\n" + pdfResources.getFontName() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
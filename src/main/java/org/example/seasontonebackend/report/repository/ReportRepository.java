@@ -2,6 +2,7 @@ package org.example.seasontonebackend.report.repository;
 
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.report.domain.Report;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,6 +10,11 @@ import java.util.Optional;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
+    @EntityGraph(Report.WITH_MEMBER)
     Optional<Report> findByReportId(Long reportId);
+
     Optional<Report> findByPublicId(String publicId);
+
+    @EntityGraph(Report.WITH_MEMBER)
+    Optional<Report> findWithMemberByPublicId(String publicId);
 }
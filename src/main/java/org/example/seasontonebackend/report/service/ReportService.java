@@ -1,9 +1,13 @@
 package org.example.seasontonebackend.report.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
 import org.example.seasontonebackend.diagnosis.domain.entity.DiagnosisResponse;
 import org.example.seasontonebackend.diagnosis.domain.repository.DiagnosisResponseRepository;
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.member.repository.MemberRepository;
+import org.example.seasontonebackend.member.repository.NeighborhoodMember;
 import org.example.seasontonebackend.report.domain.Report;
 import org.example.seasontonebackend.report.dto.ReportRequestDto;
 import org.example.seasontonebackend.report.dto.ReportResponseDto;
@@ -15,8 +19,10 @@ import org.example.seasontonebackend.officetel.dto.OfficetelMarketDataResponseDT
 import org.example.seasontonebackend.villa.application.VillaService;
 import org.example.seasontonebackend.villa.dto.VillaMarketDataResponseDTO;
 import org.example.seasontonebackend.common.service.AddressService;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.LocalDateTime;
@@ -24,10 +30,11 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+@Slf4j
 @Service
 public class ReportService {
     private final ReportRepository reportRepository;
@@ -37,14 +44,15 @@ public class ReportService {
     private final OfficetelService officetelService;
     private final VillaService villaService;
     private final AddressService addressService;
+    private final MeterRegistry meterRegistry;
     
-    // 동시 리포트 생성을 위한 스레드 풀 (최대 10개 동시 처리)
-    private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+    // 동시 리포트 생성을 위한 실행기 (플랫폼 스레드는 최대 10개 동시 처리, 가상 스레드 모드는 요청마다 스레드, executor.* 메트릭으로 대기열 길이 노출)
+    private final ExecutorService executorService;
     
-    // JSON 변환을 위한 ObjectMapper
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 공유 리포트 JSON 변환 (앱 공통 ObjectMapper - Blackbird, java.time 모듈 포함)
+    private final ObjectMapper objectMapper;
 
-    public ReportService(ReportRepository reportRepository, MemberRepository memberRepository, DiagnosisResponseRepository diagnosisResponseRepository, SmartDiagnosisService smartDiagnosisService, OfficetelService officetelService, VillaService villaService, AddressService addressService) {
+    public ReportService(ReportRepository reportRepository, MemberRepository memberRepository, DiagnosisResponseRepository diagnosisResponseRepository, SmartDiagnosisService smartDiagnosisService, OfficetelService officetelService, VillaService villaService, AddressService addressService, ObjectMapper objectMapper, MeterRegistry meterRegistry, BlockingExecutors blockingExecutors) {
         this.reportRepository = reportRepository;
         this.memberRepository = memberRepository;
         this.diagnosisResponseRepository = diagnosisResponseRepository;
@@ -52,6 +60,9 @@ public class ReportService {
         this.officetelService = officetelService;
         this.villaService = villaService;
         this.addressService = addressService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.executorService = blockingExecutors.newExecutor("report", 10);
     }
 
     @Transactional
@@ -74,7 +85,7 @@ public class ReportService {
             reportRepository.save(report);
         } catch (Exception e) {
             // JSON 변환 실패 시에도 리포트 생성은 계속 진행
-            System.err.println("공유용 데이터 생성 실패: " + e.getMessage());
+            log.warn("공유용 데이터 생성 실패: {}", e.getMessage());
         }
 
         return report.getPublicId();
@@ -92,28 +103,36 @@ public class ReportService {
     }
 
     public ReportResponseDto getReport(Long reportId) {
-        Report report = reportRepository.findById(reportId)
+        Report report = reportRepository.findByReportId(reportId)
                 .orElseThrow(() -> new NullPointerException("존재하지 않는 리포트입니다!"));
 
         Member member = report.getMember();
         return buildReportResponse(report, member);
     }
 
-    public ReportResponseDto getReportByPublicId(String publicId) {
-        Report report = reportRepository.findByPublicId(publicId)
+    /**
+     * 본인 리포트만 조회 (리포트를 조립하기 전에 작성자를 확인)
+     */
+    public ReportResponseDto getOwnReport(Long reportId, Member requester) {
+        Report report = reportRepository.findByReportId(reportId)
                 .orElseThrow(() -> new NullPointerException("존재하지 않는 리포트입니다!"));
 
-        // 공유 가능한지 확인
-        if (!Boolean.TRUE.equals(report.getIsShareable())) {
-            throw new RuntimeException("공유할 수 없는 리포트입니다.");
+        Member member = report.getMember();
+        if (requester == null || !requester.getId().equals(member.getId())) {
+            throw new AccessDeniedException("본인의 리포트만 이용할 수 있습니다.");
         }
+        return buildReportResponse(report, member);
+    }
+
+    public ReportResponseDto getReportByPublicId(String publicId) {
+        Report report = findShareableReport(publicId);
 
         // 저장된 공유용 데이터가 있으면 반환
         if (report.getSharedReportData() != null && !report.getSharedReportData().isEmpty()) {
             try {
                 return objectMapper.readValue(report.getSharedReportData(), ReportResponseDto.class);
             } catch (Exception e) {
-                System.err.println("저장된 공유 데이터 파싱 실패: " + e.getMessage());
+                log.warn("저장된 공유 데이터 파싱 실패: {}", e.getMessage());
                 // 파싱 실패 시 실시간 생성으로 폴백
             }
         }
@@ -123,24 +142,65 @@ public class ReportService {
         return buildReportResponse(report, member);
     }
 
+    /**
+     * 공유 리포트 원본 JSON (PDF 캐시 키 계산용 - 저장된 공유 데이터가 있으면 리포트를 다시 만들지 않음)
+     */
+    public String getSharedReportJson(String publicId) {
+        Report report = findShareableReport(publicId);
+        if (report.getSharedReportData() != null && !report.getSharedReportData().isEmpty()) {
+            return report.getSharedReportData();
+        }
+        try {
+            return objectMapper.writeValueAsString(buildReportResponse(report, report.getMember()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리포트 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 저장된 공유 데이터가 없으면 리포트를 새로 만들어야 하므로 회원까지 함께 조회
+    private Report findShareableReport(String publicId) {
+        Report report = reportRepository.findWithMemberByPublicId(publicId)
+                .orElseThrow(() -> new NullPointerException("존재하지 않는 리포트입니다!"));
+
+        // 공유 가능한지 확인
+        if (!Boolean.TRUE.equals(report.getIsShareable())) {
+            throw new RuntimeException("공유할 수 없는 리포트입니다.");
+        }
+        return report;
+    }
+
+    /**
+     * 리포트 전체 생성 시간 (report.build) - 섹션별 시간은 report.build.section
+     */
     private ReportResponseDto buildReportResponse(Report report, Member member) {
-        List<Member> neighborhoodMembers = memberRepository.findByDong(member.getDong());
-        List<Long> neighborhoodMemberIds = neighborhoodMembers.stream().map(Member::getId).collect(Collectors.toList());
-        List<DiagnosisResponse> neighborhoodResponses = neighborhoodMemberIds.stream()
-                .flatMap(userId -> diagnosisResponseRepository.findByUserId(userId).stream())
-                .collect(Collectors.toList());
+        String type = "premium".equals(report.getReportType()) ? "premium" : "free";
+        return meterRegistry.timer("report.build", "type", type).record(() -> assembleReportResponse(report, member));
+    }
 
-        ReportResponseDto.SubjectiveMetricsDto subjectiveMetrics = buildSubjectiveMetrics(member, neighborhoodMembers, neighborhoodResponses);
+    private <T> T timeSection(String section, Supplier<T> supplier) {
+        return meterRegistry.timer("report.build.section", "section", section).record(supplier);
+    }
 
-        List<ReportResponseDto.NegotiationCardDto> negotiationCards = buildNegotiationCards(subjectiveMetrics, report.getUserInput(), report.getReportType());
+    private ReportResponseDto assembleReportResponse(Report report, Member member) {
+        List<NeighborhoodMember> neighborhoodMembers = timeSection("neighborhood_members", () -> memberRepository.findByDong(member.getDong()));
+        List<DiagnosisResponse> neighborhoodResponses = timeSection("neighborhood_responses",
+                () -> diagnosisResponseRepository.findByMemberDong(member.getDong()));
+
+        ReportResponseDto.SubjectiveMetricsDto subjectiveMetrics = timeSection("subjective_metrics",
+                () -> buildSubjectiveMetrics(member, neighborhoodMembers, neighborhoodResponses));
+
+        List<ReportResponseDto.NegotiationCardDto> negotiationCards = timeSection("negotiation_cards",
+                () -> buildNegotiationCards(subjectiveMetrics, report.getUserInput(), report.getReportType()));
 
         // 스마트 진단 데이터 가져오기
-        SmartDiagnosisResponseDTO.SmartDiagnosisSummary smartDiagnosisData = null;
-        try {
-            smartDiagnosisData = smartDiagnosisService.getSmartDiagnosisSummary(member);
-        } catch (Exception e) {
-            System.err.println("스마트 진단 데이터 조회 실패: " + e.getMessage());
-        }
+        SmartDiagnosisResponseDTO.SmartDiagnosisSummary smartDiagnosisData = timeSection("smart_diagnosis", () -> {
+            try {
+                return smartDiagnosisService.getSmartDiagnosisSummary(member);
+            } catch (Exception e) {
+                log.warn("스마트 진단 데이터 조회 실패: {}", e.getMessage());
+                return null;
+            }
+        });
 
         String dong = member.getDong() != null ? member.getDong().trim() : "";
         String building = member.getBuilding() != null ? member.getBuilding().trim() : "";
@@ -162,7 +222,7 @@ public class ReportService {
             fullAddress = "주소 정보 없음";
         }
         
-        System.out.println("DEBUG - Member info: dong=" + dong + ", building=" + building + ", fullAddress=" + fullAddress);
+        log.debug("리포트 회원 주소 - dong={}, building={}, fullAddress={}", dong, building, fullAddress);
         String conditions = String.format("보증금 %s / 월세 %s / 관리비 %s",
                 member.getSecurity() != null ? member.getSecurity().toString() : "미입력",
                 member.getRent() != null ? member.getRent().toString() : "미입력",
@@ -197,7 +257,7 @@ public class ReportService {
                 .build();
 
         // 실거래가 데이터 가져오기
-        ReportResponseDto.ObjectiveMetricsDto objectiveMetrics = buildObjectiveMetrics(member);
+        ReportResponseDto.ObjectiveMetricsDto objectiveMetrics = timeSection("objective_metrics", () -> buildObjectiveMetrics(member));
 
         ReportResponseDto.ReportResponseDtoBuilder builder = ReportResponseDto.builder()
                 .reportType(report.getReportType() != null ? report.getReportType() : "free")
@@ -206,13 +266,13 @@ public class ReportService {
                 .subjectiveMetrics(subjectiveMetrics)
                 .objectiveMetrics(objectiveMetrics)
                 .negotiationCards(negotiationCards)
-                .policyInfos(buildPolicyInfos(report.getReportType()))
-                .disputeGuide(buildDisputeGuide(report.getReportType()))
+                .policyInfos(timeSection("policy_infos", () -> buildPolicyInfos(report.getReportType())))
+                .disputeGuide(timeSection("dispute_guide", () -> buildDisputeGuide(report.getReportType())))
                 .smartDiagnosisData(smartDiagnosisData);
 
         // 프리미엄 리포트인 경우 추가 기능들 추가
         if ("premium".equals(report.getReportType())) {
-            builder.premiumFeatures(buildPremiumFeatures(member));
+            builder.premiumFeatures(timeSection("premium_features", () -> buildPremiumFeatures(member, smartDiagnosisData)));
         }
 
         return builder.build();
@@ -221,17 +281,13 @@ public class ReportService {
     /**
      * 프리미엄 기능 데이터 생성
      */
-    private ReportResponseDto.PremiumFeaturesDto buildPremiumFeatures(Member member) {
+    private ReportResponseDto.PremiumFeaturesDto buildPremiumFeatures(Member member,
+                                                                      SmartDiagnosisResponseDTO.SmartDiagnosisSummary smartDiagnosisData) {
         // 시계열 분석 데이터 생성
         ReportResponseDto.TimeSeriesAnalysisDto timeSeriesAnalysis = buildTimeSeriesAnalysis(member);
         
         // 스마트 진단 데이터 (이미 있으면 그대로 사용)
-        Object smartDiagnosis = null;
-        try {
-            smartDiagnosis = smartDiagnosisService.getSmartDiagnosisSummary(member);
-        } catch (Exception e) {
-            System.err.println("스마트 진단 데이터 조회 실패: " + e.getMessage());
-        }
+        Object smartDiagnosis = smartDiagnosisData;
         
         // 문서 생성 기능
         ReportResponseDto.DocumentGenerationDto documentGeneration = ReportResponseDto.DocumentGenerationDto.builder()
@@ -299,8 +355,9 @@ public class ReportService {
             }
             
             // 분석 결과 추출
+            // 집계 데이터는 월간 변동률 표준편차(volatility), 목업은 총 변동률 사용
             double marketVolatility = analysis != null ? 
-                ((Number) analysis.getOrDefault("totalChangeRate", 0)).doubleValue() / 100.0 : 0.0;
+                ((Number) analysis.getOrDefault("volatility", analysis.getOrDefault("totalChangeRate", 0))).doubleValue() / 100.0 : 0.0;
             int predictionConfidence = 85; // 기본값
             
             return ReportResponseDto.TimeSeriesAnalysisDto.builder()
@@ -312,7 +369,7 @@ public class ReportService {
                     .build();
                     
         } catch (Exception e) {
-            System.err.println("시계열 분석 데이터 생성 실패: " + e.getMessage());
+            log.warn("시계열 분석 데이터 생성 실패: {}", e.getMessage());
             
             // 기본 시계열 데이터 생성
             return createMockTimeSeriesAnalysis();
@@ -342,11 +399,8 @@ public class ReportService {
     }
 
     public ReportResponseDto getComprehensiveReport(Member member) {
-        List<Member> neighborhoodMembers = memberRepository.findByDong(member.getDong());
-        List<Long> neighborhoodMemberIds = neighborhoodMembers.stream().map(Member::getId).collect(Collectors.toList());
-        List<DiagnosisResponse> neighborhoodResponses = neighborhoodMemberIds.stream()
-                .flatMap(userId -> diagnosisResponseRepository.findByUserId(userId).stream())
-                .collect(Collectors.toList());
+        List<NeighborhoodMember> neighborhoodMembers = memberRepository.findByDong(member.getDong());
+        List<DiagnosisResponse> neighborhoodResponses = diagnosisResponseRepository.findByMemberDong(member.getDong());
 
         ReportResponseDto.SubjectiveMetricsDto subjectiveMetrics = buildSubjectiveMetrics(member, neighborhoodMembers, neighborhoodResponses);
 
@@ -357,7 +411,7 @@ public class ReportService {
         try {
             smartDiagnosisData = smartDiagnosisService.getSmartDiagnosisSummary(member);
         } catch (Exception e) {
-            System.err.println("스마트 진단 데이터 조회 실패: " + e.getMessage());
+            log.warn("스마트 진단 데이터 조회 실패: {}", e.getMessage());
         }
 
         String fullAddress = (member.getDong() != null ? member.getDong() : "") + " " + (member.getBuilding() != null ? member.getBuilding() : "");
@@ -447,11 +501,11 @@ public class ReportService {
         return cards;
     }
 
-    private ReportResponseDto.SubjectiveMetricsDto buildSubjectiveMetrics(Member currentUser, List<Member> neighborhoodMembers, List<DiagnosisResponse> neighborhoodResponses) {
-        List<Member> buildingMembers = neighborhoodMembers.stream()
-                .filter(m -> m.getBuilding() != null && m.getBuilding().equals(currentUser.getBuilding()))
-                .collect(Collectors.toList());
-        List<Long> buildingMemberIds = buildingMembers.stream().map(Member::getId).collect(Collectors.toList());
+    private ReportResponseDto.SubjectiveMetricsDto buildSubjectiveMetrics(Member currentUser, List<NeighborhoodMember> neighborhoodMembers, List<DiagnosisResponse> neighborhoodResponses) {
+        Set<Long> buildingMemberIds = neighborhoodMembers.stream()
+                .filter(m -> m.building() != null && m.building().equals(currentUser.getBuilding()))
+                .map(NeighborhoodMember::id)
+                .collect(Collectors.toSet());
         List<DiagnosisResponse> buildingResponses = neighborhoodResponses.stream()
                 .filter(r -> buildingMemberIds.contains(r.getUserId()))
                 .collect(Collectors.toList());
@@ -486,7 +540,8 @@ public class ReportService {
                 .build();
     }
 
-    private Map<Long, Double> calculateCategoryAverages(List<DiagnosisResponse> responses, boolean trimOutliers) {
+    // 벤치마크(src/jmh)에서 직접 호출하므로 패키지 공개
+    Map<Long, Double> calculateCategoryAverages(List<DiagnosisResponse> responses, boolean trimOutliers) {
         if (responses == null || responses.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -506,7 +561,7 @@ public class ReportService {
         return finalAverages;
     }
 
-    private double calculateTrimmedMean(List<Integer> scores) {
+    double calculateTrimmedMean(List<Integer> scores) {
         if (scores.size() < 5) {
             return scores.stream().mapToInt(Integer::intValue).average().orElse(0.0);
         }
@@ -775,7 +830,7 @@ public class ReportService {
             }
             
         } catch (Exception e) {
-            System.err.println("실거래가 데이터 조회 실패: " + e.getMessage());
+            log.warn("실거래가 데이터 조회 실패: {}", e.getMessage());
             return createMockObjectiveMetrics(member);
         }
     }
@@ -978,11 +1033,11 @@ public class ReportService {
      */
     public String generateShareUrl(String reportId, boolean isPremium) {
         try {
-            System.out.println("DEBUG - generateShareUrl called with reportId: " + reportId + ", isPremium: " + isPremium);
+            log.debug("공유 URL 생성 요청 - reportId: {}, isPremium: {}", reportId, isPremium);
             
             // reportId가 null이거나 빈 문자열인 경우 기본 URL 반환
             if (reportId == null || reportId.trim().isEmpty()) {
-                System.out.println("DEBUG - reportId is null or empty, returning default URL");
+                log.debug("reportId 가 비어 있어 기본 URL 반환");
                 String baseUrl = "https://rental-lovat-theta.vercel.app";
                 return baseUrl + "/report";
             }
@@ -991,7 +1046,7 @@ public class ReportService {
             Report report = reportRepository.findByPublicId(reportId)
                     .orElseThrow(() -> new RuntimeException("리포트를 찾을 수 없습니다: " + reportId));
             
-            System.out.println("DEBUG - Report found: " + report.getReportId());
+            log.debug("공유 대상 리포트 조회 - {}", report.getReportId());
             
             // 공유 가능한 URL 생성 (프론트엔드 도메인 + 공개 경로)
             String baseUrl = "https://rental-lovat-theta.vercel.app";
@@ -1000,12 +1055,11 @@ public class ReportService {
                     "/report/" + reportId;
             
             String shareUrl = baseUrl + sharePath;
-            System.out.println("DEBUG - Generated share URL: " + shareUrl);
+            log.debug("공유 URL 생성 완료 - {}", shareUrl);
             
             return shareUrl;
         } catch (Exception e) {
-            System.out.println("ERROR - generateShareUrl failed: " + e.getMessage());
-            e.printStackTrace();
+            log.error("공유 URL 생성 실패 - reportId: {}", reportId, e);
             throw new RuntimeException("공유 URL 생성 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
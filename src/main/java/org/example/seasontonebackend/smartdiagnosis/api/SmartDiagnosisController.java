@@ -2,6 +2,7 @@ package org.example.seasontonebackend.smartdiagnosis.api;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.seasontonebackend.common.api.ApiResponse;
 import org.example.seasontonebackend.member.domain.Member;
 import org.example.seasontonebackend.smartdiagnosis.application.SmartDiagnosisService;
 import org.example.seasontonebackend.smartdiagnosis.dto.SmartDiagnosisRequestDTO;
@@ -11,7 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,7 +26,7 @@ public class SmartDiagnosisController {
     // ========== 수평계 API ==========
 
     @PostMapping("/level/start")
-    public ResponseEntity<Map<String, Object>> startLevelMeasurement(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.LevelStartResponse>> startLevelMeasurement(
             @RequestBody SmartDiagnosisRequestDTO.LevelStart request,
             @AuthenticationPrincipal Member member) {
 
@@ -34,25 +34,16 @@ public class SmartDiagnosisController {
             SmartDiagnosisResponseDTO.LevelStartResponse response =
                     smartDiagnosisService.startLevelMeasurement(member, request);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", response);
-            result.put("message", "수평 측정을 시작했습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(response, "수평 측정을 시작했습니다."));
         } catch (Exception e) {
             log.error("수평 측정 시작 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "수평 측정 시작 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.internalServerError().body(errorResult);
+            return ResponseEntity.internalServerError().body(ApiResponse.fail("수평 측정 시작 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     @PostMapping("/level/measure")
-    public ResponseEntity<Map<String, Object>> processLevelMeasurement(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.LevelMeasureResponse>> processLevelMeasurement(
             @RequestBody SmartDiagnosisRequestDTO.LevelMeasure request,
             @AuthenticationPrincipal Member member) {
 
@@ -60,25 +51,16 @@ public class SmartDiagnosisController {
             SmartDiagnosisResponseDTO.LevelMeasureResponse response =
                     smartDiagnosisService.processLevelMeasurement(member, request);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", response);
-            result.put("message", "수평 측정이 완료되었습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(response, "수평 측정이 완료되었습니다."));
         } catch (Exception e) {
             log.error("수평 데이터 처리 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "수평 데이터 처리 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.badRequest().body(errorResult);
+            return ResponseEntity.badRequest().body(ApiResponse.fail("수평 데이터 처리 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     @GetMapping("/level/history")
-    public ResponseEntity<Map<String, Object>> getLevelHistory(
+    public ResponseEntity<ApiResponse<List<SmartDiagnosisResponseDTO.LevelHistory>>> getLevelHistory(
             @RequestParam(defaultValue = "10") int limit,
             @AuthenticationPrincipal Member member) {
 
@@ -86,27 +68,18 @@ public class SmartDiagnosisController {
             List<SmartDiagnosisResponseDTO.LevelHistory> history =
                     smartDiagnosisService.getLevelHistory(member, limit);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", history);
-            result.put("message", "수평 측정 기록을 조회했습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(history, "수평 측정 기록을 조회했습니다."));
         } catch (Exception e) {
             log.error("수평 측정 기록 조회 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "기록 조회 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.internalServerError().body(errorResult);
+            return ResponseEntity.internalServerError().body(ApiResponse.fail("기록 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     // ========== 소음 측정 API ==========
 
     @PostMapping("/noise/start")
-    public ResponseEntity<Map<String, Object>> startNoiseMeasurement(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.NoiseStartResponse>> startNoiseMeasurement(
             @RequestBody SmartDiagnosisRequestDTO.NoiseStart request,
             @AuthenticationPrincipal Member member) {
 
@@ -114,25 +87,16 @@ public class SmartDiagnosisController {
             SmartDiagnosisResponseDTO.NoiseStartResponse response =
                     smartDiagnosisService.startNoiseMeasurement(member, request);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", response);
-            result.put("message", "소음 측정을 시작했습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(response, "소음 측정을 시작했습니다."));
         } catch (Exception e) {
             log.error("소음 측정 시작 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "소음 측정 시작 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.internalServerError().body(errorResult);
+            return ResponseEntity.internalServerError().body(ApiResponse.fail("소음 측정 시작 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     @PostMapping("/noise/realtime")
-    public ResponseEntity<Map<String, Object>> processRealtimeNoise(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.NoiseRealtimeResponse>> processRealtimeNoise(
             @RequestBody SmartDiagnosisRequestDTO.NoiseRealtime request,
             @AuthenticationPrincipal Member member) {
 
@@ -140,25 +104,16 @@ public class SmartDiagnosisController {
             SmartDiagnosisResponseDTO.NoiseRealtimeResponse response =
                     smartDiagnosisService.processRealtimeNoise(member, request);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", response);
-            result.put("message", "실시간 소음 데이터를 처리했습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(response, "실시간 소음 데이터를 처리했습니다."));
         } catch (Exception e) {
             log.error("실시간 소음 데이터 처리 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "실시간 데이터 처리 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.badRequest().body(errorResult);
+            return ResponseEntity.badRequest().body(ApiResponse.fail("실시간 데이터 처리 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     @PostMapping("/noise/complete")
-    public ResponseEntity<Map<String, Object>> completeNoiseMeasurement(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.NoiseCompleteResponse>> completeNoiseMeasurement(
             @RequestBody SmartDiagnosisRequestDTO.NoiseComplete request,
             @AuthenticationPrincipal Member member) {
 
@@ -166,27 +121,18 @@ public class SmartDiagnosisController {
             SmartDiagnosisResponseDTO.NoiseCompleteResponse response =
                     smartDiagnosisService.completeNoiseMeasurement(member, request);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", response);
-            result.put("message", "소음 측정이 완료되었습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(response, "소음 측정이 완료되었습니다."));
         } catch (Exception e) {
             log.error("소음 측정 완료 처리 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "소음 측정 완료 처리 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.badRequest().body(errorResult);
+            return ResponseEntity.badRequest().body(ApiResponse.fail("소음 측정 완료 처리 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     // ========== 인터넷 속도 측정 API ==========
 
     @PostMapping("/internet/start")
-    public ResponseEntity<Map<String, Object>> startInternetSpeedTest(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.InternetStartResponse>> startInternetSpeedTest(
             @RequestBody SmartDiagnosisRequestDTO.InternetStart request,
             @AuthenticationPrincipal Member member) {
 
@@ -194,25 +140,16 @@ public class SmartDiagnosisController {
             SmartDiagnosisResponseDTO.InternetStartResponse response =
                     smartDiagnosisService.startInternetSpeedTest(member, request);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", response);
-            result.put("message", "인터넷 속도 측정을 시작했습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(response, "인터넷 속도 측정을 시작했습니다."));
         } catch (Exception e) {
             log.error("인터넷 속도 측정 시작 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "인터넷 속도 측정 시작 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.internalServerError().body(errorResult);
+            return ResponseEntity.internalServerError().body(ApiResponse.fail("인터넷 속도 측정 시작 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     @PostMapping("/internet/complete")
-    public ResponseEntity<Map<String, Object>> completeInternetSpeedTest(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.InternetCompleteResponse>> completeInternetSpeedTest(
             @RequestBody SmartDiagnosisRequestDTO.InternetComplete request,
             @AuthenticationPrincipal Member member) {
 
@@ -220,27 +157,18 @@ public class SmartDiagnosisController {
             SmartDiagnosisResponseDTO.InternetCompleteResponse response =
                     smartDiagnosisService.completeInternetSpeedTest(member, request);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", response);
-            result.put("message", "인터넷 속도 측정이 완료되었습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(response, "인터넷 속도 측정이 완료되었습니다."));
         } catch (Exception e) {
             log.error("인터넷 속도 측정 완료 처리 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "인터넷 속도 측정 완료 처리 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.badRequest().body(errorResult);
+            return ResponseEntity.badRequest().body(ApiResponse.fail("인터넷 속도 측정 완료 처리 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     // ========== 통합 조회 API ==========
 
     @GetMapping("/measurements/{measurementId}")
-    public ResponseEntity<Map<String, Object>> getMeasurementDetail(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.MeasurementDetail>> getMeasurementDetail(
             @PathVariable Long measurementId,
             @AuthenticationPrincipal Member member) {
 
@@ -248,45 +176,27 @@ public class SmartDiagnosisController {
             SmartDiagnosisResponseDTO.MeasurementDetail detail =
                     smartDiagnosisService.getMeasurementDetail(member, measurementId);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", detail);
-            result.put("message", "측정 상세 정보를 조회했습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(detail, "측정 상세 정보를 조회했습니다."));
         } catch (Exception e) {
             log.error("측정 상세 조회 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "측정 상세 조회 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.internalServerError().body(errorResult);
+            return ResponseEntity.internalServerError().body(ApiResponse.fail("측정 상세 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 
     @GetMapping("/summary")
-    public ResponseEntity<Map<String, Object>> getSmartDiagnosisSummary(
+    public ResponseEntity<ApiResponse<SmartDiagnosisResponseDTO.SmartDiagnosisSummary>> getSmartDiagnosisSummary(
             @AuthenticationPrincipal Member member) {
 
         try {
             SmartDiagnosisResponseDTO.SmartDiagnosisSummary summary =
                     smartDiagnosisService.getSmartDiagnosisSummary(member);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("data", summary);
-            result.put("message", "스마트 진단 종합 결과를 조회했습니다.");
-
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(ApiResponse.ok(summary, "스마트 진단 종합 결과를 조회했습니다."));
         } catch (Exception e) {
             log.error("스마트 진단 종합 결과 조회 실패", e);
 
-            Map<String, Object> errorResult = new HashMap<>();
-            errorResult.put("success", false);
-            errorResult.put("message", "종합 결과 조회 중 오류가 발생했습니다: " + e.getMessage());
-
-            return ResponseEntity.internalServerError().body(errorResult);
+            return ResponseEntity.internalServerError().body(ApiResponse.fail("종합 결과 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
 }
\ No newline at end of file
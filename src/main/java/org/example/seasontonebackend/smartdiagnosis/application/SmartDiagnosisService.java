@@ -1,5 +1,7 @@
 package org.example.seasontonebackend.smartdiagnosis.application;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.example.seasontonebackend.smartdiagnosis.domain.repository.*;
 import org.example.seasontonebackend.smartdiagnosis.dto.SmartDiagnosisRequestDTO;
 import org.example.seasontonebackend.smartdiagnosis.dto.SmartDiagnosisResponseDTO;
 import org.example.seasontonebackend.smartdiagnosis.exception.SmartDiagnosisException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +34,7 @@ public class SmartDiagnosisService {
     private final NoiseDataPointRepository noiseDataPointRepository;
     private final InternetSpeedDetailRepository internetDetailRepository;
     private final SmartDiagnosisConverter converter;
+    private final MeterRegistry meterRegistry;
 
     // ========== 소음 측정 기능 ==========
 
@@ -76,6 +80,8 @@ public class SmartDiagnosisService {
 
         log.debug("실시간 소음 데이터 처리 - 세션: {}, 데시벨: {}",
                 request.getSessionId(), request.getDecibel());
+        meterRegistry.counter("smartdiagnosis.noise.samples", "source", "realtime",
+                "result", isValidDecibel(request.getDecibel()) ? "valid" : "invalid").increment();
 
         try {
             String category = categorizeNoise(request.getDecibel());
@@ -99,12 +105,13 @@ public class SmartDiagnosisService {
 
         log.info("소음 측정 완료 - 사용자: {}, 세션: {}, 샘플 수: {}",
                 member.getEmail(), request.getSessionId(), request.getSamples().size());
+        recordNoiseIngest(request.getSamples());
 
         try {
             // 최근 소음 측정 찾기
             List<SmartMeasurement> recentMeasurements = measurementRepository
                     .findByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
-                            member.getId(), SmartMeasurement.MeasurementType.NOISE);
+                            member.getId(), SmartMeasurement.MeasurementType.NOISE, Limit.of(1));
 
             if (recentMeasurements.isEmpty()) {
                 throw new SmartDiagnosisException("측정 세션을 찾을 수 없습니다.");
@@ -208,7 +215,7 @@ public class SmartDiagnosisService {
             // 최근 인터넷 측정 찾기
             List<SmartMeasurement> recentMeasurements = measurementRepository
                     .findByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
-                            member.getId(), SmartMeasurement.MeasurementType.INTERNET);
+                            member.getId(), SmartMeasurement.MeasurementType.INTERNET, Limit.of(1));
 
             if (recentMeasurements.isEmpty()) {
                 throw new SmartDiagnosisException("측정 세션을 찾을 수 없습니다.");
@@ -256,7 +263,7 @@ public class SmartDiagnosisService {
     // ========== 통합 요약 기능 ==========
 
     public SmartDiagnosisResponseDTO.SmartDiagnosisSummary getSmartDiagnosisSummary(Member member) {
-        log.info("스마트 진단 종합 결과 조회 - 사용자: {}", member.getEmail());
+        log.debug("스마트 진단 종합 결과 조회 - 사용자: {}", member.getEmail());
 
         try {
             // 각 측정 타입별 최근 결과 조회
@@ -338,7 +345,7 @@ public class SmartDiagnosisService {
         try {
             List<SmartMeasurement> recentMeasurements = measurementRepository
                     .findByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
-                            member.getId(), SmartMeasurement.MeasurementType.LEVEL);
+                            member.getId(), SmartMeasurement.MeasurementType.LEVEL, Limit.of(1));
 
             if (recentMeasurements.isEmpty()) {
                 throw new SmartDiagnosisException("측정 세션을 찾을 수 없습니다.");
@@ -379,39 +386,48 @@ public class SmartDiagnosisService {
     }
 
     public List<SmartDiagnosisResponseDTO.LevelHistory> getLevelHistory(Member member, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
         List<SmartMeasurement> measurements = measurementRepository
                 .findByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
-                        member.getId(), SmartMeasurement.MeasurementType.LEVEL)
-                .stream()
-                .limit(limit)
-                .toList();
+                        member.getId(), SmartMeasurement.MeasurementType.LEVEL, Limit.of(limit));
 
         return converter.toLevelHistoryList(measurements);
     }
 
     public SmartDiagnosisResponseDTO.MeasurementDetail getMeasurementDetail(Member member, Long measurementId) {
-        SmartMeasurement measurement = measurementRepository.findById(measurementId)
+        // 측정 + 타입별 상세를 한 번에 조회 (회원은 ID 만 비교)
+        MeasurementDetailRow row = measurementRepository.findDetailById(measurementId)
                 .orElseThrow(() -> new SmartDiagnosisException("측정 결과를 찾을 수 없습니다."));
 
-        if (!measurement.getMember().getId().equals(member.getId())) {
+        if (!member.getId().equals(row.memberId())) {
             throw new SmartDiagnosisException("접근 권한이 없습니다.");
         }
 
-        LevelMeasurementDetail levelDetail = levelDetailRepository
-                .findByMeasurementMeasurementId(measurementId).orElse(null);
-
-        NoiseMeasurementDetail noiseDetail = noiseDetailRepository
-                .findByMeasurementMeasurementId(measurementId).orElse(null);
+        return converter.toMeasurementDetailDto(row.measurement(), row.levelDetail(), row.noiseDetail(), row.internetDetail());
+    }
 
-        InternetSpeedDetail internetDetail = internetDetailRepository
-                .findByMeasurementMeasurementId(measurementId).orElse(null);
+    // ========== 유틸리티 메서드들 ==========
 
-        return converter.toMeasurementDetailDto(measurement, levelDetail, noiseDetail, internetDetail);
+    /**
+     * 측정 완료 시 수신한 샘플 수 기록 (유효/무효 샘플 수, 세션당 샘플 수 분포)
+     */
+    private void recordNoiseIngest(List<SmartDiagnosisRequestDTO.NoiseSample> samples) {
+        long valid = samples.stream().filter(sample -> isValidDecibel(sample.getDecibel())).count();
+        meterRegistry.counter("smartdiagnosis.noise.samples", "source", "batch", "result", "valid").increment(valid);
+        meterRegistry.counter("smartdiagnosis.noise.samples", "source", "batch", "result", "invalid").increment(samples.size() - valid);
+        DistributionSummary.builder("smartdiagnosis.noise.session.samples")
+                .register(meterRegistry)
+                .record(samples.size());
     }
 
-    // ========== 유틸리티 메서드들 ==========
+    private static boolean isValidDecibel(Double decibel) {
+        return decibel != null && Double.isFinite(decibel) && decibel > 0;
+    }
 
-    private NoiseStatistics calculateNoiseStatistics(List<SmartDiagnosisRequestDTO.NoiseSample> samples) {
+    // 벤치마크(src/jmh)에서 직접 호출하므로 패키지 공개
+    NoiseStatistics calculateNoiseStatistics(List<SmartDiagnosisRequestDTO.NoiseSample> samples) {
         if (samples.isEmpty()) {
             return NoiseStatistics.builder()
                     .avgDecibel(35.0)
@@ -512,14 +528,11 @@ public class SmartDiagnosisService {
     }
 
     private SmartDiagnosisResponseDTO.LevelSummary getLatestLevelSummary(Member member) {
-        List<SmartMeasurement> measurements = measurementRepository
-                .findByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
-                        member.getId(), SmartMeasurement.MeasurementType.LEVEL)
-                .stream()
-                .limit(1)
-                .toList();
+        Optional<LatestMeasurement> latest = measurementRepository
+                .findFirstByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
+                        member.getId(), SmartMeasurement.MeasurementType.LEVEL);
 
-        if (measurements.isEmpty()) {
+        if (latest.isEmpty()) {
             return SmartDiagnosisResponseDTO.LevelSummary.builder()
                     .latestValue(0.0)
                     .grade("측정 없음")
@@ -527,8 +540,7 @@ public class SmartDiagnosisService {
                     .build();
         }
 
-        SmartMeasurement latest = measurements.get(0);
-        double tilt = latest.getMeasuredValue().doubleValue();
+        double tilt = latest.get().measuredValue().doubleValue();
 
         return SmartDiagnosisResponseDTO.LevelSummary.builder()
                 .latestValue(tilt)
@@ -538,14 +550,11 @@ public class SmartDiagnosisService {
     }
 
     private SmartDiagnosisResponseDTO.NoiseSummary getLatestNoiseSummary(Member member) {
-        List<SmartMeasurement> measurements = measurementRepository
-                .findByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
-                        member.getId(), SmartMeasurement.MeasurementType.NOISE)
-                .stream()
-                .limit(1)
-                .toList();
+        Optional<LatestMeasurement> latest = measurementRepository
+                .findFirstByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
+                        member.getId(), SmartMeasurement.MeasurementType.NOISE);
 
-        if (measurements.isEmpty()) {
+        if (latest.isEmpty()) {
             return SmartDiagnosisResponseDTO.NoiseSummary.builder()
                     .latestValue(0.0)
                     .grade("측정 없음")
@@ -553,8 +562,7 @@ public class SmartDiagnosisService {
                     .build();
         }
 
-        SmartMeasurement latest = measurements.get(0);
-        double noise = latest.getMeasuredValue().doubleValue();
+        double noise = latest.get().measuredValue().doubleValue();
 
         return SmartDiagnosisResponseDTO.NoiseSummary.builder()
                 .latestValue(noise)
@@ -564,14 +572,11 @@ public class SmartDiagnosisService {
     }
 
     private SmartDiagnosisResponseDTO.InternetSummary getLatestInternetSummary(Member member) {
-        List<SmartMeasurement> measurements = measurementRepository
-                .findByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
-                        member.getId(), SmartMeasurement.MeasurementType.INTERNET)
-                .stream()
-                .limit(1)
-                .toList();
+        Optional<LatestMeasurement> latest = measurementRepository
+                .findFirstByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
+                        member.getId(), SmartMeasurement.MeasurementType.INTERNET);
 
-        if (measurements.isEmpty()) {
+        if (latest.isEmpty()) {
             return SmartDiagnosisResponseDTO.InternetSummary.builder()
                     .latestValue(0.0)
                     .grade("측정 없음")
@@ -579,8 +584,7 @@ public class SmartDiagnosisService {
                     .build();
         }
 
-        SmartMeasurement latest = measurements.get(0);
-        double speed = latest.getMeasuredValue().doubleValue();
+        double speed = latest.get().measuredValue().doubleValue();
 
         return SmartDiagnosisResponseDTO.InternetSummary.builder()
                 .latestValue(speed)
@@ -0,0 +1,9 @@
+package org.example.seasontonebackend.smartdiagnosis.domain.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 종합 요약용 타입별 최근 측정값
+ */
+public record LatestMeasurement(BigDecimal measuredValue) {
+}
@@ -0,0 +1,17 @@
+package org.example.seasontonebackend.smartdiagnosis.domain.repository;
+
+import org.example.seasontonebackend.smartdiagnosis.domain.entity.InternetSpeedDetail;
+import org.example.seasontonebackend.smartdiagnosis.domain.entity.LevelMeasurementDetail;
+import org.example.seasontonebackend.smartdiagnosis.domain.entity.NoiseMeasurementDetail;
+import org.example.seasontonebackend.smartdiagnosis.domain.entity.SmartMeasurement;
+
+/**
+ * 측정 상세 조회 결과 (측정과 타입별 상세를 한 번의 조회로)
+ * 측정 타입에 해당하지 않는 상세는 null
+ */
+public record MeasurementDetailRow(SmartMeasurement measurement,
+                                   Long memberId,
+                                   LevelMeasurementDetail levelDetail,
+                                   NoiseMeasurementDetail noiseDetail,
+                                   InternetSpeedDetail internetDetail) {
+}
@@ -1,19 +1,33 @@
 package org.example.seasontonebackend.smartdiagnosis.domain.repository;
 
 import org.example.seasontonebackend.smartdiagnosis.domain.entity.SmartMeasurement;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SmartMeasurementRepository extends JpaRepository<SmartMeasurement, Long> {
 
+    // 최근 limit 건만 DB 에서 잘라 옴
     List<SmartMeasurement> findByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
+            Long memberId, SmartMeasurement.MeasurementType measurementType, Limit limit);
+
+    Optional<LatestMeasurement> findFirstByMemberIdAndMeasurementTypeOrderByCreatedAtDesc(
             Long memberId, SmartMeasurement.MeasurementType measurementType);
 
+    @Query("SELECT new org.example.seasontonebackend.smartdiagnosis.domain.repository.MeasurementDetailRow(" +
+            "s, s.member.id, l, n, i) FROM SmartMeasurement s " +
+            "LEFT JOIN LevelMeasurementDetail l ON l.measurement = s " +
+            "LEFT JOIN NoiseMeasurementDetail n ON n.measurement = s " +
+            "LEFT JOIN InternetSpeedDetail i ON i.measurement = s " +
+            "WHERE s.measurementId = :measurementId")
+    Optional<MeasurementDetailRow> findDetailById(@Param("measurementId") Long measurementId);
+
     @Query("SELECT s FROM SmartMeasurement s WHERE s.member.id = :memberId " +
             "AND s.measurementType = :type ORDER BY s.createdAt DESC")
     List<SmartMeasurement> findRecentMeasurements(
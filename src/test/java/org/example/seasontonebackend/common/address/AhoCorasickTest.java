@@ -0,0 +1,48 @@
+package org.example.seasontonebackend.common.address;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aho-Corasick 매칭 (전체 매칭, leftmost-longest 선택)
+ */
+class AhoCorasickTest {
+
+    private final AhoCorasick<Integer> automaton = new AhoCorasick<>(Map.of(
+            "서구", 1,
+            "강서", 2,
+            "강서구", 3,
+            "중구", 4));
+
+    @Test
+    void findsAllOverlappingPatterns() {
+        assertThat(automaton.findAll("강서구청").stream().map(AhoCorasick.Match::pattern))
+                .containsExactlyInAnyOrder("강서", "강서구", "서구");
+    }
+
+    @Test
+    void picksLeftmostLongestWithoutOverlap() {
+        assertThat(automaton.findLeftmostLongest("서울 강서구 중구").stream().map(AhoCorasick.Match::value))
+                .containsExactly(3, 4);
+        assertThat(automaton.findLeftmostLongest("강서 서구").stream().map(AhoCorasick.Match::value))
+                .containsExactly(2, 1);
+    }
+
+    @Test
+    void reportsMatchPositions() {
+        AhoCorasick.Match<Integer> match = automaton.findLeftmostLongest("부산 강서구").get(0);
+
+        assertThat(match.start()).isEqualTo(3);
+        assertThat(match.end()).isEqualTo(6);
+        assertThat(match.length()).isEqualTo(3);
+    }
+
+    @Test
+    void noMatchesInUnrelatedText() {
+        assertThat(automaton.findLeftmostLongest("종로 1가")).isEmpty();
+        assertThat(automaton.findLeftmostLongest("")).isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.seasontonebackend.common.address;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주소 → 법정동코드 변환 (구 이름 겹침, 시/도 약칭, 동명이 지역, 폐지 코드, 5자리 코드 보정)
+ */
+class LawdCodeResolverTest {
+
+    private LawdCodeResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = newResolver("classpath:lawd/lawd-codes-test.tsv");
+    }
+
+    @Test
+    void prefersGangseoOverSeoguInsideTheSameWord() {
+        assertThat(code("서울특별시 강서구 화곡동")).contains("1150010300");
+        assertThat(code("부산광역시 강서구")).contains("2644000000");
+        assertThat(code("부산광역시 서구")).contains("2614000000");
+        assertThat(code("대구광역시 서구")).contains("2717000000");
+    }
+
+    @Test
+    void usesSidoToPickBetweenSameNamedGu() {
+        assertThat(code("울산 중구")).contains("3111000000");
+        assertThat(code("부산 중구 중앙대로")).contains("2611000000");
+        // 시/도 없이 구 이름만 있으면 코드가 가장 작은 후보
+        assertThat(code("중구")).contains("1114000000");
+    }
+
+    @Test
+    void acceptsSidoShortForms() {
+        assertThat(code("서울 서대문구 미근동 123")).contains("1141010100");
+        assertThat(code("서울시 서대문구")).contains("1141000000");
+        assertThat(code("부산시 서구")).contains("2614000000");
+        assertThat(code("대구 서구")).contains("2717000000");
+        assertThat(code("서울")).contains("1100000000");
+    }
+
+    @Test
+    void distinguishesGyeonggiGwangjuFromGwangjuMetropolitanCity() {
+        assertThat(code("경기도 광주시 오포읍")).contains("4161000000");
+        assertThat(code("경기 광주시")).contains("4161000000");
+        assertThat(code("광주광역시 서구")).contains("2914000000");
+        assertThat(code("광주 서구")).contains("2914000000");
+        assertThat(code("광주시 서구")).contains("2914000000");
+    }
+
+    @Test
+    void skipsDeprecatedRows() {
+        // 강원도(42)는 폐지 → 약칭 '강원도' 는 강원특별자치도(51)로
+        assertThat(code("강원도 춘천시")).contains("5111000000");
+        assertThat(resolver.findByCode("42110")).isEmpty();
+        // 폐지된 인천 남구는 후보가 아니므로 시/도까지만
+        assertThat(code("인천광역시 남구")).contains("2800000000");
+        assertThat(code("인천광역시 미추홀구")).contains("2817700000");
+    }
+
+    @Test
+    void padsFiveDigitCodes() {
+        assertThat(resolver.findByCode("11140")).map(LawdCode::fullName).contains("서울특별시 중구");
+        assertThat(resolver.findByCode("1114000000")).map(LawdCode::fullName).contains("서울특별시 중구");
+        assertThat(resolver.findByCode("1141010100")).map(LawdCode::level).contains(LawdCode.Level.EUPMYEONDONG);
+        assertThat(resolver.findByCode("99999")).isEmpty();
+        assertThat(resolver.findByCode(null)).isEmpty();
+    }
+
+    @Test
+    void listsCodesBySidoAndLevel() {
+        assertThat(resolver.findAll("11", LawdCode.Level.EUPMYEONDONG)).extracting(LawdCode::name)
+                .containsExactly("미근동", "화곡동");
+        assertThat(resolver.findAll("28", LawdCode.Level.SIGUNGU)).extracting(LawdCode::name)
+                .containsExactly("미추홀구");
+        assertThat(resolver.findAll("26", LawdCode.Level.EUPMYEONDONG)).isEmpty();
+    }
+
+    @Test
+    void emptyForUnknownOrBlankAddresses() {
+        assertThat(resolver.resolve("")).isEmpty();
+        assertThat(resolver.resolve(null)).isEmpty();
+        assertThat(resolver.resolve("Main Street 1")).isEmpty();
+    }
+
+    @Test
+    void bundledTableHasCorrectedBusanAndDaeguCodes() {
+        LawdCodeResolver bundled = newResolver("classpath:lawd/lawd-codes.tsv");
+
+        assertThat(bundled.resolve("부산 서구").map(LawdCode::lawdCd)).contains("26140");
+        assertThat(bundled.resolve("부산 강서구").map(LawdCode::lawdCd)).contains("26440");
+        assertThat(bundled.resolve("대구 서구").map(LawdCode::lawdCd)).contains("27170");
+        assertThat(bundled.resolve("서울 강서구").map(LawdCode::lawdCd)).contains("11500");
+    }
+
+    private Optional<String> code(String address) {
+        return resolver.resolve(address).map(LawdCode::code);
+    }
+
+    private static LawdCodeResolver newResolver(String resource) {
+        LawdCodeResolver resolver = new LawdCodeResolver(new DefaultResourceLoader(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(resolver, "resourceLocation", resource);
+        ReflectionTestUtils.setField(resolver, "charset", "UTF-8");
+        ReflectionTestUtils.setField(resolver, "memoSize", 100);
+        resolver.load();
+        return resolver;
+    }
+}
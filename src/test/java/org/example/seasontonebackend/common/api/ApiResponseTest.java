@@ -0,0 +1,64 @@
+package org.example.seasontonebackend.common.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.seasontonebackend.report.dto.ReportActionResponseDto;
+import org.example.seasontonebackend.report.dto.ReportResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공통 응답 JSON 모양이 기존 Map 응답과 같은지 (없는 data/error 키 생략, message 는 항상)
+ */
+class ApiResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void okWithDataHasNoErrorKey() {
+        JsonNode json = objectMapper.valueToTree(ApiResponse.ok(List.of(1, 2), "조회했습니다."));
+
+        assertThat(json.properties()).extracting(entry -> entry.getKey())
+                .containsExactlyInAnyOrder("success", "data", "message");
+    }
+
+    @Test
+    void failWithoutErrorHasOnlySuccessAndMessage() {
+        JsonNode json = objectMapper.valueToTree(ApiResponse.fail(null));
+
+        assertThat(json.properties()).extracting(entry -> entry.getKey())
+                .containsExactlyInAnyOrder("success", "message");
+        assertThat(json.get("message").isNull()).isTrue();
+    }
+
+    @Test
+    void failWithErrorKeepsErrorKey() {
+        JsonNode json = objectMapper.valueToTree(ApiResponse.fail("조회 중 오류가 발생했습니다.", "timeout"));
+
+        assertThat(json.properties()).extracting(entry -> entry.getKey())
+                .containsExactlyInAnyOrder("success", "message", "error");
+    }
+
+    @Test
+    void freeReportOmitsEmptyPremiumSections() {
+        ReportResponseDto report = ReportResponseDto.builder().header(
+                ReportResponseDto.ReportHeaderDto.builder().title("리포트").build()).build();
+
+        JsonNode json = objectMapper.valueToTree(ApiResponse.ok(report, "리포트를 조회했습니다."));
+
+        assertThat(json.get("data").has("header")).isTrue();
+        assertThat(json.get("data").has("premiumFeatures")).isFalse();
+        assertThat(json.get("data").get("header").has("dataPeriod")).isFalse();
+    }
+
+    @Test
+    void aiTextKeepsNullFieldsLikeBefore() {
+        JsonNode json = objectMapper.valueToTree(new ReportActionResponseDto.AiText(true, null, null));
+
+        assertThat(json.has("text")).isTrue();
+        assertThat(json.has("provider")).isTrue();
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.seasontonebackend.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다른 인스턴스가 남긴 무효화로 이 인스턴스의 2차 캐시 항목이 비워지는지 (같은 DB 를 쓰는 버스 두 개로 확인)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cacheinvalidation;DB_CLOSE_DELAY=-1",
+        "cache.invalidation.backend=jdbc",
+        "cache.invalidation.poll-interval=PT1H",
+        "timeseries.backfill.initial-delay=PT1H",
+        "email.outbox.initial-delay=PT1H",
+        "officetel.api.base-url=http://127.0.0.1:1/rtms/officetel",
+        "villa.api.base-url=http://127.0.0.1:1/rtms/villa",
+        "vworld.api.url=http://127.0.0.1:1/vworld"
+})
+class JdbcCacheInvalidationBusTest {
+
+    @Autowired
+    private JdbcCacheInvalidationBus bus;
+
+    @Autowired
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void evictsEntryPublishedByAnotherInstance() {
+        Member member = memberRepository.save(Member.builder()
+                .name("캐시")
+                .email("cache-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .build());
+        Member other = memberRepository.save(Member.builder()
+                .name("캐시2")
+                .email("cache-" + UUID.randomUUID() + "@example.com")
+                .password("x")
+                .build());
+        memberRepository.findById(member.getId());
+        memberRepository.findById(other.getId());
+        assertThat(cached(member)).isTrue();
+
+        JdbcCacheInvalidationBus remote = new JdbcCacheInvalidationBus(jdbcTemplate, Duration.ofHours(1), Duration.ofMinutes(10));
+        remote.publish(CacheInvalidation.entity(Member.class.getName(), member.getId()));
+        bus.poll();
+
+        assertThat(cached(member)).isFalse();
+        assertThat(cached(other)).isTrue();
+    }
+
+    @Test
+    void deliversOnlyOtherInstancesRecordsOnce() {
+        JdbcCacheInvalidationBus remote = new JdbcCacheInvalidationBus(jdbcTemplate, Duration.ofHours(1), Duration.ofMinutes(10));
+        List<CacheInvalidation> remoteReceived = new CopyOnWriteArrayList<>();
+        remote.subscribe(remoteReceived::add);
+        remote.poll();
+        remoteReceived.clear();
+        bus.poll();
+        double receivedBefore = received();
+
+        // 이 인스턴스가 보낸 무효화는 다른 인스턴스에만 전달
+        entityCacheInvalidator.evictRegion(EntityCacheRegions.MEMBER);
+        bus.poll();
+        remote.poll();
+        remote.poll();
+
+        assertThat(received()).isEqualTo(receivedBefore);
+        assertThat(remoteReceived).containsExactly(CacheInvalidation.region(EntityCacheRegions.MEMBER));
+    }
+
+    private boolean cached(Member member) {
+        return entityManagerFactory.getCache().contains(Member.class, member.getId());
+    }
+
+    private double received() {
+        return meterRegistry.get("entity.cache.invalidations").tag("direction", "received").counter().count();
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.seasontonebackend.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 작업당 스레드 + Semaphore 제한 실행기 (동시 실행 상한, 대기열 초과 거절). JDK 21 이상에서만 실행
+ */
+class SemaphoreBoundedExecutorTest {
+
+    @Test
+    void boundsConcurrencyAndRejectsWhenQueueIsFull() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Executors.newThreadPerTaskExecutor 는 JDK 21 부터");
+
+        SemaphoreBoundedExecutor executor = new SemaphoreBoundedExecutor("test", Executors.defaultThreadFactory(), 2, 1);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(3);
+        Runnable task = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+                done.countDown();
+            }
+        };
+        try {
+            executor.execute(task);
+            executor.execute(task);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            executor.execute(task);
+
+            assertThat(executor.queuedTasks()).isEqualTo(1);
+            assertThat(executor.remainingQueueCapacity()).isZero();
+            assertThatThrownBy(() -> executor.execute(task)).isInstanceOf(RejectedExecutionException.class);
+
+            release.countDown();
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxRunning.get()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.seasontonebackend.common.fallback;
+
+import org.example.seasontonebackend.common.address.LawdCode;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.example.seasontonebackend.common.timeseries.ContractKind;
+import org.example.seasontonebackend.common.timeseries.PropertyType;
+import org.example.seasontonebackend.common.timeseries.RentTimeSeriesStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대체 시세 테이블 재현성 (같은 입력 → 같은 값, 실거래 집계가 들어오면 observed 기준)
+ */
+class MarketFallbackTableTest {
+
+    private RentTimeSeriesStore store;
+    private MarketFallbackTable table;
+
+    @BeforeEach
+    void setUp() {
+        LawdCodeResolver resolver = mock(LawdCodeResolver.class);
+        when(resolver.findByCode(anyString())).thenAnswer(invocation -> Optional.of(
+                new LawdCode(invocation.getArgument(0) + "00000", "서울특별시 테스트구", "테스트구", LawdCode.Level.SIGUNGU)));
+        store = new RentTimeSeriesStore(resolver, 10);
+        table = new MarketFallbackTable(store);
+    }
+
+    @Test
+    void repeatedLookupsReturnSameValues() {
+        RegionFallbackProfile first = table.get("11410", PropertyType.VILLA);
+        RegionFallbackProfile second = table.get("11410", PropertyType.VILLA);
+
+        assertThat(first.getBasis()).isEqualTo("seeded");
+        assertThat(second.getNeighborhoods()).isEqualTo(first.getNeighborhoods());
+        assertThat(second.getTransactions()).isEqualTo(first.getTransactions());
+        assertThat(second.timeSeries(12)).isEqualTo(first.timeSeries(12));
+        assertThat(first.timeSeries(12)).isEqualTo(first.timeSeries(12));
+    }
+
+    @Test
+    void newTableWithSameInputsReproducesValues() {
+        // 재시작 후(캐시 없음)에도 같은 시드에서 같은 값
+        RegionFallbackProfile original = table.get("11680", PropertyType.OFFICETEL);
+        RegionFallbackProfile rebuilt = new MarketFallbackTable(store).get("11680", PropertyType.OFFICETEL);
+
+        assertThat(rebuilt.getNeighborhoods()).isEqualTo(original.getNeighborhoods());
+        assertThat(rebuilt.getTransactions()).isEqualTo(original.getTransactions());
+        assertThat(rebuilt.timeSeries(24)).isEqualTo(original.timeSeries(24));
+    }
+
+    @Test
+    void differentRegionsOrTypesGetDifferentValues() {
+        RegionFallbackProfile villa = table.get("11410", PropertyType.VILLA);
+
+        assertThat(table.get("11410", PropertyType.OFFICETEL).timeSeries(12)).isNotEqualTo(villa.timeSeries(12));
+        assertThat(table.get("11440", PropertyType.VILLA).getNeighborhoods()).isNotEqualTo(villa.getNeighborhoods());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void observedBucketSwitchesBasisToObserved() {
+        RegionFallbackProfile seeded = table.get("11410", PropertyType.VILLA);
+        assertThat(seeded.timeSeries(6)).containsEntry("fallbackBasis", "seeded");
+
+        YearMonth month = YearMonth.now().minusMonths(1);
+        store.recordMonth("11410", PropertyType.VILLA, month,
+                Map.of(ContractKind.MONTHLY_RENT, new double[]{400000, 500000, 600000}));
+
+        RegionFallbackProfile observed = table.get("11410", PropertyType.VILLA);
+
+        assertThat(observed).isNotSameAs(seeded);
+        assertThat(observed.getBasis()).isEqualTo("observed");
+        assertThat(observed.timeSeries(6)).containsEntry("fallbackBasis", "observed");
+        // 기준 월의 월세는 관측 중앙값 ±2% 변동 이내
+        Map<String, Object> series = observed.timeSeries(2);
+        Map<String, Object> anchor = ((List<Map<String, Object>>) series.get("timeSeries")).get(0);
+        assertThat(anchor.get("yearMonth")).isEqualTo(month.toString());
+        assertThat((long) anchor.get("averageRent")).isBetween(490000L, 510000L);
+        // 같은 집계로 다시 조회하면 그대로
+        assertThat(table.get("11410", PropertyType.VILLA)).isSameAs(observed);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.seasontonebackend.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.seasontonebackend.common.address.LawdCode;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 외부 호출 지역 메트릭 태그 (법정동코드표에 있는 시/군/구만, 나머지는 other)
+ */
+class OutboundHttpInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LawdCodeResolver lawdCodeResolver = mock(LawdCodeResolver.class);
+    private final OutboundHttpInterceptor interceptor = new OutboundHttpInterceptor(
+            "rtms", new HostConnectionLimiter(4, 100, meterRegistry), meterRegistry, lawdCodeResolver);
+
+    @Test
+    void tagsKnownRegionsAndGroupsTheRestAsOther() throws Exception {
+        when(lawdCodeResolver.findByCode(anyString())).thenReturn(Optional.empty());
+        when(lawdCodeResolver.findByCode("11410")).thenReturn(Optional.of(
+                new LawdCode("1141000000", "서울특별시 서대문구", "서대문구", LawdCode.Level.SIGUNGU)));
+
+        call("https://apis.example.com/rtms/getRTMSDataSvcOffiRent?LAWD_CD=11410&DEAL_YMD=202509");
+        call("https://apis.example.com/rtms/getRTMSDataSvcOffiRent?LAWD_CD=99999&DEAL_YMD=202509");
+        call("https://apis.example.com/rtms/getRTMSDataSvcOffiRent?LAWD_CD=abc%27%3B&DEAL_YMD=202509");
+        call("https://apis.example.com/rtms/getRTMSDataSvcOffiRent?LAWD_CD=1141000000");
+
+        assertThat(regionCount("11410")).isEqualTo(1);
+        assertThat(regionCount("other")).isEqualTo(3);
+        assertThat(meterRegistry.find("outbound.http.region.requests").timers()).hasSize(2);
+    }
+
+    @Test
+    void skipsRegionMetricWithoutLawdCode() throws Exception {
+        call("https://api.example.com/vworld/address?point=126.9,37.5");
+
+        assertThat(meterRegistry.find("outbound.http.region.requests").timers()).isEmpty();
+        assertThat(meterRegistry.get("outbound.http.requests").tag("endpoint", "address").timer().count()).isEqualTo(1);
+    }
+
+    private void call(String uri) throws Exception {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create(uri));
+        try (ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+                (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK))) {
+            assertThat(response.getStatusCode().value()).isEqualTo(200);
+        }
+    }
+
+    private long regionCount(String lawdCd) {
+        return meterRegistry.get("outbound.http.region.requests").tag("lawd_cd", lawdCd).timer().count();
+    }
+}
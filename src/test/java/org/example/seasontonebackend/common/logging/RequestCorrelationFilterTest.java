@@ -0,0 +1,149 @@
+package org.example.seasontonebackend.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 로그 문맥 전파 (작업 실행기로 requestId·tail capture 버퍼 전달, 비동기 요청은 완료 시점에 판단)
+ */
+class RequestCorrelationFilterTest {
+
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger workLogger = loggerContext.getLogger("tail-capture-test");
+    private final Logger filterLogger = loggerContext.getLogger(RequestCorrelationFilter.class);
+    // 실제 출력(AsyncAppender)처럼 추가 시점에 MDC 를 고정
+    private final ListAppender<ILoggingEvent> output = new ListAppender<>() {
+        @Override
+        protected void append(ILoggingEvent event) {
+            event.prepareForDeferredProcessing();
+            super.append(event);
+        }
+    };
+    private final TailCaptureAppender tailCapture = new TailCaptureAppender();
+    private final RequestCorrelationFilter filter = new RequestCorrelationFilter(Duration.ofSeconds(10));
+    private final BlockingExecutors blockingExecutors = new BlockingExecutors(new MockEnvironment(), new SimpleMeterRegistry());
+
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        output.setContext(loggerContext);
+        output.start();
+        tailCapture.setContext(loggerContext);
+        tailCapture.addAppender(output);
+        tailCapture.start();
+
+        previousLevel = workLogger.getLevel();
+        workLogger.setLevel(Level.DEBUG);
+        for (Logger logger : List.of(workLogger, filterLogger)) {
+            logger.setAdditive(false);
+            logger.addAppender(tailCapture);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Logger logger : List.of(workLogger, filterLogger)) {
+            logger.detachAppender(tailCapture);
+            logger.setAdditive(true);
+        }
+        workLogger.setLevel(previousLevel);
+        tailCapture.stop();
+        MDC.clear();
+    }
+
+    @Test
+    void executorTasksCarryRequestIdAndBuffer() throws Exception {
+        ExecutorService executor = blockingExecutors.newBoundedExecutor("log-context-test", 1, 10);
+        try {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/report/1");
+            request.addHeader(RequestCorrelationFilter.HEADER, "req-123");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            FilterChain chain = (req, res) -> {
+                try {
+                    executor.submit(() -> workLogger.debug("작업 스레드 로그")).get(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                ((MockHttpServletResponse) res).setStatus(500);
+            };
+            filter.doFilter(request, response, chain);
+
+            assertThat(output.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .contains("작업 스레드 로그")
+                    .anyMatch(message -> message.startsWith("오류 요청 - GET /report/1 status=500"));
+            ILoggingEvent workEvent = output.list.stream()
+                    .filter(event -> event.getFormattedMessage().equals("작업 스레드 로그"))
+                    .findFirst().orElseThrow();
+            assertThat(workEvent.getThreadName()).startsWith("log-context-test-");
+            assertThat(workEvent.getMDCPropertyMap()).containsEntry(RequestCorrelationFilter.MDC_KEY, "req-123");
+
+            // 작업 스레드에는 요청 문맥이 남지 않음
+            assertThat(executor.submit(() -> MDC.get(RequestCorrelationFilter.MDC_KEY)).get(5, TimeUnit.SECONDS)).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void asyncRequestIsJudgedWhenItCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/report/1/negotiation/stream");
+        request.setAsyncSupported(true);
+        request.addHeader(RequestCorrelationFilter.HEADER, "req-async");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            workLogger.debug("스트리밍 시작");
+        });
+
+        // 요청 스레드가 끝난 시점에는 아직 판단하지 않음
+        assertThat(output.list).isEmpty();
+
+        MDC.clear();
+        response.setStatus(503);
+        request.getAsyncContext().complete();
+
+        assertThat(output.list).hasSize(2);
+        assertThat(output.list.get(0).getFormattedMessage()).isEqualTo("스트리밍 시작");
+        assertThat(output.list.get(1).getFormattedMessage()).startsWith("오류 요청 - GET /report/1/negotiation/stream status=503");
+        assertThat(output.list.get(1).getMDCPropertyMap()).containsEntry(RequestCorrelationFilter.MDC_KEY, "req-async");
+    }
+
+    @Test
+    void fastSuccessfulAsyncRequestDropsBufferedLogs() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/report/1/negotiation/stream");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            workLogger.debug("스트리밍 시작");
+        });
+        request.getAsyncContext().complete();
+
+        assertThat(output.list).isEmpty();
+    }
+}
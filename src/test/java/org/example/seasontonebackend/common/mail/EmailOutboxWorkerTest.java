@@ -0,0 +1,155 @@
+package org.example.seasontonebackend.common.mail;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 메일 outbox 발송 워커 (GreenMail 로컬 SMTP 서버 사용)
+ * 스케줄 폴링과 커밋 직후 wakeUp 은 막고 poll() 을 직접 호출한다.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=127.0.0.1",
+        "spring.mail.port=3025",
+        "spring.mail.username=noreply@seasontone.test",
+        "spring.mail.password=secret",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "email.outbox.initial-delay=PT1H",
+        "email.outbox.poll-interval=PT1H",
+        "email.outbox.batch-size=2",
+        "email.outbox.max-attempts=2",
+        "email.outbox.initial-backoff=PT0S",
+        "email.outbox.per-recipient-limit=2"
+})
+class EmailOutboxWorkerTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("noreply@seasontone.test", "secret"));
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean
+    private EmailOutboxWorker emailOutboxWorker;
+
+    @BeforeEach
+    void disableWakeUp() {
+        doNothing().when(emailOutboxWorker).wakeUp();
+    }
+
+    @Test
+    void sendsQueuedMailInBatches() throws Exception {
+        List<Long> ids = List.of(
+                emailOutboxService.enqueue("a@tenant.test", "월세의 정석: 생성된 법적 문서입니다.", "본문 A"),
+                emailOutboxService.enqueue("b@tenant.test", "월세의 정석: 생성된 법적 문서입니다.", "본문 B"),
+                emailOutboxService.enqueue("C@Tenant.test", "월세의 정석: 생성된 법적 문서입니다.", "본문 C"));
+
+        emailOutboxWorker.poll();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("월세의 정석: 생성된 법적 문서입니다.");
+        List<String> bodies = new ArrayList<>();
+        for (MimeMessage message : received) {
+            bodies.add(message.getContent().toString().trim());
+        }
+        assertThat(bodies).containsExactlyInAnyOrder("본문 A", "본문 B", "본문 C");
+        for (Long id : ids) {
+            EmailOutbox outbox = emailOutboxRepository.findById(id).orElseThrow();
+            assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+            assertThat(outbox.getAttempts()).isEqualTo(1);
+            assertThat(outbox.getClaimToken()).isNull();
+        }
+        assertThat(emailOutboxRepository.findById(ids.get(2)).orElseThrow().getRecipient()).isEqualTo("c@tenant.test");
+    }
+
+    @Test
+    void defersMailOverRecipientLimit() {
+        List<Long> ids = List.of(
+                emailOutboxService.enqueue("limit@tenant.test", "제목 1", "본문"),
+                emailOutboxService.enqueue("limit@tenant.test", "제목 2", "본문"),
+                emailOutboxService.enqueue("limit@tenant.test", "제목 3", "본문"));
+
+        emailOutboxWorker.poll();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        EmailOutbox deferred = emailOutboxRepository.findById(ids.get(2)).orElseThrow();
+        assertThat(deferred.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(deferred.getAttempts()).isZero();
+        assertThat(deferred.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void retriesThenDeadLettersWhenSmtpIsDown() {
+        greenMail.stop();
+        Long id = emailOutboxService.enqueue("down@tenant.test", "제목", "본문");
+
+        emailOutboxWorker.poll();
+        EmailOutbox retried = emailOutboxRepository.findById(id).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isNotBlank();
+
+        emailOutboxWorker.poll();
+        EmailOutbox dead = emailOutboxRepository.findById(id).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotSendMailFromRolledBackTransaction() {
+        Long id = transactionTemplate.execute(status -> {
+            Long queued = emailOutboxService.enqueue("rollback@tenant.test", "제목", "본문");
+            status.setRollbackOnly();
+            return queued;
+        });
+
+        emailOutboxWorker.poll();
+
+        assertThat(emailOutboxRepository.findById(id)).isEmpty();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+        verify(emailOutboxWorker, never()).wakeUp();
+    }
+
+    @Test
+    void wakesWorkerOnlyAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailOutboxService.enqueue("commit@tenant.test", "제목", "본문");
+            verify(emailOutboxWorker, never()).wakeUp();
+        });
+
+        verify(emailOutboxWorker, times(1)).wakeUp();
+    }
+
+    @Test
+    void rejectsInvalidRecipient() {
+        assertThatThrownBy(() -> emailOutboxService.enqueue("not-an-address", "제목", "본문"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.seasontonebackend.common.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.seasontonebackend.common.cache.EntityCacheInvalidator;
+import org.example.seasontonebackend.config.DummyDataService;
+import org.example.seasontonebackend.member.auth.JwtTokenProvider;
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.member.repository.MemberRepository;
+import org.example.seasontonebackend.report.domain.Report;
+import org.example.seasontonebackend.report.repository.ReportRepository;
+import org.example.seasontonebackend.smartdiagnosis.domain.entity.SmartMeasurement;
+import org.example.seasontonebackend.smartdiagnosis.domain.repository.SmartMeasurementRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 API 별 SQL 실행 횟수 상한 (Hibernate 통계의 prepared statement 수)
+ * 지연 로딩이 다시 N+1 로 번지면 실패한다. 2차 캐시는 매번 비워 DB 조회 기준으로 센다.
+ * JdbcTemplate 으로 실행하는 쿼리(전월세 시계열 등)는 Hibernate 통계에 잡히지 않는다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sqlbudget;DB_CLOSE_DELAY=-1",
+        "timeseries.backfill.initial-delay=PT1H",
+        "email.outbox.initial-delay=PT1H",
+        "ratelimit.enabled=false",
+        "officetel.api.base-url=http://127.0.0.1:1/rtms/officetel",
+        "villa.api.base-url=http://127.0.0.1:1/rtms/villa",
+        "vworld.api.url=http://127.0.0.1:1/vworld"
+})
+@AutoConfigureMockMvc
+class SqlStatementBudgetTest {
+
+    private static final String DONG = "망원동";
+    private static final int NEIGHBORS = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    @Autowired
+    private DummyDataService dummyDataService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private SmartMeasurementRepository measurementRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private Member member;
+    private String token;
+
+    @BeforeEach
+    void seed() {
+        if (memberRepository.findByEmail("load-1-1@example.com").isEmpty()) {
+            dummyDataService.createDummyUsersPerDong(List.of(DONG), NEIGHBORS);
+        }
+        member = memberRepository.findByEmail("load-1-1@example.com").orElseThrow();
+        token = jwtTokenProvider.createToken(member.getId(), member.getEmail(), member.getRole().toString());
+    }
+
+    @Test
+    void freeReport() throws Exception {
+        Report report = createReport("free");
+        assertStatementsWithin(7, get("/report/{reportId}", report.getReportId()));
+    }
+
+    @Test
+    void premiumReport() throws Exception {
+        Report report = createReport("premium");
+        assertStatementsWithin(7, get("/report/{reportId}", report.getReportId()));
+    }
+
+    @Test
+    void publicReport() throws Exception {
+        Report report = createReport("premium");
+        assertStatementsWithin(6, get("/public/report/{publicId}", report.getPublicId()));
+    }
+
+    @Test
+    void comprehensiveReport() throws Exception {
+        assertStatementsWithin(6, get("/report/comprehensive"));
+    }
+
+    @Test
+    void smartDiagnosisSummary() throws Exception {
+        assertStatementsWithin(4, get("/smart-diagnosis/summary"));
+    }
+
+    @Test
+    void measurementDetail() throws Exception {
+        SmartMeasurement measurement = measurementRepository.findAll().stream()
+                .filter(m -> m.getMember().getId().equals(member.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertStatementsWithin(2, get("/smart-diagnosis/measurements/{measurementId}", measurement.getMeasurementId()));
+    }
+
+    @Test
+    void levelHistory() throws Exception {
+        assertStatementsWithin(2, get("/smart-diagnosis/level/history").param("limit", "5"));
+    }
+
+    @Test
+    void profile() throws Exception {
+        assertStatementsWithin(2, get("/member/profile"));
+    }
+
+    // 공유 데이터 없이 저장 → 조회할 때마다 리포트를 새로 조립
+    private Report createReport(String reportType) {
+        return reportRepository.save(Report.builder()
+                .publicId(UUID.randomUUID().toString())
+                .member(member)
+                .userInput("수리 요청")
+                .reportType(reportType)
+                .build());
+    }
+
+    private void assertStatementsWithin(long budget, MockHttpServletRequestBuilder request) throws Exception {
+        entityCacheInvalidator.evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(statements)
+                .as("%s SQL 실행 횟수", request.buildRequest(null).getRequestURI())
+                .isLessThanOrEqualTo(budget);
+    }
+}
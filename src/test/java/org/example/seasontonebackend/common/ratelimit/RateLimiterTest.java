@@ -0,0 +1,70 @@
+package org.example.seasontonebackend.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷 보충/거절과 경로 전체 버킷 거절 시 사용자 토큰 반환
+ */
+class RateLimiterTest {
+
+    private final InMemoryTokenBucketStore store = new InMemoryTokenBucketStore();
+
+    @Test
+    void rejectsWhenEmptyAndRefillsOverTime() {
+        assertThat(store.tryConsume("k", 2, 1000, 0).allowed()).isTrue();
+        assertThat(store.tryConsume("k", 2, 1000, 0).allowed()).isTrue();
+
+        TokenBucketStore.Decision rejected = store.tryConsume("k", 2, 1000, 100);
+        assertThat(rejected.allowed()).isFalse();
+        // 초당 2개 보충 → 0.2개 찬 상태에서 1개까지 400ms
+        assertThat(rejected.retryAfterMillis()).isEqualTo(400);
+
+        assertThat(store.tryConsume("k", 2, 1000, 500).allowed()).isTrue();
+        assertThat(store.tryConsume("k", 2, 1000, 500).allowed()).isFalse();
+
+        // 오래 쉬어도 capacity 까지만 참
+        assertThat(store.tryConsume("k", 2, 1000, 60_000).remaining()).isEqualTo(1);
+    }
+
+    @Test
+    void routeRejectionDoesNotSpendSubjectToken() {
+        RateLimiter rateLimiter = rateLimiter(2, 3);
+        RateLimitRule rule = rateLimiter.match("GET", "/report/5/pdf").orElseThrow();
+
+        assertThat(rateLimiter.acquire(rule, "member:1").allowed()).isTrue();
+        assertThat(rateLimiter.acquire(rule, "member:1").allowed()).isTrue();
+        assertThat(rateLimiter.acquire(rule, "member:1").allowed()).isFalse();
+        assertThat(rateLimiter.acquire(rule, "member:2").allowed()).isTrue();
+
+        // 경로 전체 버킷(3) 소진 → 사용자 버킷에는 여유가 있어도 거절
+        assertThat(rateLimiter.acquire(rule, "member:3").allowed()).isFalse();
+        assertThat(rateLimiter.acquire(rule, "member:3").allowed()).isFalse();
+
+        // 거절된 두 번 모두 member:3 의 토큰을 쓰지 않음
+        TokenBucketStore.Decision own = store.tryConsume("report-pdf:member:3", 2, 60_000, System.currentTimeMillis());
+        assertThat(own.allowed()).isTrue();
+        assertThat(own.remaining()).isEqualTo(1);
+    }
+
+    @Test
+    void matchesPdfRoutes() {
+        RateLimiter rateLimiter = rateLimiter(2, 0);
+
+        assertThat(rateLimiter.match("GET", "/report/5/pdf")).isPresent();
+        assertThat(rateLimiter.match("POST", "/report/documents/repair-request/pdf")).isPresent();
+        assertThat(rateLimiter.match("GET", "/report/5")).isEmpty();
+    }
+
+    private RateLimiter rateLimiter(int capacity, int routeCapacity) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ratelimit.routes.report-pdf.paths", "/report/*/pdf, /report/documents/*/pdf")
+                .withProperty("ratelimit.routes.report-pdf.capacity", String.valueOf(capacity))
+                .withProperty("ratelimit.routes.report-pdf.refill-period", "1m")
+                .withProperty("ratelimit.routes.report-pdf.route-capacity", String.valueOf(routeCapacity));
+        return new RateLimiter(store, environment, new SimpleMeterRegistry(), true);
+    }
+}
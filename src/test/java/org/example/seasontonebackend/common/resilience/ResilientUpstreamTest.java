@@ -0,0 +1,36 @@
+package org.example.seasontonebackend.common.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서킷 브레이커 시험 호출 (Error 로 끝나도 다음 시험 호출이 가능해야 함)
+ */
+class ResilientUpstreamTest {
+
+    // 실패 1건이면 OPEN, 대기 시간 0 → 다음 호출이 바로 HALF_OPEN 시험 호출
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(2, 1, 50, 0);
+    private final ResilientUpstream upstream = new ResilientUpstream("test", new RestTemplate(), circuitBreaker,
+            2, 10, new SimpleMeterRegistry());
+
+    @Test
+    void releasesProbeWhenErrorEscapes() {
+        assertThatThrownBy(() -> upstream.call(() -> {
+            throw new IllegalStateException("down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> upstream.call(() -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(upstream.call(() -> "ok")).isEqualTo("ok");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(upstream.getAvailableConcurrentCalls()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.seasontonebackend.common.timeseries;
+
+import org.example.seasontonebackend.common.address.LawdCode;
+import org.example.seasontonebackend.common.address.LawdCodeResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시계열 수집 대상 지역 등록 (법정동코드 검증, 지역 수 상한)
+ */
+class RentTimeSeriesStoreTest {
+
+    private static final Set<String> KNOWN = Set.of("11110", "11140", "11170", "11200");
+
+    private RentTimeSeriesStore store;
+
+    @BeforeEach
+    void setUp() {
+        LawdCodeResolver resolver = mock(LawdCodeResolver.class);
+        when(resolver.findByCode(anyString())).thenAnswer(invocation -> {
+            String code = invocation.getArgument(0);
+            return KNOWN.contains(code)
+                    ? Optional.of(new LawdCode(code + "00000", "서울특별시 테스트구", "테스트구", LawdCode.Level.SIGUNGU))
+                    : Optional.empty();
+        });
+        store = new RentTimeSeriesStore(resolver, 2);
+    }
+
+    @Test
+    void ignoresUnknownOrMalformedCodes() {
+        assertThat(store.track("99999")).isFalse();
+        assertThat(store.track("1111")).isFalse();
+        assertThat(store.track("1111a")).isFalse();
+        assertThat(store.track(null)).isFalse();
+        assertThat(store.analyze("99999", PropertyType.VILLA, ContractKind.MONTHLY_RENT, 6)).isEmpty();
+
+        store.recordMonth("99999", PropertyType.VILLA, YearMonth.now(), Map.of(ContractKind.MONTHLY_RENT, new double[]{50}));
+
+        assertThat(store.getTrackedLawdCodes()).isEmpty();
+        assertThat(store.getBucket("99999", PropertyType.VILLA, ContractKind.MONTHLY_RENT, YearMonth.now())).isEmpty();
+    }
+
+    @Test
+    void evictsLeastRecentlyRequestedRegionAndItsBuckets() {
+        YearMonth month = YearMonth.now();
+        store.recordMonth("11110", PropertyType.VILLA, month, Map.of(ContractKind.MONTHLY_RENT, new double[]{50}));
+        store.track("11140");
+        // 11110 을 다시 요청해 가장 최근으로
+        store.analyze("11110", PropertyType.VILLA, ContractKind.MONTHLY_RENT, 6);
+
+        store.track("11170");
+
+        assertThat(store.getTrackedLawdCodes()).containsExactlyInAnyOrder("11110", "11170");
+        assertThat(store.getBucket("11110", PropertyType.VILLA, ContractKind.MONTHLY_RENT, month)).isPresent();
+
+        store.track("11200");
+
+        assertThat(store.getTrackedLawdCodes()).containsExactlyInAnyOrder("11170", "11200");
+        assertThat(store.getBucket("11110", PropertyType.VILLA, ContractKind.MONTHLY_RENT, month)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void monthlyChangeRateUsesMonthsActuallyCovered() {
+        YearMonth now = YearMonth.now();
+        store.recordMonth("11110", PropertyType.VILLA, now.minusMonths(3), Map.of(ContractKind.MONTHLY_RENT, new double[]{50}));
+        store.recordMonth("11110", PropertyType.VILLA, now, Map.of(ContractKind.MONTHLY_RENT, new double[]{60}));
+
+        // 12개월을 요청해도 데이터는 3개월 간격 → 20% / 3
+        Map<String, Object> analysis = (Map<String, Object>) store
+                .analyze("11110", PropertyType.VILLA, ContractKind.MONTHLY_RENT, 12).orElseThrow().get("analysis");
+
+        assertThat(analysis.get("totalChangeRate")).isEqualTo(20.0);
+        assertThat(analysis.get("monthlyChangeRate")).isEqualTo(6.67);
+    }
+}
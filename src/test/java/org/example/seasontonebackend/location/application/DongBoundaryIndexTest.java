@@ -0,0 +1,94 @@
+package org.example.seasontonebackend.location.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 법정동 경계 인덱스 (Polygon/MultiPolygon, 구멍, 격자 셀 경계). 좌표는 테스트용 가상 경계
+ */
+class DongBoundaryIndexTest {
+
+    private DongBoundaryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex("classpath:geo/dong-boundaries-test.geojson");
+        index.load();
+    }
+
+    @Test
+    void locatesPointInPolygon() {
+        DongBoundaryIndex.DongRegion region = index.locate(126.905, 37.555).orElseThrow();
+
+        assertThat(region.dong()).isEqualTo("바깥동");
+        assertThat(region.lawdCd()).isEqualTo("11440");
+        assertThat(region.toAddressComponents().getFullAddress()).isEqualTo("서울특별시 마포구 바깥동");
+    }
+
+    @Test
+    void skipsHoleAndFindsPolygonInsideIt() {
+        assertThat(dong(126.915, 37.565)).contains("안쪽동");
+        // 구멍 안이지만 안쪽동 밖 → 어느 동에도 속하지 않음
+        assertThat(dong(126.9105, 37.5605)).isEmpty();
+        // 구멍 바깥은 다시 바깥동
+        assertThat(dong(126.925, 37.575)).contains("바깥동");
+    }
+
+    @Test
+    void locatesEachPartOfMultiPolygon() {
+        assertThat(dong(126.955, 37.555)).contains("섬동");
+        assertThat(dong(126.985, 37.585)).contains("섬동");
+        // 두 조각 사이
+        assertThat(dong(126.975, 37.555)).isEmpty();
+    }
+
+    @Test
+    void handlesPointsOnCellBoundaries() {
+        // 격자 원점(126.90, 37.55)에서 정확히 셀 경계(0.01 배수)에 놓인 점
+        assertThat(dong(126.92, 37.575)).contains("바깥동");
+        assertThat(dong(126.905, 37.57)).contains("바깥동");
+        // 삼각형 bbox 안이지만 빗변 바깥 (같은 셀에 후보로 들어 있어도 제외)
+        assertThat(dong(126.965, 37.595)).isEmpty();
+        assertThat(dong(126.945, 37.58)).contains("삼각동");
+        // 전체 범위 밖
+        assertThat(dong(126.80, 37.55)).isEmpty();
+        assertThat(dong(127.10, 37.65)).isEmpty();
+    }
+
+    @Test
+    void ignoresUnsupportedGeometries() {
+        // Point feature 는 건너뜀 (그 좌표에는 폴리곤이 없음)
+        assertThat(dong(126.935, 37.595)).isEmpty();
+    }
+
+    @Test
+    void disabledWithoutResource() {
+        DongBoundaryIndex missing = newIndex("classpath:geo/none.geojson");
+        missing.load();
+
+        assertThat(missing.isAvailable()).isFalse();
+        assertThat(missing.locate(126.905, 37.555)).isEmpty();
+    }
+
+    private Optional<String> dong(double longitude, double latitude) {
+        return index.locate(longitude, latitude).map(DongBoundaryIndex.DongRegion::dong);
+    }
+
+    private static DongBoundaryIndex newIndex(String resource) {
+        DongBoundaryIndex index = new DongBoundaryIndex(new DefaultResourceLoader(), new ObjectMapper());
+        ReflectionTestUtils.setField(index, "resourceLocation", resource);
+        ReflectionTestUtils.setField(index, "cellSize", 0.01);
+        ReflectionTestUtils.setField(index, "codeProperty", "code");
+        ReflectionTestUtils.setField(index, "sidoProperty", "sido");
+        ReflectionTestUtils.setField(index, "sigunguProperty", "sigungu");
+        ReflectionTestUtils.setField(index, "dongProperty", "dong");
+        return index;
+    }
+}
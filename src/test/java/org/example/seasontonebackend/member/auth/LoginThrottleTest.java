@@ -0,0 +1,84 @@
+package org.example.seasontonebackend.member.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인 실패 잠금 (허용 횟수, 잠금 시간 증가/상한, 성공 시 초기화, 부하에 따른 허용 횟수 감소)
+ */
+class LoginThrottleTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+    private final LoginThrottle throttle = new LoginThrottle(passwordHasher, new SimpleMeterRegistry(),
+            3, 100, Duration.ofMinutes(1), Duration.ofMinutes(3), Duration.ofMinutes(15));
+
+    @Test
+    void locksEmailAfterThreshold() {
+        fail("user@example.com", 2);
+        assertThatCode(() -> throttle.check("user@example.com", IP)).doesNotThrowAnyException();
+
+        fail("user@example.com", 1);
+
+        // 대소문자/공백이 달라도 같은 이메일
+        assertThatThrownBy(() -> throttle.check(" USER@example.com", IP))
+                .isInstanceOf(LoginThrottle.LoginThrottledException.class);
+        assertThatCode(() -> throttle.check("other@example.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void doublesLockoutUpToMax() {
+        fail("user@example.com", 3);
+        assertThat(retryAfter("user@example.com")).isBetween(Duration.ofSeconds(50), Duration.ofMinutes(1));
+
+        fail("user@example.com", 1);
+        assertThat(retryAfter("user@example.com")).isBetween(Duration.ofSeconds(110), Duration.ofMinutes(2));
+
+        fail("user@example.com", 3);
+        assertThat(retryAfter("user@example.com")).isBetween(Duration.ofSeconds(170), Duration.ofMinutes(3));
+    }
+
+    @Test
+    void successResetsEmailFailures() {
+        fail("user@example.com", 2);
+        throttle.onSuccess("user@example.com");
+        fail("user@example.com", 2);
+
+        assertThatCode(() -> throttle.check("user@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void lowersThresholdWhenHashQueueIsFull() {
+        when(passwordHasher.queueUtilization()).thenReturn(1.0);
+
+        // 3 * (1 - 1/2) = 1.5 → 2회
+        fail("user@example.com", 2);
+
+        assertThatThrownBy(() -> throttle.check("user@example.com", IP))
+                .isInstanceOf(LoginThrottle.LoginThrottledException.class);
+    }
+
+    private void fail(String email, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.onFailure(email, IP);
+        }
+    }
+
+    private Duration retryAfter(String email) {
+        try {
+            throttle.check(email, IP);
+        } catch (LoginThrottle.LoginThrottledException e) {
+            return e.getRetryAfter();
+        }
+        return Duration.ZERO;
+    }
+}
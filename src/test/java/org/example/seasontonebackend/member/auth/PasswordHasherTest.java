@@ -0,0 +1,63 @@
+package org.example.seasontonebackend.member.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비밀번호 해시 실행기 (스레드 수 제한, 대기열이 차면 즉시 거절)
+ */
+class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash:" + invocation.getArgument(0);
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(passwordEncoder, new BlockingExecutors(new MockEnvironment(), meterRegistry),
+                meterRegistry, 1, 1);
+
+        CompletableFuture<String> running = passwordHasher.encode("a");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = passwordHasher.encode("b");
+
+        assertThat(passwordHasher.queueUtilization()).isEqualTo(1.0);
+        CompletableFuture<String> rejected = passwordHasher.encode("c");
+        assertThatThrownBy(() -> PasswordHasher.join(rejected))
+                .isInstanceOf(PasswordHasher.PasswordHashingBusyException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+        assertThat(passwordHasher.queueUtilization()).isZero();
+    }
+}
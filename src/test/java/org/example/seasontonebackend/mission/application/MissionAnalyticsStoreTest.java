@@ -0,0 +1,126 @@
+package org.example.seasontonebackend.mission.application;
+
+import org.example.seasontonebackend.mission.domain.repository.MemberScoreTotal;
+import org.example.seasontonebackend.mission.domain.repository.UserMissionResponseRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 미션 점수 분포 집계 (집계 1회, 집계 중 참여 반영, 범위 밖 총점 보정, 다른 인스턴스 참여 재집계)
+ */
+class MissionAnalyticsStoreTest {
+
+    private final UserMissionResponseRepository responseRepository = mock(UserMissionResponseRepository.class);
+    private final MissionAnalyticsStore store = new MissionAnalyticsStore(responseRepository, Duration.ofMinutes(1));
+
+    @Test
+    void loadsOnceAndKeepsParticipationRecordedDuringLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(responseRepository.sumScoresByMember(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(new MemberScoreTotal(10L, "A빌라", "망원동", 8L));
+        });
+        when(responseRepository.sumScoresByMember(2L)).thenReturn(List.of());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<MissionAnalyticsStore.MissionStats> first = executor.submit(() -> store.get(1L, 2));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<MissionAnalyticsStore.MissionStats> second = executor.submit(() -> store.get(1L, 2));
+
+            // 집계 중 커밋된 참여 (집계 결과에도 있는 회원 10 은 한 번만)
+            store.recordParticipation(1L, 11L, "A빌라", "망원동", 6);
+            store.recordParticipation(1L, 10L, "A빌라", "망원동", 8);
+            // 다른 미션 조회는 집계를 기다리지 않음
+            assertThat(executor.submit(() -> store.get(2L, 2)).get(1, TimeUnit.SECONDS).getOverall().getTotal()).isZero();
+
+            release.countDown();
+            MissionAnalyticsStore.MissionStats stats = first.get(5, TimeUnit.SECONDS);
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(stats);
+            assertThat(stats.getOverall().getTotal()).isEqualTo(2);
+            assertThat(stats.getBuilding("A빌라")).get().extracting(MissionScoreHistogram::getTotal).isEqualTo(2);
+            verify(responseRepository, times(1)).sumScoresByMember(1L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void retriesAfterFailedLoad() {
+        when(responseRepository.sumScoresByMember(1L))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(new MemberScoreTotal(10L, null, null, 4L)));
+
+        try {
+            store.get(1L, 1);
+        } catch (IllegalStateException expected) {
+            // 다음 조회에서 다시 집계
+        }
+
+        assertThat(store.get(1L, 1).getOverall().getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void clampsOutOfRangeTotals() {
+        when(responseRepository.sumScoresByMember(1L)).thenReturn(List.of(
+                new MemberScoreTotal(10L, null, null, 99L),
+                new MemberScoreTotal(11L, null, null, -3L)));
+
+        MissionAnalyticsStore.MissionStats stats = store.get(1L, 2);
+
+        int[] counts = stats.getOverall().snapshot();
+        assertThat(counts).hasSize(stats.getMaxScore() + 1);
+        assertThat(counts[stats.getMaxScore()]).isEqualTo(1);
+        assertThat(counts[0]).isEqualTo(1);
+    }
+
+    @Test
+    void refreshesToIncludeParticipationCommittedElsewhere() {
+        MissionAnalyticsStore refreshing = new MissionAnalyticsStore(responseRepository, Duration.ZERO);
+        when(responseRepository.sumScoresByMember(1L))
+                .thenReturn(List.of(new MemberScoreTotal(10L, "A빌라", "망원동", 8L)))
+                // 다른 인스턴스에서 커밋된 참여 (이 인스턴스의 recordParticipation 은 호출되지 않음)
+                .thenReturn(List.of(
+                        new MemberScoreTotal(10L, "A빌라", "망원동", 8L),
+                        new MemberScoreTotal(20L, "B빌라", "망원동", 6L)));
+
+        assertThat(refreshing.get(1L, 2).getOverall().getTotal()).isEqualTo(1);
+
+        MissionAnalyticsStore.MissionStats refreshed = refreshing.get(1L, 2);
+
+        assertThat(refreshed.getOverall().getTotal()).isEqualTo(2);
+        assertThat(refreshed.getBuilding("B빌라")).get().extracting(MissionScoreHistogram::getTotal).isEqualTo(1);
+        assertThat(refreshed.getDong("망원동")).get().extracting(MissionScoreHistogram::getTotal).isEqualTo(2);
+    }
+
+    @Test
+    void keepsPreviousStatsWhenRefreshFails() {
+        MissionAnalyticsStore refreshing = new MissionAnalyticsStore(responseRepository, Duration.ZERO);
+        when(responseRepository.sumScoresByMember(1L))
+                .thenReturn(List.of(new MemberScoreTotal(10L, null, null, 4L)))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(new MemberScoreTotal(10L, null, null, 4L), new MemberScoreTotal(11L, null, null, 5L)));
+
+        MissionAnalyticsStore.MissionStats first = refreshing.get(1L, 1);
+
+        assertThat(refreshing.get(1L, 1)).isSameAs(first);
+        assertThat(refreshing.get(1L, 1).getOverall().getTotal()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.seasontonebackend.mission.application;
+
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.member.repository.MemberRepository;
+import org.example.seasontonebackend.mission.domain.entity.MissionQuestion;
+import org.example.seasontonebackend.mission.domain.entity.WeeklyMission;
+import org.example.seasontonebackend.mission.domain.repository.WeeklyMissionRepository;
+import org.example.seasontonebackend.mission.dto.MissionRequestDTO;
+import org.example.seasontonebackend.mission.dto.MissionResponseDTO;
+import org.example.seasontonebackend.mission.exception.MissionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 미션 참여 기록과 참여자 수 (회원·미션당 한 번만 증가, 질문 구성이 달라도 중복 참여 차단, 다른 인스턴스의 참여 반영)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:missionparticipation;DB_CLOSE_DELAY=-1",
+        "timeseries.backfill.initial-delay=PT1H",
+        "email.outbox.initial-delay=PT1H",
+        "ratelimit.enabled=false",
+        "officetel.api.base-url=http://127.0.0.1:1/rtms/officetel",
+        "villa.api.base-url=http://127.0.0.1:1/rtms/villa",
+        "vworld.api.url=http://127.0.0.1:1/vworld"
+})
+class MissionParticipationTest {
+
+    @Autowired
+    private MissionService missionService;
+
+    @Autowired
+    private WeeklyMissionRepository missionRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countsFirstParticipationOnly() {
+        WeeklyMission mission = createMission(LocalDate.now().minusWeeks(2));
+        Member member = createMember();
+
+        missionService.participateInMission(member.getId(), mission.getMissionId(), answers(mission.getQuestions()));
+
+        assertThatThrownBy(() -> missionService.participateInMission(
+                member.getId(), mission.getMissionId(), answers(mission.getQuestions())))
+                .isInstanceOf(MissionException.class)
+                .hasMessage("이미 참여한 미션입니다.");
+        assertThat(participantCount(mission)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentParticipationWithDisjointQuestionsCountsOnce() throws Exception {
+        WeeklyMission mission = createMission(LocalDate.now().minusWeeks(3));
+        Member member = createMember();
+        List<MissionQuestion> questions = mission.getQuestions();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (MissionQuestion question : questions) {
+                results.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return missionService.participateInMission(member.getId(), mission.getMissionId(), answers(List.of(question)));
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Long> result : results) {
+                try {
+                    result.get(10, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(MissionException.class);
+                }
+            }
+
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(participantCount(mission)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM user_mission_responses WHERE mission_id = ?", Integer.class, mission.getMissionId()))
+                    .isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void currentMissionReflectsParticipationCommittedElsewhere() {
+        // 현재 미션은 이 테스트에서만 만든다 (활성 미션이 둘이면 조회 실패)
+        WeeklyMission mission = createMission(LocalDate.now().minusDays(1));
+        missionService.refreshCurrentMission();
+        Member local = createMember();
+        Member remote = createMember();
+
+        missionService.participateInMission(local.getId(), mission.getMissionId(), answers(mission.getQuestions()));
+        assertThat(missionService.getCurrentMission(local.getId()).getParticipationCount()).isEqualTo(1);
+
+        // 다른 인스턴스가 커밋한 참여 (이 인스턴스의 캐시를 거치지 않음)
+        jdbcTemplate.update("INSERT INTO mission_participations (mission_id, member_id, participated_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                mission.getMissionId(), remote.getId());
+        jdbcTemplate.update("UPDATE weekly_missions SET participant_count = participant_count + 1 WHERE mission_id = ?",
+                mission.getMissionId());
+
+        MissionResponseDTO.CurrentMission current = missionService.getCurrentMission(remote.getId());
+        assertThat(current.getMissionId()).isEqualTo(mission.getMissionId());
+        assertThat(current.getParticipationCount()).isEqualTo(2);
+        assertThat(current.getUserParticipated()).isTrue();
+        assertThat(missionService.getCurrentMission(createMember().getId()).getUserParticipated()).isFalse();
+    }
+
+    private int participantCount(WeeklyMission mission) {
+        return jdbcTemplate.queryForObject(
+                "SELECT participant_count FROM weekly_missions WHERE mission_id = ?", Integer.class, mission.getMissionId());
+    }
+
+    private WeeklyMission createMission(LocalDate startDate) {
+        WeeklyMission mission = WeeklyMission.builder()
+                .category("소음 측정")
+                .title("주간 소음 측정하기")
+                .description("이번 주에는 주변 소음 수준을 측정해보세요.")
+                .startDate(startDate)
+                .endDate(startDate.plusDays(6))
+                .build();
+        for (int i = 1; i <= 2; i++) {
+            mission.getQuestions().add(MissionQuestion.builder()
+                    .mission(mission)
+                    .questionText("질문 " + i)
+                    .questionType("SCALE")
+                    .orderNumber(i)
+                    .build());
+        }
+        return missionRepository.save(mission);
+    }
+
+    private Member createMember() {
+        return memberRepository.save(Member.builder()
+                .name("참여자")
+                .email("mission-" + UUID.randomUUID() + "@example.com")
+                .building("A빌라")
+                .dong("망원동")
+                .build());
+    }
+
+    private static MissionRequestDTO.MissionParticipate answers(List<MissionQuestion> questions) {
+        List<MissionRequestDTO.MissionParticipate.Response> responses = new ArrayList<>();
+        for (MissionQuestion question : questions) {
+            responses.add(new MissionRequestDTO.MissionParticipate.Response(question.getQuestionId(), "보통", 3));
+        }
+        return new MissionRequestDTO.MissionParticipate(responses);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.seasontonebackend.report.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.seasontonebackend.common.concurrent.BlockingExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AI 생성 요청 처리 (동시 요청 합치기, 공백만 다른 프롬프트 캐시 적중, 실행기 포화 시 거절)
+ */
+class AITest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingProvider provider = new BlockingProvider();
+    private final AI ai = new AI(provider, new LlmResponseCache(100, Duration.ofHours(1), meterRegistry), new ObjectMapper(),
+            new BlockingExecutors(new MockEnvironment(), meterRegistry), meterRegistry, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        provider.release.countDown();
+        ai.shutdown();
+    }
+
+    @Test
+    void coalescesConcurrentIdenticalRequests() throws Exception {
+        CompletableFuture<LlmResponse> first = ai.generateAsync(request("협상 문구를 작성해 주세요."));
+        assertThat(provider.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<LlmResponse> second = ai.generateAsync(request("협상 문구를 작성해 주세요."));
+
+        provider.release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        assertThat(provider.calls.get()).isEqualTo(1);
+        assertThat(requests("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    void whitespaceOnlyDifferenceHitsCache() {
+        provider.release.countDown();
+
+        LlmResponse original = ai.generate(request("월세 인하 요청\n\n  근거:   소음 측정 결과 "));
+        LlmResponse reformatted = ai.generate(request("  월세 인하 요청\n근거: \t소음 측정 결과"));
+
+        assertThat(reformatted).isEqualTo(original);
+        assertThat(provider.calls.get()).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWithLlmExceptionWhenSaturated() throws Exception {
+        // 동시 실행 1 + 대기 1 이 차면 다음 요청은 바로 거절
+        CompletableFuture<LlmResponse> running = ai.generateAsync(request("첫 번째 요청"));
+        assertThat(provider.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<LlmResponse> queued = ai.generateAsync(request("두 번째 요청"));
+
+        CompletableFuture<LlmResponse> rejected = ai.generateAsync(request("세 번째 요청"));
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(LlmException.class);
+
+        provider.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS).text()).isNotBlank();
+        assertThat(queued.get(5, TimeUnit.SECONDS).text()).isNotBlank();
+        // 거절된 요청은 진행 중 목록에 남지 않아 다시 요청하면 생성됨
+        assertThat(ai.generateAsync(request("세 번째 요청")).get(5, TimeUnit.SECONDS).text()).isNotBlank();
+        assertThat(provider.calls.get()).isEqualTo(3);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("ai.generation.requests").tag("result", result).counter().count();
+    }
+
+    private static LlmRequest request(String prompt) {
+        return new LlmRequest("negotiation-card", prompt, Map.of("reportId", 1L));
+    }
+
+    /**
+     * release 전까지 제공자 호출을 붙잡아 두는 stub (호출 수 기록)
+     */
+    private static final class BlockingProvider extends StubLlmProvider {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public LlmResponse generate(LlmRequest request) {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.generate(request);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.seasontonebackend.report.controller;
+
+import org.example.seasontonebackend.config.DummyDataService;
+import org.example.seasontonebackend.member.auth.JwtTokenProvider;
+import org.example.seasontonebackend.member.domain.Member;
+import org.example.seasontonebackend.member.repository.MemberRepository;
+import org.example.seasontonebackend.report.domain.Report;
+import org.example.seasontonebackend.report.repository.ReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 리포트 PDF 와 AI 협상 문구는 작성자 본인만 받을 수 있다 (캐시된 PDF 도 동일)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reportpdfaccess;DB_CLOSE_DELAY=-1",
+        "timeseries.backfill.initial-delay=PT1H",
+        "email.outbox.initial-delay=PT1H",
+        "ratelimit.enabled=false",
+        "officetel.api.base-url=http://127.0.0.1:1/rtms/officetel",
+        "villa.api.base-url=http://127.0.0.1:1/rtms/villa",
+        "vworld.api.url=http://127.0.0.1:1/vworld"
+})
+@AutoConfigureMockMvc
+class ReportPdfAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DummyDataService dummyDataService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private Member owner;
+    private Member other;
+
+    @BeforeEach
+    void seed() {
+        if (memberRepository.findByEmail("load-1-1@example.com").isEmpty()) {
+            dummyDataService.createDummyUsersPerDong(List.of("망원동"), 2);
+        }
+        owner = memberRepository.findByEmail("load-1-1@example.com").orElseThrow();
+        other = memberRepository.findByEmail("load-1-2@example.com").orElseThrow();
+    }
+
+    @Test
+    void rejectsOtherMembersBeforeRendering() throws Exception {
+        Report report = reportRepository.save(Report.builder()
+                .publicId(UUID.randomUUID().toString())
+                .member(owner)
+                .userInput("수리 요청")
+                .reportType("free")
+                .build());
+
+        mockMvc.perform(get("/report/{reportId}/pdf", report.getReportId())
+                        .header("Authorization", "Bearer " + token(other)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/report/{reportId}/pdf", report.getReportId())
+                        .header("Authorization", "Bearer " + token(owner)))
+                .andExpect(status().isOk());
+
+        // 작성자가 받아 캐시된 뒤에도 다른 회원은 거절
+        mockMvc.perform(get("/report/{reportId}/pdf", report.getReportId())
+                        .header("Authorization", "Bearer " + token(other)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void negotiationScriptIsOwnerOnly() throws Exception {
+        Report report = reportRepository.save(Report.builder()
+                .publicId(UUID.randomUUID().toString())
+                .member(owner)
+                .userInput("수리 요청")
+                .reportType("free")
+                .build());
+
+        mockMvc.perform(get("/report/{reportId}/ai/negotiation", report.getReportId())
+                        .header("Authorization", "Bearer " + token(other)))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false));
+
+        mockMvc.perform(get("/report/{reportId}/ai/negotiation/stream", report.getReportId())
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Authorization", "Bearer " + token(other)))
+                .andExpect(status().isForbidden())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        MvcResult result = mockMvc.perform(get("/report/{reportId}/ai/negotiation", report.getReportId())
+                        .header("Authorization", "Bearer " + token(owner)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.provider").value("stub"));
+    }
+
+    private String token(Member member) {
+        return jwtTokenProvider.createToken(member.getId(), member.getEmail(), member.getRole().toString());
+    }
+}